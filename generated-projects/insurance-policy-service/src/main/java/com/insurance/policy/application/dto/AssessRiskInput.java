@@ -0,0 +1,42 @@
+package com.insurance.policy.application.dto;
+
+import com.insurance.policy.application.exception.InvalidInputException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Input DTO for AssessRisk use case: one or more applications to score.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record AssessRiskInput(
+    List<Application> applications
+) {
+    public static final int MAX_APPLICATIONS = 10_000;
+
+    public AssessRiskInput {
+        if (applications == null || applications.isEmpty()) {
+            throw new InvalidInputException("At least one application is required");
+        }
+        if (applications.size() > MAX_APPLICATIONS) {
+            throw new InvalidInputException("Cannot assess more than " + MAX_APPLICATIONS + " applications at once");
+        }
+        applications = List.copyOf(applications);
+    }
+
+    /**
+     * An applicant and the coverage they apply for
+     */
+    public record Application(
+        String applicantName,
+        int age,
+        String occupation,
+        String healthStatus,
+        String coverageType,
+        BigDecimal coverageAmount,
+        String currency,
+        int termYears
+    ) {
+    }
+}
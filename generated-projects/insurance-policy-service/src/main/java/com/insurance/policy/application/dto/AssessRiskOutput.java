@@ -0,0 +1,17 @@
+package com.insurance.policy.application.dto;
+
+import com.insurance.policy.domain.valueobject.RiskAssessment;
+
+import java.util.List;
+
+/**
+ * Output DTO for AssessRisk use case.
+ *
+ * One assessment per application, in input order.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record AssessRiskOutput(
+    List<RiskAssessment> assessments
+) {
+}
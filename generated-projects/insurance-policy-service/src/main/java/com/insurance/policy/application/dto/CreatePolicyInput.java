@@ -1,5 +1,7 @@
 package com.insurance.policy.application.dto;
 
+import com.insurance.policy.application.exception.InvalidInputException;
+
 import jakarta.validation.constraints.*;
 import java.time.LocalDate;
 import java.util.List;
@@ -22,7 +24,7 @@ public record CreatePolicyInput(
 ) {
     public CreatePolicyInput {
         if (effectiveDate != null && effectiveDate.isBefore(LocalDate.now())) {
-            throw new IllegalArgumentException("Effective date must be in the future");
+            throw new InvalidInputException("Effective date must be in the future");
         }
     }
 }
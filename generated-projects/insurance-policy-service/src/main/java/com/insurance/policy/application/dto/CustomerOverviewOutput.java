@@ -0,0 +1,117 @@
+package com.insurance.policy.application.dto;
+
+import com.insurance.policy.domain.entity.Claim;
+import com.insurance.policy.domain.entity.Customer;
+import com.insurance.policy.domain.entity.Payment;
+import com.insurance.policy.domain.entity.Policy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Output DTO for GetCustomerOverview use case.
+ *
+ * A customer with their policies, each policy's claims and each claim's
+ * payments. Children are ordered by ID.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record CustomerOverviewOutput(
+    Long customerId,
+    String firstName,
+    String lastName,
+    String email,
+    String status,
+    List<PolicyOverview> policies
+) {
+
+    public static CustomerOverviewOutput from(Customer customer, List<PolicyOverview> policies) {
+        return new CustomerOverviewOutput(
+            customer.getCustomerId(),
+            customer.getFirstName(),
+            customer.getLastName(),
+            customer.getEmail(),
+            customer.getStatus().name(),
+            policies
+        );
+    }
+
+    /**
+     * A policy of the customer with its claims.
+     */
+    public record PolicyOverview(
+        Long policyId,
+        String policyNumber,
+        String status,
+        LocalDate effectiveDate,
+        LocalDate expirationDate,
+        BigDecimal totalPremium,
+        String currency,
+        List<ClaimOverview> claims
+    ) {
+
+        public static PolicyOverview from(Policy policy, List<ClaimOverview> claims) {
+            return new PolicyOverview(
+                policy.getId(),
+                policy.getPolicyNumber().value(),
+                policy.getStatus().name(),
+                policy.getEffectiveDate(),
+                policy.getExpirationDate(),
+                policy.getTotalPremium().amount(),
+                policy.getTotalPremium().currency(),
+                claims
+            );
+        }
+    }
+
+    /**
+     * A claim on one of the policies with its payments.
+     */
+    public record ClaimOverview(
+        Long claimId,
+        String claimNumber,
+        String status,
+        LocalDate incidentDate,
+        BigDecimal claimedAmount,
+        String currency,
+        List<PaymentOverview> payments
+    ) {
+
+        public static ClaimOverview from(Claim claim, List<PaymentOverview> payments) {
+            return new ClaimOverview(
+                claim.getId(),
+                claim.getClaimNumber().value(),
+                claim.getStatus().name(),
+                claim.getIncidentDate(),
+                claim.getClaimedAmount().amount(),
+                claim.getClaimedAmount().currency(),
+                payments
+            );
+        }
+    }
+
+    /**
+     * A payment made on one of the claims.
+     */
+    public record PaymentOverview(
+        Long paymentId,
+        String status,
+        String paymentMethod,
+        LocalDate paymentDate,
+        BigDecimal amount,
+        String transactionId
+    ) {
+
+        public static PaymentOverview from(Payment payment) {
+            return new PaymentOverview(
+                payment.getPaymentId(),
+                payment.getPaymentStatus().name(),
+                payment.getPaymentMethod().name(),
+                payment.getPaymentDate(),
+                payment.getAmount().getValue(),
+                payment.getTransactionId().getValue()
+            );
+        }
+    }
+}
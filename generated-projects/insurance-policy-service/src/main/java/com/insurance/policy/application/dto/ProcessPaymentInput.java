@@ -1,5 +1,7 @@
 package com.insurance.policy.application.dto;
 
+import com.insurance.policy.application.exception.InvalidInputException;
+
 import java.math.BigDecimal;
 
 /**
@@ -15,19 +17,19 @@ public record ProcessPaymentInput(
 ) {
     public ProcessPaymentInput {
         if (claimId == null) {
-            throw new IllegalArgumentException("Claim ID cannot be null");
+            throw new InvalidInputException("Claim ID cannot be null");
         }
         if (amount == null) {
-            throw new IllegalArgumentException("Amount cannot be null");
+            throw new InvalidInputException("Amount cannot be null");
         }
         if (paymentMethod == null || paymentMethod.isBlank()) {
-            throw new IllegalArgumentException("Payment method cannot be null or blank");
+            throw new InvalidInputException("Payment method cannot be null or blank");
         }
         if (transactionId == null || transactionId.isBlank()) {
-            throw new IllegalArgumentException("Transaction ID cannot be null or blank");
+            throw new InvalidInputException("Transaction ID cannot be null or blank");
         }
         if (processedBy == null || processedBy.isBlank()) {
-            throw new IllegalArgumentException("Processed by cannot be null or blank");
+            throw new InvalidInputException("Processed by cannot be null or blank");
         }
     }
 }
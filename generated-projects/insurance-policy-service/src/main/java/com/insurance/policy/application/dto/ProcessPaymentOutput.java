@@ -1,13 +1,21 @@
 package com.insurance.policy.application.dto;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 /**
  * Output DTO for processed payment
+ * Carries the whole saved payment so callers need not read it back, which
+ * with read/write routing could hit a replica that has not seen it yet.
  */
 public record ProcessPaymentOutput(
     Long paymentId,
+    Long claimId,
+    BigDecimal amount,
+    String paymentMethod,
     String paymentStatus,
+    String transactionId,
     LocalDate paymentDate,
-    String transactionId
+    String processedBy,
+    String notes
 ) {}
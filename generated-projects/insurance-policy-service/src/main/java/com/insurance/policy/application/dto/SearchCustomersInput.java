@@ -0,0 +1,28 @@
+package com.insurance.policy.application.dto;
+
+import com.insurance.policy.application.exception.InvalidInputException;
+
+/**
+ * Input DTO for searching customers
+ */
+public record SearchCustomersInput(
+    String query,
+    int limit
+) {
+    public static final int MIN_QUERY_LENGTH = 2;
+    public static final int MAX_QUERY_LENGTH = 100;
+    public static final int MAX_LIMIT = 100;
+
+    public SearchCustomersInput {
+        if (query == null || query.strip().length() < MIN_QUERY_LENGTH) {
+            throw new InvalidInputException("Query must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidInputException("Query cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        query = query.strip();
+    }
+}
@@ -0,0 +1,45 @@
+package com.insurance.policy.application.dto;
+
+import com.insurance.policy.domain.port.CustomerSearch;
+
+import java.util.List;
+
+/**
+ * Output DTO for SearchCustomers use case.
+ *
+ * Matches are ordered best first.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record SearchCustomersOutput(
+    String query,
+    List<CustomerMatch> matches
+) {
+
+    public static SearchCustomersOutput from(String query, List<CustomerSearch.Match> matches) {
+        return new SearchCustomersOutput(query, matches.stream().map(CustomerMatch::from).toList());
+    }
+
+    /**
+     * A customer matching the query, with its relevance score
+     */
+    public record CustomerMatch(
+        Long customerId,
+        String firstName,
+        String lastName,
+        String email,
+        String phone,
+        double score
+    ) {
+        static CustomerMatch from(CustomerSearch.Match match) {
+            return new CustomerMatch(
+                match.customerId(),
+                match.firstName(),
+                match.lastName(),
+                match.email(),
+                match.phone(),
+                match.score()
+            );
+        }
+    }
+}
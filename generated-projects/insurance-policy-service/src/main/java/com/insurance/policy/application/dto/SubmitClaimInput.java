@@ -1,5 +1,7 @@
 package com.insurance.policy.application.dto;
 
+import com.insurance.policy.application.exception.InvalidInputException;
+
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -38,7 +40,7 @@ public record SubmitClaimInput(
     /**
      * Compact constructor with additional validation logic.
      *
-     * @throws IllegalArgumentException if business validation fails
+     * @throws InvalidInputException if business validation fails
      */
     public SubmitClaimInput {
         // Normalize currency to uppercase
@@ -48,7 +50,7 @@ public record SubmitClaimInput(
 
         // Additional business rule: claimed amount cannot exceed a reasonable limit
         if (claimedAmount != null && claimedAmount.compareTo(new BigDecimal("10000000")) > 0) {
-            throw new IllegalArgumentException("Claimed amount cannot exceed 10,000,000");
+            throw new InvalidInputException("Claimed amount cannot exceed 10,000,000");
         }
     }
 }
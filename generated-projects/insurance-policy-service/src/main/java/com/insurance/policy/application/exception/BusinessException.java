@@ -0,0 +1,34 @@
+package com.insurance.policy.application.exception;
+
+/**
+ * Base class for expected business rejections.
+ *
+ * These are routine outcomes (unknown ids, replayed transaction ids, claims in
+ * the wrong state) rather than failures, so they do not capture a stack trace
+ * or support suppressed exceptions: filling in the stack is the dominant cost
+ * of throwing, and nobody reads it. A wrapped cause keeps its own stack trace.
+ * Unexpected failures must not extend this class.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    /**
+     * Constructs a new stackless business exception.
+     *
+     * @param message the detail message
+     */
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Constructs a new stackless business exception wrapping a cause.
+     *
+     * @param message the detail message
+     * @param cause the underlying cause
+     */
+    protected BusinessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
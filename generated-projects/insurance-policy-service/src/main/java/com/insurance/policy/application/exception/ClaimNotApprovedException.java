@@ -3,7 +3,7 @@ package com.insurance.policy.application.exception;
 /**
  * Exception thrown when attempting to process payment on a claim that is not approved
  */
-public class ClaimNotApprovedException extends RuntimeException {
+public class ClaimNotApprovedException extends BusinessException {
     public ClaimNotApprovedException(String message) {
         super(message);
     }
@@ -0,0 +1,10 @@
+package com.insurance.policy.application.exception;
+
+/**
+ * Exception thrown when a customer is not found
+ */
+public class CustomerNotFoundException extends BusinessException {
+    public CustomerNotFoundException(Long customerId) {
+        super("Customer not found with ID: " + customerId);
+    }
+}
@@ -3,7 +3,7 @@ package com.insurance.policy.application.exception;
 /**
  * Exception thrown when a transaction ID already exists
  */
-public class DuplicateTransactionIdException extends RuntimeException {
+public class DuplicateTransactionIdException extends BusinessException {
     public DuplicateTransactionIdException(String transactionId) {
         super("Transaction ID already exists: " + transactionId);
     }
@@ -11,7 +11,7 @@ import java.math.BigDecimal;
  * @author Generated by BMAD Spring Boot Clean Architecture Generator
  * @version 1.0
  */
-public class InvalidClaimAmountException extends RuntimeException {
+public class InvalidClaimAmountException extends BusinessException {
 
     private final BigDecimal claimedAmount;
 
@@ -0,0 +1,11 @@
+package com.insurance.policy.application.exception;
+
+/**
+ * Exception thrown when a use case input fails validation
+ */
+public class InvalidInputException extends BusinessException {
+
+    public InvalidInputException(String message) {
+        super(message);
+    }
+}
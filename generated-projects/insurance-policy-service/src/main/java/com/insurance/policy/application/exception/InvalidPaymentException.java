@@ -3,7 +3,7 @@ package com.insurance.policy.application.exception;
 /**
  * Exception thrown when a payment is invalid
  */
-public class InvalidPaymentException extends RuntimeException {
+public class InvalidPaymentException extends BusinessException {
     public InvalidPaymentException(String message) {
         super(message);
     }
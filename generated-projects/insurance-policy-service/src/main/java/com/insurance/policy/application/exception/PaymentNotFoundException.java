@@ -3,7 +3,7 @@ package com.insurance.policy.application.exception;
 /**
  * Exception thrown when a payment is not found
  */
-public class PaymentNotFoundException extends RuntimeException {
+public class PaymentNotFoundException extends BusinessException {
     public PaymentNotFoundException(Long paymentId) {
         super("Payment not found with ID: " + paymentId);
     }
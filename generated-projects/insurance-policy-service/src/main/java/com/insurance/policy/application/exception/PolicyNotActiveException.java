@@ -0,0 +1,13 @@
+package com.insurance.policy.application.exception;
+
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+
+/**
+ * Exception thrown when a claim is submitted against a policy that is not in force
+ */
+public class PolicyNotActiveException extends BusinessException {
+
+    public PolicyNotActiveException(Long policyId, PolicyStatus status) {
+        super(String.format("Cannot submit claim for inactive policy. Policy ID: %d, Status: %s", policyId, status));
+    }
+}
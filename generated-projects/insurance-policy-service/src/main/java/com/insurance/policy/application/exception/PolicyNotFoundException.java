@@ -9,7 +9,7 @@ package com.insurance.policy.application.exception;
  * @author Generated by BMAD Spring Boot Clean Architecture Generator
  * @version 1.0
  */
-public class PolicyNotFoundException extends RuntimeException {
+public class PolicyNotFoundException extends BusinessException {
 
     private final Long policyId;
 
@@ -0,0 +1,62 @@
+package com.insurance.policy.application.service;
+
+import com.insurance.policy.application.dto.AssessRiskInput;
+import com.insurance.policy.application.dto.AssessRiskOutput;
+import com.insurance.policy.application.usecase.AssessRiskUseCase;
+import com.insurance.policy.domain.service.UnderwritingRulesEngine;
+import com.insurance.policy.domain.valueobject.ApplicantDetails;
+import com.insurance.policy.domain.valueobject.CoverageRequest;
+import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.UnderwritingApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service implementation of AssessRisk use case.
+ *
+ * Builds the domain applications, which validates them, and hands them to
+ * the UnderwritingRulesEngine as one batch. Nothing is read or stored, so no
+ * transaction is opened.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Service
+public class AssessRiskService implements AssessRiskUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(AssessRiskService.class);
+
+    private final UnderwritingRulesEngine rulesEngine;
+
+    public AssessRiskService(UnderwritingRulesEngine rulesEngine) {
+        this.rulesEngine = rulesEngine;
+    }
+
+    @Override
+    public AssessRiskOutput execute(AssessRiskInput input) {
+        List<UnderwritingApplication> applications = input.applications().stream()
+            .map(AssessRiskService::toApplication)
+            .toList();
+        AssessRiskOutput output = new AssessRiskOutput(rulesEngine.assessBatch(applications));
+        log.debug("Assessed risk for {} applications", applications.size());
+        return output;
+    }
+
+    private static UnderwritingApplication toApplication(AssessRiskInput.Application application) {
+        return new UnderwritingApplication(
+            new ApplicantDetails(
+                application.applicantName(),
+                application.age(),
+                application.occupation(),
+                application.healthStatus()
+            ),
+            new CoverageRequest(
+                application.coverageType(),
+                new Money(application.coverageAmount(), application.currency()),
+                application.termYears()
+            )
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package com.insurance.policy.application.service;
+
+import com.insurance.policy.application.dto.CustomerOverviewOutput;
+import com.insurance.policy.application.dto.CustomerOverviewOutput.ClaimOverview;
+import com.insurance.policy.application.dto.CustomerOverviewOutput.PaymentOverview;
+import com.insurance.policy.application.dto.CustomerOverviewOutput.PolicyOverview;
+import com.insurance.policy.application.exception.CustomerNotFoundException;
+import com.insurance.policy.application.usecase.GetCustomerOverviewUseCase;
+import com.insurance.policy.domain.entity.Claim;
+import com.insurance.policy.domain.entity.Customer;
+import com.insurance.policy.domain.entity.Payment;
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.domain.port.CustomerRepository;
+import com.insurance.policy.domain.port.PaymentRepository;
+import com.insurance.policy.domain.port.PolicyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation of GetCustomerOverview use case.
+ *
+ * Loads the tree level by level instead of per parent:
+ * 1. The customer by ID
+ * 2. All of the customer's policies
+ * 3. All claims on those policies, in one IN query
+ * 4. All payments on those claims, in one IN query
+ * and assembles it in memory. At most four statements run, however many
+ * policies and claims the customer has; levels with no parents are skipped.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetCustomerOverviewService implements GetCustomerOverviewUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GetCustomerOverviewService.class);
+
+    private final CustomerRepository customerRepository;
+    private final PolicyRepository policyRepository;
+    private final ClaimRepository claimRepository;
+    private final PaymentRepository paymentRepository;
+
+    public GetCustomerOverviewService(CustomerRepository customerRepository,
+                                      PolicyRepository policyRepository,
+                                      ClaimRepository claimRepository,
+                                      PaymentRepository paymentRepository) {
+        this.customerRepository = customerRepository;
+        this.policyRepository = policyRepository;
+        this.claimRepository = claimRepository;
+        this.paymentRepository = paymentRepository;
+    }
+
+    @Override
+    public CustomerOverviewOutput execute(Long customerId) {
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException(customerId));
+
+        List<Policy> policies = policyRepository.findByCustomerId(customerId.toString());
+        List<Claim> claims = claimRepository.findByPolicyIds(
+                policies.stream().map(policy -> policy.getId().toString()).toList());
+        List<Payment> payments = paymentRepository.findByClaimIds(
+                claims.stream().map(Claim::getId).toList());
+
+        log.debug("Customer {} overview: {} policies, {} claims, {} payments",
+                customerId, policies.size(), claims.size(), payments.size());
+
+        Map<Long, List<PaymentOverview>> paymentsByClaim = payments.stream()
+                .sorted(Comparator.comparing(Payment::getPaymentId))
+                .collect(Collectors.groupingBy(Payment::getClaimId,
+                        Collectors.mapping(PaymentOverview::from, Collectors.toList())));
+
+        Map<String, List<ClaimOverview>> claimsByPolicy = claims.stream()
+                .sorted(Comparator.comparing(Claim::getId))
+                .collect(Collectors.groupingBy(Claim::getPolicyId,
+                        Collectors.mapping(claim -> ClaimOverview.from(claim,
+                                paymentsByClaim.getOrDefault(claim.getId(), List.of())), Collectors.toList())));
+
+        List<PolicyOverview> policyOverviews = policies.stream()
+                .sorted(Comparator.comparing(Policy::getId))
+                .map(policy -> PolicyOverview.from(policy,
+                        claimsByPolicy.getOrDefault(policy.getId().toString(), List.of())))
+                .toList();
+
+        return CustomerOverviewOutput.from(customer, policyOverviews);
+    }
+}
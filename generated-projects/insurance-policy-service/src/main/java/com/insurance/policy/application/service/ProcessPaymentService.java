@@ -87,9 +87,14 @@ public class ProcessPaymentService implements ProcessPaymentUseCase {
         // 8. Return output
         return new ProcessPaymentOutput(
             savedPayment.getPaymentId(),
+            savedPayment.getClaimId(),
+            savedPayment.getAmount().getValue(),
+            savedPayment.getPaymentMethod().name(),
             savedPayment.getPaymentStatus().name(),
+            savedPayment.getTransactionId().getValue(),
             savedPayment.getPaymentDate(),
-            savedPayment.getTransactionId().getValue()
+            savedPayment.getProcessedBy(),
+            savedPayment.getNotes()
         );
     }
 }
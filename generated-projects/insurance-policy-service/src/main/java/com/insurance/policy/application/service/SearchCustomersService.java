@@ -0,0 +1,37 @@
+package com.insurance.policy.application.service;
+
+import com.insurance.policy.application.dto.SearchCustomersInput;
+import com.insurance.policy.application.dto.SearchCustomersOutput;
+import com.insurance.policy.application.usecase.SearchCustomersUseCase;
+import com.insurance.policy.domain.port.CustomerSearch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation of SearchCustomers use case.
+ *
+ * Delegates to the CustomerSearch port, which answers from memory, so no
+ * transaction is opened.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Service
+public class SearchCustomersService implements SearchCustomersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchCustomersService.class);
+
+    private final CustomerSearch customerSearch;
+
+    public SearchCustomersService(CustomerSearch customerSearch) {
+        this.customerSearch = customerSearch;
+    }
+
+    @Override
+    public SearchCustomersOutput execute(SearchCustomersInput input) {
+        SearchCustomersOutput output = SearchCustomersOutput.from(
+            input.query(), customerSearch.search(input.query(), input.limit()));
+        log.debug("Customer search returned {} matches", output.matches().size());
+        return output;
+    }
+}
@@ -3,6 +3,7 @@ package com.insurance.policy.application.service;
 import com.insurance.policy.application.dto.SubmitClaimInput;
 import com.insurance.policy.application.dto.SubmitClaimOutput;
 import com.insurance.policy.application.exception.InvalidClaimAmountException;
+import com.insurance.policy.application.exception.PolicyNotActiveException;
 import com.insurance.policy.application.exception.PolicyNotFoundException;
 import com.insurance.policy.application.usecase.SubmitClaimUseCase;
 import com.insurance.policy.domain.entity.Claim;
@@ -107,15 +108,13 @@ public class SubmitClaimService implements SubmitClaimUseCase {
      * A policy must be in ACTIVE status to accept claims.
      *
      * @param policy the policy to validate
-     * @throws IllegalStateException if policy is not active
+     * @throws PolicyNotActiveException if policy is not active
      */
     private void validatePolicyIsActive(Policy policy) {
         if (!policy.isActive()) {
             log.error("Cannot submit claim - policy is not active: {} (status: {})",
                      policy.getId(), policy.getStatus());
-            throw new IllegalStateException(
-                String.format("Cannot submit claim for inactive policy. Policy ID: %d, Status: %s",
-                             policy.getId(), policy.getStatus()));
+            throw new PolicyNotActiveException(policy.getId(), policy.getStatus());
         }
     }
 
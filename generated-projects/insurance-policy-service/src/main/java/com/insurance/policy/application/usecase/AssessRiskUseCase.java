@@ -0,0 +1,22 @@
+package com.insurance.policy.application.usecase;
+
+import com.insurance.policy.application.dto.AssessRiskInput;
+import com.insurance.policy.application.dto.AssessRiskOutput;
+
+/**
+ * Use case interface for scoring the underwriting risk of insurance
+ * applications.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public interface AssessRiskUseCase {
+
+    /**
+     * Execute the AssessRisk use case.
+     *
+     * @param input the applications to assess
+     * @return one risk assessment per application, in input order
+     * @throws IllegalArgumentException if an application is invalid
+     */
+    AssessRiskOutput execute(AssessRiskInput input);
+}
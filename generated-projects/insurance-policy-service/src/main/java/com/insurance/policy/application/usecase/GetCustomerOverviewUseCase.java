@@ -0,0 +1,24 @@
+package com.insurance.policy.application.usecase;
+
+import com.insurance.policy.application.dto.CustomerOverviewOutput;
+
+/**
+ * Use case interface for reading a customer together with their policies,
+ * the claims on those policies and the payments on those claims.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public interface GetCustomerOverviewUseCase {
+
+    /**
+     * Execute the GetCustomerOverview use case.
+     *
+     * Each level of the tree is loaded with one query, so the number of
+     * statements does not depend on how many policies or claims the customer has.
+     *
+     * @param customerId the customer ID
+     * @return the customer with policies, claims and payments
+     * @throws CustomerNotFoundException if the customer does not exist
+     */
+    CustomerOverviewOutput execute(Long customerId);
+}
@@ -0,0 +1,21 @@
+package com.insurance.policy.application.usecase;
+
+import com.insurance.policy.application.dto.SearchCustomersInput;
+import com.insurance.policy.application.dto.SearchCustomersOutput;
+
+/**
+ * Use case interface for finding customers by partial name, e-mail or phone
+ * number.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public interface SearchCustomersUseCase {
+
+    /**
+     * Execute the SearchCustomers use case.
+     *
+     * @param input the query and the maximum number of matches
+     * @return the matching customers, best first
+     */
+    SearchCustomersOutput execute(SearchCustomersInput input);
+}
@@ -1,5 +1,7 @@
 package com.insurance.policy.domain.entity;
 
+import com.insurance.policy.domain.exception.DomainStateException;
+import com.insurance.policy.domain.exception.DomainValidationException;
 import com.insurance.policy.domain.valueobject.ClaimAmount;
 import com.insurance.policy.domain.valueobject.ClaimNumber;
 import com.insurance.policy.domain.valueobject.ClaimStatus;
@@ -33,7 +35,7 @@ public class Claim {
      * @param claimedAmount the amount being claimed
      * @param incidentDate when the incident occurred
      * @param policyId the associated policy ID
-     * @throws IllegalArgumentException if validation fails
+     * @throws DomainValidationException if validation fails
      */
     public Claim(ClaimNumber claimNumber, ClaimAmount claimedAmount, LocalDate incidentDate, String policyId) {
         validateClaimNumber(claimNumber);
@@ -63,11 +65,11 @@ public class Claim {
      * Move the claim to under review status.
      * Only submitted claims can be moved to under review.
      *
-     * @throws IllegalStateException if claim is not in SUBMITTED status
+     * @throws DomainStateException if claim is not in SUBMITTED status
      */
     public void moveToUnderReview() {
         if (status != ClaimStatus.SUBMITTED) {
-            throw new IllegalStateException("Can only review claims in SUBMITTED status");
+            throw new DomainStateException("Can only review claims in SUBMITTED status");
         }
         this.status = ClaimStatus.UNDER_REVIEW;
     }
@@ -76,11 +78,11 @@ public class Claim {
      * Approve the claim.
      * Only claims under review can be approved.
      *
-     * @throws IllegalStateException if claim is not in UNDER_REVIEW status
+     * @throws DomainStateException if claim is not in UNDER_REVIEW status
      */
     public void approve() {
         if (status != ClaimStatus.UNDER_REVIEW) {
-            throw new IllegalStateException("Can only approve claims in UNDER_REVIEW status");
+            throw new DomainStateException("Can only approve claims in UNDER_REVIEW status");
         }
         this.status = ClaimStatus.APPROVED;
     }
@@ -89,11 +91,11 @@ public class Claim {
      * Reject the claim.
      * Only claims under review can be rejected.
      *
-     * @throws IllegalStateException if claim is not in UNDER_REVIEW status
+     * @throws DomainStateException if claim is not in UNDER_REVIEW status
      */
     public void reject() {
         if (status != ClaimStatus.UNDER_REVIEW) {
-            throw new IllegalStateException("Can only reject claims in UNDER_REVIEW status");
+            throw new DomainStateException("Can only reject claims in UNDER_REVIEW status");
         }
         this.status = ClaimStatus.REJECTED;
     }
@@ -102,11 +104,11 @@ public class Claim {
      * Mark the claim as paid.
      * Only approved claims can be marked as paid.
      *
-     * @throws IllegalStateException if claim is not in APPROVED status
+     * @throws DomainStateException if claim is not in APPROVED status
      */
     public void markAsPaid() {
         if (status != ClaimStatus.APPROVED) {
-            throw new IllegalStateException("Can only mark approved claims as paid");
+            throw new DomainStateException("Can only mark approved claims as paid");
         }
         this.status = ClaimStatus.PAID;
     }
@@ -133,31 +135,31 @@ public class Claim {
 
     private void validateClaimNumber(ClaimNumber claimNumber) {
         if (claimNumber == null) {
-            throw new IllegalArgumentException("Claim number is required");
+            throw new DomainValidationException("Claim number is required");
         }
     }
 
     private void validateClaimedAmount(ClaimAmount claimedAmount) {
         if (claimedAmount == null) {
-            throw new IllegalArgumentException("Claimed amount is required");
+            throw new DomainValidationException("Claimed amount is required");
         }
         if (claimedAmount.isZero()) {
-            throw new IllegalArgumentException("Claimed amount must be greater than zero");
+            throw new DomainValidationException("Claimed amount must be greater than zero");
         }
     }
 
     private void validateIncidentDate(LocalDate incidentDate) {
         if (incidentDate == null) {
-            throw new IllegalArgumentException("Incident date is required");
+            throw new DomainValidationException("Incident date is required");
         }
         if (incidentDate.isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("Incident date cannot be in the future");
+            throw new DomainValidationException("Incident date cannot be in the future");
         }
     }
 
     private void validatePolicyId(String policyId) {
         if (policyId == null || policyId.trim().isEmpty()) {
-            throw new IllegalArgumentException("Policy ID is required");
+            throw new DomainValidationException("Policy ID is required");
         }
     }
 
@@ -1,5 +1,6 @@
 package com.insurance.policy.domain.entity;
 
+import com.insurance.policy.domain.exception.DomainStateException;
 import com.insurance.policy.domain.valueobject.PaymentAmount;
 import com.insurance.policy.domain.valueobject.PaymentMethod;
 import com.insurance.policy.domain.valueobject.PaymentStatus;
@@ -33,7 +34,7 @@ public class Payment {
     // Business methods
     public void markAsProcessing() {
         if (!paymentStatus.canTransitionTo(PaymentStatus.PROCESSING)) {
-            throw new IllegalStateException(
+            throw new DomainStateException(
                 "Cannot transition from " + paymentStatus + " to PROCESSING"
             );
         }
@@ -42,7 +43,7 @@ public class Payment {
 
     public void markAsCompleted() {
         if (!paymentStatus.canTransitionTo(PaymentStatus.COMPLETED)) {
-            throw new IllegalStateException(
+            throw new DomainStateException(
                 "Cannot transition from " + paymentStatus + " to COMPLETED"
             );
         }
@@ -51,7 +52,7 @@ public class Payment {
 
     public void markAsFailed() {
         if (!paymentStatus.canTransitionTo(PaymentStatus.FAILED)) {
-            throw new IllegalStateException(
+            throw new DomainStateException(
                 "Cannot transition from " + paymentStatus + " to FAILED"
             );
         }
@@ -60,7 +61,7 @@ public class Payment {
 
     public void markAsRefunded() {
         if (!paymentStatus.canTransitionTo(PaymentStatus.REFUNDED)) {
-            throw new IllegalStateException(
+            throw new DomainStateException(
                 "Cannot transition from " + paymentStatus + " to REFUNDED"
             );
         }
@@ -1,5 +1,7 @@
 package com.insurance.policy.domain.entity;
 
+import com.insurance.policy.domain.exception.DomainStateException;
+import com.insurance.policy.domain.exception.DomainValidationException;
 import com.insurance.policy.domain.valueobject.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -34,7 +36,7 @@ public class Policy {
      * @param customerId the customer ID
      * @param effectiveDate when the policy becomes effective
      * @param coverages list of coverages
-     * @throws IllegalArgumentException if validation fails
+     * @throws DomainValidationException if validation fails
      */
     public Policy(String customerId, LocalDate effectiveDate, List<Coverage> coverages) {
         validateCustomerId(customerId);
@@ -50,6 +52,37 @@ public class Policy {
         this.policyNumber = PolicyNumber.generate(effectiveDate.getYear());
     }
 
+    private Policy(Long id, PolicyNumber policyNumber, String customerId, LocalDate effectiveDate,
+                   LocalDate expirationDate, PolicyStatus status, List<Coverage> coverages) {
+        this.id = id;
+        this.policyNumber = policyNumber;
+        this.customerId = customerId;
+        this.effectiveDate = effectiveDate;
+        this.expirationDate = expirationDate;
+        this.status = status;
+        this.coverages = new ArrayList<>(coverages);
+        this.totalPremium = calculateTotalPremium();
+    }
+
+    /**
+     * Rebuild a stored policy. Skips the invariants checked on creation, so past
+     * effective dates load, and keeps the stored number instead of drawing a
+     * new one. Only persistence adapters should call this.
+     *
+     * @param id the stored ID
+     * @param policyNumber the stored policy number
+     * @param customerId the customer ID
+     * @param effectiveDate when the policy became effective
+     * @param expirationDate when the policy expires
+     * @param status the stored status
+     * @param coverages the stored coverages
+     * @return the policy
+     */
+    public static Policy rehydrate(Long id, PolicyNumber policyNumber, String customerId, LocalDate effectiveDate,
+                                   LocalDate expirationDate, PolicyStatus status, List<Coverage> coverages) {
+        return new Policy(id, policyNumber, customerId, effectiveDate, expirationDate, status, coverages);
+    }
+
     /**
      * Default constructor for ORM frameworks.
      * Should not be used in business logic.
@@ -64,14 +97,14 @@ public class Policy {
      * Activate the policy.
      * Transitions status from DRAFT to ACTIVE.
      *
-     * @throws IllegalStateException if policy is not in DRAFT status
+     * @throws DomainStateException if policy is not in DRAFT status
      */
     public void activate() {
         if (status != PolicyStatus.DRAFT) {
-            throw new IllegalStateException("Can only activate policies in DRAFT status");
+            throw new DomainStateException("Can only activate policies in DRAFT status");
         }
         if (effectiveDate.isAfter(LocalDate.now())) {
-            throw new IllegalStateException("Cannot activate policy before effective date");
+            throw new DomainStateException("Cannot activate policy before effective date");
         }
         this.status = PolicyStatus.ACTIVE;
     }
@@ -80,11 +113,11 @@ public class Policy {
      * Cancel the policy.
      * Transitions status to CANCELLED.
      *
-     * @throws IllegalStateException if policy is already expired or cancelled
+     * @throws DomainStateException if policy is already expired or cancelled
      */
     public void cancel() {
         if (status == PolicyStatus.EXPIRED || status == PolicyStatus.CANCELLED) {
-            throw new IllegalStateException("Cannot cancel expired or already cancelled policy");
+            throw new DomainStateException("Cannot cancel expired or already cancelled policy");
         }
         this.status = PolicyStatus.CANCELLED;
     }
@@ -94,14 +127,14 @@ public class Policy {
      * Recalculates total premium.
      *
      * @param coverage the coverage to add
-     * @throws IllegalStateException if policy is not in DRAFT status
+     * @throws DomainStateException if policy is not in DRAFT status
      */
     public void addCoverage(Coverage coverage) {
         if (status != PolicyStatus.DRAFT) {
-            throw new IllegalStateException("Can only add coverages to DRAFT policies");
+            throw new DomainStateException("Can only add coverages to DRAFT policies");
         }
         if (coverage == null) {
-            throw new IllegalArgumentException("Coverage cannot be null");
+            throw new DomainValidationException("Coverage cannot be null");
         }
         this.coverages.add(coverage);
         this.totalPremium = calculateTotalPremium();
@@ -129,22 +162,22 @@ public class Policy {
 
     private void validateCustomerId(String customerId) {
         if (customerId == null || customerId.trim().isEmpty()) {
-            throw new IllegalArgumentException("Customer ID is required");
+            throw new DomainValidationException("Customer ID is required");
         }
     }
 
     private void validateEffectiveDate(LocalDate effectiveDate) {
         if (effectiveDate == null) {
-            throw new IllegalArgumentException("Effective date is required");
+            throw new DomainValidationException("Effective date is required");
         }
         if (effectiveDate.isBefore(LocalDate.now())) {
-            throw new IllegalArgumentException("Effective date must be in the future");
+            throw new DomainValidationException("Effective date must be in the future");
         }
     }
 
     private void validateCoverages(List<Coverage> coverages) {
         if (coverages == null || coverages.isEmpty()) {
-            throw new IllegalArgumentException("Policy must have at least one coverage");
+            throw new DomainValidationException("Policy must have at least one coverage");
         }
     }
 
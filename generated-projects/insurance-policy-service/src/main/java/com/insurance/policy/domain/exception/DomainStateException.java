@@ -0,0 +1,27 @@
+package com.insurance.policy.domain.exception;
+
+/**
+ * Thrown when an operation is not allowed in an entity's current state, such
+ * as approving a claim that is not under review or paying a refunded payment.
+ *
+ * An expected rejection rather than a failure, so no stack trace is captured.
+ * It stays an IllegalStateException for callers that already catch one.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class DomainStateException extends IllegalStateException {
+
+    /**
+     * Constructs a new stackless state exception.
+     *
+     * @param message the detail message
+     */
+    public DomainStateException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,29 @@
+package com.insurance.policy.domain.exception;
+
+/**
+ * Thrown when a value or entity is built from data that breaks a domain rule,
+ * such as a negative amount, a malformed identifier or a missing coverage.
+ *
+ * Like the application layer's business exceptions this is an expected
+ * rejection of bad input, so it skips the stack trace capture that dominates
+ * the cost of throwing. It stays an IllegalArgumentException for callers that
+ * already catch one.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class DomainValidationException extends IllegalArgumentException {
+
+    /**
+     * Constructs a new stackless validation exception.
+     *
+     * @param message the detail message
+     */
+    public DomainValidationException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
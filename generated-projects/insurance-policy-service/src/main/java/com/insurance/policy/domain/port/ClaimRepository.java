@@ -3,6 +3,7 @@ package com.insurance.policy.domain.port;
 import com.insurance.policy.domain.entity.Claim;
 import com.insurance.policy.domain.valueobject.ClaimNumber;
 import com.insurance.policy.domain.valueobject.ClaimStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +35,15 @@ public interface ClaimRepository {
      */
     Optional<Claim> findById(Long id);
 
+    /**
+     * Find the Claim entities with the given IDs in a single query.
+     * Results are in no particular order; IDs without a claim are left out.
+     *
+     * @param ids the entity IDs
+     * @return list of the entities found
+     */
+    List<Claim> findAllById(Collection<Long> ids);
+
     /**
      * Find all Claim entities.
      *
@@ -79,4 +89,12 @@ public interface ClaimRepository {
      * @return list of claims for the policy
      */
     List<Claim> findByPolicyId(String policyId);
+
+    /**
+     * Find all claims for the given policies in a single query.
+     *
+     * @param policyIds the policy IDs
+     * @return list of claims for any of the policies, in no particular order
+     */
+    List<Claim> findByPolicyIds(Collection<String> policyIds);
 }
@@ -0,0 +1,31 @@
+package com.insurance.policy.domain.port;
+
+import java.util.List;
+
+/**
+ * Port for finding customers by partial name, e-mail or phone number.
+ *
+ * Unlike CustomerRepository's exact lookups, a query may be a prefix or
+ * contain typos; results are ranked, best match first.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public interface CustomerSearch {
+
+    /**
+     * Find the customers best matching a query.
+     *
+     * @param query partial name, e-mail address or phone number
+     * @param limit maximum number of matches
+     * @return matches ordered by descending score
+     */
+    List<Match> search(String query, int limit);
+
+    /**
+     * A customer matching a search query.
+     *
+     * @param score relevance, higher is better; only comparable within one search
+     */
+    record Match(Long customerId, String firstName, String lastName, String email, String phone, double score) {
+    }
+}
@@ -4,8 +4,10 @@ import com.insurance.policy.domain.entity.Payment;
 import com.insurance.policy.domain.valueobject.PaymentStatus;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Payment repository port (interface)
@@ -23,16 +25,39 @@ public interface PaymentRepository {
      */
     Optional<Payment> findById(Long id);
 
+    /**
+     * Find the payments with the given IDs in a single query.
+     * Results are in no particular order; IDs without a payment are left out.
+     */
+    List<Payment> findAllById(Collection<Long> ids);
+
     /**
      * Find all payments for a specific claim
      */
     List<Payment> findByClaimId(Long claimId);
 
+    /**
+     * Find all payments for the given claims in a single query.
+     * Results are in no particular order.
+     */
+    List<Payment> findByClaimIds(Collection<Long> claimIds);
+
     /**
      * Find all payments with a specific status
      */
     List<Payment> findByPaymentStatus(PaymentStatus status);
 
+    /**
+     * Pass each payment for a specific claim to the action as it is read,
+     * without collecting them into a list
+     */
+    void forEachByClaimId(Long claimId, Consumer<Payment> action);
+
+    /**
+     * Pass each payment with a specific status to the action as it is read
+     */
+    void forEachByPaymentStatus(PaymentStatus status, Consumer<Payment> action);
+
     /**
      * Find a payment by its transaction ID
      */
@@ -48,6 +73,11 @@ public interface PaymentRepository {
      */
     List<Payment> findAll();
 
+    /**
+     * Pass each payment to the action as it is read
+     */
+    void forEach(Consumer<Payment> action);
+
     /**
      * Delete a payment by ID
      */
@@ -2,7 +2,11 @@ package com.insurance.policy.domain.port;
 
 import com.insurance.policy.domain.entity.Policy;
 import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +36,26 @@ public interface PolicyRepository {
      */
     Optional<Policy> findById(Long id);
 
+    /**
+     * Find the policies with the given IDs in a single query.
+     * Results are in no particular order; IDs without a policy are left out.
+     *
+     * @param ids the policy IDs
+     * @return list of the policies found
+     */
+    List<Policy> findAllById(Collection<Long> ids);
+
+    /**
+     * Find the summaries of the policies with the given IDs in a single query.
+     * Coverages are neither read nor parsed, so this is the cheaper lookup when
+     * the caller only needs the policy header.
+     * Results are in no particular order; IDs without a policy are left out.
+     *
+     * @param ids the policy IDs
+     * @return list of the summaries found
+     */
+    List<Summary> findSummariesById(Collection<Long> ids);
+
     /**
      * Find a policy by policy number.
      *
@@ -69,4 +93,12 @@ public interface PolicyRepository {
      * @return true if exists
      */
     boolean existsById(Long id);
+
+    /**
+     * A policy without its coverages.
+     */
+    record Summary(Long id, String policyNumber, String customerId, LocalDate effectiveDate,
+                   LocalDate expirationDate, BigDecimal totalPremiumAmount, String totalPremiumCurrency,
+                   PolicyStatus status) {
+    }
 }
@@ -0,0 +1,50 @@
+package com.insurance.policy.domain.service;
+
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CoverageTypeRates - Domain Service
+ *
+ * Rate change expressed as a multiplier per coverage type, e.g. COLLISION 1.05
+ * for a 5% increase. Coverage types without a multiplier of their own get
+ * the default one. Coverage types are matched ignoring case, and premiums are
+ * rounded to cents by Money.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class CoverageTypeRates implements PremiumRateFunction {
+
+    private final Map<String, BigDecimal> multipliers = new HashMap<>();
+    private final BigDecimal defaultMultiplier;
+
+    /**
+     * @param multipliers       multiplier by coverage type
+     * @param defaultMultiplier multiplier for the other coverage types
+     */
+    public CoverageTypeRates(Map<String, BigDecimal> multipliers, BigDecimal defaultMultiplier) {
+        if (defaultMultiplier == null || defaultMultiplier.signum() < 0) {
+            throw new IllegalArgumentException("Default multiplier must not be negative");
+        }
+        multipliers.forEach((coverageType, multiplier) -> {
+            if (multiplier == null || multiplier.signum() < 0) {
+                throw new IllegalArgumentException("Multiplier for " + coverageType + " must not be negative");
+            }
+            this.multipliers.put(coverageType.toUpperCase(Locale.ROOT), multiplier);
+        });
+        this.defaultMultiplier = defaultMultiplier;
+    }
+
+    @Override
+    public Money reprice(Coverage coverage) {
+        BigDecimal multiplier = multipliers.getOrDefault(
+                coverage.coverageType().toUpperCase(Locale.ROOT), defaultMultiplier);
+        Money premium = coverage.premiumAmount();
+        return new Money(premium.amount().multiply(multiplier), premium.currency());
+    }
+}
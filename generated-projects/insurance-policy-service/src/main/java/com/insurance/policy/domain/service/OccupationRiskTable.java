@@ -0,0 +1,62 @@
+package com.insurance.policy.domain.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Occupation rule table: an occupation scores the points of the first tier
+ * with a keyword it contains, ignoring case, or 0.
+ *
+ * Occupations repeat heavily across applications, so each distinct one is
+ * matched once and its points kept in a hash map; later lookups cost one
+ * hash probe. The map stops growing at MAX_CACHED occupations, after which
+ * unseen ones are matched every time, without allocating.
+ */
+final class OccupationRiskTable {
+
+    static final int MAX_CACHED = 10_000;
+
+    private final String[][] keywordsByTier;
+    private final int[] pointsByTier;
+    private final ConcurrentHashMap<String, Integer> pointsByOccupation = new ConcurrentHashMap<>();
+
+    /**
+     * @param keywordsByTier keywords per tier, highest priority first, in lower case
+     * @param pointsByTier points per tier
+     */
+    OccupationRiskTable(String[][] keywordsByTier, int[] pointsByTier) {
+        this.keywordsByTier = keywordsByTier;
+        this.pointsByTier = pointsByTier;
+    }
+
+    int points(String occupation) {
+        Integer cached = pointsByOccupation.get(occupation);
+        if (cached != null) {
+            return cached;
+        }
+        int points = match(occupation);
+        if (pointsByOccupation.size() < MAX_CACHED) {
+            pointsByOccupation.putIfAbsent(occupation, points);
+        }
+        return points;
+    }
+
+    private int match(String occupation) {
+        for (int tier = 0; tier < keywordsByTier.length; tier++) {
+            for (String keyword : keywordsByTier[tier]) {
+                if (containsIgnoreCase(occupation, keyword)) {
+                    return pointsByTier[tier];
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        for (int i = 0; i + keyword.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.insurance.policy.domain.service;
+
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.Money;
+
+/**
+ * PremiumRateFunction - Domain Service
+ *
+ * Prices a coverage under a new set of rates. A policy's total premium is the
+ * sum of its coverage premiums, so repricing a policy means applying this to
+ * each coverage and adding the results.
+ *
+ * Implementations must be stateless or thread-safe: repricing calls them
+ * from several threads at once.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@FunctionalInterface
+public interface PremiumRateFunction {
+
+    /**
+     * @param coverage the coverage at its current premium
+     * @return the coverage's premium under the new rates, in the same currency
+     */
+    Money reprice(Coverage coverage);
+}
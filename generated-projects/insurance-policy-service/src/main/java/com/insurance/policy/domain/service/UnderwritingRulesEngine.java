@@ -0,0 +1,244 @@
+package com.insurance.policy.domain.service;
+
+import com.insurance.policy.domain.valueobject.ApplicantDetails;
+import com.insurance.policy.domain.valueobject.ContributingFactors;
+import com.insurance.policy.domain.valueobject.CoverageRequest;
+import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.RiskAssessment;
+import com.insurance.policy.domain.valueobject.RiskScore;
+import com.insurance.policy.domain.valueobject.UnderwritingApplication;
+import com.insurance.policy.domain.valueobject.UnderwritingRecommendation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * UnderwritingRulesEngine - Domain Service
+ *
+ * Scores the risk of an insurance application from the applicant's age,
+ * occupation and health and the requested coverage amount and term, and
+ * recommends approving, reviewing or rejecting it.
+ *
+ * The rule tables are compiled once, when the engine is created:
+ * - age and term points are arrays indexed by years
+ * - occupation points are memoised per distinct occupation (see OccupationRiskTable)
+ * - health points are a string switch, i.e. a hash lookup
+ * - coverage thresholds are BigDecimal constants
+ * so assessing an application allocates only the assessment itself. The
+ * contributing factor descriptions are rendered only when read.
+ *
+ * Stateless apart from the occupation memo, which is thread-safe, so one
+ * instance serves all threads. {@link #assessBatch(List)} scores large sets
+ * on a fork/join pool.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class UnderwritingRulesEngine {
+
+    /**
+     * Batches up to this size, and the slices a larger batch is split into,
+     * are assessed on the calling thread.
+     */
+    static final int BATCH_SLICE = 4_096;
+
+    private static final int LOW_RISK_THRESHOLD = 25;
+    private static final int HIGH_RISK_THRESHOLD = 75;
+
+    private static final int MAX_AGE = 120;
+    private static final int MAX_TERM_YEARS = 50;
+
+    private static final BigDecimal LOW_COVERAGE_LIMIT = BigDecimal.valueOf(100_000);
+    private static final BigDecimal MEDIUM_COVERAGE_LIMIT = BigDecimal.valueOf(500_000);
+
+    private static final String[][] OCCUPATION_KEYWORDS = {
+        {"construction", "pilot", "firefighter", "police", "miner", "logger"},
+        {"nurse", "electrician", "mechanic", "truck driver", "security"}
+    };
+    private static final int[] OCCUPATION_POINTS = {25, 10};
+
+    private final int[] agePoints = compileAgePoints();
+    private final int[] termPoints = compileTermPoints();
+    private final OccupationRiskTable occupations = new OccupationRiskTable(OCCUPATION_KEYWORDS, OCCUPATION_POINTS);
+    private final ForkJoinPool pool;
+
+    public UnderwritingRulesEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool the pool batches are assessed on
+     */
+    public UnderwritingRulesEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Assess the risk for an insurance application
+     *
+     * @param applicantDetails Details about the applicant
+     * @param coverageRequest Details about the requested coverage
+     * @return Complete risk assessment with score, factors, and recommendation
+     */
+    public RiskAssessment assessRisk(ApplicantDetails applicantDetails, CoverageRequest coverageRequest) {
+        int age = agePoints[applicantDetails.age()];
+        int occupation = occupations.points(applicantDetails.occupation());
+        int health = healthPoints(applicantDetails.healthStatus());
+        int coverage = coveragePoints(coverageRequest.amount());
+        int term = termPoints[coverageRequest.termYears()];
+
+        RiskScore riskScore = RiskScore.of(Math.min(age + occupation + health + coverage + term, RiskScore.MAX_SCORE));
+        return new RiskAssessment(
+            riskScore,
+            ContributingFactors.of(applicantDetails, coverageRequest, age, occupation, health, coverage, term),
+            recommendation(riskScore)
+        );
+    }
+
+    /**
+     * Assess the risk for an insurance application
+     */
+    public RiskAssessment assessRisk(UnderwritingApplication application) {
+        return assessRisk(application.applicant(), application.coverage());
+    }
+
+    /**
+     * Assess many applications, splitting batches larger than BATCH_SLICE
+     * across the engine's fork/join pool. Results are in input order.
+     *
+     * @param applications the applications to assess
+     * @return an unmodifiable list with one assessment per application
+     */
+    public List<RiskAssessment> assessBatch(List<UnderwritingApplication> applications) {
+        List<UnderwritingApplication> indexed = applications instanceof RandomAccess
+            ? applications
+            : new ArrayList<>(applications);
+        RiskAssessment[] results = new RiskAssessment[indexed.size()];
+        if (results.length <= BATCH_SLICE) {
+            assessRange(indexed, results, 0, results.length);
+        } else {
+            pool.invoke(new AssessSlice(indexed, results, 0, results.length));
+        }
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Calculate recommended premium based on base rate and risk score
+     *
+     * Formula: basePremium * (1 + riskScore / 100)
+     */
+    public Money calculatePremium(Money basePremium, RiskScore riskScore) {
+        return basePremium.multiply(1.0 + (riskScore.value() / 100.0));
+    }
+
+    private void assessRange(List<UnderwritingApplication> applications, RiskAssessment[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = assessRisk(applications.get(i));
+        }
+    }
+
+    /**
+     * Age Ranges:
+     * - Under 25: +15 points (inexperienced, higher accident risk)
+     * - 25-40: +5 points (prime age, lower risk)
+     * - 41-60: +10 points (moderate risk)
+     * - Over 60: +20 points (higher health risks)
+     */
+    private static int[] compileAgePoints() {
+        int[] points = new int[MAX_AGE + 1];
+        for (int age = 0; age <= MAX_AGE; age++) {
+            points[age] = age < 25 ? 15 : age <= 40 ? 5 : age <= 60 ? 10 : 20;
+        }
+        return points;
+    }
+
+    /**
+     * Term Length Risk:
+     * - 10 years or less: +5 points
+     * - 11-20 years: +10 points
+     * - Over 20 years: +15 points
+     */
+    private static int[] compileTermPoints() {
+        int[] points = new int[MAX_TERM_YEARS + 1];
+        for (int years = 0; years <= MAX_TERM_YEARS; years++) {
+            points[years] = years <= 10 ? 5 : years <= 20 ? 10 : 15;
+        }
+        return points;
+    }
+
+    /**
+     * Health Status Risk: Excellent +0, Good +5, Fair +15, Poor +30
+     */
+    private static int healthPoints(String healthStatus) {
+        return switch (healthStatus) {
+            case "Good" -> 5;
+            case "Fair" -> 15;
+            case "Poor" -> 30;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Coverage Amount Risk: under 100K +5, 100K-500K +10, over 500K +20
+     */
+    private static int coveragePoints(Money coverageAmount) {
+        BigDecimal amount = coverageAmount.amount();
+        if (amount.compareTo(LOW_COVERAGE_LIMIT) < 0) {
+            return 5;
+        } else if (amount.compareTo(MEDIUM_COVERAGE_LIMIT) <= 0) {
+            return 10;
+        } else {
+            return 20;
+        }
+    }
+
+    /**
+     * Recommendation Logic:
+     * - 0-25: Low Risk, auto-approve
+     * - 26-75: Medium/High Risk, manual review required
+     * - 76+: Very High Risk, auto-reject
+     */
+    private static UnderwritingRecommendation recommendation(RiskScore riskScore) {
+        if (riskScore.value() <= LOW_RISK_THRESHOLD) {
+            return UnderwritingRecommendation.AUTO_APPROVE;
+        } else if (riskScore.value() <= HIGH_RISK_THRESHOLD) {
+            return UnderwritingRecommendation.MANUAL_REVIEW_REQUIRED;
+        } else {
+            return UnderwritingRecommendation.AUTO_REJECT;
+        }
+    }
+
+    /**
+     * Splits a range in halves until it is at most BATCH_SLICE long.
+     */
+    private final class AssessSlice extends RecursiveAction {
+
+        private final List<UnderwritingApplication> applications;
+        private final RiskAssessment[] results;
+        private final int from;
+        private final int to;
+
+        AssessSlice(List<UnderwritingApplication> applications, RiskAssessment[] results, int from, int to) {
+            this.applications = applications;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SLICE) {
+                assessRange(applications, results, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AssessSlice(applications, results, from, middle),
+                new AssessSlice(applications, results, middle, to));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.insurance.policy.domain.valueobject;
+
+import com.insurance.policy.domain.exception.DomainValidationException;
+
+import java.util.Set;
+
+/**
+ * ApplicantDetails Value Object describing the person applying for coverage.
+ *
+ * Immutable and validates itself on construction.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record ApplicantDetails(String name, int age, String occupation, String healthStatus) {
+
+    /**
+     * Health statuses the underwriting rules know, best first.
+     */
+    public static final Set<String> HEALTH_STATUSES = Set.of("Excellent", "Good", "Fair", "Poor");
+
+    /**
+     * Compact constructor with validation.
+     */
+    public ApplicantDetails {
+        if (name == null || name.isBlank()) {
+            throw new DomainValidationException("Applicant name is required");
+        }
+        if (age < 0 || age > 120) {
+            throw new DomainValidationException("Invalid age: " + age);
+        }
+        if (occupation == null || occupation.isBlank()) {
+            throw new DomainValidationException("Occupation is required");
+        }
+        if (healthStatus == null || !HEALTH_STATUSES.contains(healthStatus)) {
+            throw new DomainValidationException("Invalid health status. Must be one of: Excellent, Good, Fair, Poor");
+        }
+    }
+
+    public boolean isHighRiskAge() {
+        return age < 25 || age > 60;
+    }
+}
@@ -1,5 +1,7 @@
 package com.insurance.policy.domain.valueobject;
 
+import com.insurance.policy.domain.exception.DomainValidationException;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -21,17 +23,17 @@ public record ClaimAmount(BigDecimal amount, String currency) {
      * Compact constructor with validation.
      * Enforces invariants for the value object.
      *
-     * @throws IllegalArgumentException if validation fails
+     * @throws DomainValidationException if validation fails
      */
     public ClaimAmount {
         if (amount == null) {
-            throw new IllegalArgumentException("Claim amount cannot be null");
+            throw new DomainValidationException("Claim amount cannot be null");
         }
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Claim amount cannot be negative");
+            throw new DomainValidationException("Claim amount cannot be negative");
         }
         if (currency == null || currency.trim().isEmpty()) {
-            throw new IllegalArgumentException("Currency is required");
+            throw new DomainValidationException("Currency is required");
         }
         // Ensure 2 decimal places for money
         amount = amount.setScale(2, RoundingMode.HALF_UP);
@@ -43,7 +45,7 @@ public record ClaimAmount(BigDecimal amount, String currency) {
      * @param amount the amount value
      * @param currency the currency code
      * @return validated ClaimAmount instance
-     * @throws IllegalArgumentException if validation fails
+     * @throws DomainValidationException if validation fails
      */
     public static ClaimAmount of(BigDecimal amount, String currency) {
         return new ClaimAmount(amount, currency);
@@ -68,7 +70,7 @@ public record ClaimAmount(BigDecimal amount, String currency) {
      */
     public ClaimAmount add(ClaimAmount other) {
         if (!this.currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Cannot add different currencies");
+            throw new DomainValidationException("Cannot add different currencies");
         }
         return new ClaimAmount(this.amount.add(other.amount), this.currency);
     }
@@ -91,7 +93,7 @@ public record ClaimAmount(BigDecimal amount, String currency) {
      */
     public boolean isGreaterThan(ClaimAmount other) {
         if (!this.currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Cannot compare different currencies");
+            throw new DomainValidationException("Cannot compare different currencies");
         }
         return this.amount.compareTo(other.amount) > 0;
     }
@@ -1,37 +1,50 @@
 package com.insurance.policy.domain.valueobject;
 
-import java.util.regex.Pattern;
+import com.insurance.policy.domain.exception.DomainValidationException;
+
+import java.util.Objects;
 
 /**
  * ClaimNumber Value Object representing a unique claim identifier.
  *
- * This is a Value Object (immutable) implemented as a Java Record.
  * Value Objects are defined by their attributes, not identity.
  * They are immutable and validate themselves on construction.
  *
  * Format: CLM-YYYY-NNNNNN (e.g., CLM-2025-000001)
  *
+ * Values read back from persistence were validated when they were written, so
+ * mappers use {@link #rehydrate(String)}, which skips the format check.
+ *
  * @author Generated by BMAD Spring Boot Clean Architecture Generator
  * @version 1.0
  */
-public record ClaimNumber(String value) {
+public final class ClaimNumber {
+
+    private static final String PREFIX = "CLM-";
+    private static final int LENGTH = 15;
 
-    private static final Pattern CLAIM_NUMBER_PATTERN = Pattern.compile("^CLM-\\d{4}-\\d{6}$");
+    private final String value;
 
     /**
-     * Compact constructor with validation.
+     * Constructor with validation.
      * Enforces invariants for the value object.
      *
-     * @throws IllegalArgumentException if validation fails
+     * @param value the claim number string
+     * @throws DomainValidationException if validation fails
      */
-    public ClaimNumber {
+    public ClaimNumber(String value) {
         if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException("Claim number cannot be null or empty");
+            throw new DomainValidationException("Claim number cannot be null or empty");
         }
-        if (!CLAIM_NUMBER_PATTERN.matcher(value).matches()) {
-            throw new IllegalArgumentException(
+        if (!isWellFormed(value)) {
+            throw new DomainValidationException(
                 "Claim number must match format CLM-YYYY-NNNNNN (e.g., CLM-2025-000001)");
         }
+        this.value = value;
+    }
+
+    private ClaimNumber(String value, boolean trusted) {
+        this.value = value;
     }
 
     /**
@@ -39,12 +52,24 @@ public record ClaimNumber(String value) {
      *
      * @param value the claim number string
      * @return validated ClaimNumber instance
-     * @throws IllegalArgumentException if validation fails
+     * @throws DomainValidationException if validation fails
      */
     public static ClaimNumber of(String value) {
         return new ClaimNumber(value);
     }
 
+    /**
+     * Rebuild a ClaimNumber from a value that was validated when it was stored.
+     * Only persistence mappers should call this; input from clients must go
+     * through {@link #of(String)}.
+     *
+     * @param value the stored claim number
+     * @return ClaimNumber instance
+     */
+    public static ClaimNumber rehydrate(String value) {
+        return new ClaimNumber(Objects.requireNonNull(value, "Claim number cannot be null"), true);
+    }
+
     /**
      * Generate a new claim number for a given year and sequence.
      *
@@ -57,6 +82,33 @@ public record ClaimNumber(String value) {
         return new ClaimNumber("CLM-" + year + "-" + formattedSequence);
     }
 
+    /**
+     * Check the CLM-YYYY-NNNNNN format without a regex.
+     */
+    static boolean isWellFormed(String value) {
+        return value.length() == LENGTH
+            && value.startsWith(PREFIX)
+            && Digits.areDigits(value, 4, 8)
+            && value.charAt(8) == '-'
+            && Digits.areDigits(value, 9, LENGTH);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ClaimNumber that)) return false;
+        return value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
     @Override
     public String toString() {
         return value;
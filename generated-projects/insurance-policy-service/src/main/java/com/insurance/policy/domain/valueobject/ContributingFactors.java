@@ -0,0 +1,95 @@
+package com.insurance.policy.domain.valueobject;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The factors that added points to a risk score, as an immutable list of
+ * descriptions such as "Age (62 years): +20 points".
+ *
+ * Holds the points per factor and renders a description only when it is
+ * read, so assessing an application that nobody inspects builds no strings.
+ * Factors that added no points are left out, in RiskFactor order.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public final class ContributingFactors extends AbstractList<String> implements RandomAccess {
+
+    private static final RiskFactor[] FACTORS = RiskFactor.values();
+    private static final int BITS = 8;
+    private static final int MAX_POINTS = (1 << BITS) - 1;
+
+    private final ApplicantDetails applicant;
+    private final CoverageRequest coverage;
+    private final long points;
+    private final int size;
+    private String[] descriptions;
+
+    private ContributingFactors(ApplicantDetails applicant, CoverageRequest coverage, long points, int size) {
+        this.applicant = applicant;
+        this.coverage = coverage;
+        this.points = points;
+        this.size = size;
+    }
+
+    /**
+     * Factory method from the points each factor added, in RiskFactor order.
+     */
+    public static ContributingFactors of(ApplicantDetails applicant, CoverageRequest coverage, int... pointsPerFactor) {
+        if (pointsPerFactor.length != FACTORS.length) {
+            throw new IllegalArgumentException("Expected points for " + FACTORS.length + " factors");
+        }
+        long packed = 0;
+        int size = 0;
+        for (int i = 0; i < FACTORS.length; i++) {
+            int factorPoints = pointsPerFactor[i];
+            if (factorPoints < 0 || factorPoints > MAX_POINTS) {
+                throw new IllegalArgumentException("Factor points must be between 0 and " + MAX_POINTS);
+            }
+            if (factorPoints > 0) {
+                size++;
+            }
+            packed |= (long) factorPoints << (i * BITS);
+        }
+        return new ContributingFactors(applicant, coverage, packed, size);
+    }
+
+    /**
+     * Points a factor added, 0 if it added none.
+     */
+    public int points(RiskFactor factor) {
+        return (int) (points >>> (factor.ordinal() * BITS)) & MAX_POINTS;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        String[] rendered = descriptions;
+        if (rendered == null) {
+            rendered = new String[size];
+            descriptions = rendered;
+        }
+        if (rendered[index] == null) {
+            RiskFactor factor = nthContributing(index);
+            rendered[index] = factor.describe(applicant, coverage, points(factor));
+        }
+        return rendered[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private RiskFactor nthContributing(int index) {
+        int seen = 0;
+        for (RiskFactor factor : FACTORS) {
+            if (points(factor) > 0 && seen++ == index) {
+                return factor;
+            }
+        }
+        throw new IllegalStateException("No contributing factor at " + index);
+    }
+}
@@ -1,5 +1,7 @@
 package com.insurance.policy.domain.valueobject;
 
+import com.insurance.policy.domain.exception.DomainValidationException;
+
 /**
  * Coverage Value Object representing an insurance coverage.
  *
@@ -14,10 +16,10 @@ public record Coverage(String coverageType, Money premiumAmount) {
      */
     public Coverage {
         if (coverageType == null || coverageType.trim().isEmpty()) {
-            throw new IllegalArgumentException("Coverage type is required");
+            throw new DomainValidationException("Coverage type is required");
         }
         if (premiumAmount == null) {
-            throw new IllegalArgumentException("Premium amount is required");
+            throw new DomainValidationException("Premium amount is required");
         }
     }
 
@@ -0,0 +1,36 @@
+package com.insurance.policy.domain.valueobject;
+
+import com.insurance.policy.domain.exception.DomainValidationException;
+
+import java.math.BigDecimal;
+
+/**
+ * CoverageRequest Value Object describing the coverage an applicant asks for.
+ *
+ * Immutable and validates itself on construction.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record CoverageRequest(String coverageType, Money amount, int termYears) {
+
+    private static final BigDecimal HIGH_VALUE_THRESHOLD = BigDecimal.valueOf(500_000);
+
+    /**
+     * Compact constructor with validation.
+     */
+    public CoverageRequest {
+        if (coverageType == null || coverageType.isBlank()) {
+            throw new DomainValidationException("Coverage type is required");
+        }
+        if (amount == null) {
+            throw new DomainValidationException("Coverage amount is required");
+        }
+        if (termYears <= 0 || termYears > 50) {
+            throw new DomainValidationException("Term years must be between 1 and 50");
+        }
+    }
+
+    public boolean isHighValue() {
+        return amount.amount().compareTo(HIGH_VALUE_THRESHOLD) > 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.insurance.policy.domain.valueobject;
+
+/**
+ * Character-class checks shared by the identifier value objects.
+ *
+ * Identifier formats are fixed-width ASCII, so a loop over the characters
+ * validates them without compiling or running a regex.
+ */
+final class Digits {
+
+    private Digits() {
+    }
+
+    /**
+     * Whether every character in [from, to) is an ASCII digit.
+     */
+    static boolean areDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether every character is an ASCII upper-case letter or digit.
+     */
+    static boolean areUpperAlphanumeric(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'A' || c > 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
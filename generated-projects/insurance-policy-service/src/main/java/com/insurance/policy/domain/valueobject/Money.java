@@ -1,5 +1,7 @@
 package com.insurance.policy.domain.valueobject;
 
+import com.insurance.policy.domain.exception.DomainValidationException;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -19,13 +21,13 @@ public record Money(BigDecimal amount, String currency) {
      */
     public Money {
         if (amount == null) {
-            throw new IllegalArgumentException("Amount cannot be null");
+            throw new DomainValidationException("Amount cannot be null");
         }
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Amount cannot be negative");
+            throw new DomainValidationException("Amount cannot be negative");
         }
         if (currency == null || currency.trim().isEmpty()) {
-            throw new IllegalArgumentException("Currency is required");
+            throw new DomainValidationException("Currency is required");
         }
         // Ensure 2 decimal places for money
         amount = amount.setScale(2, RoundingMode.HALF_UP);
@@ -43,7 +45,7 @@ public record Money(BigDecimal amount, String currency) {
      */
     public Money add(Money other) {
         if (!this.currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Cannot add different currencies");
+            throw new DomainValidationException("Cannot add different currencies");
         }
         return new Money(this.amount.add(other.amount), this.currency);
     }
@@ -57,7 +59,7 @@ public record Money(BigDecimal amount, String currency) {
 
     public boolean isGreaterThan(Money other) {
         if (!this.currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Cannot compare different currencies");
+            throw new DomainValidationException("Cannot compare different currencies");
         }
         return this.amount.compareTo(other.amount) > 0;
     }
@@ -1,5 +1,7 @@
 package com.insurance.policy.domain.valueobject;
 
+import com.insurance.policy.domain.exception.DomainValidationException;
+
 import java.math.BigDecimal;
 import java.util.Objects;
 
@@ -12,10 +14,10 @@ public class PaymentAmount {
 
     public PaymentAmount(BigDecimal value) {
         if (value == null) {
-            throw new IllegalArgumentException("Payment amount cannot be null");
+            throw new DomainValidationException("Payment amount cannot be null");
         }
         if (value.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("Payment amount must be positive, got: " + value);
+            throw new DomainValidationException("Payment amount must be positive, got: " + value);
         }
         // Round to 2 decimal places for currency
         this.value = value.setScale(2, BigDecimal.ROUND_HALF_UP);
@@ -1,7 +1,9 @@
 package com.insurance.policy.domain.valueobject;
 
+import com.insurance.policy.domain.exception.DomainValidationException;
+
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.regex.Pattern;
 
 /**
  * PolicyNumber Value Object.
@@ -9,26 +11,35 @@ import java.util.regex.Pattern;
  * Format: POL-YYYY-NNNNNN
  * Example: POL-2025-000001
  *
- * Implemented as Java Record for immutability.
+ * Immutable; values loaded from persistence use {@link #rehydrate(String)},
+ * which skips the format check they already passed on write.
  *
  * @author Generated by BMAD Spring Boot Clean Architecture Generator
  */
-public record PolicyNumber(String value) {
+public final class PolicyNumber {
 
-    private static final Pattern PATTERN = Pattern.compile("POL-\\d{4}-\\d{6}");
+    private static final String PREFIX = "POL-";
+    private static final int LENGTH = 15;
     private static final AtomicLong counter = new AtomicLong(0);
 
+    private final String value;
+
     /**
-     * Compact constructor with validation.
+     * Constructor with validation.
      */
-    public PolicyNumber {
+    public PolicyNumber(String value) {
         if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException("Policy number cannot be null or empty");
+            throw new DomainValidationException("Policy number cannot be null or empty");
         }
-        if (!PATTERN.matcher(value).matches()) {
-            throw new IllegalArgumentException(
+        if (!isWellFormed(value)) {
+            throw new DomainValidationException(
                     "Policy number must match format POL-YYYY-NNNNNN");
         }
+        this.value = value;
+    }
+
+    private PolicyNumber(String value, boolean trusted) {
+        this.value = value;
     }
 
     /**
@@ -49,4 +60,41 @@ public record PolicyNumber(String value) {
     public static PolicyNumber of(String value) {
         return new PolicyNumber(value);
     }
+
+    /**
+     * Rebuild a PolicyNumber from a stored, previously validated value.
+     * Only persistence adapters should call this.
+     */
+    public static PolicyNumber rehydrate(String value) {
+        return new PolicyNumber(Objects.requireNonNull(value, "Policy number cannot be null"), true);
+    }
+
+    static boolean isWellFormed(String value) {
+        return value.length() == LENGTH
+                && value.startsWith(PREFIX)
+                && Digits.areDigits(value, 4, 8)
+                && value.charAt(8) == '-'
+                && Digits.areDigits(value, 9, LENGTH);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PolicyNumber that)) return false;
+        return value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PolicyNumber[value=" + value + "]";
+    }
 }
@@ -0,0 +1,48 @@
+package com.insurance.policy.domain.valueobject;
+
+import java.util.List;
+
+/**
+ * RiskAssessment Value Object: the outcome of running the underwriting rules
+ * on an application.
+ *
+ * Immutable and validates itself on construction.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record RiskAssessment(
+        RiskScore riskScore,
+        List<String> contributingFactors,
+        UnderwritingRecommendation recommendation) {
+
+    /**
+     * Compact constructor with validation. ContributingFactors is already
+     * immutable and is kept as is, so its descriptions stay unrendered.
+     */
+    public RiskAssessment {
+        if (riskScore == null) {
+            throw new IllegalArgumentException("Risk score is required");
+        }
+        if (contributingFactors == null) {
+            throw new IllegalArgumentException("Contributing factors are required");
+        }
+        if (recommendation == null) {
+            throw new IllegalArgumentException("Recommendation is required");
+        }
+        if (!(contributingFactors instanceof ContributingFactors)) {
+            contributingFactors = List.copyOf(contributingFactors);
+        }
+    }
+
+    public boolean requiresManualReview() {
+        return recommendation == UnderwritingRecommendation.MANUAL_REVIEW_REQUIRED;
+    }
+
+    public boolean isAutoApprovalRecommended() {
+        return recommendation == UnderwritingRecommendation.AUTO_APPROVE;
+    }
+
+    public boolean isAutoRejectionRecommended() {
+        return recommendation == UnderwritingRecommendation.AUTO_REJECT;
+    }
+}
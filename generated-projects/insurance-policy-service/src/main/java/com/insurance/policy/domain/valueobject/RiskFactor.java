@@ -0,0 +1,38 @@
+package com.insurance.policy.domain.valueobject;
+
+/**
+ * Enum representing the aspects of an application the underwriting rules score.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public enum RiskFactor {
+    AGE("Age"),
+    OCCUPATION("Occupation"),
+    HEALTH_STATUS("Health Status"),
+    COVERAGE_AMOUNT("Coverage Amount"),
+    TERM_LENGTH("Term Length");
+
+    private final String label;
+
+    RiskFactor(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Describe the points this factor added, e.g. "Age (62 years): +20 points".
+     */
+    public String describe(ApplicantDetails applicant, CoverageRequest coverage, int points) {
+        String subject = switch (this) {
+            case AGE -> applicant.age() + " years";
+            case OCCUPATION -> applicant.occupation();
+            case HEALTH_STATUS -> applicant.healthStatus();
+            case COVERAGE_AMOUNT -> coverage.amount().currency() + " " + coverage.amount().amount().toPlainString();
+            case TERM_LENGTH -> coverage.termYears() + " years";
+        };
+        return label + " (" + subject + "): +" + points + " points";
+    }
+}
@@ -0,0 +1,28 @@
+package com.insurance.policy.domain.valueobject;
+
+/**
+ * Enum representing the band a risk score falls in.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public enum RiskLevel {
+    /**
+     * Score 0-25.
+     */
+    LOW,
+
+    /**
+     * Score 26-50.
+     */
+    MEDIUM,
+
+    /**
+     * Score 51-75.
+     */
+    HIGH,
+
+    /**
+     * Score 76-100.
+     */
+    VERY_HIGH
+}
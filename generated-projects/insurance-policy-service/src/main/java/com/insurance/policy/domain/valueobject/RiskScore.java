@@ -0,0 +1,63 @@
+package com.insurance.policy.domain.valueobject;
+
+/**
+ * RiskScore Value Object: the underwriting risk of an application, 0 to 100.
+ *
+ * Immutable and validates itself on construction. Use {@link #of(int)} to
+ * share the 101 possible instances.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record RiskScore(int value) {
+
+    public static final int MIN_SCORE = 0;
+    public static final int MAX_SCORE = 100;
+
+    private static final RiskScore[] SCORES = new RiskScore[MAX_SCORE + 1];
+
+    static {
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            SCORES[score] = new RiskScore(score);
+        }
+    }
+
+    /**
+     * Compact constructor with validation.
+     */
+    public RiskScore {
+        if (value < MIN_SCORE || value > MAX_SCORE) {
+            throw new IllegalArgumentException(
+                "Risk score must be between " + MIN_SCORE + " and " + MAX_SCORE + ". Got: " + value);
+        }
+    }
+
+    /**
+     * Factory method returning the shared instance for a score.
+     */
+    public static RiskScore of(int value) {
+        if (value < MIN_SCORE || value > MAX_SCORE) {
+            return new RiskScore(value);
+        }
+        return SCORES[value];
+    }
+
+    public RiskLevel getRiskLevel() {
+        if (value <= 25) {
+            return RiskLevel.LOW;
+        } else if (value <= 50) {
+            return RiskLevel.MEDIUM;
+        } else if (value <= 75) {
+            return RiskLevel.HIGH;
+        } else {
+            return RiskLevel.VERY_HIGH;
+        }
+    }
+
+    public boolean isLowRisk() {
+        return value <= 25;
+    }
+
+    public boolean isVeryHighRisk() {
+        return value > 75;
+    }
+}
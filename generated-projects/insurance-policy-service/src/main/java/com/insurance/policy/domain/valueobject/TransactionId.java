@@ -1,29 +1,44 @@
 package com.insurance.policy.domain.valueobject;
 
+import com.insurance.policy.domain.exception.DomainValidationException;
+
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value object representing a transaction ID
  * Validates the format of external transaction references
+ * Persistence mappers use {@link #rehydrate(String)} for stored values, which were validated on write
  */
 public class TransactionId {
-    private static final Pattern VALID_PATTERN = Pattern.compile("^[A-Z0-9]{8,32}$");
+    private static final int MIN_LENGTH = 8;
+    private static final int MAX_LENGTH = 32;
     private final String value;
 
     public TransactionId(String value) {
         if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("Transaction ID cannot be null or blank");
+            throw new DomainValidationException("Transaction ID cannot be null or blank");
         }
         String normalized = value.trim().toUpperCase();
-        if (!VALID_PATTERN.matcher(normalized).matches()) {
-            throw new IllegalArgumentException(
+        if (normalized.length() < MIN_LENGTH || normalized.length() > MAX_LENGTH
+                || !Digits.areUpperAlphanumeric(normalized)) {
+            throw new DomainValidationException(
                 "Transaction ID must be 8-32 alphanumeric characters, got: " + value
             );
         }
         this.value = normalized;
     }
 
+    private TransactionId(String value, boolean trusted) {
+        this.value = value;
+    }
+
+    /**
+     * Rebuild a transaction ID from a stored, already normalized value
+     */
+    public static TransactionId rehydrate(String value) {
+        return new TransactionId(Objects.requireNonNull(value, "Transaction ID cannot be null"), true);
+    }
+
     public String getValue() {
         return value;
     }
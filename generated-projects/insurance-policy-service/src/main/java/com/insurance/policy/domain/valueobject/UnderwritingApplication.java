@@ -0,0 +1,24 @@
+package com.insurance.policy.domain.valueobject;
+
+import com.insurance.policy.domain.exception.DomainValidationException;
+
+/**
+ * UnderwritingApplication Value Object: an applicant and the coverage they
+ * apply for, the unit the underwriting rules assess.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record UnderwritingApplication(ApplicantDetails applicant, CoverageRequest coverage) {
+
+    /**
+     * Compact constructor with validation.
+     */
+    public UnderwritingApplication {
+        if (applicant == null) {
+            throw new DomainValidationException("Applicant details are required");
+        }
+        if (coverage == null) {
+            throw new DomainValidationException("Coverage request is required");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.insurance.policy.domain.valueobject;
+
+/**
+ * Enum representing what the underwriting rules recommend for an application.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public enum UnderwritingRecommendation {
+    /**
+     * Low risk: approve without review.
+     */
+    AUTO_APPROVE,
+
+    /**
+     * Medium or high risk: an underwriter decides.
+     */
+    MANUAL_REVIEW_REQUIRED,
+
+    /**
+     * Very high risk: reject without review.
+     */
+    AUTO_REJECT
+}
@@ -6,11 +6,12 @@ import com.insurance.policy.domain.valueobject.ClaimNumber;
 import com.insurance.policy.domain.valueobject.ClaimStatus;
 import com.insurance.policy.infrastructure.adapter.persistence.entity.ClaimJpaEntity;
 import com.insurance.policy.infrastructure.adapter.persistence.mapper.ClaimMapper;
+import com.insurance.policy.infrastructure.observability.jfr.MappingEvents;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * JPA implementation of ClaimRepository.
@@ -44,11 +45,14 @@ public class ClaimRepositoryAdapter implements ClaimRepository {
                 .map(ClaimMapper::toDomain);
     }
 
+    @Override
+    public List<Claim> findAllById(Collection<Long> ids) {
+        return MappingEvents.toDomainList("Claim", springDataRepository.findAllById(ids), ClaimMapper::toDomain);
+    }
+
     @Override
     public List<Claim> findAll() {
-        return springDataRepository.findAll().stream()
-                .map(ClaimMapper::toDomain)
-                .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Claim", springDataRepository.findAll(), ClaimMapper::toDomain);
     }
 
     @Override
@@ -69,15 +73,19 @@ public class ClaimRepositoryAdapter implements ClaimRepository {
 
     @Override
     public List<Claim> findByStatus(ClaimStatus status) {
-        return springDataRepository.findByStatus(status).stream()
-                .map(ClaimMapper::toDomain)
-                .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Claim", springDataRepository.findByStatus(status), ClaimMapper::toDomain);
     }
 
     @Override
     public List<Claim> findByPolicyId(String policyId) {
-        return springDataRepository.findByPolicyId(policyId).stream()
-                .map(ClaimMapper::toDomain)
-                .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Claim", springDataRepository.findByPolicyId(policyId), ClaimMapper::toDomain);
+    }
+
+    @Override
+    public List<Claim> findByPolicyIds(Collection<String> policyIds) {
+        if (policyIds.isEmpty()) {
+            return List.of();
+        }
+        return MappingEvents.toDomainList("Claim", springDataRepository.findByPolicyIdIn(policyIds), ClaimMapper::toDomain);
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,4 +44,12 @@ public interface ClaimSpringDataRepository extends JpaRepository<ClaimJpaEntity,
      * @return list of claims for the policy
      */
     List<ClaimJpaEntity> findByPolicyId(String policyId);
+
+    /**
+     * Find all claims for any of the given policies.
+     *
+     * @param policyIds the policy IDs
+     * @return list of claims for the policies
+     */
+    List<ClaimJpaEntity> findByPolicyIdIn(Collection<String> policyIds);
 }
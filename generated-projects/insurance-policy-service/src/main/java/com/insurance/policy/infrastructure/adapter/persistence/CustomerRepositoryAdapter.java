@@ -5,12 +5,15 @@ import com.insurance.policy.domain.port.CustomerRepository;
 import com.insurance.policy.domain.valueobject.CustomerStatus;
 import com.insurance.policy.infrastructure.adapter.persistence.entity.CustomerJpaEntity;
 import com.insurance.policy.infrastructure.adapter.persistence.mapper.CustomerMapper;
+import com.insurance.policy.infrastructure.observability.jfr.MappingEvents;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * JPA implementation of CustomerRepository.
@@ -19,6 +22,9 @@ import java.util.stream.Collectors;
  * It resides in the infrastructure layer and handles persistence details.
  * Maps between domain entities and JPA entities to maintain Clean Architecture.
  *
+ * Lookups by email go through Hibernate's natural-id API so they are answered
+ * from the second-level cache instead of querying the customers table.
+ *
  * @author BMAD Spring Boot Clean Architecture Generator
  * @version 1.0
  */
@@ -26,9 +32,12 @@ import java.util.stream.Collectors;
 public class CustomerRepositoryAdapter implements CustomerRepository {
 
     private final CustomerSpringDataRepository springDataRepository;
+    private final EntityManager entityManager;
 
-    public CustomerRepositoryAdapter(CustomerSpringDataRepository springDataRepository) {
+    public CustomerRepositoryAdapter(CustomerSpringDataRepository springDataRepository,
+                                     EntityManager entityManager) {
         this.springDataRepository = springDataRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -46,9 +55,7 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
 
     @Override
     public List<Customer> findAll() {
-        return springDataRepository.findAll().stream()
-                .map(CustomerMapper::toDomain)
-                .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Customer", springDataRepository.findAll(), CustomerMapper::toDomain);
     }
 
     @Override
@@ -62,8 +69,11 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Customer> findByEmail(String email) {
-        return springDataRepository.findByEmail(email)
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(CustomerJpaEntity.class)
+                .loadOptional(email)
                 .map(CustomerMapper::toDomain);
     }
 
@@ -75,15 +85,11 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
 
     @Override
     public List<Customer> findByStatus(CustomerStatus status) {
-        return springDataRepository.findByStatus(status).stream()
-                .map(CustomerMapper::toDomain)
-                .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Customer", springDataRepository.findByStatus(status), CustomerMapper::toDomain);
     }
 
     @Override
     public List<Customer> findActiveCustomersRegisteredAfter(LocalDate date) {
-        return springDataRepository.findActiveCustomersRegisteredAfter(date).stream()
-                .map(CustomerMapper::toDomain)
-                .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Customer", springDataRepository.findActiveCustomersRegisteredAfter(date), CustomerMapper::toDomain);
     }
 }
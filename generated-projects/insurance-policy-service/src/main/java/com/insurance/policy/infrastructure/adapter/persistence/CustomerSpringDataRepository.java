@@ -2,13 +2,17 @@ package com.insurance.policy.infrastructure.adapter.persistence;
 
 import com.insurance.policy.domain.valueobject.CustomerStatus;
 import com.insurance.policy.infrastructure.adapter.persistence.entity.CustomerJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for CustomerJpaEntity.
@@ -25,6 +29,8 @@ public interface CustomerSpringDataRepository extends JpaRepository<CustomerJpaE
      * Find customer by email address.
      *
      * Uses Spring Data JPA naming convention for simple queries.
+     * CustomerRepositoryAdapter looks customers up by the email natural id
+     * instead, which is served from the second-level cache.
      *
      * @param email the email address
      * @return Optional containing the customer if found
@@ -35,10 +41,12 @@ public interface CustomerSpringDataRepository extends JpaRepository<CustomerJpaE
      * Find customer by phone number.
      *
      * Uses Spring Data JPA naming convention for simple queries.
+     * The result is kept in the query cache until the customers table changes.
      *
      * @param phone the phone number
      * @return Optional containing the customer if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CustomerJpaEntity> findByPhone(String phone);
 
     /**
@@ -62,4 +70,33 @@ public interface CustomerSpringDataRepository extends JpaRepository<CustomerJpaE
      */
     @Query("SELECT c FROM CustomerJpaEntity c WHERE c.status = 'ACTIVE' AND c.registeredDate > :date")
     List<CustomerJpaEntity> findActiveCustomersRegisteredAfter(@Param("date") LocalDate date);
+
+    /**
+     * Stream the searchable fields of every customer, for building the search
+     * index at start-up.
+     *
+     * Selects scalars only, so nothing accumulates in the persistence context,
+     * and fetches rows in batches instead of loading the table into memory.
+     * Must be consumed, and closed, inside a transaction.
+     *
+     * @return stream of the searchable fields of all customers
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.customerId AS customerId, c.firstName AS firstName, c.lastName AS lastName, " +
+           "c.email AS email, c.phone AS phone FROM CustomerJpaEntity c")
+    Stream<SearchFields> streamSearchFields();
+
+    /**
+     * Projection of the customer fields the search index covers.
+     */
+    interface SearchFields {
+        Long getCustomerId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        String getPhone();
+    }
 }
@@ -1,24 +1,27 @@
 package com.insurance.policy.infrastructure.adapter.persistence;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insurance.policy.domain.entity.Policy;
 import com.insurance.policy.domain.port.PolicyRepository;
-import com.insurance.policy.domain.valueobject.*;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
 import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.mapper.PolicyMapper;
+import com.insurance.policy.infrastructure.observability.jfr.MappingEvents;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Adapter implementing PolicyRepository using Spring Data JPA.
  *
  * Translates between domain entities and JPA entities (Hexagonal Architecture).
+ * Lookups by policy number use Hibernate's natural-id API so they are answered
+ * from the second-level cache.
  *
  * @author Generated by BMAD Spring Boot Clean Architecture Generator
  */
@@ -26,44 +29,59 @@ import java.util.stream.Collectors;
 public class PolicyRepositoryAdapter implements PolicyRepository {
 
     private final PolicySpringDataRepository jpaRepository;
-    private final ObjectMapper objectMapper;
+    private final PolicyMapper policyMapper;
+    private final EntityManager entityManager;
 
-    public PolicyRepositoryAdapter(PolicySpringDataRepository jpaRepository, ObjectMapper objectMapper) {
+    public PolicyRepositoryAdapter(PolicySpringDataRepository jpaRepository, ObjectMapper objectMapper,
+                                   EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
-        this.objectMapper = objectMapper;
+        this.policyMapper = new PolicyMapper(objectMapper);
+        this.entityManager = entityManager;
     }
 
     @Override
     public Policy save(Policy policy) {
-        PolicyJpaEntity jpaEntity = toJpaEntity(policy);
+        PolicyJpaEntity jpaEntity = policyMapper.toJpa(policy);
         PolicyJpaEntity saved = jpaRepository.save(jpaEntity);
-        return toDomainEntity(saved);
+        return policyMapper.toDomain(saved);
     }
 
     @Override
     public Optional<Policy> findById(Long id) {
         return jpaRepository.findById(id)
-                .map(this::toDomainEntity);
+                .map(policyMapper::toDomain);
     }
 
     @Override
+    public List<Policy> findAllById(Collection<Long> ids) {
+        return MappingEvents.toDomainList("Policy", jpaRepository.findAllById(ids), policyMapper::toDomain);
+    }
+
+    @Override
+    public List<Summary> findSummariesById(Collection<Long> ids) {
+        return MappingEvents.toDomainList("PolicySummary", jpaRepository.findSummaryFieldsByIdIn(ids),
+                row -> new Summary(row.getId(), row.getPolicyNumber(), row.getCustomerId(), row.getEffectiveDate(),
+                        row.getExpirationDate(), row.getTotalPremiumAmount(), row.getTotalPremiumCurrency(),
+                        row.getStatus()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Policy> findByPolicyNumber(PolicyNumber policyNumber) {
-        return jpaRepository.findByPolicyNumber(policyNumber.value())
-                .map(this::toDomainEntity);
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(PolicyJpaEntity.class)
+                .loadOptional(policyNumber.value())
+                .map(policyMapper::toDomain);
     }
 
     @Override
     public List<Policy> findByCustomerId(String customerId) {
-        return jpaRepository.findByCustomerId(customerId).stream()
-                .map(this::toDomainEntity)
-                .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Policy", jpaRepository.findByCustomerId(customerId), policyMapper::toDomain);
     }
 
     @Override
     public List<Policy> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(this::toDomainEntity)
-                .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Policy", jpaRepository.findAll(), policyMapper::toDomain);
     }
 
     @Override
@@ -75,79 +93,4 @@ public class PolicyRepositoryAdapter implements PolicyRepository {
     public boolean existsById(Long id) {
         return jpaRepository.existsById(id);
     }
-
-    // Mapping methods
-
-    private PolicyJpaEntity toJpaEntity(Policy policy) {
-        PolicyJpaEntity jpaEntity = new PolicyJpaEntity();
-        jpaEntity.setId(policy.getId());
-        jpaEntity.setPolicyNumber(policy.getPolicyNumber().value());
-        jpaEntity.setCustomerId(policy.getCustomerId());
-        jpaEntity.setEffectiveDate(policy.getEffectiveDate());
-        jpaEntity.setExpirationDate(policy.getExpirationDate());
-        jpaEntity.setTotalPremiumAmount(policy.getTotalPremium().amount());
-        jpaEntity.setTotalPremiumCurrency(policy.getTotalPremium().currency());
-        jpaEntity.setStatus(policy.getStatus());
-
-        // Serialize coverages to JSON
-        try {
-            String coveragesJson = objectMapper.writeValueAsString(
-                    policy.getCoverages().stream()
-                            .map(c -> new CoverageDto(c.coverageType(),
-                                    c.premiumAmount().amount().doubleValue(),
-                                    c.premiumAmount().currency()))
-                            .collect(Collectors.toList())
-            );
-            jpaEntity.setCoveragesJson(coveragesJson);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize coverages", e);
-        }
-
-        return jpaEntity;
-    }
-
-    private Policy toDomainEntity(PolicyJpaEntity jpaEntity) {
-        // Deserialize coverages from JSON
-        List<Coverage> coverages;
-        try {
-            CoverageDto[] coverageDtos = objectMapper.readValue(
-                    jpaEntity.getCoveragesJson(), CoverageDto[].class);
-            coverages = new ArrayList<>();
-            for (CoverageDto dto : coverageDtos) {
-                coverages.add(Coverage.of(dto.coverageType(), dto.premiumAmount(), dto.currency()));
-            }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize coverages", e);
-        }
-
-        // Use reflection to create Policy with ID (for simplicity)
-        Policy policy = new Policy(
-                jpaEntity.getCustomerId(),
-                jpaEntity.getEffectiveDate(),
-                coverages
-        );
-
-        // Set ID using reflection or a package-private setter
-        try {
-            var idField = Policy.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(policy, jpaEntity.getId());
-
-            var policyNumberField = Policy.class.getDeclaredField("policyNumber");
-            policyNumberField.setAccessible(true);
-            policyNumberField.set(policy, PolicyNumber.of(jpaEntity.getPolicyNumber()));
-
-            var statusField = Policy.class.getDeclaredField("status");
-            statusField.setAccessible(true);
-            statusField.set(policy, jpaEntity.getStatus());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to reconstruct domain entity", e);
-        }
-
-        return policy;
-    }
-
-    // Internal DTO for JSON serialization
-    private record CoverageDto(String coverageType, double premiumAmount, String currency) {
-    }
 }
@@ -1,9 +1,18 @@
 package com.insurance.policy.infrastructure.adapter.persistence;
 
+import com.insurance.policy.domain.valueobject.PolicyStatus;
 import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +26,37 @@ public interface PolicySpringDataRepository extends JpaRepository<PolicyJpaEntit
 
     Optional<PolicyJpaEntity> findByPolicyNumber(String policyNumber);
 
+    /**
+     * Result ids go to the query cache; the policies themselves are then
+     * served from the entity region.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PolicyJpaEntity> findByCustomerId(String customerId);
+
+    /**
+     * Select the policy header columns for the given ids.
+     *
+     * Scalars only: coverages_json is never read, and nothing is added to the
+     * persistence context.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p.id AS id, p.policyNumber AS policyNumber, p.customerId AS customerId, " +
+           "p.effectiveDate AS effectiveDate, p.expirationDate AS expirationDate, " +
+           "p.totalPremiumAmount AS totalPremiumAmount, p.totalPremiumCurrency AS totalPremiumCurrency, " +
+           "p.status AS status FROM PolicyJpaEntity p WHERE p.id IN :ids")
+    List<SummaryFields> findSummaryFieldsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Projection of the policy columns a summary covers.
+     */
+    interface SummaryFields {
+        Long getId();
+        String getPolicyNumber();
+        String getCustomerId();
+        LocalDate getEffectiveDate();
+        LocalDate getExpirationDate();
+        BigDecimal getTotalPremiumAmount();
+        String getTotalPremiumCurrency();
+        PolicyStatus getStatus();
+    }
 }
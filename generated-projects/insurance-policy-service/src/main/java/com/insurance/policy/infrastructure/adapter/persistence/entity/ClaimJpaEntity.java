@@ -1,6 +1,7 @@
 package com.insurance.policy.infrastructure.adapter.persistence.entity;
 
 import com.insurance.policy.domain.valueobject.ClaimStatus;
+import com.insurance.policy.infrastructure.cache.CustomerOverviewInvalidationListener;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -16,7 +17,10 @@ import java.time.LocalDate;
  * @version 1.0
  */
 @Entity
-@Table(name = "claims")
+@Table(name = "claims", indexes = {
+    @Index(name = "idx_claim_policy_id", columnList = "policy_id")
+})
+@EntityListeners(CustomerOverviewInvalidationListener.class)
 public class ClaimJpaEntity {
 
     @Id
@@ -1,7 +1,15 @@
 package com.insurance.policy.infrastructure.adapter.persistence.entity;
 
 import com.insurance.policy.domain.valueobject.CustomerStatus;
+import com.insurance.policy.infrastructure.cache.CacheRegions;
+import com.insurance.policy.infrastructure.cache.CustomerOverviewInvalidationListener;
+import com.insurance.policy.infrastructure.cache.SecondLevelCacheInvalidationListener;
+import com.insurance.policy.infrastructure.search.CustomerSearchIndexListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.time.LocalDate;
 
 /**
@@ -16,6 +24,10 @@ import java.time.LocalDate;
  */
 @Entity
 @Table(name = "customers")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CUSTOMERS)
+@NaturalIdCache(region = CacheRegions.CUSTOMERS_BY_EMAIL)
+@EntityListeners({SecondLevelCacheInvalidationListener.class, CustomerOverviewInvalidationListener.class,
+    CustomerSearchIndexListener.class})
 public class CustomerJpaEntity {
 
     @Id
@@ -29,6 +41,7 @@ public class CustomerJpaEntity {
     @Column(name = "last_name", nullable = false, length = 100)
     private String lastName;
 
+    @NaturalId(mutable = true)
     @Column(name = "email", unique = true, nullable = false, length = 255)
     private String email;
 
@@ -1,7 +1,14 @@
 package com.insurance.policy.infrastructure.adapter.persistence.entity;
 
 import com.insurance.policy.domain.valueobject.PolicyStatus;
+import com.insurance.policy.infrastructure.cache.CacheRegions;
+import com.insurance.policy.infrastructure.cache.CustomerOverviewInvalidationListener;
+import com.insurance.policy.infrastructure.cache.SecondLevelCacheInvalidationListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
@@ -14,13 +21,19 @@ import java.time.LocalDate;
  * @author Generated by BMAD Spring Boot Clean Architecture Generator
  */
 @Entity
-@Table(name = "policies")
+@Table(name = "policies", indexes = {
+    @Index(name = "idx_policy_customer_id", columnList = "customer_id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.POLICIES)
+@NaturalIdCache(region = CacheRegions.POLICIES_BY_NUMBER)
+@EntityListeners({SecondLevelCacheInvalidationListener.class, CustomerOverviewInvalidationListener.class})
 public class PolicyJpaEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(name = "policy_number", unique = true, nullable = false)
     private String policyNumber;
 
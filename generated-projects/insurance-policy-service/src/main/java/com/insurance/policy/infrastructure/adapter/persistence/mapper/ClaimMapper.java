@@ -50,7 +50,7 @@ public class ClaimMapper {
             return null;
         }
 
-        ClaimNumber claimNumber = ClaimNumber.of(jpa.getClaimNumber());
+        ClaimNumber claimNumber = ClaimNumber.rehydrate(jpa.getClaimNumber());
         ClaimAmount claimedAmount = ClaimAmount.of(jpa.getClaimedAmount(), jpa.getClaimedCurrency());
 
         Claim claim = new Claim(
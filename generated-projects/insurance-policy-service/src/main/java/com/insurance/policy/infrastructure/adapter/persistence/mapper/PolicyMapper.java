@@ -0,0 +1,99 @@
+package com.insurance.policy.infrastructure.adapter.persistence.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper between Policy domain entity and JPA entity.
+ *
+ * Coverages are stored as a JSON column, so unlike the other mappers this one
+ * needs an ObjectMapper and is used as an instance.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ * @version 1.0
+ */
+public class PolicyMapper {
+
+    private final ObjectMapper objectMapper;
+
+    public PolicyMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Convert domain entity to JPA entity.
+     *
+     * @param policy the domain entity
+     * @return the JPA entity
+     */
+    public PolicyJpaEntity toJpa(Policy policy) {
+        PolicyJpaEntity jpaEntity = new PolicyJpaEntity();
+        jpaEntity.setId(policy.getId());
+        jpaEntity.setPolicyNumber(policy.getPolicyNumber().value());
+        jpaEntity.setCustomerId(policy.getCustomerId());
+        jpaEntity.setEffectiveDate(policy.getEffectiveDate());
+        jpaEntity.setExpirationDate(policy.getExpirationDate());
+        jpaEntity.setTotalPremiumAmount(policy.getTotalPremium().amount());
+        jpaEntity.setTotalPremiumCurrency(policy.getTotalPremium().currency());
+        jpaEntity.setStatus(policy.getStatus());
+
+        // Serialize coverages to JSON
+        try {
+            String coveragesJson = objectMapper.writeValueAsString(
+                    policy.getCoverages().stream()
+                            .map(c -> new CoverageDto(c.coverageType(),
+                                    c.premiumAmount().amount().doubleValue(),
+                                    c.premiumAmount().currency()))
+                            .collect(Collectors.toList())
+            );
+            jpaEntity.setCoveragesJson(coveragesJson);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize coverages", e);
+        }
+
+        return jpaEntity;
+    }
+
+    /**
+     * Convert JPA entity to domain entity.
+     *
+     * @param jpaEntity the JPA entity
+     * @return the domain entity
+     */
+    public Policy toDomain(PolicyJpaEntity jpaEntity) {
+        // Deserialize coverages from JSON
+        List<Coverage> coverages;
+        try {
+            CoverageDto[] coverageDtos = objectMapper.readValue(
+                    jpaEntity.getCoveragesJson(), CoverageDto[].class);
+            coverages = new ArrayList<>();
+            for (CoverageDto dto : coverageDtos) {
+                coverages.add(Coverage.of(dto.coverageType(), dto.premiumAmount(), dto.currency()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to deserialize coverages", e);
+        }
+
+        return Policy.rehydrate(
+                jpaEntity.getId(),
+                PolicyNumber.rehydrate(jpaEntity.getPolicyNumber()),
+                jpaEntity.getCustomerId(),
+                jpaEntity.getEffectiveDate(),
+                jpaEntity.getExpirationDate(),
+                jpaEntity.getStatus(),
+                coverages
+        );
+    }
+
+    // Internal DTO for JSON serialization
+    private record CoverageDto(String coverageType, double premiumAmount, String currency) {
+    }
+}
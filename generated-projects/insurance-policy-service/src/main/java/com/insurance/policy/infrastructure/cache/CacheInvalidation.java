@@ -0,0 +1,15 @@
+package com.insurance.policy.infrastructure.cache;
+
+/**
+ * A committed change to a cached entity that other instances must evict.
+ *
+ * Carries only the Hibernate entity name and the identifier so it can be
+ * sent over any transport (message broker, PostgreSQL NOTIFY, ...).
+ *
+ * @param entityName Hibernate entity name (the JPA entity class name)
+ * @param id         identifier of the changed row
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record CacheInvalidation(String entityName, Long id) {
+}
@@ -0,0 +1,23 @@
+package com.insurance.policy.infrastructure.cache;
+
+/**
+ * Cluster hook for the second-level cache.
+ *
+ * Hibernate keeps the local cache consistent with this instance's own
+ * writes; other instances only learn about them through this publisher.
+ * A clustered deployment provides a bean that broadcasts each invalidation
+ * and, on receipt, passes it to {@link SecondLevelCacheInvalidator} on every
+ * other instance. Without one, {@link LocalCacheInvalidationPublisher} is
+ * used and the cache is correct for a single instance only.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public interface CacheInvalidationPublisher {
+
+    /**
+     * Called after the transaction that changed the entity has committed.
+     *
+     * @param invalidation the changed entity
+     */
+    void publish(CacheInvalidation invalidation);
+}
@@ -0,0 +1,21 @@
+package com.insurance.policy.infrastructure.cache;
+
+/**
+ * Hibernate second-level cache region names.
+ *
+ * Each region is configured (size limit, time to live) in ehcache.xml; a
+ * region missing there fails start-up instead of silently getting an
+ * unbounded cache.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public final class CacheRegions {
+
+    public static final String CUSTOMERS = "com.insurance.policy.customers";
+    public static final String CUSTOMERS_BY_EMAIL = "com.insurance.policy.customers.by-email";
+    public static final String POLICIES = "com.insurance.policy.policies";
+    public static final String POLICIES_BY_NUMBER = "com.insurance.policy.policies.by-policy-number";
+
+    private CacheRegions() {
+    }
+}
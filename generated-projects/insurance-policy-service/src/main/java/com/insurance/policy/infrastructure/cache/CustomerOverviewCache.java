@@ -0,0 +1,130 @@
+package com.insurance.policy.infrastructure.cache;
+
+import com.insurance.policy.application.dto.CustomerOverviewOutput;
+import com.insurance.policy.application.dto.CustomerOverviewOutput.PolicyOverview;
+import com.insurance.policy.application.usecase.GetCustomerOverviewUseCase;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Caching decorator for GetCustomerOverviewUseCase. Assembled overviews are
+ * kept per customer for a time-to-live and evicted when something in them is
+ * written: the customer, one of their policies, a claim on one of those
+ * policies or a payment on one of those claims (see
+ * {@link CustomerOverviewInvalidationListener}). Once the cache is full, new
+ * customers are only admitted after expired entries are purged.
+ *
+ * An overview loaded while an eviction happens is returned but not cached,
+ * so a load racing with a write can never put the pre-write tree back.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class CustomerOverviewCache implements GetCustomerOverviewUseCase {
+
+    private final GetCustomerOverviewUseCase delegate;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    public CustomerOverviewCache(GetCustomerOverviewUseCase delegate, Duration ttl, int maxEntries) {
+        this(delegate, ttl, maxEntries, System::nanoTime);
+    }
+
+    CustomerOverviewCache(GetCustomerOverviewUseCase delegate, Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public CustomerOverviewOutput execute(Long customerId) {
+        Entry entry = entries.get(customerId);
+        if (entry != null) {
+            if (entry.expiresAtNanos - nanoClock.getAsLong() > 0) {
+                return entry.overview;
+            }
+            entries.remove(customerId, entry);
+        }
+        long evictionsBefore = evictions.get();
+        CustomerOverviewOutput overview = delegate.execute(customerId);
+        remember(customerId, overview, evictionsBefore);
+        return overview;
+    }
+
+    /**
+     * Evict the overview of a customer
+     *
+     * @param customerId The customer ID
+     */
+    public void evictCustomer(Long customerId) {
+        evictions.incrementAndGet();
+        entries.remove(customerId);
+    }
+
+    /**
+     * Evict every overview that contains a policy
+     *
+     * @param policyId The policy ID, as claims refer to it
+     */
+    public void evictContainingPolicy(String policyId) {
+        evictWhere(overview -> overview.policies().stream()
+                .anyMatch(policy -> policy.policyId().toString().equals(policyId)));
+    }
+
+    /**
+     * Evict every overview that contains a claim
+     *
+     * @param claimId The claim ID
+     */
+    public void evictContainingClaim(Long claimId) {
+        evictWhere(overview -> overview.policies().stream()
+                .map(PolicyOverview::claims)
+                .anyMatch(claims -> claims.stream().anyMatch(claim -> claim.claimId().equals(claimId))));
+    }
+
+    /**
+     * Evict all overviews, e.g. after a bulk update that bypassed the entity listeners
+     */
+    public void evictAll() {
+        evictions.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictWhere(Predicate<CustomerOverviewOutput> affected) {
+        evictions.incrementAndGet();
+        entries.values().removeIf(entry -> affected.test(entry.overview));
+    }
+
+    private void remember(Long customerId, CustomerOverviewOutput overview, long evictionsBefore) {
+        if (entries.size() >= maxEntries && !entries.containsKey(customerId)) {
+            purgeExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        Entry entry = new Entry(overview, nanoClock.getAsLong() + ttlNanos);
+        entries.put(customerId, entry);
+        if (evictions.get() != evictionsBefore) {
+            entries.remove(customerId, entry);
+        }
+    }
+
+    private void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAtNanos - now <= 0);
+    }
+
+    private record Entry(CustomerOverviewOutput overview, long expiresAtNanos) {
+    }
+}
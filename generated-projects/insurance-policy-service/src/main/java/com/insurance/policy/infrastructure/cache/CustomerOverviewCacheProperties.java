@@ -0,0 +1,30 @@
+package com.insurance.policy.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the customer overview cache (prefix app.customer-overview.cache).
+ *
+ * Local writes evict affected overviews as soon as they commit; ttl bounds how
+ * long an overview changed by another instance can be served stale.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@ConfigurationProperties(prefix = "app.customer-overview.cache")
+public record CustomerOverviewCacheProperties(
+        boolean enabled,
+        Duration ttl,
+        int maxEntries
+) {
+
+    public CustomerOverviewCacheProperties {
+        if (ttl == null) {
+            ttl = Duration.ofSeconds(60);
+        }
+        if (maxEntries <= 0) {
+            maxEntries = 10_000;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.insurance.policy.infrastructure.cache;
+
+import com.insurance.policy.infrastructure.adapter.persistence.entity.ClaimJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.CustomerJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+import com.insurance.policy.infrastructure.persistence.entity.PaymentJpaEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener on customers, policies, claims and payments that evicts
+ * the customer overviews a write affects once the transaction commits:
+ * - customer: that customer's overview
+ * - policy: the owning customer's overview, and any overview still listing the policy
+ * - claim: overviews listing the claim's policy or the claim itself
+ * - payment: overviews listing the payment's claim
+ *
+ * Evicting after commit keeps a concurrent read from caching the tree as it
+ * was before the write. The cache is looked up lazily, so nothing happens
+ * when it is disabled or in JPA slice tests.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class CustomerOverviewInvalidationListener {
+
+    private final ObjectProvider<CustomerOverviewCache> cache;
+
+    public CustomerOverviewInvalidationListener(ObjectProvider<CustomerOverviewCache> cache) {
+        this.cache = cache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        CustomerOverviewCache available = cache.getIfAvailable();
+        if (available == null) {
+            return;
+        }
+        Runnable eviction;
+        if (entity instanceof CustomerJpaEntity customer) {
+            eviction = () -> available.evictCustomer(customer.getCustomerId());
+        } else if (entity instanceof PolicyJpaEntity policy) {
+            String customerId = policy.getCustomerId();
+            String policyId = String.valueOf(policy.getId());
+            eviction = () -> {
+                evictCustomer(available, customerId);
+                available.evictContainingPolicy(policyId);
+            };
+        } else if (entity instanceof ClaimJpaEntity claim) {
+            String policyId = claim.getPolicyId();
+            Long claimId = claim.getId();
+            eviction = () -> {
+                available.evictContainingPolicy(policyId);
+                available.evictContainingClaim(claimId);
+            };
+        } else if (entity instanceof PaymentJpaEntity payment) {
+            Long claimId = payment.getClaimId();
+            eviction = () -> available.evictContainingClaim(claimId);
+        } else {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private static void evictCustomer(CustomerOverviewCache cache, String customerId) {
+        try {
+            cache.evictCustomer(Long.valueOf(customerId));
+        } catch (NumberFormatException e) {
+            // Not a customer the overview can be requested for
+        }
+    }
+}
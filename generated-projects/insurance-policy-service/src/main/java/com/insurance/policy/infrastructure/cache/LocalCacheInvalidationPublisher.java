@@ -0,0 +1,20 @@
+package com.insurance.policy.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stand-alone publisher: nothing to tell, since Hibernate already updated the
+ * local cache. Used unless another CacheInvalidationPublisher bean is defined.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class LocalCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalCacheInvalidationPublisher.class);
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        log.trace("Local-only second-level cache, not broadcasting {}", invalidation);
+    }
+}
@@ -0,0 +1,106 @@
+package com.insurance.policy.infrastructure.cache;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the Hibernate second-level cache:
+ * GET /actuator/l2cache returns hit, miss and put counts and the number of
+ * entries per region, plus natural-id and query cache totals;
+ * DELETE /actuator/l2cache evicts every region.
+ *
+ * Counts are only collected with hibernate.generate_statistics=true. The same
+ * numbers are exported as hibernate.* meters (hibernate-micrometer).
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+    private final SessionFactory sessionFactory;
+    private final SecondLevelCacheInvalidator invalidator;
+
+    public SecondLevelCacheEndpoint(SessionFactory sessionFactory, SecondLevelCacheInvalidator invalidator) {
+        this.sessionFactory = sessionFactory;
+        this.invalidator = invalidator;
+    }
+
+    @ReadOperation
+    public CacheReport report() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, RegionReport> regions = new LinkedHashMap<>();
+        String[] names = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(names);
+        for (String name : names) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                regions.put(name, new RegionReport(
+                        region.getHitCount(),
+                        region.getMissCount(),
+                        region.getPutCount(),
+                        region.getElementCountInMemory()));
+            }
+        }
+        Map<String, NaturalIdReport> naturalIds = new LinkedHashMap<>();
+        for (String entityName : statistics.getEntityNames()) {
+            NaturalIdStatistics naturalId = statistics.getNaturalIdStatistics(entityName);
+            if (naturalId != null && naturalId.getExecutionCount() + naturalId.getCacheHitCount() > 0) {
+                naturalIds.put(entityName, new NaturalIdReport(
+                        naturalId.getCacheHitCount(),
+                        naturalId.getCacheMissCount(),
+                        naturalId.getExecutionCount()));
+            }
+        }
+        return new CacheReport(
+                statistics.isStatisticsEnabled(),
+                regions,
+                naturalIds,
+                new QueryCacheReport(
+                        statistics.getQueryCacheHitCount(),
+                        statistics.getQueryCacheMissCount(),
+                        statistics.getQueryCachePutCount()));
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        invalidator.invalidateAll();
+    }
+
+    /**
+     * Second-level cache state.
+     *
+     * @param statisticsEnabled false when hibernate.generate_statistics is off (all counts are then zero)
+     * @param regions           per-region counts, by region name
+     * @param naturalIds        natural-id lookups by entity name
+     * @param queryCache        query cache totals
+     */
+    public record CacheReport(boolean statisticsEnabled,
+                              Map<String, RegionReport> regions,
+                              Map<String, NaturalIdReport> naturalIds,
+                              QueryCacheReport queryCache) {
+    }
+
+    /**
+     * @param entries entries currently held, or -1 when the provider does not report it
+     */
+    public record RegionReport(long hits, long misses, long puts, long entries) {
+    }
+
+    /**
+     * @param queries natural-id resolutions that went to the database
+     */
+    public record NaturalIdReport(long cacheHits, long cacheMisses, long queries) {
+    }
+
+    public record QueryCacheReport(long hits, long misses, long puts) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.insurance.policy.infrastructure.cache;
+
+import com.insurance.policy.infrastructure.adapter.persistence.entity.CustomerJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener on the cached entities that hands updates and deletes
+ * to the {@link CacheInvalidationPublisher} once the transaction commits, so
+ * other instances never evict before the change is visible in the database.
+ *
+ * Hibernate creates it through Spring's bean container; the publisher is
+ * looked up lazily so JPA slice tests without one still work.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class SecondLevelCacheInvalidationListener {
+
+    private final ObjectProvider<CacheInvalidationPublisher> publisher;
+
+    public SecondLevelCacheInvalidationListener(ObjectProvider<CacheInvalidationPublisher> publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        Long id;
+        if (entity instanceof CustomerJpaEntity customer) {
+            id = customer.getCustomerId();
+        } else if (entity instanceof PolicyJpaEntity policy) {
+            id = policy.getId();
+        } else {
+            return;
+        }
+        CacheInvalidation invalidation = new CacheInvalidation(entity.getClass().getName(), id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(invalidation);
+                }
+            });
+        } else {
+            publish(invalidation);
+        }
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        publisher.ifAvailable(available -> available.publish(invalidation));
+    }
+}
@@ -0,0 +1,66 @@
+package com.insurance.policy.infrastructure.cache;
+
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+
+/**
+ * Receiving side of the cluster hook: evicts an entity another instance has
+ * changed from this instance's second-level cache.
+ *
+ * The entity entry is evicted by id. Natural-id entries cannot be addressed
+ * without the old natural id, so the entity's whole natural-id region is
+ * dropped, as are the query result regions, whose staleness checks only see
+ * local writes.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class SecondLevelCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheInvalidator.class);
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidator(Cache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Evict the entity named by an invalidation received from another instance.
+     *
+     * @param invalidation the remote change
+     */
+    public void invalidate(CacheInvalidation invalidation) {
+        log.debug("Evicting {} from the second-level cache", invalidation);
+        cache.evictEntityData(invalidation.entityName(), invalidation.id());
+        cache.evictNaturalIdData(invalidation.entityName());
+        cache.evictQueryRegions();
+    }
+
+    /**
+     * Evict entities a bulk update on this instance changed without going
+     * through Hibernate. The natural-id and query regions are dropped once
+     * for the whole set.
+     *
+     * @param entityName Hibernate entity name (the JPA entity class name)
+     * @param ids        identifiers of the changed rows
+     */
+    public void invalidate(String entityName, Collection<Long> ids) {
+        log.debug("Evicting {} {} entities from the second-level cache", ids.size(), entityName);
+        for (Long id : ids) {
+            cache.evictEntityData(entityName, id);
+        }
+        cache.evictNaturalIdData(entityName);
+        cache.evictQueryRegions();
+    }
+
+    /**
+     * Drop every second-level cache region, e.g. after a bulk update that bypassed Hibernate.
+     */
+    public void invalidateAll() {
+        log.info("Evicting all second-level cache regions");
+        cache.evictAllRegions();
+    }
+}
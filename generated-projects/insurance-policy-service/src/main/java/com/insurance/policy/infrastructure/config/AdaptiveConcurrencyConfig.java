@@ -0,0 +1,85 @@
+package com.insurance.policy.infrastructure.config;
+
+import com.insurance.policy.infrastructure.resilience.AdaptiveConcurrencyInterceptor;
+import com.insurance.policy.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.insurance.policy.infrastructure.resilience.AimdConcurrencyLimit;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limits for the write endpoints.
+ *
+ * POST /api/v1/claims and POST /api/v1/payments each get a Resilience4j
+ * bulkhead (claims-write, payments-write) whose limit adapts to observed
+ * latency. The interceptors are registered as MappedInterceptor beans rather
+ * than through WebConfig so web slice tests are unaffected. The current limit
+ * is exported as adaptive.concurrency.limit{name}.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdaptiveConcurrencyProperties.class)
+public class AdaptiveConcurrencyConfig {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final AdaptiveConcurrencyProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public AdaptiveConcurrencyConfig(BulkheadRegistry bulkheadRegistry,
+                                     AdaptiveConcurrencyProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public MappedInterceptor claimsWriteConcurrencyInterceptor() {
+        return postInterceptor("/api/v1/claims", limiter("claims-write"));
+    }
+
+    @Bean
+    public MappedInterceptor paymentsWriteConcurrencyInterceptor() {
+        return postInterceptor("/api/v1/payments", limiter("payments-write"));
+    }
+
+    private MappedInterceptor postInterceptor(String path, AdaptiveConcurrencyLimiter limiter) {
+        return new MappedInterceptor(new String[]{path}, new AdaptiveConcurrencyInterceptor(limiter, "POST"));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String name) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.initialLimit())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(
+                properties.initialLimit(),
+                properties.minLimit(),
+                properties.maxLimit(),
+                properties.backoffRatio(),
+                properties.latencyThreshold().toNanos()
+        );
+        Counter rejected = Counter.builder("adaptive.concurrency.rejected")
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("name", name)
+                .register(meterRegistry);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(bulkhead, limit, rejected);
+        Gauge.builder("adaptive.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("name", name)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
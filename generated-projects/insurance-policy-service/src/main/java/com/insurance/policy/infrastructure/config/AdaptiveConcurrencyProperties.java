@@ -0,0 +1,44 @@
+package com.insurance.policy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for adaptive concurrency limiting of write endpoints
+ * (prefix app.concurrency-limit).
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public record AdaptiveConcurrencyProperties(
+        boolean enabled,
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double backoffRatio,
+        Duration latencyThreshold,
+        Duration retryAfter
+) {
+
+    public AdaptiveConcurrencyProperties {
+        if (initialLimit <= 0) {
+            initialLimit = 20;
+        }
+        if (minLimit <= 0) {
+            minLimit = 2;
+        }
+        if (maxLimit <= 0) {
+            maxLimit = 200;
+        }
+        if (backoffRatio <= 0) {
+            backoffRatio = 0.9;
+        }
+        if (latencyThreshold == null) {
+            latencyThreshold = Duration.ofMillis(500);
+        }
+        if (retryAfter == null) {
+            retryAfter = Duration.ofSeconds(1);
+        }
+    }
+}
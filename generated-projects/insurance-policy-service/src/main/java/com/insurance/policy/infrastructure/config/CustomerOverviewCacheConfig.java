@@ -0,0 +1,32 @@
+package com.insurance.policy.infrastructure.config;
+
+import com.insurance.policy.application.service.GetCustomerOverviewService;
+import com.insurance.policy.infrastructure.cache.CustomerOverviewCache;
+import com.insurance.policy.infrastructure.cache.CustomerOverviewCacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Caches assembled customer overviews in front of GetCustomerOverviewService.
+ *
+ * The cache is registered as the primary GetCustomerOverviewUseCase, so the
+ * controller goes through it. Disable with app.customer-overview.cache.enabled=false
+ * to read the tree from the database on every request.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.customer-overview.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(CustomerOverviewCacheProperties.class)
+public class CustomerOverviewCacheConfig {
+
+    @Bean
+    @Primary
+    public CustomerOverviewCache customerOverviewCache(GetCustomerOverviewService service,
+                                                       CustomerOverviewCacheProperties properties) {
+        return new CustomerOverviewCache(service, properties.ttl(), properties.maxEntries());
+    }
+}
@@ -0,0 +1,51 @@
+package com.insurance.policy.infrastructure.config;
+
+import com.insurance.policy.infrastructure.adapter.persistence.CustomerSpringDataRepository;
+import com.insurance.policy.infrastructure.search.CustomerSearchIndexLoader;
+import com.insurance.policy.infrastructure.search.CustomerSearchProperties;
+import com.insurance.policy.infrastructure.search.InMemoryCustomerSearchIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * In-memory customer search index behind the CustomerSearch port.
+ *
+ * The index is built from the database at start-up unless
+ * app.customer-search.load-on-startup=false (it then only holds customers
+ * saved since), and is kept current by CustomerSearchIndexListener. Its size
+ * and estimated heap are published as customer.search.index.customers and
+ * customer.search.index.bytes.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerSearchProperties.class)
+public class CustomerSearchConfig {
+
+    @Bean
+    public InMemoryCustomerSearchIndex customerSearchIndex(CustomerSearchProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        InMemoryCustomerSearchIndex index = new InMemoryCustomerSearchIndex(properties.maxCustomers());
+        Gauge.builder("customer.search.index.customers", index, InMemoryCustomerSearchIndex::size)
+                .description("Customers in the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("customer.search.index.bytes", index, InMemoryCustomerSearchIndex::estimatedBytes)
+                .description("Estimated heap retained by the in-memory search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return index;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.customer-search", name = "load-on-startup", havingValue = "true", matchIfMissing = true)
+    public CustomerSearchIndexLoader customerSearchIndexLoader(InMemoryCustomerSearchIndex index,
+                                                               CustomerSpringDataRepository repository,
+                                                               PlatformTransactionManager transactionManager) {
+        return new CustomerSearchIndexLoader(index, repository, transactionManager);
+    }
+}
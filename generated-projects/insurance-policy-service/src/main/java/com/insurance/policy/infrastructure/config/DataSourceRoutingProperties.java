@@ -0,0 +1,43 @@
+package com.insurance.policy.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for read/write DataSource routing (prefix app.datasource.routing).
+ * The connection settings of the two pools live under app.datasource.primary
+ * and app.datasource.replica and are bound directly onto HikariCP.
+ *
+ * The default lag query is for PostgreSQL streaming replicas. A replica that
+ * has replayed everything it received reports 0 seconds; otherwise the lag is
+ * the age of the last replayed transaction. Measuring the age alone would keep
+ * growing while the primary is idle and push reads back to the primary after
+ * any quiet period longer than maxReplicaLag.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public record DataSourceRoutingProperties(
+        boolean enabled,
+        Duration maxReplicaLag,
+        Duration lagCheckInterval,
+        String replicaLagQuery
+) {
+
+    private static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    public DataSourceRoutingProperties {
+        if (maxReplicaLag == null) {
+            maxReplicaLag = Duration.ofSeconds(5);
+        }
+        if (lagCheckInterval == null) {
+            lagCheckInterval = Duration.ofSeconds(2);
+        }
+        if (replicaLagQuery == null || replicaLagQuery.isBlank()) {
+            replicaLagQuery = POSTGRES_LAG_QUERY;
+        }
+    }
+}
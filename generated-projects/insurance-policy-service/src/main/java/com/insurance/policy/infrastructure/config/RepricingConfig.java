@@ -0,0 +1,65 @@
+package com.insurance.policy.infrastructure.config;
+
+import com.insurance.policy.domain.service.CoverageTypeRates;
+import com.insurance.policy.domain.service.PremiumRateFunction;
+import com.insurance.policy.infrastructure.cache.CustomerOverviewCache;
+import com.insurance.policy.infrastructure.cache.SecondLevelCacheInvalidator;
+import com.insurance.policy.infrastructure.repricing.PortfolioRepricingJob;
+import com.insurance.policy.infrastructure.repricing.RepricingCheckpointStore;
+import com.insurance.policy.infrastructure.repricing.RepricingEndpoint;
+import com.insurance.policy.infrastructure.repricing.RepricingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Portfolio repricing job and its /actuator/repricing endpoint.
+ *
+ * Premiums are repriced by the PremiumRateFunction bean. Unless one is
+ * defined, the multipliers per coverage type in app.repricing.rates are used.
+ * Checkpoints are kept in the repricing_checkpoints table, which must exist
+ * before a job is started.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Configuration
+@EnableConfigurationProperties(RepricingProperties.class)
+public class RepricingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(PremiumRateFunction.class)
+    public PremiumRateFunction premiumRateFunction(RepricingProperties properties) {
+        return new CoverageTypeRates(properties.rates(), properties.defaultRate());
+    }
+
+    @Bean
+    public RepricingCheckpointStore repricingCheckpointStore(JdbcTemplate jdbcTemplate) {
+        return new RepricingCheckpointStore(jdbcTemplate);
+    }
+
+    @Bean
+    public PortfolioRepricingJob portfolioRepricingJob(DataSource dataSource,
+                                                       JdbcTemplate jdbcTemplate,
+                                                       PlatformTransactionManager transactionManager,
+                                                       RepricingCheckpointStore checkpoints,
+                                                       PremiumRateFunction premiumRateFunction,
+                                                       RepricingProperties properties,
+                                                       SecondLevelCacheInvalidator cacheInvalidator,
+                                                       ObjectProvider<CustomerOverviewCache> overviewCache,
+                                                       MeterRegistry meterRegistry) {
+        return new PortfolioRepricingJob(dataSource, jdbcTemplate, transactionManager, checkpoints,
+                premiumRateFunction, properties, cacheInvalidator, overviewCache, meterRegistry);
+    }
+
+    @Bean
+    public RepricingEndpoint repricingEndpoint(PortfolioRepricingJob job, RepricingCheckpointStore checkpoints) {
+        return new RepricingEndpoint(job, checkpoints);
+    }
+}
@@ -0,0 +1,41 @@
+package com.insurance.policy.infrastructure.config;
+
+import com.insurance.policy.infrastructure.cache.CacheInvalidationPublisher;
+import com.insurance.policy.infrastructure.cache.LocalCacheInvalidationPublisher;
+import com.insurance.policy.infrastructure.cache.SecondLevelCacheEndpoint;
+import com.insurance.policy.infrastructure.cache.SecondLevelCacheInvalidator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level cache support beans.
+ *
+ * The cache itself is configured through spring.jpa.properties.hibernate.cache.*
+ * and ehcache.xml; this adds the invalidation hook, the local-only publisher
+ * used when no clustered one is defined, and the /actuator/l2cache endpoint.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationPublisher.class)
+    public CacheInvalidationPublisher localCacheInvalidationPublisher() {
+        return new LocalCacheInvalidationPublisher();
+    }
+
+    @Bean
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheInvalidator(entityManagerFactory.unwrap(SessionFactory.class).getCache());
+    }
+
+    @Bean
+    public SecondLevelCacheEndpoint secondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory,
+                                                             SecondLevelCacheInvalidator invalidator) {
+        return new SecondLevelCacheEndpoint(entityManagerFactory.unwrap(SessionFactory.class), invalidator);
+    }
+}
@@ -0,0 +1,21 @@
+package com.insurance.policy.infrastructure.config;
+
+import com.insurance.policy.domain.service.UnderwritingRulesEngine;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Underwriting rules engine. The domain service carries no Spring
+ * annotations, so it is registered here; batches run on the common
+ * fork/join pool.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Configuration
+public class UnderwritingConfig {
+
+    @Bean
+    public UnderwritingRulesEngine underwritingRulesEngine() {
+        return new UnderwritingRulesEngine();
+    }
+}
@@ -0,0 +1,34 @@
+package com.insurance.policy.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policy.infrastructure.persistence.mapper.PaymentMapper;
+import com.insurance.policy.infrastructure.warmup.MappingWarmupCalls;
+import com.insurance.policy.infrastructure.warmup.WarmupProperties;
+import com.insurance.policy.infrastructure.warmup.WarmupRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Start-up warm-up that runs before the readiness probe flips to UP.
+ *
+ * Disable with app.warmup.enabled=false, e.g. for local development where
+ * start-up time matters more than first-request latency.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    public WarmupRunner warmupRunner(WarmupProperties properties,
+                                     ObjectMapper objectMapper,
+                                     PaymentMapper paymentMapper,
+                                     Environment environment) {
+        return new WarmupRunner(properties, MappingWarmupCalls.create(objectMapper, paymentMapper), environment);
+    }
+}
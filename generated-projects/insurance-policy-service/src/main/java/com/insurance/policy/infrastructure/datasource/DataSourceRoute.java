@@ -0,0 +1,11 @@
+package com.insurance.policy.infrastructure.datasource;
+
+/**
+ * Lookup keys used by the read/write routing DataSource.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
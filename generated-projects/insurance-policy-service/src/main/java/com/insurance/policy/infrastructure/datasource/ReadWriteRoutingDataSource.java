@@ -0,0 +1,68 @@
+package com.insurance.policy.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes connections of read-only transactions to the replica pool and all
+ * other connections to the primary pool. Must be wrapped in a
+ * LazyConnectionDataSourceProxy so the physical connection is only requested
+ * once the transaction's read-only flag has been bound to the thread.
+ *
+ * Reads fall back to the primary while the ReplicaLagMonitor reports the
+ * replica as lagging or unreachable.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryWrites;
+    private final Counter replicaReads;
+    private final Counter primaryLagFallbacks;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      DataSource replica,
+                                      ReplicaLagMonitor lagMonitor,
+                                      MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.primaryWrites = routeCounter(meterRegistry, DataSourceRoute.PRIMARY, "read-write");
+        this.replicaReads = routeCounter(meterRegistry, DataSourceRoute.REPLICA, "read-only");
+        this.primaryLagFallbacks = routeCounter(meterRegistry, DataSourceRoute.PRIMARY, "replica-lag");
+        Gauge.builder("datasource.replica.lag", lagMonitor, ReplicaLagMonitor::getLagSeconds)
+                .description("Last measured replica lag")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryWrites.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            primaryLagFallbacks.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        replicaReads.increment();
+        return DataSourceRoute.REPLICA;
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, DataSourceRoute route, String reason) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by the read/write routing DataSource")
+                .tag("route", route.name().toLowerCase())
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.insurance.policy.infrastructure.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for use case latency timers (prefix app.metrics.use-case).
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@ConfigurationProperties(prefix = "app.metrics.use-case")
+public record UseCaseMetricsProperties(
+        boolean enabled,
+        Boolean percentileHistogram,
+        List<Duration> slo,
+        Duration minimumExpected,
+        Duration maximumExpected
+) {
+
+    public UseCaseMetricsProperties {
+        if (percentileHistogram == null) {
+            percentileHistogram = Boolean.TRUE;
+        }
+        if (slo == null || slo.isEmpty()) {
+            slo = List.of(Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+                    Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2));
+        }
+        if (minimumExpected == null) {
+            minimumExpected = Duration.ofMillis(1);
+        }
+        if (maximumExpected == null) {
+            maximumExpected = Duration.ofSeconds(10);
+        }
+    }
+}
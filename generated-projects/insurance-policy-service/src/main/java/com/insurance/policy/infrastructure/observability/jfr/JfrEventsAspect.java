@@ -0,0 +1,145 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Emits {@link UseCaseEvent} around use case calls and {@link RepositoryCallEvent}
+ * around repository adapter calls.
+ *
+ * Each advice first checks whether its event is enabled in a running
+ * recording and otherwise just proceeds, so with no recording active the cost
+ * is one allocation the JIT removes and one flag check. Streaming repository
+ * methods get their Consumer wrapped with a counter only while recording, so
+ * row counts are reported for them too.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "app.jfr", name = "events-enabled", havingValue = "true", matchIfMissing = true)
+public class JfrEventsAspect {
+
+    static final String SUCCESS = "success";
+
+    private static final ClassValue<String> ENTITY_TYPES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> adapterClass) {
+            for (Class<?> port : adapterClass.getInterfaces()) {
+                String name = port.getSimpleName();
+                if (name.endsWith("Repository")) {
+                    return name.substring(0, name.length() - "Repository".length());
+                }
+            }
+            return adapterClass.getSimpleName();
+        }
+    };
+
+    /**
+     * Record a use case call.
+     *
+     * @param joinPoint the intercepted use case call
+     * @return the result of the call
+     * @throws Throwable whatever the use case throws, unchanged
+     */
+    @Around("within(com.insurance.policy.application.service..*) && ("
+            + "execution(* com.insurance.policy.application.usecase.*UseCase+.execute(..)) || "
+            + "execution(* com.insurance.policy.application.usecase.*UseCase+.get*(..)))")
+    public Object recordUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        UseCaseEvent event = new UseCaseEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.useCase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Record a repository adapter call.
+     *
+     * @param joinPoint the intercepted adapter call
+     * @return the result of the call
+     * @throws Throwable whatever the adapter throws, unchanged
+     */
+    @Around("within(com.insurance.policy.infrastructure..*) && "
+            + "execution(public * com.insurance.policy.domain.port.*Repository+.*(..))")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        long[] streamed = new long[1];
+        Object[] args = countingConsumers(joinPoint.getArgs(), streamed);
+        event.begin();
+        String outcome = SUCCESS;
+        Object result = null;
+        try {
+            result = joinPoint.proceed(args);
+            return result;
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.entityType = ENTITY_TYPES.get(joinPoint.getTarget().getClass());
+                event.operation = joinPoint.getSignature().getName();
+                event.rowCount = rowCount(result) + streamed[0];
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object[] countingConsumers(Object[] args, long[] streamed) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Consumer<?> action) {
+                Consumer<Object> delegate = (Consumer<Object>) action;
+                args[i] = (Consumer<Object>) row -> {
+                    streamed[0]++;
+                    delegate.accept(row);
+                };
+            }
+        }
+        return args;
+    }
+
+    static long rowCount(Object result) {
+        if (result == null || result instanceof Boolean) {
+            return 0;
+        }
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Map<?, ?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Optional<?> row) {
+            return row.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
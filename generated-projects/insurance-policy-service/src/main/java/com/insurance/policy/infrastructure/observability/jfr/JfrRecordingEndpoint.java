@@ -0,0 +1,93 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Actuator endpoint that takes a time-boxed JFR recording and returns the
+ * .jfr file: GET /actuator/jfr?durationSeconds=30.
+ *
+ * The request blocks for the recording duration. Only one recording runs at
+ * a time; a second request gets 429. The file is streamed from a temporary
+ * file that is deleted once the response has been written.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@EnableConfigurationProperties(JfrRecordingProperties.class)
+public class JfrRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+
+    private final JfrRecordingProperties properties;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    public JfrRecordingEndpoint(JfrRecordingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Record for the given duration and return the recording.
+     *
+     * @param durationSeconds recording length, defaulting to app.jfr.default-duration
+     * @return the .jfr file, 400 for a duration outside (0, app.jfr.max-duration],
+     *         or 429 while another recording is running
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Integer durationSeconds) throws IOException, ParseException {
+        Duration duration = durationSeconds == null
+                ? properties.defaultDuration()
+                : Duration.ofSeconds(durationSeconds);
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(properties.maxDuration()) > 0) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!recording.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            Path file = record(duration);
+            return new WebEndpointResponse<>(
+                    new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)),
+                    WebEndpointResponse.STATUS_OK);
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    private Path record(Duration duration) throws IOException, ParseException {
+        Path file = Files.createTempFile("insurance-policy-", ".jfr");
+        try (Recording jfr = new Recording(Configuration.getConfiguration(properties.settings()))) {
+            jfr.setName("actuator-" + System.currentTimeMillis());
+            jfr.setToDisk(true);
+            log.info("Starting {} JFR recording for {}", properties.settings(), duration);
+            jfr.start();
+            Thread.sleep(duration);
+            jfr.stop();
+            jfr.dump(file);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Files.deleteIfExists(file);
+            throw new IOException("JFR recording interrupted", e);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,32 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for custom JFR events and the on-demand recording endpoint
+ * (prefix app.jfr).
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@ConfigurationProperties(prefix = "app.jfr")
+public record JfrRecordingProperties(
+        boolean eventsEnabled,
+        Duration defaultDuration,
+        Duration maxDuration,
+        String settings
+) {
+
+    public JfrRecordingProperties {
+        if (defaultDuration == null) {
+            defaultDuration = Duration.ofSeconds(30);
+        }
+        if (maxDuration == null) {
+            maxDuration = Duration.ofMinutes(5);
+        }
+        if (settings == null || settings.isBlank()) {
+            settings = "profile";
+        }
+    }
+}
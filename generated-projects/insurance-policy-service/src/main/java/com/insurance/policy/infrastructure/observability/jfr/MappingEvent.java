@@ -0,0 +1,28 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the conversion of persisted rows to domain entities,
+ * emitted through MappingEvents.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Name("com.insurance.policy.Mapping")
+@Label("Persistence Mapping")
+@Category({"Insurance Policy", "Persistence"})
+@Description("Conversion of JPA entities to domain entities")
+@StackTrace(false)
+public class MappingEvent extends Event {
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Row Count")
+    long rowCount;
+}
@@ -0,0 +1,66 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs persistence-to-domain conversions inside a {@link MappingEvent}.
+ *
+ * When the event is not enabled in a running recording, the event object does
+ * not escape and is removed by the JIT, so the only cost left is the mapping
+ * itself.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public final class MappingEvents {
+
+    private MappingEvents() {
+    }
+
+    /**
+     * Map a single row.
+     *
+     * @param entityType domain entity name recorded on the event
+     * @param row the persisted row
+     * @param mapper the conversion
+     * @return the mapped entity
+     */
+    public static <S, T> T toDomain(String entityType, S row, Function<S, T> mapper) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        T result = mapper.apply(row);
+        event.end();
+        if (event.shouldCommit()) {
+            event.entityType = entityType;
+            event.rowCount = 1;
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Map a list of rows into a presized, mutable list.
+     *
+     * @param entityType domain entity name recorded on the event
+     * @param rows the persisted rows
+     * @param mapper the conversion
+     * @return the mapped entities, in row order
+     */
+    public static <S, T> List<T> toDomainList(String entityType, Collection<S> rows, Function<S, T> mapper) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        List<T> result = new ArrayList<>(rows.size());
+        for (S row : rows) {
+            result.add(mapper.apply(row));
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.entityType = entityType;
+            event.rowCount = result.size();
+            event.commit();
+        }
+        return result;
+    }
+}
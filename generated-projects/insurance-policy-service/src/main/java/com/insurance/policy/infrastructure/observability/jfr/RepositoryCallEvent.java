@@ -0,0 +1,36 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one repository adapter call, database time and mapping
+ * included, emitted by JfrEventsAspect.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Name("com.insurance.policy.RepositoryCall")
+@Label("Repository Call")
+@Category({"Insurance Policy", "Persistence"})
+@Description("Call to a repository adapter")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Row Count")
+    @Description("Rows returned, streamed or saved; 0 for deletes and existence checks")
+    long rowCount;
+
+    @Label("Outcome")
+    @Description("success, or the simple name of the exception thrown")
+    String outcome;
+}
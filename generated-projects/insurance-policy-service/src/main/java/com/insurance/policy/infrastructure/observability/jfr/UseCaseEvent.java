@@ -0,0 +1,31 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one use case call, emitted by JfrEventsAspect.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Name("com.insurance.policy.UseCase")
+@Label("Use Case")
+@Category({"Insurance Policy", "Application"})
+@Description("Execution of an application use case")
+@StackTrace(false)
+public class UseCaseEvent extends Event {
+
+    @Label("Use Case")
+    String useCase;
+
+    @Label("Method")
+    String method;
+
+    @Label("Outcome")
+    @Description("success, or the simple name of the exception thrown")
+    String outcome;
+}
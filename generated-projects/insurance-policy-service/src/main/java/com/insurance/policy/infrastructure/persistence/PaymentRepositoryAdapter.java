@@ -5,31 +5,44 @@ import com.insurance.policy.domain.port.PaymentRepository;
 import com.insurance.policy.domain.valueobject.PaymentStatus;
 import com.insurance.policy.infrastructure.persistence.entity.PaymentJpaEntity;
 import com.insurance.policy.infrastructure.persistence.mapper.PaymentMapper;
+import com.insurance.policy.infrastructure.observability.jfr.MappingEvents;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter implementation of PaymentRepository
- * Bridges domain port with Spring Data JPA repository
+ * Bridges domain port with Spring Data JPA repository.
+ * Lookups run in read-only transactions so they can be served by the read replica.
+ * The forEach methods read through a database cursor and detach each entity once
+ * mapped, so memory stays flat regardless of the result size.
  */
 @Component
+@Transactional(readOnly = true)
 public class PaymentRepositoryAdapter implements PaymentRepository {
 
     private final PaymentSpringDataRepository springDataRepository;
     private final PaymentMapper mapper;
+    private final EntityManager entityManager;
 
     public PaymentRepositoryAdapter(
             PaymentSpringDataRepository springDataRepository,
-            PaymentMapper mapper) {
+            PaymentMapper mapper,
+            EntityManager entityManager) {
         this.springDataRepository = springDataRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public Payment save(Payment payment) {
         PaymentJpaEntity jpaEntity = mapper.toJpaEntity(payment);
         PaymentJpaEntity savedEntity = springDataRepository.save(jpaEntity);
@@ -42,20 +55,41 @@ public class PaymentRepositoryAdapter implements PaymentRepository {
             .map(mapper::toDomainEntity);
     }
 
+    @Override
+    public List<Payment> findAllById(Collection<Long> ids) {
+        return MappingEvents.toDomainList("Payment", springDataRepository.findAllById(ids), mapper::toDomainEntity);
+    }
+
     @Override
     public List<Payment> findByClaimId(Long claimId) {
-        return springDataRepository.findByClaimId(claimId)
-            .stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Payment", springDataRepository.findByClaimId(claimId), mapper::toDomainEntity);
+    }
+
+    @Override
+    public List<Payment> findByClaimIds(Collection<Long> claimIds) {
+        if (claimIds.isEmpty()) {
+            return List.of();
+        }
+        return MappingEvents.toDomainList("Payment", springDataRepository.findByClaimIdIn(claimIds), mapper::toDomainEntity);
     }
 
     @Override
     public List<Payment> findByPaymentStatus(PaymentStatus status) {
-        return springDataRepository.findByPaymentStatus(status.name())
-            .stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Payment", springDataRepository.findByPaymentStatus(status.name()), mapper::toDomainEntity);
+    }
+
+    @Override
+    public void forEachByClaimId(Long claimId, Consumer<Payment> action) {
+        try (Stream<PaymentJpaEntity> entities = springDataRepository.streamByClaimId(claimId)) {
+            forEachDetached(entities, action);
+        }
+    }
+
+    @Override
+    public void forEachByPaymentStatus(PaymentStatus status, Consumer<Payment> action) {
+        try (Stream<PaymentJpaEntity> entities = springDataRepository.streamByPaymentStatus(status.name())) {
+            forEachDetached(entities, action);
+        }
     }
 
     @Override
@@ -66,21 +100,23 @@ public class PaymentRepositoryAdapter implements PaymentRepository {
 
     @Override
     public List<Payment> findCompletedPaymentsAfter(LocalDate date) {
-        return springDataRepository.findCompletedPaymentsAfter(date)
-            .stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Payment", springDataRepository.findCompletedPaymentsAfter(date), mapper::toDomainEntity);
     }
 
     @Override
     public List<Payment> findAll() {
-        return springDataRepository.findAll()
-            .stream()
-            .map(mapper::toDomainEntity)
-            .collect(Collectors.toList());
+        return MappingEvents.toDomainList("Payment", springDataRepository.findAll(), mapper::toDomainEntity);
+    }
+
+    @Override
+    public void forEach(Consumer<Payment> action) {
+        try (Stream<PaymentJpaEntity> entities = springDataRepository.streamAll()) {
+            forEachDetached(entities, action);
+        }
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         springDataRepository.deleteById(id);
     }
@@ -89,4 +125,12 @@ public class PaymentRepositoryAdapter implements PaymentRepository {
     public boolean existsByTransactionId(String transactionId) {
         return springDataRepository.existsByTransactionId(transactionId);
     }
+
+    private void forEachDetached(Stream<PaymentJpaEntity> entities, Consumer<Payment> action) {
+        entities.forEach(entity -> {
+            Payment payment = mapper.toDomainEntity(entity);
+            entityManager.detach(entity);
+            action.accept(payment);
+        });
+    }
 }
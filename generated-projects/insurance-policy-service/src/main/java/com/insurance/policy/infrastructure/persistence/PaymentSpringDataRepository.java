@@ -2,13 +2,18 @@ package com.insurance.policy.infrastructure.persistence;
 
 import com.insurance.policy.infrastructure.persistence.entity.PaymentJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for Payment
@@ -16,16 +21,46 @@ import java.util.Optional;
 @Repository
 public interface PaymentSpringDataRepository extends JpaRepository<PaymentJpaEntity, Long> {
 
+    /**
+     * JDBC fetch size for cursor-backed streams, so rows arrive in batches
+     * instead of the driver buffering the whole result set
+     */
+    String STREAM_FETCH_SIZE = "256";
+
     /**
      * Find all payments for a specific claim
      */
     List<PaymentJpaEntity> findByClaimId(Long claimId);
 
+    /**
+     * Find all payments for any of the given claims
+     */
+    List<PaymentJpaEntity> findByClaimIdIn(Collection<Long> claimIds);
+
     /**
      * Find all payments with a specific status
      */
     List<PaymentJpaEntity> findByPaymentStatus(String paymentStatus);
 
+    /**
+     * Stream payments for a specific claim; must be consumed inside a transaction
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<PaymentJpaEntity> streamByClaimId(Long claimId);
+
+    /**
+     * Stream payments with a specific status; must be consumed inside a transaction
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<PaymentJpaEntity> streamByPaymentStatus(String paymentStatus);
+
+    /**
+     * Stream all payments; must be consumed inside a transaction
+     */
+    @Query("SELECT p FROM PaymentJpaEntity p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<PaymentJpaEntity> streamAll();
+
     /**
      * Find a payment by transaction ID
      */
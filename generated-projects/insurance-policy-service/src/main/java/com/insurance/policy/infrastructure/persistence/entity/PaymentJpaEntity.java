@@ -1,5 +1,6 @@
 package com.insurance.policy.infrastructure.persistence.entity;
 
+import com.insurance.policy.infrastructure.cache.CustomerOverviewInvalidationListener;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,6 +15,7 @@ import java.time.LocalDate;
     @Index(name = "idx_payment_status", columnList = "payment_status"),
     @Index(name = "idx_payment_transaction_id", columnList = "transaction_id", unique = true)
 })
+@EntityListeners(CustomerOverviewInvalidationListener.class)
 public class PaymentJpaEntity {
 
     @Id
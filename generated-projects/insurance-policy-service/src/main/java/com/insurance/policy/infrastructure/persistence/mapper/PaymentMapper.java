@@ -50,7 +50,7 @@ public class PaymentMapper {
             .amount(new PaymentAmount(jpaEntity.getAmount()))
             .paymentMethod(PaymentMethod.valueOf(jpaEntity.getPaymentMethod()))
             .paymentStatus(PaymentStatus.valueOf(jpaEntity.getPaymentStatus()))
-            .transactionId(new TransactionId(jpaEntity.getTransactionId()))
+            .transactionId(TransactionId.rehydrate(jpaEntity.getTransactionId()))
             .paymentDate(jpaEntity.getPaymentDate())
             .processedBy(jpaEntity.getProcessedBy())
             .notes(jpaEntity.getNotes())
@@ -0,0 +1,80 @@
+package com.insurance.policy.infrastructure.repricing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.insurance.policy.domain.valueobject.Coverage;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes the policies.coverages_json column with Jackson's
+ * streaming API, in the format PolicyMapper uses:
+ * [{"coverageType":"...","premiumAmount":123.45,"currency":"USD"}, ...].
+ *
+ * Repricing touches nothing else of a policy, so it skips the ObjectMapper
+ * binding and reflective Policy rebuild that loading each row as a domain
+ * entity would cost.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+final class CoverageJson {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private CoverageJson() {
+    }
+
+    static List<Coverage> read(String json) throws IOException {
+        if (json == null) {
+            throw new IOException("Policy has no coverages");
+        }
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of coverages");
+            }
+            List<Coverage> coverages = new ArrayList<>(4);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String coverageType = null;
+                double premiumAmount = 0;
+                String currency = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "coverageType" -> coverageType = parser.getValueAsString();
+                        case "premiumAmount" -> premiumAmount = parser.getValueAsDouble();
+                        case "currency" -> currency = parser.getValueAsString();
+                        default -> parser.skipChildren();
+                    }
+                }
+                coverages.add(Coverage.of(coverageType, premiumAmount, currency));
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected a coverage object");
+            }
+            return coverages;
+        }
+    }
+
+    static String write(List<Coverage> coverages) throws IOException {
+        StringWriter out = new StringWriter(2 + 72 * coverages.size());
+        try (JsonGenerator generator = FACTORY.createGenerator(out)) {
+            generator.writeStartArray();
+            for (Coverage coverage : coverages) {
+                generator.writeStartObject();
+                generator.writeStringField("coverageType", coverage.coverageType());
+                generator.writeNumberField("premiumAmount", coverage.premiumAmount().amount().doubleValue());
+                generator.writeStringField("currency", coverage.premiumAmount().currency());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        return out.toString();
+    }
+}
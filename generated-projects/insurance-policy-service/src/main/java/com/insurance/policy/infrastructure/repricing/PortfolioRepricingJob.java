@@ -0,0 +1,534 @@
+package com.insurance.policy.infrastructure.repricing;
+
+import com.insurance.policy.domain.service.PremiumRateFunction;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+import com.insurance.policy.infrastructure.cache.CustomerOverviewCache;
+import com.insurance.policy.infrastructure.cache.SecondLevelCacheInvalidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reprices every active policy under a {@link PremiumRateFunction}: each
+ * coverage premium is repriced and the policy's coverages and total premium
+ * are written back.
+ *
+ * Policies are read in ID order straight from the policies table through a
+ * forward-only JDBC cursor, without loading Policy aggregates. The cursor is
+ * reopened after every CHUNKS_PER_CURSOR chunks so no read transaction stays
+ * open for the whole job. Each chunk is repriced in parallel on a fork/join
+ * pool and written with one batched UPDATE in a transaction that also moves
+ * the job's checkpoint, while the next chunk is being read. A job stopped by
+ * a failure, a stop request or a crash therefore resumes after its last
+ * committed chunk, and never reprices a policy twice.
+ *
+ * An UPDATE only applies while the policy is still active with the total it
+ * was read with; a policy changed in between is counted as a conflict and left
+ * alone. The writes bypass Hibernate, so each committed chunk's policies are
+ * evicted from this instance's second-level cache and the customer overview
+ * cache is cleared.
+ *
+ * One job runs per instance at a time; the checkpoint also keeps a second
+ * instance from running the same job.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class PortfolioRepricingJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioRepricingJob.class);
+
+    static final int CHUNKS_PER_CURSOR = 100;
+
+    private static final String ACTIVE = PolicyStatus.ACTIVE.name();
+    private static final String SELECT_POLICIES = "SELECT id, total_premium_amount, total_premium_currency, "
+            + "coverages_json FROM policies WHERE status = ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String COUNT_POLICIES = "SELECT COUNT(*) FROM policies WHERE status = ? AND id > ?";
+    private static final String UPDATE_POLICY = "UPDATE policies SET coverages_json = ?, total_premium_amount = ? "
+            + "WHERE id = ? AND status = ? AND total_premium_amount = ?";
+
+    private static final int SLICE = 64;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RepricingCheckpointStore checkpoints;
+    private final PremiumRateFunction rates;
+    private final RepricingProperties properties;
+    private final SecondLevelCacheInvalidator cacheInvalidator;
+    private final ObjectProvider<CustomerOverviewCache> overviewCache;
+
+    private final Counter repricedCounter;
+    private final Counter unchangedCounter;
+    private final Counter conflictCounter;
+    private final Counter failedCounter;
+    private final Timer chunkTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopRequested;
+    private volatile RepricingProgress progress;
+
+    public PortfolioRepricingJob(DataSource dataSource,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 RepricingCheckpointStore checkpoints,
+                                 PremiumRateFunction rates,
+                                 RepricingProperties properties,
+                                 SecondLevelCacheInvalidator cacheInvalidator,
+                                 ObjectProvider<CustomerOverviewCache> overviewCache,
+                                 MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpoints = checkpoints;
+        this.rates = rates;
+        this.properties = properties;
+        this.cacheInvalidator = cacheInvalidator;
+        this.overviewCache = overviewCache;
+        this.repricedCounter = policies(meterRegistry, "repriced");
+        this.unchangedCounter = policies(meterRegistry, "unchanged");
+        this.conflictCounter = policies(meterRegistry, "conflict");
+        this.failedCounter = policies(meterRegistry, "failed");
+        this.chunkTimer = Timer.builder("policy.repricing.chunk")
+                .description("Time to reprice and write one chunk of policies")
+                .register(meterRegistry);
+        Gauge.builder("policy.repricing.remaining", this, job -> {
+                    RepricingProgress current = job.progress;
+                    return current == null ? 0 : current.remaining();
+                })
+                .description("Active policies the current or last repricing job has yet to process")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a job on a background thread.
+     *
+     * @param jobId name of the job; a job with this name that was stopped or
+     *              failed is resumed, a completed one is not run again
+     * @return false if a job is already running on this instance
+     */
+    public boolean start(String jobId) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        stopRequested = false;
+        Thread thread = new Thread(() -> {
+            try {
+                execute(jobId);
+            } catch (RuntimeException e) {
+                log.error("Repricing job {} failed", jobId, e);
+            } finally {
+                running.set(false);
+            }
+        }, "policy-repricing");
+        thread.start();
+        return true;
+    }
+
+    /**
+     * Run a job on the calling thread.
+     *
+     * @param jobId name of the job, as for {@link #start(String)}
+     * @return the job's progress when it stopped or completed
+     * @throws IllegalStateException if a job is already running on this
+     *                               instance or this one on another instance
+     */
+    public RepricingProgress run(String jobId) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A repricing job is already running on this instance");
+        }
+        stopRequested = false;
+        try {
+            return execute(jobId);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Ask the running job to stop once its current chunk is committed.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * @return progress of the running or last run job, or null if none has run since start-up
+     */
+    public RepricingProgress progress() {
+        return progress;
+    }
+
+    private RepricingProgress execute(String jobId) {
+        RepricingCheckpoint checkpoint = checkpoints.claim(jobId, properties.staleAfter())
+                .orElseThrow(() -> new IllegalStateException(
+                        "Repricing job " + jobId + " is running on another instance"));
+        Instant runStartedAt = Instant.now();
+        long processedBeforeRun = checkpoint.processed();
+        if (checkpoint.status() == RepricingStatus.COMPLETED) {
+            log.info("Repricing job {} has already completed", jobId);
+            progress = RepricingProgress.of(checkpoint, processedBeforeRun, processedBeforeRun,
+                    runStartedAt, runStartedAt);
+            return progress;
+        }
+        Long remaining = jdbcTemplate.queryForObject(COUNT_POLICIES, Long.class, ACTIVE, checkpoint.lastPolicyId());
+        long total = processedBeforeRun + (remaining == null ? 0 : remaining);
+        log.info("Repricing job {} starting after policy {}: {} of {} active policies to go",
+                jobId, checkpoint.lastPolicyId(), total - processedBeforeRun, total);
+
+        Run run = new Run(checkpoint, total, processedBeforeRun, runStartedAt);
+        progress = RepricingProgress.of(checkpoint, total, processedBeforeRun, runStartedAt, runStartedAt);
+        try {
+            run.readAll();
+            RepricingStatus status = stopRequested ? RepricingStatus.STOPPED : RepricingStatus.COMPLETED;
+            RepricingCheckpoint finished = run.committed.withStatus(status, null, Instant.now());
+            checkpoints.finish(finished);
+            progress = run.progress(finished);
+            log.info("Repricing job {} {} after policy {}: {} repriced, {} unchanged, {} conflicts, {} failed",
+                    jobId, status.name().toLowerCase(), finished.lastPolicyId(), finished.repriced(),
+                    finished.unchanged(), finished.conflicts(), finished.failed());
+            return progress;
+        } catch (RuntimeException e) {
+            RepricingCheckpoint failed = run.committed.withStatus(RepricingStatus.FAILED, e.toString(), Instant.now());
+            checkpoints.finish(failed);
+            progress = run.progress(failed);
+            throw e;
+        } finally {
+            run.close();
+        }
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing repriced policies", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Writing repriced policies failed", e.getCause());
+        }
+    }
+
+    private static Counter policies(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("policy.repricing.policies")
+                .description("Active policies processed by repricing jobs")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * One run of a job: reads chunks on the calling thread and hands each to
+     * a single writer thread, with at most one chunk in flight.
+     */
+    private final class Run {
+
+        private final long total;
+        private final long processedBeforeRun;
+        private final Instant startedAt;
+        private final ForkJoinPool pool = new ForkJoinPool(properties.parallelism());
+        private final ExecutorService writer = Executors.newSingleThreadExecutor(
+                task -> new Thread(task, "policy-repricing-writer"));
+        private volatile RepricingCheckpoint committed;
+
+        Run(RepricingCheckpoint checkpoint, long total, long processedBeforeRun, Instant startedAt) {
+            this.committed = checkpoint;
+            this.total = total;
+            this.processedBeforeRun = processedBeforeRun;
+            this.startedAt = startedAt;
+        }
+
+        void readAll() {
+            int chunkSize = properties.chunkSize();
+            int cursorLimit = chunkSize * CHUNKS_PER_CURSOR;
+            long after = committed.lastPolicyId();
+            Future<?> inFlight = CompletableFuture.completedFuture(null);
+            while (!stopRequested) {
+                int rows = 0;
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    connection.setReadOnly(true);
+                    try (PreparedStatement select = connection.prepareStatement(SELECT_POLICIES,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                        select.setFetchSize(chunkSize);
+                        select.setString(1, ACTIVE);
+                        select.setLong(2, after);
+                        select.setInt(3, cursorLimit);
+                        try (ResultSet resultSet = select.executeQuery()) {
+                            Chunk chunk = new Chunk(chunkSize);
+                            while (resultSet.next()) {
+                                chunk.add(resultSet.getLong(1), resultSet.getBigDecimal(2),
+                                        resultSet.getString(3), resultSet.getString(4));
+                                rows++;
+                                if (chunk.size == chunkSize) {
+                                    inFlight = handOff(inFlight, chunk);
+                                    after = chunk.lastPolicyId();
+                                    chunk = new Chunk(chunkSize);
+                                    if (stopRequested) {
+                                        break;
+                                    }
+                                }
+                            }
+                            if (chunk.size > 0) {
+                                inFlight = handOff(inFlight, chunk);
+                                after = chunk.lastPolicyId();
+                            }
+                        }
+                    } finally {
+                        connection.rollback();
+                    }
+                } catch (SQLException e) {
+                    throw jdbcTemplate.getExceptionTranslator().translate("Reading policies", SELECT_POLICIES, e);
+                }
+                if (rows < cursorLimit) {
+                    break;
+                }
+            }
+            await(inFlight);
+        }
+
+        /**
+         * Wait for the previous chunk to commit, then submit the next one.
+         */
+        private Future<?> handOff(Future<?> previous, Chunk chunk) {
+            await(previous);
+            return writer.submit(() -> write(chunk));
+        }
+
+        private void write(Chunk chunk) {
+            chunkTimer.record(() -> {
+                pool.invoke(new RepriceSlice(chunk, 0, chunk.size));
+                RepricingCheckpoint next = transactionTemplate.execute(status -> {
+                    chunk.applyUpdateCounts(jdbcTemplate.batchUpdate(UPDATE_POLICY, chunk.updates()));
+                    RepricingCheckpoint advanced = committed.advancedTo(chunk.lastPolicyId(), chunk.repriced,
+                            chunk.unchanged, chunk.conflicts, chunk.failed, Instant.now());
+                    checkpoints.advance(advanced);
+                    return advanced;
+                });
+                committed = next;
+                if (chunk.repriced > 0) {
+                    cacheInvalidator.invalidate(PolicyJpaEntity.class.getName(), chunk.repricedIds());
+                    overviewCache.ifAvailable(CustomerOverviewCache::evictAll);
+                }
+                repricedCounter.increment(chunk.repriced);
+                unchangedCounter.increment(chunk.unchanged);
+                conflictCounter.increment(chunk.conflicts);
+                failedCounter.increment(chunk.failed);
+                progress = progress(next);
+            });
+        }
+
+        RepricingProgress progress(RepricingCheckpoint checkpoint) {
+            return RepricingProgress.of(checkpoint, total, processedBeforeRun, startedAt, Instant.now());
+        }
+
+        void close() {
+            writer.shutdownNow();
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Reprices the policies of a chunk range, splitting it across the pool.
+     */
+    private final class RepriceSlice extends RecursiveAction {
+
+        private final Chunk chunk;
+        private final int from;
+        private final int to;
+
+        RepriceSlice(Chunk chunk, int from, int to) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SLICE) {
+                for (int i = from; i < to; i++) {
+                    reprice(chunk, i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RepriceSlice(chunk, from, middle), new RepriceSlice(chunk, middle, to));
+        }
+    }
+
+    private void reprice(Chunk chunk, int i) {
+        try {
+            List<Coverage> coverages = CoverageJson.read(chunk.coveragesJson[i]);
+            List<Coverage> repriced = new ArrayList<>(coverages.size());
+            BigDecimal total = BigDecimal.ZERO;
+            for (Coverage coverage : coverages) {
+                Money premium = rates.reprice(coverage);
+                if (!premium.currency().equals(chunk.currencies[i])) {
+                    throw new IllegalArgumentException("Coverage " + coverage.coverageType() + " is priced in "
+                            + premium.currency() + " but the policy in " + chunk.currencies[i]);
+                }
+                repriced.add(new Coverage(coverage.coverageType(), premium));
+                total = total.add(premium.amount());
+            }
+            if (repriced.equals(coverages) && total.compareTo(chunk.totals[i]) == 0) {
+                chunk.outcomes[i] = Chunk.UNCHANGED;
+            } else {
+                chunk.newCoveragesJson[i] = CoverageJson.write(repriced);
+                chunk.newTotals[i] = total;
+                chunk.outcomes[i] = Chunk.CHANGED;
+            }
+        } catch (Exception e) {
+            log.warn("Cannot reprice policy {}: {}", chunk.ids[i], e.getMessage());
+            chunk.outcomes[i] = Chunk.FAILED;
+        }
+    }
+
+    /**
+     * Policies read together, as parallel arrays, with their repriced values
+     * and outcome.
+     */
+    private static final class Chunk {
+
+        static final byte UNCHANGED = 1;
+        static final byte CHANGED = 2;
+        static final byte FAILED = 3;
+        static final byte CONFLICT = 4;
+
+        final long[] ids;
+        final BigDecimal[] totals;
+        final String[] currencies;
+        final String[] coveragesJson;
+        final String[] newCoveragesJson;
+        final BigDecimal[] newTotals;
+        final byte[] outcomes;
+        int size;
+
+        int repriced;
+        int unchanged;
+        int conflicts;
+        int failed;
+
+        Chunk(int capacity) {
+            ids = new long[capacity];
+            totals = new BigDecimal[capacity];
+            currencies = new String[capacity];
+            coveragesJson = new String[capacity];
+            newCoveragesJson = new String[capacity];
+            newTotals = new BigDecimal[capacity];
+            outcomes = new byte[capacity];
+        }
+
+        void add(long id, BigDecimal total, String currency, String json) {
+            ids[size] = id;
+            totals[size] = total;
+            currencies[size] = currency;
+            coveragesJson[size] = json;
+            size++;
+        }
+
+        long lastPolicyId() {
+            return ids[size - 1];
+        }
+
+        /**
+         * UPDATE parameters for the changed policies
+         */
+        BatchPreparedStatementSetter updates() {
+            int count = 0;
+            int[] changed = new int[size];
+            for (int i = 0; i < size; i++) {
+                if (outcomes[i] == CHANGED) {
+                    changed[count++] = i;
+                }
+            }
+            int batchSize = count;
+            return new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int n) throws SQLException {
+                    int i = changed[n];
+                    ps.setString(1, newCoveragesJson[i]);
+                    ps.setBigDecimal(2, newTotals[i]);
+                    ps.setLong(3, ids[i]);
+                    ps.setString(4, ACTIVE);
+                    ps.setBigDecimal(5, totals[i]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batchSize;
+                }
+            };
+        }
+
+        /**
+         * Tally outcomes; a changed policy whose UPDATE matched no row was
+         * changed or cancelled since it was read.
+         */
+        void applyUpdateCounts(int[] updateCounts) {
+            repriced = 0;
+            unchanged = 0;
+            conflicts = 0;
+            failed = 0;
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                switch (outcomes[i]) {
+                    case UNCHANGED -> unchanged++;
+                    case FAILED -> failed++;
+                    default -> {
+                        int count = updateCounts[n++];
+                        if (count == 0) {
+                            outcomes[i] = CONFLICT;
+                            conflicts++;
+                        } else {
+                            repriced++;
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Long> repricedIds() {
+            List<Long> repricedIds = new ArrayList<>(repriced);
+            for (int i = 0; i < size; i++) {
+                if (outcomes[i] == CHANGED) {
+                    repricedIds.add(ids[i]);
+                }
+            }
+            return repricedIds;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.insurance.policy.infrastructure.repricing;
+
+import java.time.Instant;
+
+/**
+ * A repricing job's row in repricing_checkpoints: how far through the active
+ * policies, in ID order, it has committed, and what happened to them.
+ *
+ * @param jobId        name the job was started under
+ * @param status       job state
+ * @param lastPolicyId highest policy ID committed; the job resumes after it
+ * @param repriced     policies written with a new premium
+ * @param unchanged    policies whose premium the rates left as it was
+ * @param conflicts    policies changed or cancelled between being read and written, left as they are
+ * @param failed       policies whose coverages could not be read or repriced, left as they are
+ * @param startedAt    when the job was first started
+ * @param updatedAt    when the checkpoint last moved
+ * @param error        why the job failed, if it did
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record RepricingCheckpoint(
+        String jobId,
+        RepricingStatus status,
+        long lastPolicyId,
+        long repriced,
+        long unchanged,
+        long conflicts,
+        long failed,
+        Instant startedAt,
+        Instant updatedAt,
+        String error
+) {
+
+    public long processed() {
+        return repriced + unchanged + conflicts + failed;
+    }
+
+    RepricingCheckpoint advancedTo(long policyId, int chunkRepriced, int chunkUnchanged,
+                                   int chunkConflicts, int chunkFailed, Instant now) {
+        return new RepricingCheckpoint(jobId, status, policyId,
+                repriced + chunkRepriced, unchanged + chunkUnchanged,
+                conflicts + chunkConflicts, failed + chunkFailed,
+                startedAt, now, error);
+    }
+
+    RepricingCheckpoint withStatus(RepricingStatus newStatus, String newError, Instant now) {
+        return new RepricingCheckpoint(jobId, newStatus, lastPolicyId, repriced, unchanged, conflicts, failed,
+                startedAt, now, newError);
+    }
+}
@@ -0,0 +1,106 @@
+package com.insurance.policy.infrastructure.repricing;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads and writes repricing checkpoints in the repricing_checkpoints table.
+ *
+ * {@link #advance(RepricingCheckpoint)} is called in the transaction that
+ * writes a chunk's premiums, so a chunk and its checkpoint commit together
+ * and a resumed job never reprices a policy twice.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class RepricingCheckpointStore {
+
+    private static final String SELECT = "SELECT job_id, status, last_policy_id, repriced, unchanged, conflicts, "
+            + "failed, started_at, updated_at, error FROM repricing_checkpoints WHERE job_id = ?";
+    private static final String INSERT = "INSERT INTO repricing_checkpoints (job_id, status, last_policy_id, "
+            + "repriced, unchanged, conflicts, failed, started_at, updated_at) VALUES (?, ?, 0, 0, 0, 0, 0, ?, ?)";
+    private static final String CLAIM = "UPDATE repricing_checkpoints SET status = ?, updated_at = ?, error = NULL "
+            + "WHERE job_id = ? AND (status IN (?, ?) OR (status = ? AND updated_at < ?))";
+    private static final String ADVANCE = "UPDATE repricing_checkpoints SET last_policy_id = ?, repriced = ?, "
+            + "unchanged = ?, conflicts = ?, failed = ?, updated_at = ? WHERE job_id = ?";
+    private static final String FINISH = "UPDATE repricing_checkpoints SET status = ?, updated_at = ?, error = ? "
+            + "WHERE job_id = ?";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<RepricingCheckpoint> ROW_MAPPER = (rs, rowNum) -> new RepricingCheckpoint(
+            rs.getString("job_id"),
+            RepricingStatus.valueOf(rs.getString("status")),
+            rs.getLong("last_policy_id"),
+            rs.getLong("repriced"),
+            rs.getLong("unchanged"),
+            rs.getLong("conflicts"),
+            rs.getLong("failed"),
+            rs.getTimestamp("started_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant(),
+            rs.getString("error"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RepricingCheckpointStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<RepricingCheckpoint> find(String jobId) {
+        List<RepricingCheckpoint> rows = jdbcTemplate.query(SELECT, ROW_MAPPER, jobId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Take a job for this instance: create its checkpoint, or mark a stopped,
+     * failed or stale running one as running again.
+     *
+     * @param jobId      the job name
+     * @param staleAfter age after which a running checkpoint is taken over
+     * @return the checkpoint to resume from (already COMPLETED if the job has
+     *         finished), or empty while another instance is running the job
+     */
+    public Optional<RepricingCheckpoint> claim(String jobId, Duration staleAfter) {
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            jdbcTemplate.update(INSERT, jobId, RepricingStatus.RUNNING.name(), now, now);
+            return find(jobId);
+        } catch (DuplicateKeyException existing) {
+            int claimed = jdbcTemplate.update(CLAIM, RepricingStatus.RUNNING.name(), now, jobId,
+                    RepricingStatus.STOPPED.name(), RepricingStatus.FAILED.name(), RepricingStatus.RUNNING.name(),
+                    Timestamp.from(now.toInstant().minus(staleAfter)));
+            Optional<RepricingCheckpoint> checkpoint = find(jobId);
+            if (claimed == 0 && checkpoint.filter(found -> found.status() == RepricingStatus.COMPLETED).isEmpty()) {
+                return Optional.empty();
+            }
+            return checkpoint;
+        }
+    }
+
+    /**
+     * Record a committed chunk. Must run in the chunk's transaction.
+     */
+    public void advance(RepricingCheckpoint checkpoint) {
+        jdbcTemplate.update(ADVANCE, checkpoint.lastPolicyId(), checkpoint.repriced(), checkpoint.unchanged(),
+                checkpoint.conflicts(), checkpoint.failed(), Timestamp.from(checkpoint.updatedAt()),
+                checkpoint.jobId());
+    }
+
+    /**
+     * Record that a job has stopped, failed or completed.
+     */
+    public void finish(RepricingCheckpoint checkpoint) {
+        String error = checkpoint.error();
+        if (error != null && error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        jdbcTemplate.update(FINISH, checkpoint.status().name(), Timestamp.from(checkpoint.updatedAt()), error,
+                checkpoint.jobId());
+    }
+}
@@ -0,0 +1,68 @@
+package com.insurance.policy.infrastructure.repricing;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+/**
+ * Actuator endpoint for portfolio repricing:
+ * POST /actuator/repricing {"jobId": "..."} starts or resumes a job in the
+ * background (202, or 409 while one is running on this instance);
+ * GET /actuator/repricing reports the progress of the running or last job;
+ * GET /actuator/repricing/{jobId} returns a job's checkpoint;
+ * DELETE /actuator/repricing stops the running job after its current chunk.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@WebEndpoint(id = "repricing")
+public class RepricingEndpoint {
+
+    private static final int STATUS_ACCEPTED = 202;
+    private static final int STATUS_CONFLICT = 409;
+    private static final int MAX_JOB_ID_LENGTH = 100;
+
+    private final PortfolioRepricingJob job;
+    private final RepricingCheckpointStore checkpoints;
+
+    public RepricingEndpoint(PortfolioRepricingJob job, RepricingCheckpointStore checkpoints) {
+        this.job = job;
+        this.checkpoints = checkpoints;
+    }
+
+    /**
+     * @return progress of the running or last job, or 404 if none has run since start-up
+     */
+    @ReadOperation
+    public RepricingProgress progress() {
+        return job.progress();
+    }
+
+    /**
+     * @return the job's checkpoint, or 404 if it has never been started
+     */
+    @ReadOperation
+    public RepricingCheckpoint checkpoint(@Selector String jobId) {
+        return checkpoints.find(jobId).orElse(null);
+    }
+
+    /**
+     * Start the job, or resume it if it was stopped or failed.
+     *
+     * @param jobId a new name for each rate change, e.g. rates-2026-11
+     */
+    @WriteOperation
+    public WebEndpointResponse<Void> start(String jobId) {
+        if (jobId == null || jobId.isBlank() || jobId.length() > MAX_JOB_ID_LENGTH) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        return new WebEndpointResponse<>(job.start(jobId) ? STATUS_ACCEPTED : STATUS_CONFLICT);
+    }
+
+    @DeleteOperation
+    public void stop() {
+        job.stop();
+    }
+}
@@ -0,0 +1,33 @@
+package com.insurance.policy.infrastructure.repricing;
+
+import java.time.Instant;
+
+/**
+ * Progress of the repricing job last run on this instance, as reported by
+ * /actuator/repricing.
+ *
+ * @param checkpoint        the job's committed state
+ * @param total             active policies in scope: those already processed plus those
+ *                          after the checkpoint when this run started
+ * @param remaining         policies left to process
+ * @param policiesPerSecond throughput of this run so far
+ * @param runStartedAt      when this run (not the job) started
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record RepricingProgress(
+        RepricingCheckpoint checkpoint,
+        long total,
+        long remaining,
+        double policiesPerSecond,
+        Instant runStartedAt
+) {
+
+    static RepricingProgress of(RepricingCheckpoint checkpoint, long total, long processedBeforeRun,
+                                Instant runStartedAt, Instant now) {
+        long processedThisRun = checkpoint.processed() - processedBeforeRun;
+        double seconds = Math.max(now.toEpochMilli() - runStartedAt.toEpochMilli(), 1) / 1000.0;
+        return new RepricingProgress(checkpoint, total, Math.max(total - checkpoint.processed(), 0),
+                processedThisRun / seconds, runStartedAt);
+    }
+}
@@ -0,0 +1,45 @@
+package com.insurance.policy.infrastructure.repricing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings for portfolio repricing (prefix app.repricing).
+ *
+ * rates holds the premium multiplier per coverage type and default-rate the
+ * multiplier for every other type. chunk-size policies are repriced and
+ * committed together with their checkpoint; parallelism threads reprice a
+ * chunk (default: one per core). A job whose checkpoint has not moved for
+ * stale-after is taken to have died with its instance and may be resumed
+ * elsewhere.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@ConfigurationProperties(prefix = "app.repricing")
+public record RepricingProperties(
+        int chunkSize,
+        int parallelism,
+        Duration staleAfter,
+        BigDecimal defaultRate,
+        Map<String, BigDecimal> rates
+) {
+
+    public RepricingProperties {
+        if (chunkSize <= 0) {
+            chunkSize = 1000;
+        }
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        if (staleAfter == null) {
+            staleAfter = Duration.ofMinutes(5);
+        }
+        if (defaultRate == null) {
+            defaultRate = BigDecimal.ONE;
+        }
+        rates = rates == null ? Map.of() : Map.copyOf(rates);
+    }
+}
@@ -0,0 +1,17 @@
+package com.insurance.policy.infrastructure.repricing;
+
+/**
+ * State of a repricing job as recorded in its checkpoint.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public enum RepricingStatus {
+    /** Being processed, or the instance processing it died (see app.repricing.stale-after) */
+    RUNNING,
+    /** Stopped on request; starting it again resumes after the checkpoint */
+    STOPPED,
+    /** Stopped by an error; starting it again resumes after the checkpoint */
+    FAILED,
+    /** Every active policy was processed; starting it again does nothing */
+    COMPLETED
+}
@@ -0,0 +1,103 @@
+package com.insurance.policy.infrastructure.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resilience4j bulkhead whose maxConcurrentCalls follows an AIMD limit.
+ *
+ * Permits are taken from the bulkhead, so its regular resilience4j.bulkhead.*
+ * metrics stay meaningful. After each completed call the AIMD limit is updated
+ * and pushed into the bulkhead with changeConfig.
+ *
+ * Shrinking the bulkhead takes permits out of its semaphore and blocks until
+ * they are free. Taking a permit and resizing therefore share one lock: the
+ * free permits counted before a shrink are still free when changeConfig takes
+ * them, so a completing request never waits and no permit above the new limit
+ * is handed out in between. Releasing only adds permits and needs no lock.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final Bulkhead bulkhead;
+    private final AimdConcurrencyLimit limit;
+    private final Counter rejectedCalls;
+    private final ReentrantLock permitLock = new ReentrantLock();
+
+    public AdaptiveConcurrencyLimiter(Bulkhead bulkhead, AimdConcurrencyLimit limit, Counter rejectedCalls) {
+        this.bulkhead = bulkhead;
+        this.limit = limit;
+        this.rejectedCalls = rejectedCalls;
+        applyLimit();
+    }
+
+    /**
+     * Acquire a permit or shed the call.
+     *
+     * @throws BulkheadFullException when the current limit is reached
+     */
+    public void acquire() {
+        boolean acquired;
+        permitLock.lock();
+        try {
+            acquired = bulkhead.tryAcquirePermission();
+        } finally {
+            permitLock.unlock();
+        }
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw BulkheadFullException.createBulkheadFullException(bulkhead);
+        }
+    }
+
+    /**
+     * Release the permit of a completed call and feed its latency into the limit.
+     *
+     * @param latencyNanos Observed latency of the call
+     * @param failed Whether the call failed with a server error
+     */
+    public void release(long latencyNanos, boolean failed) {
+        Bulkhead.Metrics metrics = bulkhead.getMetrics();
+        int inFlight = metrics.getMaxAllowedConcurrentCalls() - metrics.getAvailableConcurrentCalls();
+        bulkhead.onComplete();
+        limit.onSample(latencyNanos, inFlight, failed);
+        applyLimit();
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public String getName() {
+        return bulkhead.getName();
+    }
+
+    private void applyLimit() {
+        permitLock.lock();
+        try {
+            // Read the target under the lock so concurrent releases cannot apply
+            // their samples out of order and leave a stale limit behind.
+            int targetLimit = limit.getLimit();
+            BulkheadConfig current = bulkhead.getBulkheadConfig();
+            int currentLimit = current.getMaxConcurrentCalls();
+            int newLimit = targetLimit;
+            if (targetLimit < currentLimit) {
+                // Shrinking takes permits out of the bulkhead's semaphore. Only take free
+                // permits so a completing request never waits for others to finish; the
+                // rest of the reduction is applied as further calls complete.
+                int available = bulkhead.getMetrics().getAvailableConcurrentCalls();
+                newLimit = Math.max(targetLimit, currentLimit - available);
+            }
+            if (newLimit != currentLimit) {
+                bulkhead.changeConfig(BulkheadConfig.from(current).maxConcurrentCalls(newLimit).build());
+            }
+        } finally {
+            permitLock.unlock();
+        }
+    }
+}
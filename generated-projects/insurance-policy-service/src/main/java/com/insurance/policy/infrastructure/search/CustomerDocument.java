@@ -0,0 +1,123 @@
+package com.insurance.policy.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The searchable fields of one customer. The index keeps them packed into a
+ * single string per customer and unpacks only the candidates it verifies.
+ */
+final class CustomerDocument {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final int NATIONAL_NUMBER_DIGITS = 10;
+    private static final int MIN_PHONE_DIGITS = 3;
+
+    final String firstName;
+    final String lastName;
+    final String email;
+    final String phone;
+
+    private List<String> nameWords;
+    private String normalizedEmail;
+    private String phoneDigits;
+
+    CustomerDocument(String firstName, String lastName, String email, String phone) {
+        this.firstName = firstName == null ? "" : firstName;
+        this.lastName = lastName == null ? "" : lastName;
+        this.email = email == null ? "" : email;
+        this.phone = phone == null ? "" : phone;
+    }
+
+    static CustomerDocument unpack(String packed) {
+        int first = packed.indexOf(SEPARATOR);
+        int second = packed.indexOf(SEPARATOR, first + 1);
+        int third = packed.indexOf(SEPARATOR, second + 1);
+        return new CustomerDocument(packed.substring(0, first), packed.substring(first + 1, second),
+                packed.substring(second + 1, third), packed.substring(third + 1));
+    }
+
+    /**
+     * Cheap check on a packed document that one of its name words may start
+     * with a normalised query word, so most candidates of a multi-word query
+     * are rejected without unpacking. Only ASCII names are checked; others
+     * pass and are verified after unpacking.
+     */
+    static boolean mayHaveNameWord(String packed, String word) {
+        int end = packed.indexOf(SEPARATOR, packed.indexOf(SEPARATOR) + 1);
+        for (int i = 0; i < end; i++) {
+            if (packed.charAt(i) > 0x7F) {
+                return true;
+            }
+        }
+        for (int i = 0; i + word.length() <= end; i++) {
+            if ((i == 0 || !Character.isLetterOrDigit(packed.charAt(i - 1)))
+                    && packed.regionMatches(true, i, word, 0, word.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    String pack() {
+        return firstName + SEPARATOR + lastName + SEPARATOR + email + SEPARATOR + phone;
+    }
+
+    List<String> nameWords() {
+        if (nameWords == null) {
+            nameWords = SearchText.words(SearchText.normalize(firstName + " " + lastName));
+        }
+        return nameWords;
+    }
+
+    String normalizedEmail() {
+        if (normalizedEmail == null) {
+            normalizedEmail = SearchText.normalize(email);
+        }
+        return normalizedEmail;
+    }
+
+    String phoneDigits() {
+        if (phoneDigits == null) {
+            phoneDigits = SearchText.digits(phone);
+        }
+        return phoneDigits;
+    }
+
+    /**
+     * Phone numbers are matched both with and without their country code
+     */
+    String nationalDigits() {
+        String digits = phoneDigits();
+        return digits.length() > NATIONAL_NUMBER_DIGITS ? digits.substring(digits.length() - NATIONAL_NUMBER_DIGITS) : digits;
+    }
+
+    String nameText() {
+        return String.join(" ", nameWords());
+    }
+
+    /**
+     * Terms posted in the prefix trie: each name word, the e-mail address and
+     * the phone digits
+     */
+    List<String> terms() {
+        List<String> terms = new ArrayList<>(nameWords().size() + 3);
+        for (String word : nameWords()) {
+            addDistinct(terms, word);
+        }
+        if (!normalizedEmail().isEmpty()) {
+            addDistinct(terms, normalizedEmail());
+        }
+        if (phoneDigits().length() >= MIN_PHONE_DIGITS) {
+            addDistinct(terms, phoneDigits());
+            addDistinct(terms, nationalDigits());
+        }
+        return terms;
+    }
+
+    private static void addDistinct(List<String> terms, String term) {
+        if (!terms.contains(term)) {
+            terms.add(term);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.insurance.policy.infrastructure.search;
+
+import com.insurance.policy.infrastructure.adapter.persistence.entity.CustomerJpaEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener on customers that keeps the search index in step with
+ * every save and delete that goes through CustomerRepository.
+ *
+ * The index is updated once the transaction commits, so a rolled-back save
+ * never becomes searchable. The index is looked up lazily, so nothing
+ * happens in JPA slice tests.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class CustomerSearchIndexListener {
+
+    private final ObjectProvider<InMemoryCustomerSearchIndex> index;
+
+    public CustomerSearchIndexListener(ObjectProvider<InMemoryCustomerSearchIndex> index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(CustomerJpaEntity customer) {
+        InMemoryCustomerSearchIndex available = index.getIfAvailable();
+        if (available == null) {
+            return;
+        }
+        long customerId = customer.getCustomerId();
+        String firstName = customer.getFirstName();
+        String lastName = customer.getLastName();
+        String email = customer.getEmail();
+        String phone = customer.getPhone();
+        afterCommit(() -> available.put(customerId, firstName, lastName, email, phone));
+    }
+
+    @PostRemove
+    public void removed(CustomerJpaEntity customer) {
+        InMemoryCustomerSearchIndex available = index.getIfAvailable();
+        if (available == null) {
+            return;
+        }
+        long customerId = customer.getCustomerId();
+        afterCommit(() -> available.remove(customerId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.insurance.policy.infrastructure.search;
+
+import com.insurance.policy.infrastructure.adapter.persistence.CustomerSpringDataRepository;
+import com.insurance.policy.infrastructure.adapter.persistence.CustomerSpringDataRepository.SearchFields;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Builds the customer search index from the customers table at start-up.
+ *
+ * Runs as an ApplicationRunner ahead of the warm-up, so the instance reports
+ * ready only once search is complete. Rows are streamed in a read-only
+ * transaction (served by a replica when read/write routing is on). Writes
+ * committed meanwhile are applied by CustomerSearchIndexListener and win over
+ * the rows read here: a customer the listener has already indexed or removed
+ * is skipped.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class CustomerSearchIndexLoader implements ApplicationRunner, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerSearchIndexLoader.class);
+
+    private final InMemoryCustomerSearchIndex index;
+    private final CustomerSpringDataRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    public CustomerSearchIndexLoader(InMemoryCustomerSearchIndex index,
+                                     CustomerSpringDataRepository repository,
+                                     PlatformTransactionManager transactionManager) {
+        this.index = index;
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        index.beginLoad();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<SearchFields> rows = repository.streamSearchFields()) {
+                    rows.forEach(row -> index.load(row.getCustomerId(), row.getFirstName(), row.getLastName(),
+                            row.getEmail(), row.getPhone()));
+                }
+            });
+        } finally {
+            index.endLoad();
+        }
+        log.info("Customer search index loaded in {} ms: {} customers, ~{} MB",
+                (System.nanoTime() - start) / 1_000_000, index.size(), index.estimatedBytes() >> 20);
+        if (index.size() >= index.maxCustomers()) {
+            log.warn("Customer search index is full at {} customers (app.customer-search.max-customers); "
+                    + "further customers are not searchable", index.maxCustomers());
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
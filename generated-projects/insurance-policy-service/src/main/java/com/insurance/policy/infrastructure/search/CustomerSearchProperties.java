@@ -0,0 +1,23 @@
+package com.insurance.policy.infrastructure.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the in-memory customer search index (prefix app.customer-search).
+ *
+ * max-customers caps the index, and with it its heap (roughly 250 bytes per
+ * customer); customers beyond it are not searchable.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@ConfigurationProperties(prefix = "app.customer-search")
+public record CustomerSearchProperties(
+        int maxCustomers
+) {
+
+    public CustomerSearchProperties {
+        if (maxCustomers <= 0) {
+            maxCustomers = 2_000_000;
+        }
+    }
+}
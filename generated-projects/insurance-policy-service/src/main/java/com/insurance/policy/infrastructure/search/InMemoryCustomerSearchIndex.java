@@ -0,0 +1,484 @@
+package com.insurance.policy.infrastructure.search;
+
+import com.insurance.policy.domain.port.CustomerSearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory customer search over name, e-mail and phone.
+ *
+ * Each customer gets a slot; its fields are kept packed in one string per
+ * slot and its terms are posted in a {@link PrefixTrie} (name words, e-mail,
+ * phone digits) and its name in {@link TrigramPostings}. A query is routed by
+ * its shape:
+ * - contains '@', '.' or '_' and no space: e-mail prefix
+ * - digits and separators only: phone prefix, with or without country code
+ * - otherwise: every word must prefix a different name word. The longest
+ *   word drives the trie walk, and the other words' postings are stamped
+ *   first so the walk skips customers lacking them without reading their
+ *   documents. A single word may also prefix the e-mail.
+ *   If that finds fewer than the requested results, trigram similarity on
+ *   the name adds fuzzy matches, which catches typos. The trigram scan-count
+ *   runs within a postings budget and only ranks candidates; the best few
+ *   are verified with their exact similarity.
+ *
+ * Scores: 3 for an exact term, 2..3 for a prefix (higher the more of the term
+ * it covers), and below 1 for fuzzy matches: the mean of the share of the
+ * query's trigrams found in the name and their Jaccard similarity. Ties
+ * are broken by customer ID. The trie is walked breadth-first and stops after
+ * a few candidates per requested result, so short, unselective prefixes cost
+ * no more than long ones.
+ *
+ * Reads share a read lock; put and remove take the write lock. Customers
+ * beyond maxCustomers are not indexed, which bounds memory; see
+ * {@link #estimatedBytes()}.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class InMemoryCustomerSearchIndex implements CustomerSearch {
+
+    static final double EXACT = 3.0;
+    static final double MIN_COVERAGE = 0.4;
+
+    private static final int CANDIDATES_PER_RESULT = 4;
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final int NAME_POSTINGS_BUDGET = 100_000;
+    private static final int FUZZY_POSTINGS_BUDGET = 80_000;
+    private static final int MAX_FUZZY_CANDIDATES = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BlockingQueue<TrigramPostings.Counter> counters =
+            new ArrayBlockingQueue<>(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    private final int maxCustomers;
+    private final PrefixTrie trie = new PrefixTrie();
+    private final TrigramPostings trigrams = new TrigramPostings();
+    private final LongIntHashMap slotsById = new LongIntHashMap(1024);
+
+    private long[] customerIds = new long[1024];
+    private String[] documents = new String[1024];
+    private int slots;
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private long documentBytes;
+    private Set<Long> removedWhileLoading;
+
+    public InMemoryCustomerSearchIndex(int maxCustomers) {
+        this.maxCustomers = maxCustomers;
+    }
+
+    @Override
+    public List<Match> search(String query, int limit) {
+        String normalized = SearchText.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<Integer, Double> candidates = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int wanted = limit * CANDIDATES_PER_RESULT;
+            String digits = SearchText.digits(normalized);
+            if (isEmailQuery(normalized)) {
+                searchEmail(normalized, wanted, candidates);
+            } else if (!SearchText.hasLetter(normalized) && digits.length() >= 3) {
+                searchPhone(digits, wanted, candidates);
+            } else {
+                List<String> words = SearchText.words(normalized);
+                if (words.isEmpty()) {
+                    return List.of();
+                }
+                searchName(words, wanted, candidates);
+                if (candidates.size() < limit) {
+                    searchFuzzy(String.join(" ", words), candidates);
+                }
+            }
+            return rank(candidates, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index a customer, replacing what was indexed for it before
+     *
+     * @return false if the customer is new and the index is full
+     */
+    public boolean put(long customerId, String firstName, String lastName, String email, String phone) {
+        lock.writeLock().lock();
+        try {
+            if (removedWhileLoading != null) {
+                removedWhileLoading.remove(customerId);
+            }
+            return index(customerId, new CustomerDocument(firstName, lastName, email, phone));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index a customer read by the start-up load, unless a live write has
+     * already indexed or removed it since the load began
+     *
+     * @return false if the customer was skipped or the index is full
+     */
+    public boolean load(long customerId, String firstName, String lastName, String email, String phone) {
+        lock.writeLock().lock();
+        try {
+            if (slotsById.get(customerId) >= 0
+                    || (removedWhileLoading != null && removedWhileLoading.contains(customerId))) {
+                return false;
+            }
+            return index(customerId, new CustomerDocument(firstName, lastName, email, phone));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long customerId) {
+        lock.writeLock().lock();
+        try {
+            if (removedWhileLoading != null) {
+                removedWhileLoading.add(customerId);
+            }
+            int slot = slotsById.get(customerId);
+            if (slot < 0) {
+                return;
+            }
+            unindex(slot);
+            slotsById.remove(customerId);
+            documents[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Start tracking removals so a concurrent start-up load cannot bring a
+     * deleted customer back
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void endLoad() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int maxCustomers() {
+        return maxCustomers;
+    }
+
+    /**
+     * Heap retained by the index, from its array capacities and string
+     * lengths (compressed oops, Latin-1 strings). Scan-count scratch space,
+     * one byte per slot per pooled counter, comes on top.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return trie.estimatedBytes()
+                    + trigrams.estimatedBytes()
+                    + slotsById.estimatedBytes()
+                    + 16L + (long) customerIds.length * Long.BYTES
+                    + 16L + (long) documents.length * 4
+                    + 16L + (long) freeSlots.length * 4
+                    + documentBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean index(long customerId, CustomerDocument document) {
+        int slot = slotsById.get(customerId);
+        if (slot >= 0) {
+            unindex(slot);
+        } else {
+            if (slotsById.size() >= maxCustomers) {
+                return false;
+            }
+            slot = allocateSlot();
+            slotsById.put(customerId, slot);
+        }
+        String packed = document.pack();
+        customerIds[slot] = customerId;
+        documents[slot] = packed;
+        documentBytes += stringBytes(packed);
+        for (String term : document.terms()) {
+            trie.add(term, slot);
+        }
+        trigrams.add(TrigramPostings.trigrams(document.nameText()), slot);
+        return true;
+    }
+
+    private void unindex(int slot) {
+        String packed = documents[slot];
+        CustomerDocument document = CustomerDocument.unpack(packed);
+        for (String term : document.terms()) {
+            trie.remove(term, slot);
+        }
+        trigrams.remove(TrigramPostings.trigrams(document.nameText()), slot);
+        documentBytes -= stringBytes(packed);
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slots == customerIds.length) {
+            int capacity = slots + (slots >> 1);
+            customerIds = Arrays.copyOf(customerIds, capacity);
+            documents = Arrays.copyOf(documents, capacity);
+        }
+        return slots++;
+    }
+
+    private void searchEmail(String prefix, int wanted, Map<Integer, Double> candidates) {
+        trie.visit(prefix, slot -> {
+            String email = CustomerDocument.unpack(documents[slot]).normalizedEmail();
+            if (email.startsWith(prefix)) {
+                candidates.merge(slot, prefixScore(prefix, email), Math::max);
+            }
+            return candidates.size() < wanted;
+        });
+    }
+
+    private void searchPhone(String digits, int wanted, Map<Integer, Double> candidates) {
+        trie.visit(digits, slot -> {
+            CustomerDocument document = CustomerDocument.unpack(documents[slot]);
+            if (document.phoneDigits().startsWith(digits)) {
+                candidates.merge(slot, prefixScore(digits, document.phoneDigits()), Math::max);
+            } else if (document.nationalDigits().startsWith(digits)) {
+                candidates.merge(slot, prefixScore(digits, document.nationalDigits()), Math::max);
+            }
+            return candidates.size() < wanted;
+        });
+    }
+
+    private void searchName(List<String> words, int wanted, Map<Integer, Double> candidates) {
+        int leadIndex = 0;
+        for (int i = 1; i < words.size(); i++) {
+            if (words.get(i).length() > words.get(leadIndex).length()) {
+                leadIndex = i;
+            }
+        }
+        if (!trie.containsPrefix(words.get(leadIndex))) {
+            return;
+        }
+        TrigramPostings.Counter marks = words.size() > 1 && words.size() <= Byte.MAX_VALUE ? markOtherWords(words, leadIndex) : null;
+        int required = words.size() - 1;
+        try {
+            trie.visit(words.get(leadIndex), slot -> {
+                if (marks != null && marks.count(slot) != required) {
+                    return true;
+                }
+                if (!candidates.containsKey(slot) && mayMatchName(words, documents[slot])) {
+                    double score = nameScore(words, CustomerDocument.unpack(documents[slot]));
+                    if (score > 0) {
+                        candidates.put(slot, score);
+                    }
+                }
+                return candidates.size() < wanted;
+            });
+        } finally {
+            if (marks != null) {
+                marks.clear();
+                release(marks);
+            }
+        }
+    }
+
+    /**
+     * Stamp the slots having a term for every query word but the lead, so the
+     * lead's walk can skip the others without touching their documents.
+     * Returns null, leaving the walk to check documents, when the other
+     * words' postings exceed the budget.
+     */
+    private TrigramPostings.Counter markOtherWords(List<String> words, int leadIndex) {
+        TrigramPostings.Counter marks = acquire();
+        int[] remaining = {NAME_POSTINGS_BUDGET};
+        int stamp = 0;
+        for (int i = 0; i < words.size(); i++) {
+            if (i == leadIndex) {
+                continue;
+            }
+            int from = stamp++;
+            boolean complete = trie.visit(words.get(i), slot -> {
+                marks.advance(slot, from);
+                return --remaining[0] > 0;
+            });
+            if (!complete) {
+                marks.clear();
+                release(marks);
+                return null;
+            }
+        }
+        return marks;
+    }
+
+    private void searchFuzzy(String text, Map<Integer, Double> candidates) {
+        if (text.length() < MIN_FUZZY_LENGTH) {
+            return;
+        }
+        int[] queryGrams = TrigramPostings.trigrams(text);
+        if (queryGrams.length == 0) {
+            return;
+        }
+        TrigramPostings.Counter counter = acquire();
+        try {
+            trigrams.count(queryGrams, FUZZY_POSTINGS_BUDGET, counter);
+            int threshold = countThreshold(counter);
+            int verified = 0;
+            for (int i = 0; i < counter.touchedCount(); i++) {
+                int slot = counter.touchedSlot(i);
+                if (counter.take(slot) < threshold || verified == MAX_FUZZY_CANDIDATES) {
+                    continue;
+                }
+                verified++;
+                int[] grams = TrigramPostings.trigrams(CustomerDocument.unpack(documents[slot]).nameText());
+                int shared = TrigramPostings.shared(queryGrams, grams);
+                double coverage = (double) shared / queryGrams.length;
+                if (coverage >= MIN_COVERAGE) {
+                    double similarity = (double) shared / (queryGrams.length + grams.length - shared);
+                    candidates.putIfAbsent(slot, (coverage + similarity) / 2);
+                }
+            }
+        } finally {
+            release(counter);
+        }
+    }
+
+    private TrigramPostings.Counter acquire() {
+        TrigramPostings.Counter counter = counters.poll();
+        if (counter == null) {
+            counter = new TrigramPostings.Counter();
+        }
+        counter.reset(slots);
+        return counter;
+    }
+
+    private void release(TrigramPostings.Counter counter) {
+        counters.offer(counter);
+    }
+
+    /**
+     * The lowest scan-count that still leaves at most MAX_FUZZY_CANDIDATES
+     * slots to verify (or the highest count, if that alone leaves more)
+     */
+    private static int countThreshold(TrigramPostings.Counter counter) {
+        int[] histogram = new int[Byte.MAX_VALUE + 1];
+        for (int i = 0; i < counter.touchedCount(); i++) {
+            histogram[counter.count(counter.touchedSlot(i))]++;
+        }
+        int atLeast = 0;
+        for (int count = Byte.MAX_VALUE; count > 1; count--) {
+            if (histogram[count] > 0 && atLeast + histogram[count] > MAX_FUZZY_CANDIDATES) {
+                return atLeast == 0 ? count : count + 1;
+            }
+            atLeast += histogram[count];
+        }
+        return 1;
+    }
+
+    private static boolean mayMatchName(List<String> words, String packed) {
+        if (words.size() == 1) {
+            return true;
+        }
+        for (String word : words) {
+            if (!CustomerDocument.mayHaveNameWord(packed, word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Average of the best score of each query word against a distinct name
+     * word, or 0 if a word matches none. A single word may match the e-mail.
+     */
+    private static double nameScore(List<String> words, CustomerDocument document) {
+        List<String> nameWords = document.nameWords();
+        boolean[] used = new boolean[nameWords.size()];
+        double total = 0;
+        for (String word : words) {
+            int best = -1;
+            double bestScore = 0;
+            for (int i = 0; i < nameWords.size(); i++) {
+                if (!used[i] && nameWords.get(i).startsWith(word)) {
+                    double score = prefixScore(word, nameWords.get(i));
+                    if (score > bestScore) {
+                        best = i;
+                        bestScore = score;
+                    }
+                }
+            }
+            if (best < 0 && words.size() == 1 && document.normalizedEmail().startsWith(word)) {
+                return prefixScore(word, document.normalizedEmail());
+            }
+            if (best < 0) {
+                return 0;
+            }
+            used[best] = true;
+            total += bestScore;
+        }
+        return total / words.size();
+    }
+
+    private static double prefixScore(String prefix, String term) {
+        return prefix.length() == term.length() ? EXACT : 2.0 + (double) prefix.length() / term.length();
+    }
+
+    private List<Match> rank(Map<Integer, Double> candidates, int limit) {
+        List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(candidates.entrySet());
+        ranked.sort(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                .thenComparingLong(entry -> customerIds[entry.getKey()]));
+        List<Match> matches = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Map.Entry<Integer, Double> entry : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            int slot = entry.getKey();
+            CustomerDocument document = CustomerDocument.unpack(documents[slot]);
+            matches.add(new Match(customerIds[slot], document.firstName, document.lastName,
+                    document.email, document.phone, entry.getValue()));
+        }
+        return matches;
+    }
+
+    private static boolean isEmailQuery(String normalized) {
+        return normalized.indexOf(' ') < 0
+                && (normalized.indexOf('@') >= 0 || normalized.indexOf('.') >= 0 || normalized.indexOf('_') >= 0);
+    }
+
+    private static long stringBytes(String value) {
+        return 24L + 16 + value.length();
+    }
+}
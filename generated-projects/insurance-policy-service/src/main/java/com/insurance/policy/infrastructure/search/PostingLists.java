@@ -0,0 +1,71 @@
+package com.insurance.policy.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Unordered, growable int lists of index slots, one per key (trie node or
+ * trigram). Removal swaps the last slot in, so lists never need compacting.
+ */
+final class PostingLists {
+
+    private int[][] lists;
+    private int[] sizes;
+    private long allocatedInts;
+    private int allocatedLists;
+
+    PostingLists(int keys) {
+        lists = new int[keys][];
+        sizes = new int[keys];
+    }
+
+    void ensureKeys(int keys) {
+        if (keys > lists.length) {
+            int capacity = Math.max(keys, lists.length + (lists.length >> 1));
+            lists = Arrays.copyOf(lists, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+    }
+
+    void add(int key, int slot) {
+        int[] list = lists[key];
+        int size = sizes[key];
+        if (list == null) {
+            list = new int[2];
+            lists[key] = list;
+            allocatedInts += list.length;
+            allocatedLists++;
+        } else if (size == list.length) {
+            int[] grown = Arrays.copyOf(list, size + (size >> 1) + 1);
+            allocatedInts += grown.length - list.length;
+            list = grown;
+            lists[key] = list;
+        }
+        list[size] = slot;
+        sizes[key] = size + 1;
+    }
+
+    void remove(int key, int slot) {
+        int[] list = lists[key];
+        int size = sizes[key];
+        for (int i = 0; i < size; i++) {
+            if (list[i] == slot) {
+                list[i] = list[size - 1];
+                sizes[key] = size - 1;
+                return;
+            }
+        }
+    }
+
+    int[] list(int key) {
+        return lists[key];
+    }
+
+    int size(int key) {
+        return sizes[key];
+    }
+
+    long estimatedBytes() {
+        return 16L + (long) lists.length * 4 + 16 + (long) sizes.length * 4
+                + allocatedLists * 16L + allocatedInts * 4;
+    }
+}
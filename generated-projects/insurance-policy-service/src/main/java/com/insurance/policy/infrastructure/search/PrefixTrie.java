@@ -0,0 +1,150 @@
+package com.insurance.policy.infrastructure.search;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Character trie over index terms (name words, e-mail, phone digits), stored
+ * as parallel arrays in first-child/next-sibling form so a node costs a few
+ * bytes rather than an object.
+ *
+ * Depth is capped at {@link #MAX_DEPTH}: a longer term is posted at its
+ * depth-capped node, and a longer query prefix lands on that node's subtree,
+ * whose postings the caller verifies against the stored document. This keeps
+ * the node count close to the number of distinct short prefixes instead of
+ * the total length of all e-mail addresses.
+ */
+final class PrefixTrie {
+
+    static final int MAX_DEPTH = 8;
+
+    private static final int NONE = -1;
+
+    private char[] labels;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int nodes;
+    private final PostingLists postings;
+
+    PrefixTrie() {
+        int capacity = 1024;
+        labels = new char[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        postings = new PostingLists(capacity);
+        nodes = 1;
+        firstChild[0] = NONE;
+        nextSibling[0] = NONE;
+    }
+
+    void add(String term, int slot) {
+        int node = 0;
+        int depth = Math.min(term.length(), MAX_DEPTH);
+        for (int i = 0; i < depth; i++) {
+            char c = term.charAt(i);
+            int child = child(node, c);
+            if (child == NONE) {
+                child = newNode(c);
+                nextSibling[child] = firstChild[node];
+                firstChild[node] = child;
+            }
+            node = child;
+        }
+        postings.add(node, slot);
+    }
+
+    void remove(String term, int slot) {
+        int node = find(term);
+        if (node != NONE) {
+            postings.remove(node, slot);
+        }
+    }
+
+    /**
+     * Offer the slots posted under a prefix breadth-first, i.e. shorter terms
+     * before longer ones, until the visitor returns false. A slot is offered
+     * once per matching term it has.
+     *
+     * @return false if the visitor stopped the walk early
+     */
+    boolean visit(String prefix, IntPredicate visitor) {
+        int start = find(prefix);
+        if (start == NONE) {
+            return true;
+        }
+        int[] queue = new int[16];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int node = queue[head++];
+            int[] list = postings.list(node);
+            int size = postings.size(node);
+            for (int i = 0; i < size; i++) {
+                if (!visitor.test(list[i])) {
+                    return false;
+                }
+            }
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (tail == queue.length) {
+                    if (head > 0) {
+                        System.arraycopy(queue, head, queue, 0, tail - head);
+                        tail -= head;
+                        head = 0;
+                    }
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, queue.length * 2);
+                    }
+                }
+                queue[tail++] = child;
+            }
+        }
+        return true;
+    }
+
+    boolean containsPrefix(String prefix) {
+        return find(prefix) != NONE;
+    }
+
+    int nodeCount() {
+        return nodes;
+    }
+
+    long estimatedBytes() {
+        return 3 * 16L + (long) labels.length * 2 + (long) firstChild.length * 4
+                + (long) nextSibling.length * 4 + postings.estimatedBytes();
+    }
+
+    private int find(String term) {
+        int node = 0;
+        int depth = Math.min(term.length(), MAX_DEPTH);
+        for (int i = 0; i < depth && node != NONE; i++) {
+            node = child(node, term.charAt(i));
+        }
+        return node;
+    }
+
+    private int child(int node, char c) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (labels[child] == c) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    private int newNode(char c) {
+        if (nodes == labels.length) {
+            int capacity = labels.length + (labels.length >> 1);
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            postings.ensureKeys(capacity);
+        }
+        int node = nodes++;
+        labels[node] = c;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        return node;
+    }
+}
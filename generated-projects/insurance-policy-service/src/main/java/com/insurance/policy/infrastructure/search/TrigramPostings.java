@@ -0,0 +1,215 @@
+package com.insurance.policy.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Trigram postings for fuzzy name matching. Characters are folded onto a
+ * 6-bit alphabet, so a trigram is an 18-bit key into flat posting arrays.
+ * Names are padded with a boundary at both ends and between words, which
+ * weights the start and end of each word.
+ *
+ * Candidates are found with a scan-count over the query's posting lists:
+ * a per-slot counter array from a {@link Counter} is bumped once per shared
+ * trigram, then read back for the slots touched. Lists are scanned shortest
+ * first within a postings budget, so trigrams shared by a large part of the
+ * customers (such as a common name ending) are skipped like stop words; the
+ * counts are then only a ranking of candidates, to be verified exactly with
+ * {@link #shared(int[], int[])}.
+ */
+final class TrigramPostings {
+
+    private static final int BITS = 6;
+    private static final int KEYS = 1 << (3 * BITS);
+    private static final int BOUNDARY = 0;
+
+    private final PostingLists postings = new PostingLists(KEYS);
+
+    /**
+     * The distinct trigrams of normalised text, sorted
+     */
+    static int[] trigrams(String normalized) {
+        int[] symbols = new int[normalized.length() + 2];
+        int length = 0;
+        symbols[length++] = BOUNDARY;
+        for (int i = 0; i < normalized.length(); i++) {
+            int symbol = symbol(normalized.charAt(i));
+            if (symbol == BOUNDARY && symbols[length - 1] == BOUNDARY) {
+                continue;
+            }
+            symbols[length++] = symbol;
+        }
+        if (symbols[length - 1] != BOUNDARY) {
+            symbols[length++] = BOUNDARY;
+        }
+        if (length < 3) {
+            return new int[0];
+        }
+        int[] grams = new int[length - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = symbols[i] << (2 * BITS) | symbols[i + 1] << BITS | symbols[i + 2];
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return distinct == grams.length ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    void add(int[] grams, int slot) {
+        for (int gram : grams) {
+            postings.add(gram, slot);
+        }
+    }
+
+    void remove(int[] grams, int slot) {
+        for (int gram : grams) {
+            postings.remove(gram, slot);
+        }
+    }
+
+    /**
+     * Count for every slot how many of the query trigrams it shares, taking
+     * the posting lists shortest first and stopping before the total would
+     * exceed the budget (the shortest list is always taken). The counter then
+     * holds the touched slots and their counts.
+     */
+    void count(int[] queryGrams, int budget, Counter counter) {
+        long[] bySize = new long[queryGrams.length];
+        for (int i = 0; i < queryGrams.length; i++) {
+            bySize[i] = (long) postings.size(queryGrams[i]) << 32 | i;
+        }
+        Arrays.sort(bySize);
+        long scanned = 0;
+        for (long entry : bySize) {
+            int gram = queryGrams[(int) entry];
+            int size = postings.size(gram);
+            if (size == 0) {
+                continue;
+            }
+            if (scanned > 0 && scanned + size > budget) {
+                break;
+            }
+            int[] list = postings.list(gram);
+            for (int i = 0; i < size; i++) {
+                counter.increment(list[i]);
+            }
+            scanned += size;
+        }
+    }
+
+    /**
+     * Number of trigrams two sorted, distinct trigram arrays have in common
+     */
+    static int shared(int[] left, int[] right) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                shared++;
+                i++;
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    long estimatedBytes() {
+        return postings.estimatedBytes();
+    }
+
+    private static int symbol(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return 1 + (c - 'a');
+        }
+        if (c >= '0' && c <= '9') {
+            return 27 + (c - '0');
+        }
+        if (Character.isLetter(c)) {
+            return 37 + (c % 26);
+        }
+        return BOUNDARY;
+    }
+
+    /**
+     * Reusable per-slot scratch counts, sized to the index's slot count
+     */
+    static final class Counter {
+
+        private byte[] counts = new byte[0];
+        private int[] touched = new int[256];
+        private int touchedCount;
+
+        void reset(int slots) {
+            if (counts.length < slots) {
+                counts = new byte[slots + (slots >> 2)];
+            }
+            touchedCount = 0;
+        }
+
+        void increment(int slot) {
+            byte count = counts[slot];
+            if (count == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touched.length * 2);
+                }
+                touched[touchedCount++] = slot;
+            }
+            if (count != Byte.MAX_VALUE) {
+                counts[slot] = (byte) (count + 1);
+            }
+        }
+
+        int touchedCount() {
+            return touchedCount;
+        }
+
+        int touchedSlot(int i) {
+            return touched[i];
+        }
+
+        int count(int slot) {
+            return counts[slot];
+        }
+
+        /**
+         * Bump a slot's count only if it equals the given one, which makes
+         * the counter a stamp set for intersecting several postings
+         */
+        void advance(int slot, int from) {
+            if (counts[slot] == from) {
+                if (from == 0) {
+                    increment(slot);
+                } else {
+                    counts[slot] = (byte) (from + 1);
+                }
+            }
+        }
+
+        /**
+         * Clear all touched slots for the next query
+         */
+        void clear() {
+            for (int i = 0; i < touchedCount; i++) {
+                counts[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+
+        /**
+         * Read a touched slot's count and clear it for the next query
+         */
+        int take(int slot) {
+            int count = counts[slot];
+            counts[slot] = 0;
+            return count;
+        }
+    }
+}
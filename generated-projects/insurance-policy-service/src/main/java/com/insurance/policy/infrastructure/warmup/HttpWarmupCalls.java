@@ -0,0 +1,82 @@
+package com.insurance.policy.infrastructure.warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Read-only HTTP requests against the application's own port.
+ *
+ * Going through the real server warms the whole request path: Tomcat,
+ * filters and interceptors, controllers, Jackson writers, the read-only
+ * repository queries and, for IDs that exist, the persistence mappers.
+ * Lookups of missing IDs still exercise the query and the 404 handling.
+ * Only GET endpoints are called, so nothing is written and the write-endpoint
+ * concurrency limits are left at their initial values.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public final class HttpWarmupCalls {
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final int sampleIds;
+    private final String idList;
+    private int nextId;
+
+    private HttpWarmupCalls(int port, int sampleIds, Duration requestTimeout) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .build();
+        this.baseUri = URI.create("http://localhost:" + port);
+        this.requestTimeout = requestTimeout;
+        this.sampleIds = sampleIds;
+        StringJoiner ids = new StringJoiner(",");
+        for (int id = 1; id <= sampleIds; id++) {
+            ids.add(Integer.toString(id));
+        }
+        this.idList = ids.toString();
+    }
+
+    /**
+     * Warm-up calls for the server listening on the given local port.
+     *
+     * @param port           local server port
+     * @param sampleIds      IDs 1..sampleIds are looked up
+     * @param requestTimeout timeout per request
+     */
+    public static List<WarmupCall> forLocalServer(int port, int sampleIds, Duration requestTimeout) {
+        HttpWarmupCalls calls = new HttpWarmupCalls(port, sampleIds, requestTimeout);
+        return List.of(
+                new WarmupCall("GET /api/v1/policies?ids", () -> calls.get("/api/v1/policies?ids=" + calls.idList)),
+                new WarmupCall("GET /api/v1/claims?ids", () -> calls.get("/api/v1/claims?ids=" + calls.idList)),
+                new WarmupCall("GET /api/v1/payments?ids", () -> calls.get("/api/v1/payments?ids=" + calls.idList)),
+                new WarmupCall("GET /api/v1/payments/{id}", () -> calls.get("/api/v1/payments/" + calls.nextId())),
+                new WarmupCall("GET /api/v1/payments/claim/{claimId}",
+                        () -> calls.get("/api/v1/payments/claim/" + calls.nextId()))
+        );
+    }
+
+    private int nextId() {
+        nextId = nextId % sampleIds + 1;
+        return nextId;
+    }
+
+    private void get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 500) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.insurance.policy.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policy.domain.entity.Claim;
+import com.insurance.policy.domain.entity.Payment;
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.valueobject.ClaimAmount;
+import com.insurance.policy.domain.valueobject.ClaimNumber;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.PaymentAmount;
+import com.insurance.policy.domain.valueobject.PaymentMethod;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+import com.insurance.policy.domain.valueobject.TransactionId;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.ClaimJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.mapper.ClaimMapper;
+import com.insurance.policy.infrastructure.adapter.persistence.mapper.PolicyMapper;
+import com.insurance.policy.infrastructure.persistence.entity.PaymentJpaEntity;
+import com.insurance.policy.infrastructure.persistence.mapper.PaymentMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * In-process round trips through the persistence mappers with synthetic
+ * domain objects.
+ *
+ * These run whether or not the database holds any rows, so the mappers (and
+ * the Jackson coverage (de)serialization inside PolicyMapper) are compiled
+ * even on an empty database. Nothing is persisted, and the sample policy is
+ * rehydrated with a fixed number so warm-up never draws from the policy
+ * number sequence.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public final class MappingWarmupCalls {
+
+    private MappingWarmupCalls() {
+    }
+
+    public static List<WarmupCall> create(ObjectMapper objectMapper, PaymentMapper paymentMapper) {
+        PolicyMapper policyMapper = new PolicyMapper(objectMapper);
+        LocalDate effectiveDate = LocalDate.now().plusDays(1);
+        Policy policy = Policy.rehydrate(1L, PolicyNumber.of("POL-2000-000001"), "CUST-WARMUP",
+                effectiveDate, effectiveDate.plusYears(1), PolicyStatus.DRAFT, List.of(
+                        Coverage.of("LIABILITY", 500.0, "USD"),
+                        Coverage.of("COLLISION", 250.0, "USD")));
+        Claim claim = new Claim(
+                ClaimNumber.of("CLM-2000-000001"),
+                ClaimAmount.of(new BigDecimal("2500.00"), "USD"),
+                LocalDate.now().minusDays(1),
+                "1");
+        Payment payment = Payment.builder()
+                .claimId(1L)
+                .amount(new PaymentAmount(new BigDecimal("2500.00")))
+                .paymentMethod(PaymentMethod.BANK_TRANSFER)
+                .transactionId(new TransactionId("TXNWARMUP0001"))
+                .processedBy("warmup")
+                .build();
+
+        return List.of(
+                new WarmupCall("PolicyMapper", () -> {
+                    PolicyJpaEntity row = policyMapper.toJpa(policy);
+                    row.setId(1L);
+                    policyMapper.toDomain(row);
+                }),
+                new WarmupCall("ClaimMapper", () -> {
+                    ClaimJpaEntity row = ClaimMapper.toJpa(claim);
+                    row.setId(1L);
+                    ClaimMapper.toDomain(row);
+                }),
+                new WarmupCall("PaymentMapper", () -> {
+                    PaymentJpaEntity row = paymentMapper.toJpaEntity(payment);
+                    row.setPaymentId(1L);
+                    paymentMapper.toDomainEntity(row);
+                })
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.insurance.policy.infrastructure.warmup;
+
+/**
+ * One synthetic, side-effect-free call made during warm-up.
+ *
+ * @param name   label used in the warm-up log
+ * @param action the call; exceptions are counted, never propagated
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public record WarmupCall(String name, Action action) {
+
+    @FunctionalInterface
+    public interface Action {
+
+        void run() throws Exception;
+    }
+}
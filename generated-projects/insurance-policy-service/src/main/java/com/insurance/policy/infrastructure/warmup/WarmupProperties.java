@@ -0,0 +1,39 @@
+package com.insurance.policy.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the start-up warm-up run (prefix app.warmup).
+ *
+ * iterations is the number of rounds over all warm-up calls; max-duration caps
+ * the whole run, so readiness is never delayed by more than that. sample-ids
+ * is how many IDs (1..n) the read-only lookups ask for.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@ConfigurationProperties(prefix = "app.warmup")
+public record WarmupProperties(
+        boolean enabled,
+        int iterations,
+        Duration maxDuration,
+        int sampleIds,
+        Duration requestTimeout
+) {
+
+    public WarmupProperties {
+        if (iterations <= 0) {
+            iterations = 1000;
+        }
+        if (maxDuration == null) {
+            maxDuration = Duration.ofSeconds(30);
+        }
+        if (sampleIds <= 0) {
+            sampleIds = 10;
+        }
+        if (requestTimeout == null) {
+            requestTimeout = Duration.ofSeconds(5);
+        }
+    }
+}
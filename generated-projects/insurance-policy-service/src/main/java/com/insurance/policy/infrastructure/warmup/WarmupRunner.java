@@ -0,0 +1,53 @@
+package com.insurance.policy.infrastructure.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms the JIT before the instance reports ready.
+ *
+ * Spring Boot publishes ReadinessState.ACCEPTING_TRAFFIC only after every
+ * ApplicationRunner has returned, so while this runner works
+ * /actuator/health/readiness reports OUT_OF_SERVICE and the load balancer
+ * keeps traffic away. The web server is already listening, which lets the
+ * HTTP warm-up calls go through the real stack. The in-process calls always
+ * run; the HTTP calls are added when an embedded server is running.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final WarmupProperties properties;
+    private final List<WarmupCall> inProcessCalls;
+    private final Environment environment;
+
+    public WarmupRunner(WarmupProperties properties, List<WarmupCall> inProcessCalls, Environment environment) {
+        this.properties = properties;
+        this.inProcessCalls = List.copyOf(inProcessCalls);
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<WarmupCall> calls = new ArrayList<>(inProcessCalls);
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port != null) {
+            calls.addAll(HttpWarmupCalls.forLocalServer(port, properties.sampleIds(), properties.requestTimeout()));
+        }
+
+        log.info("Warm-up started: {} calls x {} iterations, capped at {}",
+                calls.size(), properties.iterations(), properties.maxDuration());
+        Warmup.Result result = new Warmup(calls, properties.iterations(), properties.maxDuration()).run();
+        log.info("Warm-up finished in {} ms: {} calls, {} failed{}",
+                result.elapsed().toMillis(), result.calls(), result.failed(),
+                result.capped() ? " (stopped at max-duration)" : "");
+    }
+}
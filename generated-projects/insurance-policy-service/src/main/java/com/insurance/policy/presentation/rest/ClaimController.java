@@ -3,9 +3,14 @@ package com.insurance.policy.presentation.rest;
 import com.insurance.policy.application.dto.SubmitClaimInput;
 import com.insurance.policy.application.dto.SubmitClaimOutput;
 import com.insurance.policy.application.usecase.SubmitClaimUseCase;
+import com.insurance.policy.domain.entity.Claim;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.presentation.rest.batch.BatchLookup;
+import com.insurance.policy.presentation.rest.model.BatchLookupResponse;
 import com.insurance.policy.presentation.rest.model.ClaimResponse;
 import com.insurance.policy.presentation.rest.model.CreateClaimRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 /**
  * REST Controller for Claim operations.
@@ -48,14 +54,22 @@ public class ClaimController {
     private static final Logger log = LoggerFactory.getLogger(ClaimController.class);
 
     private final SubmitClaimUseCase submitClaimUseCase;
+    private final ClaimRepository claimRepository;
+    private final BatchLookup batchLookup;
 
     /**
      * Constructor injection for dependencies.
      *
      * @param submitClaimUseCase the use case for submitting claims
+     * @param claimRepository the claim repository used for reads
+     * @param batchLookup serves lookups by several IDs
      */
-    public ClaimController(SubmitClaimUseCase submitClaimUseCase) {
+    public ClaimController(SubmitClaimUseCase submitClaimUseCase,
+                           ClaimRepository claimRepository,
+                           BatchLookup batchLookup) {
         this.submitClaimUseCase = submitClaimUseCase;
+        this.claimRepository = claimRepository;
+        this.batchLookup = batchLookup;
     }
 
     /**
@@ -151,6 +165,37 @@ public class ClaimController {
             .body(response);
     }
 
+    /**
+     * Get several claims by ID in one call.
+     *
+     * All claims are loaded with a single IN-list query. Items follow the
+     * order of the requested IDs; unknown IDs are listed in missingIds.
+     *
+     * @param ids the claim IDs, up to app.batch-lookup.max-ids
+     * @return ResponseEntity with the found claims and the missing IDs
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+        summary = "Get claims by IDs",
+        description = "Retrieves several claims with one query. Results follow the order of the " +
+                      "requested IDs and unknown IDs are listed in missingIds."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "No IDs or more IDs than allowed were requested",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    public ResponseEntity<BatchLookupResponse<ClaimResponse>> getClaimsByIds(
+            @Parameter(description = "Comma-separated claim IDs", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids) {
+
+        return ResponseEntity.ok(
+            batchLookup.lookup(ids, claimRepository::findAllById, Claim::getId, ClaimResponse::fromDomain));
+    }
+
     /**
      * Health check endpoint for the Claims API.
      *
@@ -0,0 +1,96 @@
+package com.insurance.policy.presentation.rest;
+
+import com.insurance.policy.application.dto.SearchCustomersInput;
+import com.insurance.policy.application.usecase.GetCustomerOverviewUseCase;
+import com.insurance.policy.application.usecase.SearchCustomersUseCase;
+import com.insurance.policy.presentation.rest.model.CustomerOverviewResponse;
+import com.insurance.policy.presentation.rest.model.CustomerSearchResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for Customer operations.
+ *
+ * Handles HTTP requests and delegates to use cases.
+ * Part of the presentation layer in Clean Architecture.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@RestController
+@RequestMapping("/api/v1/customers")
+@Tag(name = "Customers", description = "APIs for reading customers and everything attached to them")
+public class CustomerController {
+
+    private final GetCustomerOverviewUseCase getCustomerOverviewUseCase;
+    private final SearchCustomersUseCase searchCustomersUseCase;
+
+    public CustomerController(GetCustomerOverviewUseCase getCustomerOverviewUseCase,
+                              SearchCustomersUseCase searchCustomersUseCase) {
+        this.getCustomerOverviewUseCase = getCustomerOverviewUseCase;
+        this.searchCustomersUseCase = searchCustomersUseCase;
+    }
+
+    /**
+     * Search customers by partial name, e-mail address or phone number.
+     *
+     * Answered from an in-memory index, so it does not query the database.
+     *
+     * @param q the query
+     * @param limit maximum number of matches
+     * @return ResponseEntity with the matches, best first
+     */
+    @GetMapping("/search")
+    @Operation(
+        summary = "Search customers",
+        description = "Finds customers whose name words, e-mail address or phone number start with the query, " +
+                      "then customers whose name is close to it. Results are ranked best first."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed"),
+        @ApiResponse(responseCode = "400", description = "Query too short or too long, or limit out of range")
+    })
+    public ResponseEntity<CustomerSearchResponse> searchCustomers(
+            @Parameter(description = "Part of a name, e-mail address or phone number", required = true, example = "jane smi")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of matches", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(CustomerSearchResponse.from(
+            searchCustomersUseCase.execute(new SearchCustomersInput(q, limit))));
+    }
+
+    /**
+     * Get a customer with their policies, claims and payments.
+     *
+     * Each level is loaded with one query, so the number of statements is the
+     * same for every customer.
+     *
+     * @param id the customer ID
+     * @return ResponseEntity with the customer overview
+     */
+    @GetMapping("/{id}/overview")
+    @Operation(
+        summary = "Get customer overview",
+        description = "Retrieves a customer with their policies, the claims on those policies " +
+                      "and the payments on those claims."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customer found"),
+        @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    public ResponseEntity<CustomerOverviewResponse> getCustomerOverview(
+            @Parameter(description = "Customer ID", required = true, example = "1")
+            @PathVariable Long id) {
+
+        return ResponseEntity.ok(CustomerOverviewResponse.from(getCustomerOverviewUseCase.execute(id)));
+    }
+}
@@ -2,28 +2,41 @@ package com.insurance.policy.presentation.rest;
 
 import com.insurance.policy.application.dto.ProcessPaymentInput;
 import com.insurance.policy.application.dto.ProcessPaymentOutput;
+import com.insurance.policy.application.exception.PaymentNotFoundException;
 import com.insurance.policy.application.usecase.ProcessPaymentUseCase;
 import com.insurance.policy.domain.entity.Payment;
 import com.insurance.policy.domain.port.PaymentRepository;
 import com.insurance.policy.domain.valueobject.PaymentStatus;
+import com.insurance.policy.presentation.rest.batch.BatchLookup;
+import com.insurance.policy.presentation.rest.cache.ETagIndex;
+import com.insurance.policy.presentation.rest.cache.PaymentETags;
+import com.insurance.policy.presentation.rest.fields.SparseFieldset;
+import com.insurance.policy.presentation.rest.model.BatchLookupResponse;
 import com.insurance.policy.presentation.rest.model.PaymentResponse;
 import com.insurance.policy.presentation.rest.model.ProcessPaymentRequest;
+import com.insurance.policy.presentation.rest.streaming.JsonArrayStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * REST controller for payment operations
+ * List endpoints stream their JSON array from the repository cursor.
+ * GET responses accept ?fields= to return only the named response fields.
  */
 @RestController
 @RequestMapping("/api/v1/payments")
@@ -32,12 +45,21 @@ public class PaymentController {
 
     private final ProcessPaymentUseCase processPaymentUseCase;
     private final PaymentRepository paymentRepository;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final PaymentETags paymentETags;
+    private final BatchLookup batchLookup;
 
     public PaymentController(
             ProcessPaymentUseCase processPaymentUseCase,
-            PaymentRepository paymentRepository) {
+            PaymentRepository paymentRepository,
+            JsonArrayStreamer jsonArrayStreamer,
+            PaymentETags paymentETags,
+            BatchLookup batchLookup) {
         this.processPaymentUseCase = processPaymentUseCase;
         this.paymentRepository = paymentRepository;
+        this.jsonArrayStreamer = jsonArrayStreamer;
+        this.paymentETags = paymentETags;
+        this.batchLookup = batchLookup;
     }
 
     /**
@@ -72,39 +94,88 @@ public class PaymentController {
 
         ProcessPaymentOutput output = processPaymentUseCase.execute(input);
 
-        // Fetch full payment details
-        Payment payment = paymentRepository.findById(output.paymentId())
-            .orElseThrow(() -> new RuntimeException("Payment not found after creation"));
-
-        PaymentResponse response = mapToResponse(payment);
+        // Answer from the saved payment: a read back could go to a lagging replica
+        PaymentResponse response = new PaymentResponse(
+            output.paymentId(),
+            output.claimId(),
+            output.amount(),
+            output.paymentMethod(),
+            output.paymentStatus(),
+            output.transactionId(),
+            output.paymentDate(),
+            output.processedBy(),
+            output.notes()
+        );
+        String tag = paymentETags.remember(response);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(tag).varyBy(HttpHeaders.ACCEPT).body(response);
     }
 
     /**
      * Get payment by ID
+     * Conditional on If-None-Match: a current tag gets 304 without a body, and
+     * without a database read when the ETag index already knows the tag.
      */
     @GetMapping("/{id}")
     @Operation(
         summary = "Get payment by ID",
-        description = "Retrieve payment details by payment ID",
+        description = "Retrieve payment details by payment ID. Supports If-None-Match.",
         responses = {
             @ApiResponse(
                 responseCode = "200",
                 description = "Payment found",
                 content = @Content(schema = @Schema(implementation = PaymentResponse.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Payment unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Payment not found")
         }
     )
     public ResponseEntity<PaymentResponse> getPaymentById(
             @Parameter(description = "Payment ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @RequestParam(value = SparseFieldset.PARAMETER, required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        SparseFieldset fieldset = SparseFieldset.parse(fields);
+        Optional<String> knownTag = paymentETags.knownTagForId(id)
+            .map(tag -> PaymentETags.forFieldset(tag, fieldset));
+        if (knownTag.isPresent() && ETagIndex.matches(ifNoneMatch, knownTag.get())) {
+            paymentETags.countNotModified("payment-by-id", true);
+            return notModified(knownTag.get());
+        }
 
         Payment payment = paymentRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Payment not found with ID: " + id));
+            .orElseThrow(() -> new PaymentNotFoundException(id));
+
+        PaymentResponse response = mapToResponse(payment);
+        String tag = PaymentETags.forFieldset(paymentETags.remember(response), fieldset);
+        if (ETagIndex.matches(ifNoneMatch, tag)) {
+            paymentETags.countNotModified("payment-by-id", false);
+            return notModified(tag);
+        }
+
+        return ResponseEntity.ok().eTag(tag).varyBy(HttpHeaders.ACCEPT).body(response);
+    }
+
+    /**
+     * Get several payments by ID in one call
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+        summary = "Get payments by IDs",
+        description = "Retrieve several payments with one query; results follow the order of the requested IDs "
+            + "and unknown IDs are listed in missingIds",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed"),
+            @ApiResponse(responseCode = "400", description = "No IDs or too many IDs requested")
+        }
+    )
+    public ResponseEntity<BatchLookupResponse<PaymentResponse>> getPaymentsByIds(
+            @Parameter(description = "Comma-separated payment IDs", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids) {
 
-        return ResponseEntity.ok(mapToResponse(payment));
+        return ResponseEntity.ok(
+            batchLookup.lookup(ids, paymentRepository::findAllById, Payment::getPaymentId, this::mapToResponse));
     }
 
     /**
@@ -118,20 +189,18 @@ public class PaymentController {
             @ApiResponse(
                 responseCode = "200",
                 description = "Payments retrieved successfully",
-                content = @Content(schema = @Schema(implementation = PaymentResponse.class))
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = PaymentResponse.class)))
             )
         }
     )
-    public ResponseEntity<List<PaymentResponse>> getPaymentsByClaimId(
+    public ResponseEntity<StreamingResponseBody> getPaymentsByClaimId(
             @Parameter(description = "Claim ID", required = true, example = "1")
-            @PathVariable Long claimId) {
+            @PathVariable Long claimId,
+            @Parameter(description = "Comma-separated response fields to include (optional)", example = "paymentId,amount,paymentStatus")
+            @RequestParam(value = SparseFieldset.PARAMETER, required = false) String fields,
+            @RequestHeader HttpHeaders headers) {
 
-        List<Payment> payments = paymentRepository.findByClaimId(claimId);
-        List<PaymentResponse> responses = payments.stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+        return streamPayments(headers, fields, action -> paymentRepository.forEachByClaimId(claimId, action));
     }
 
     /**
@@ -145,28 +214,35 @@ public class PaymentController {
             @ApiResponse(
                 responseCode = "200",
                 description = "Payments retrieved successfully",
-                content = @Content(schema = @Schema(implementation = PaymentResponse.class))
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = PaymentResponse.class)))
             )
         }
     )
-    public ResponseEntity<List<PaymentResponse>> getAllPayments(
+    public ResponseEntity<StreamingResponseBody> getAllPayments(
             @Parameter(description = "Payment status filter (optional)", example = "COMPLETED")
-            @RequestParam(required = false) String status) {
-
-        List<Payment> payments;
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Comma-separated response fields to include (optional)", example = "paymentId,amount,paymentStatus")
+            @RequestParam(value = SparseFieldset.PARAMETER, required = false) String fields,
+            @RequestHeader HttpHeaders headers) {
 
         if (status != null && !status.isBlank()) {
+            // Resolve the status before streaming starts so a bad value still gets an error response
             PaymentStatus paymentStatus = PaymentStatus.valueOf(status.toUpperCase());
-            payments = paymentRepository.findByPaymentStatus(paymentStatus);
-        } else {
-            payments = paymentRepository.findAll();
+            return streamPayments(headers, fields,
+                action -> paymentRepository.forEachByPaymentStatus(paymentStatus, action));
         }
 
-        List<PaymentResponse> responses = payments.stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return streamPayments(headers, fields, paymentRepository::forEach);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamPayments(
+            HttpHeaders headers, String fields, Consumer<Consumer<Payment>> source) {
+        return jsonArrayStreamer.stream(headers.getAccept(), source,
+            SparseFieldset.parse(fields).projecting(PaymentResponse.class, this::mapToResponse));
+    }
 
-        return ResponseEntity.ok(responses);
+    private static ResponseEntity<PaymentResponse> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).varyBy(HttpHeaders.ACCEPT).build();
     }
 
     /**
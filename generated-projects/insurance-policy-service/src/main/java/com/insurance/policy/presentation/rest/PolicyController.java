@@ -3,9 +3,16 @@ package com.insurance.policy.presentation.rest;
 import com.insurance.policy.application.dto.CreatePolicyInput;
 import com.insurance.policy.application.dto.CreatePolicyOutput;
 import com.insurance.policy.application.usecase.CreatePolicyUseCase;
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.port.PolicyRepository;
+import com.insurance.policy.presentation.rest.batch.BatchLookup;
+import com.insurance.policy.presentation.rest.fields.SparseFieldset;
+import com.insurance.policy.presentation.rest.model.BatchLookupResponse;
 import com.insurance.policy.presentation.rest.model.CreatePolicyRequest;
 import com.insurance.policy.presentation.rest.model.PolicyResponse;
+import com.insurance.policy.presentation.rest.model.PolicySummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +23,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST Controller for Policy operations.
  *
@@ -32,9 +41,15 @@ public class PolicyController {
     private static final Logger log = LoggerFactory.getLogger(PolicyController.class);
 
     private final CreatePolicyUseCase createPolicyUseCase;
+    private final PolicyRepository policyRepository;
+    private final BatchLookup batchLookup;
 
-    public PolicyController(CreatePolicyUseCase createPolicyUseCase) {
+    public PolicyController(CreatePolicyUseCase createPolicyUseCase,
+                            PolicyRepository policyRepository,
+                            BatchLookup batchLookup) {
         this.createPolicyUseCase = createPolicyUseCase;
+        this.policyRepository = policyRepository;
+        this.batchLookup = batchLookup;
     }
 
     @PostMapping
@@ -65,6 +80,30 @@ public class PolicyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get policies by IDs",
+            description = "Retrieves several policies with one query; results follow the order of the requested IDs "
+                    + "and unknown IDs are listed in missingIds. When ?fields= leaves out coverages, the query "
+                    + "reads only the summary columns")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed"),
+            @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or an unknown field requested")
+    })
+    public ResponseEntity<BatchLookupResponse<PolicySummaryResponse>> getPoliciesByIds(
+            @Parameter(description = "Comma-separated policy IDs", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids,
+            @Parameter(description = "Comma-separated response fields to include (optional)", example = "policyId,status")
+            @RequestParam(value = SparseFieldset.PARAMETER, required = false) String fields) {
+        if (SparseFieldset.parse(fields).includes(PolicySummaryResponse.COVERAGES)) {
+            return ResponseEntity.ok(
+                    batchLookup.lookup(ids, policyRepository::findAllById, Policy::getId,
+                            PolicySummaryResponse::fromDomain));
+        }
+        return ResponseEntity.ok(
+                batchLookup.lookup(ids, policyRepository::findSummariesById, PolicyRepository.Summary::id,
+                        PolicySummaryResponse::fromSummary));
+    }
+
     @GetMapping("/health")
     @Operation(summary = "Health check", description = "Simple health check endpoint")
     public ResponseEntity<String> health() {
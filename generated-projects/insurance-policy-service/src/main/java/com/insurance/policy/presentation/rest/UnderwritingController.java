@@ -0,0 +1,60 @@
+package com.insurance.policy.presentation.rest;
+
+import com.insurance.policy.application.usecase.AssessRiskUseCase;
+import com.insurance.policy.presentation.rest.model.RiskAssessmentRequest;
+import com.insurance.policy.presentation.rest.model.RiskAssessmentResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for Underwriting operations.
+ *
+ * Handles HTTP requests and delegates to use cases.
+ * Part of the presentation layer in Clean Architecture.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@RestController
+@RequestMapping("/api/v1/underwriting")
+@Tag(name = "Underwriting", description = "APIs for assessing the risk of insurance applications")
+public class UnderwritingController {
+
+    private final AssessRiskUseCase assessRiskUseCase;
+
+    public UnderwritingController(AssessRiskUseCase assessRiskUseCase) {
+        this.assessRiskUseCase = assessRiskUseCase;
+    }
+
+    /**
+     * Assess the underwriting risk of one or more applications.
+     *
+     * Nothing is stored; the same request always yields the same assessments.
+     *
+     * @param request the applications to assess
+     * @return ResponseEntity with one assessment per application, in request order
+     */
+    @PostMapping("/risk-assessments")
+    @Operation(
+        summary = "Assess application risk",
+        description = "Scores each application from 0 to 100 on the applicant's age, occupation and health " +
+                      "and the coverage amount and term, and recommends auto-approval (25 or less), " +
+                      "manual review (26 to 75) or auto-rejection (above 75). Large batches are scored in parallel."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Applications assessed"),
+        @ApiResponse(responseCode = "400", description = "An application is invalid, or the batch is empty or too large")
+    })
+    public ResponseEntity<RiskAssessmentResponse> assessRisk(
+            @Valid @RequestBody RiskAssessmentRequest request) {
+
+        return ResponseEntity.ok(RiskAssessmentResponse.from(assessRiskUseCase.execute(request.toInput())));
+    }
+}
@@ -0,0 +1,70 @@
+package com.insurance.policy.presentation.rest.batch;
+
+import com.insurance.policy.presentation.rest.model.BatchLookupResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Serves multi-get endpoints: one finder call (a single IN-list query) per
+ * request, results in request order, and unknown IDs listed explicitly.
+ * Repeated IDs are looked up and returned once.
+ */
+@Component
+@EnableConfigurationProperties(BatchLookupProperties.class)
+public class BatchLookup {
+
+    private final int maxIds;
+
+    public BatchLookup(BatchLookupProperties properties) {
+        this.maxIds = properties.maxIds();
+    }
+
+    /**
+     * Look up the given IDs and map the hits to their response representation
+     *
+     * @param ids        the requested IDs, in the order the client wants them back
+     * @param finder     loads the entities for a set of IDs in one query
+     * @param idOf       extracts the ID of a loaded entity
+     * @param toResponse maps a loaded entity to its response representation
+     * @throws IllegalArgumentException if no IDs, a null ID or more than app.batch-lookup.max-ids IDs are given
+     */
+    public <T, R> BatchLookupResponse<R> lookup(List<Long> ids,
+                                                Function<Collection<Long>, ? extends Collection<T>> finder,
+                                                Function<? super T, Long> idOf,
+                                                Function<? super T, R> toResponse) {
+        Set<Long> requested = new LinkedHashSet<>(ids == null ? List.of() : ids);
+        if (requested.isEmpty() || requested.size() > maxIds) {
+            throw new IllegalArgumentException("Between 1 and " + maxIds + " ids must be requested");
+        }
+        if (requested.contains(null)) {
+            throw new IllegalArgumentException("ids must not contain empty values");
+        }
+
+        Collection<T> found = finder.apply(requested);
+        Map<Long, T> byId = new HashMap<>(found.size() * 2);
+        for (T entity : found) {
+            byId.put(idOf.apply(entity), entity);
+        }
+
+        List<R> items = new ArrayList<>(byId.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            T entity = byId.get(id);
+            if (entity == null) {
+                missingIds.add(id);
+            } else {
+                items.add(toResponse.apply(entity));
+            }
+        }
+        return new BatchLookupResponse<>(items, missingIds);
+    }
+}
@@ -0,0 +1,18 @@
+package com.insurance.policy.presentation.rest.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for multi-get endpoints (?ids=1,2,3).
+ *
+ * @param maxIds upper bound on distinct IDs in one lookup, which bounds the IN list
+ */
+@ConfigurationProperties(prefix = "app.batch-lookup")
+public record BatchLookupProperties(int maxIds) {
+
+    public BatchLookupProperties {
+        if (maxIds <= 0) {
+            maxIds = 100;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.insurance.policy.presentation.rest.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the current ETag of recently served resources so a conditional
+ * GET whose If-None-Match still matches can be answered with 304 without
+ * loading the entity. Entries expire after a time-to-live, or earlier when the
+ * caller knows the representation changes at a given moment. Once the index
+ * is full, new keys are only admitted after expired entries are purged.
+ */
+public class ETagIndex<K> {
+
+    private final ConcurrentHashMap<K, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    public ETagIndex(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    ETagIndex(Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Get the tag remembered for a key, if it has not expired
+     *
+     * @param key The resource key
+     * @return Optional containing the current tag
+     */
+    public Optional<String> currentTag(K key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtNanos - nanoClock.getAsLong() <= 0) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.tag);
+    }
+
+    /**
+     * Remember the tag for a key for the configured time-to-live
+     *
+     * @param key The resource key
+     * @param tag The current ETag
+     */
+    public void remember(K key, String tag) {
+        remember(key, tag, null);
+    }
+
+    /**
+     * Remember the tag for a key until the time-to-live or maxAge elapses,
+     * whichever comes first
+     *
+     * @param key    The resource key
+     * @param tag    The current ETag
+     * @param maxAge How long the tag stays valid, or null if only the TTL applies
+     */
+    public void remember(K key, String tag, Duration maxAge) {
+        long lifetime = maxAge == null ? ttlNanos : Math.min(ttlNanos, maxAge.toNanos());
+        if (lifetime <= 0) {
+            entries.remove(key);
+            return;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            purgeExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key, new Entry(tag, nanoClock.getAsLong() + lifetime));
+    }
+
+    /**
+     * Forget the tag for a key
+     *
+     * @param key The resource key
+     */
+    public void forget(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Check an If-None-Match header against a tag using the weak comparison
+     * that RFC 9110 prescribes for If-None-Match
+     *
+     * @param ifNoneMatch The header value, may be null
+     * @param etag        The current quoted ETag
+     * @return true if the client's copy is current
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAtNanos - now <= 0);
+    }
+
+    private record Entry(String tag, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.insurance.policy.presentation.rest.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory ETag index used by conditional GETs.
+ *
+ * @param indexTtl   how long a remembered tag is trusted without re-reading the entity
+ * @param maxEntries upper bound on remembered tags
+ */
+@ConfigurationProperties(prefix = "app.etag")
+public record ETagProperties(Duration indexTtl, int maxEntries) {
+
+    public ETagProperties {
+        if (indexTtl == null) {
+            indexTtl = Duration.ofSeconds(30);
+        }
+        if (maxEntries <= 0) {
+            maxEntries = 100_000;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.insurance.policy.presentation.rest.cache;
+
+import com.insurance.policy.presentation.rest.fields.SparseFieldset;
+import com.insurance.policy.presentation.rest.model.PaymentResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Weak ETags for payments and an index of the tags recently served.
+ *
+ * Payments carry no version column, so the tag is a digest of every field in
+ * the payment representation: it changes exactly when the response would.
+ * JSON, CBOR and Smile encodings of a payment are semantically equivalent, so
+ * the tag is weak and responses carry Vary: Accept; a ?fields= projection gets
+ * its own tag from forFieldset.
+ * Payments are only created through this service, so an indexed tag can only
+ * go out of date through changes made elsewhere, which app.etag.index-ttl bounds.
+ *
+ * Metrics: http.etag.not-modified{endpoint, source=index|lookup}.
+ */
+@Component
+@EnableConfigurationProperties(ETagProperties.class)
+public class PaymentETags {
+
+    private final ETagIndex<Long> byId;
+    private final MeterRegistry meterRegistry;
+
+    public PaymentETags(ETagProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.byId = new ETagIndex<>(properties.indexTtl(), properties.maxEntries());
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Compute the ETag of a full payment representation
+     */
+    public String tagOf(PaymentResponse payment) {
+        String content = String.join("|",
+            String.valueOf(payment.paymentId()),
+            String.valueOf(payment.claimId()),
+            payment.amount() == null ? "" : payment.amount().toPlainString(),
+            payment.paymentMethod(),
+            payment.paymentStatus(),
+            payment.transactionId(),
+            String.valueOf(payment.paymentDate()),
+            String.valueOf(payment.processedBy()),
+            String.valueOf(payment.notes()));
+        String digest = DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + payment.paymentId() + "-" + digest.substring(0, 16) + "\"";
+    }
+
+    /**
+     * Derive the ETag of a ?fields= projection from the full representation's tag
+     */
+    public static String forFieldset(String tag, SparseFieldset fieldset) {
+        if (fieldset.isAll()) {
+            return tag;
+        }
+        String selection = String.join(",", new TreeSet<>(fieldset.names()));
+        String digest = DigestUtils.md5DigestAsHex(selection.getBytes(StandardCharsets.UTF_8));
+        return tag.substring(0, tag.length() - 1) + "-f" + digest.substring(0, 8) + "\"";
+    }
+
+    public Optional<String> knownTagForId(Long paymentId) {
+        return byId.currentTag(paymentId);
+    }
+
+    /**
+     * Remember the tag of a served payment and return it
+     */
+    public String remember(PaymentResponse payment) {
+        String tag = tagOf(payment);
+        byId.remember(payment.paymentId(), tag);
+        return tag;
+    }
+
+    public void countNotModified(String endpoint, boolean fromIndex) {
+        meterRegistry.counter("http.etag.not-modified",
+                "endpoint", endpoint,
+                "source", fromIndex ? "index" : "lookup")
+            .increment();
+    }
+}
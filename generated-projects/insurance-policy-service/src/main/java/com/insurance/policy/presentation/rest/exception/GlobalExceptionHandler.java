@@ -1,13 +1,26 @@
 package com.insurance.policy.presentation.rest.exception;
 
+import com.insurance.policy.application.exception.BusinessException;
 import com.insurance.policy.application.exception.ClaimNotApprovedException;
+import com.insurance.policy.application.exception.CustomerNotFoundException;
 import com.insurance.policy.application.exception.DuplicateTransactionIdException;
 import com.insurance.policy.application.exception.InvalidClaimAmountException;
+import com.insurance.policy.application.exception.InvalidInputException;
 import com.insurance.policy.application.exception.InvalidPaymentException;
 import com.insurance.policy.application.exception.PaymentNotFoundException;
+import com.insurance.policy.application.exception.PolicyNotActiveException;
 import com.insurance.policy.application.exception.PolicyNotFoundException;
+import com.insurance.policy.domain.exception.DomainStateException;
+import com.insurance.policy.domain.exception.DomainValidationException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -15,9 +28,11 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Global exception handler for REST controllers.
@@ -25,6 +40,13 @@ import java.util.Map;
  * Centralizes exception handling for all REST controllers.
  * Maps domain/application exceptions to appropriate HTTP responses.
  *
+ * Expected business rejections extend {@link BusinessException} and share one
+ * handler: each type maps to a pre-built template holding its status and its
+ * http.business.rejections{exception, status} counter. The domain layer cannot
+ * see {@link BusinessException}, so its stackless {@link DomainValidationException}
+ * and {@link DomainStateException} are routed through the same templates.
+ * Only the catch-all handler logs a stack trace.
+ *
  * @author Generated by BMAD Spring Boot Clean Architecture Generator
  */
 @RestControllerAdvice
@@ -32,6 +54,31 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final Map<Class<? extends RuntimeException>, HttpStatus> BUSINESS_STATUSES = Map.ofEntries(
+            Map.entry(PolicyNotFoundException.class, HttpStatus.NOT_FOUND),
+            Map.entry(PaymentNotFoundException.class, HttpStatus.NOT_FOUND),
+            Map.entry(CustomerNotFoundException.class, HttpStatus.NOT_FOUND),
+            Map.entry(InvalidClaimAmountException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(InvalidPaymentException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(InvalidInputException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(DomainValidationException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(ClaimNotApprovedException.class, HttpStatus.CONFLICT),
+            Map.entry(DuplicateTransactionIdException.class, HttpStatus.CONFLICT),
+            Map.entry(PolicyNotActiveException.class, HttpStatus.CONFLICT),
+            Map.entry(DomainStateException.class, HttpStatus.CONFLICT)
+    );
+
+    private final String retryAfterSeconds;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, ErrorTemplate> templates = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(@Value("${app.concurrency-limit.retry-after:1s}") Duration retryAfter,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        BUSINESS_STATUSES.keySet().forEach(type -> templates.put(type, resolveTemplate(type)));
+    }
+
     /**
      * Handles validation errors from @Valid annotation.
      * Returns 400 Bad Request with detailed field errors.
@@ -58,111 +105,43 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles PolicyNotFoundException from the application layer.
-     * Returns 404 Not Found when a policy cannot be found.
+     * Handles every expected business rejection from the application layer.
+     * The status comes from a template resolved once per exception type, and
+     * the exception is stackless, so rejections stay cheap under abusive
+     * traffic (unknown ids, replayed transaction ids, inactive policies).
      */
-    @ExceptionHandler(PolicyNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handlePolicyNotFoundException(PolicyNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.NOT_FOUND.value(),
-                ex.getMessage(),
-                null,
-                LocalDateTime.now()
-        );
-
-        log.warn("Policy not found: {}", ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-    }
-
-    /**
-     * Handles InvalidClaimAmountException from the application layer.
-     * Returns 400 Bad Request when a claim amount violates business rules.
-     */
-    @ExceptionHandler(InvalidClaimAmountException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidClaimAmountException(InvalidClaimAmountException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                ex.getMessage(),
-                null,
-                LocalDateTime.now()
-        );
+    @ExceptionHandler({BusinessException.class, DomainValidationException.class, DomainStateException.class})
+    public ResponseEntity<ErrorResponse> handleBusinessException(RuntimeException ex) {
+        ErrorTemplate template = templates.computeIfAbsent(ex.getClass(), this::resolveTemplate);
+        template.rejections().increment();
 
-        log.warn("Invalid claim amount: {}", ex.getMessage());
+        if (log.isDebugEnabled()) {
+            log.debug("Business rejection {}: {}", template.exception(), ex.getMessage());
+        }
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return ResponseEntity.status(template.status())
+                .body(new ErrorResponse(template.status().value(), ex.getMessage(), null, LocalDateTime.now()));
     }
 
     /**
-     * Handles PaymentNotFoundException from the application layer.
-     * Returns 404 Not Found when a payment cannot be found.
+     * Handles BulkheadFullException raised when a write endpoint's adaptive
+     * concurrency limit is reached.
+     * Returns 503 Service Unavailable with a Retry-After header.
      */
-    @ExceptionHandler(PaymentNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handlePaymentNotFoundException(PaymentNotFoundException ex) {
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFullException(BulkheadFullException ex) {
         ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.NOT_FOUND.value(),
-                ex.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service is at capacity, please retry later",
                 null,
                 LocalDateTime.now()
         );
 
-        log.warn("Payment not found: {}", ex.getMessage());
+        log.debug("Request shed: {}", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-    }
-
-    /**
-     * Handles InvalidPaymentException from the application layer.
-     * Returns 400 Bad Request when a payment violates business rules.
-     */
-    @ExceptionHandler(InvalidPaymentException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidPaymentException(InvalidPaymentException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                ex.getMessage(),
-                null,
-                LocalDateTime.now()
-        );
-
-        log.warn("Invalid payment: {}", ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
-    }
-
-    /**
-     * Handles ClaimNotApprovedException from the application layer.
-     * Returns 409 Conflict when attempting to process payment for non-approved claim.
-     */
-    @ExceptionHandler(ClaimNotApprovedException.class)
-    public ResponseEntity<ErrorResponse> handleClaimNotApprovedException(ClaimNotApprovedException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.CONFLICT.value(),
-                ex.getMessage(),
-                null,
-                LocalDateTime.now()
-        );
-
-        log.warn("Claim not approved: {}", ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
-    }
-
-    /**
-     * Handles DuplicateTransactionIdException from the application layer.
-     * Returns 409 Conflict when a duplicate transaction ID is detected.
-     */
-    @ExceptionHandler(DuplicateTransactionIdException.class)
-    public ResponseEntity<ErrorResponse> handleDuplicateTransactionIdException(DuplicateTransactionIdException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.CONFLICT.value(),
-                ex.getMessage(),
-                null,
-                LocalDateTime.now()
-        );
-
-        log.warn("Duplicate transaction ID: {}", ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .body(errorResponse);
     }
 
 
@@ -220,6 +199,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    /**
+     * Resolves the template for a business or domain rejection type, walking up the
+     * hierarchy so subclasses inherit the status of their mapped parent.
+     * Unmapped types are treated as 400 Bad Request.
+     */
+    private ErrorTemplate resolveTemplate(Class<?> type) {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        for (Class<?> current = type; current != null && current != RuntimeException.class;
+             current = current.getSuperclass()) {
+            HttpStatus mapped = BUSINESS_STATUSES.get(current);
+            if (mapped != null) {
+                status = mapped;
+                break;
+            }
+        }
+        String exception = type.getSimpleName();
+        Counter rejections = Counter.builder("http.business.rejections")
+                .description("Expected business rejections by exception type")
+                .tag("exception", exception)
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry);
+        return new ErrorTemplate(exception, status, rejections);
+    }
+
+    private record ErrorTemplate(String exception, HttpStatus status, Counter rejections) {
+    }
+
     /**
      * Standard error response structure for all API errors.
      *
@@ -0,0 +1,162 @@
+package com.insurance.policy.presentation.rest.fields;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The fields a client selected with ?fields=a,b,c.
+ *
+ * Response models are records, so a projection reads only the selected
+ * components and hands the serializer a map of them; unselected components,
+ * including nested objects, are never serialized. Selected fields are written
+ * in declaration order. Naming a field the response does not have is a
+ * client error.
+ */
+public final class SparseFieldset {
+
+    public static final String PARAMETER = "fields";
+
+    private static final SparseFieldset ALL = new SparseFieldset(Set.of());
+
+    private static final ClassValue<Map<String, Method>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+            Map<String, Method> accessors = new LinkedHashMap<>();
+            for (RecordComponent component : type.getRecordComponents()) {
+                accessors.put(component.getName(), component.getAccessor());
+            }
+            return Collections.unmodifiableMap(accessors);
+        }
+    };
+
+    private final Set<String> names;
+
+    private SparseFieldset(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Parse the raw parameter value; null or blank selects every field
+     */
+    public static SparseFieldset parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : raw.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                names.add(trimmed);
+            }
+        }
+        return names.isEmpty() ? ALL : new SparseFieldset(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names.isEmpty();
+    }
+
+    public Set<String> names() {
+        return names;
+    }
+
+    /**
+     * Whether the named field is part of the selection
+     */
+    public boolean includes(String name) {
+        return names.isEmpty() || names.contains(name);
+    }
+
+    /**
+     * Compose a response mapping with this projection. The field names are
+     * checked against the response type straight away, so streaming endpoints
+     * can reject a bad selection before the status is committed.
+     */
+    public <T, R extends Record> Function<T, Object> projecting(Class<R> responseType,
+                                                                Function<? super T, R> toResponse) {
+        if (isAll()) {
+            return toResponse::apply;
+        }
+        Map<String, Method> selected = select(responseType);
+        return element -> project(toResponse.apply(element), selected);
+    }
+
+    /**
+     * Project a response body: a record, a collection or map of records, or
+     * the items of a {@link Container}.
+     * Anything else is returned unchanged.
+     */
+    public Object project(Object body) {
+        if (isAll() || body == null) {
+            return body;
+        }
+        if (body instanceof Container container) {
+            return container.projectItems(this);
+        }
+        if (body instanceof Record record) {
+            return project(record, select(record.getClass()));
+        }
+        if (body instanceof Collection<?> collection) {
+            List<Object> projected = new ArrayList<>(collection.size());
+            collection.forEach(element -> projected.add(project(element)));
+            return projected;
+        }
+        if (body instanceof Map<?, ?> map) {
+            Map<Object, Object> projected = new LinkedHashMap<>(map.size() * 2);
+            map.forEach((key, value) -> projected.put(key, project(value)));
+            return projected;
+        }
+        return body;
+    }
+
+    /**
+     * A response wrapper whose items, rather than the wrapper itself, are
+     * subject to the selection
+     */
+    public interface Container {
+
+        Object projectItems(SparseFieldset fieldset);
+    }
+
+    private Map<String, Method> select(Class<?> responseType) {
+        Map<String, Method> accessors = ACCESSORS.get(responseType);
+        for (String name : names) {
+            if (!accessors.containsKey(name)) {
+                throw new IllegalArgumentException(
+                    "Unknown field '" + name + "'; available fields: " + String.join(",", accessors.keySet()));
+            }
+        }
+        Map<String, Method> selected = new LinkedHashMap<>();
+        accessors.forEach((name, accessor) -> {
+            if (names.contains(name)) {
+                selected.put(name, accessor);
+            }
+        });
+        return selected;
+    }
+
+    private static Map<String, Object> project(Record record, Map<String, Method> selected) {
+        if (record == null) {
+            return null;
+        }
+        Map<String, Object> projected = new LinkedHashMap<>(selected.size() * 2);
+        for (Map.Entry<String, Method> field : selected.entrySet()) {
+            try {
+                projected.put(field.getKey(), field.getValue().invoke(record));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Cannot read field " + field.getKey(), e);
+            }
+        }
+        return projected;
+    }
+}
@@ -0,0 +1,51 @@
+package com.insurance.policy.presentation.rest.fields;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Applies ?fields= to every successful GET response body written by a message
+ * converter. Streaming endpoints bypass body advice and apply the projection
+ * through {@link SparseFieldset#projecting}. Error bodies are never trimmed.
+ *
+ * The projection runs on the finished body, so it saves bytes on the wire but
+ * not database work: the endpoint has already loaded whatever its response
+ * model needs. Endpoints that should read less must choose their query from
+ * the fieldset, as GET /api/v1/policies?ids= does by skipping coverages
+ * unless they are selected.
+ */
+@RestControllerAdvice
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || request.getMethod() != HttpMethod.GET
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        String fields = httpRequest.getParameter(SparseFieldset.PARAMETER);
+        if (fields == null || !HttpStatusCode.valueOf(servletResponse.getServletResponse().getStatus()).is2xxSuccessful()) {
+            return body;
+        }
+        return SparseFieldset.parse(fields).project(body);
+    }
+}
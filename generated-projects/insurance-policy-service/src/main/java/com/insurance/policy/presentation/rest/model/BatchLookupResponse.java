@@ -0,0 +1,33 @@
+package com.insurance.policy.presentation.rest.model;
+
+import com.insurance.policy.presentation.rest.fields.SparseFieldset;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * REST API response model for multi-get endpoints.
+ *
+ * Items appear in the order their IDs were requested; requested IDs that do
+ * not exist are listed in missingIds rather than failing the whole call.
+ * A ?fields= selection applies to the items.
+ *
+ * @param <T> the item response type
+ */
+@Schema(description = "Result of a lookup by several IDs")
+public record BatchLookupResponse<T>(
+
+    @Schema(description = "Found items, in request order")
+    List<T> items,
+
+    @Schema(description = "Requested IDs that were not found, in request order", example = "[42]")
+    List<Long> missingIds
+
+) implements SparseFieldset.Container {
+
+    @Override
+    public Object projectItems(SparseFieldset fieldset) {
+        List<?> projected = (List<?>) fieldset.project(items);
+        return new BatchLookupResponse<>(projected, missingIds);
+    }
+}
@@ -1,6 +1,7 @@
 package com.insurance.policy.presentation.rest.model;
 
 import com.insurance.policy.application.dto.SubmitClaimOutput;
+import com.insurance.policy.domain.entity.Claim;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -76,4 +77,37 @@ public record ClaimResponse(
             claimedAmount
         );
     }
+
+    /**
+     * Factory method to create a ClaimResponse from a loaded claim.
+     *
+     * @param claim the domain entity
+     * @return a ClaimResponse ready for HTTP serialization
+     */
+    public static ClaimResponse fromDomain(Claim claim) {
+        return new ClaimResponse(
+            claim.getId(),
+            claim.getClaimNumber().value(),
+            claim.getStatus().name(),
+            claim.getSubmittedDate().atStartOfDay(),
+            numericPolicyId(claim.getPolicyId()),
+            claim.getClaimedAmount().amount()
+        );
+    }
+
+    /**
+     * Claims store the policy ID as text; claims submitted through the API
+     * always hold a numeric ID, anything else is reported as null.
+     */
+    private static Long numericPolicyId(String policyId) {
+        if (policyId == null || policyId.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < policyId.length(); i++) {
+            if (!Character.isDigit(policyId.charAt(i))) {
+                return null;
+            }
+        }
+        return Long.valueOf(policyId);
+    }
 }
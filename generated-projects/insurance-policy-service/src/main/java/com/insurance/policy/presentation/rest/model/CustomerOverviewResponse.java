@@ -0,0 +1,103 @@
+package com.insurance.policy.presentation.rest.model;
+
+import com.insurance.policy.application.dto.CustomerOverviewOutput;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST API response model for a customer with their policies, claims and payments.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Schema(description = "Customer with policies, each policy's claims and each claim's payments")
+public record CustomerOverviewResponse(
+    Long customerId,
+    String firstName,
+    String lastName,
+    String email,
+    String status,
+    List<PolicyItem> policies
+) {
+    public static CustomerOverviewResponse from(CustomerOverviewOutput output) {
+        return new CustomerOverviewResponse(
+                output.customerId(),
+                output.firstName(),
+                output.lastName(),
+                output.email(),
+                output.status(),
+                output.policies().stream().map(PolicyItem::from).toList()
+        );
+    }
+
+    @Schema(description = "Policy of the customer")
+    public record PolicyItem(
+        Long policyId,
+        String policyNumber,
+        String status,
+        LocalDate effectiveDate,
+        LocalDate expirationDate,
+        BigDecimal totalPremiumAmount,
+        String totalPremiumCurrency,
+        List<ClaimItem> claims
+    ) {
+        static PolicyItem from(CustomerOverviewOutput.PolicyOverview policy) {
+            return new PolicyItem(
+                    policy.policyId(),
+                    policy.policyNumber(),
+                    policy.status(),
+                    policy.effectiveDate(),
+                    policy.expirationDate(),
+                    policy.totalPremium(),
+                    policy.currency(),
+                    policy.claims().stream().map(ClaimItem::from).toList()
+            );
+        }
+    }
+
+    @Schema(description = "Claim on one of the customer's policies")
+    public record ClaimItem(
+        Long claimId,
+        String claimNumber,
+        String status,
+        LocalDate incidentDate,
+        BigDecimal claimedAmount,
+        String claimedCurrency,
+        List<PaymentItem> payments
+    ) {
+        static ClaimItem from(CustomerOverviewOutput.ClaimOverview claim) {
+            return new ClaimItem(
+                    claim.claimId(),
+                    claim.claimNumber(),
+                    claim.status(),
+                    claim.incidentDate(),
+                    claim.claimedAmount(),
+                    claim.currency(),
+                    claim.payments().stream().map(PaymentItem::from).toList()
+            );
+        }
+    }
+
+    @Schema(description = "Payment made on one of the claims")
+    public record PaymentItem(
+        Long paymentId,
+        String paymentStatus,
+        String paymentMethod,
+        LocalDate paymentDate,
+        BigDecimal amount,
+        String transactionId
+    ) {
+        static PaymentItem from(CustomerOverviewOutput.PaymentOverview payment) {
+            return new PaymentItem(
+                    payment.paymentId(),
+                    payment.status(),
+                    payment.paymentMethod(),
+                    payment.paymentDate(),
+                    payment.amount(),
+                    payment.transactionId()
+            );
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.insurance.policy.presentation.rest.model;
+
+import com.insurance.policy.application.dto.SearchCustomersOutput;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * REST API response model for a customer search.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Schema(description = "Customers matching a search query, best match first")
+public record CustomerSearchResponse(
+    String query,
+    List<MatchItem> matches
+) {
+    public static CustomerSearchResponse from(SearchCustomersOutput output) {
+        return new CustomerSearchResponse(
+                output.query(),
+                output.matches().stream().map(MatchItem::from).toList()
+        );
+    }
+
+    @Schema(description = "Customer matching the query")
+    public record MatchItem(
+        Long customerId,
+        String firstName,
+        String lastName,
+        String email,
+        String phone,
+        @Schema(description = "Relevance; 3 for an exact match, 2 to 3 for a prefix, below 1 for a fuzzy match")
+        double score
+    ) {
+        static MatchItem from(SearchCustomersOutput.CustomerMatch match) {
+            return new MatchItem(
+                    match.customerId(),
+                    match.firstName(),
+                    match.lastName(),
+                    match.email(),
+                    match.phone(),
+                    match.score()
+            );
+        }
+    }
+}
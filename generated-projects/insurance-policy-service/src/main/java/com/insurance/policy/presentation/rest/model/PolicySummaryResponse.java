@@ -0,0 +1,74 @@
+package com.insurance.policy.presentation.rest.model;
+
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.port.PolicyRepository;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST API response model for reading an existing policy.
+ *
+ * Built from a full {@link Policy} when coverages are wanted, otherwise from a
+ * {@link PolicyRepository.Summary}, which leaves coverages null.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Schema(description = "Stored insurance policy")
+public record PolicySummaryResponse(
+    Long policyId,
+    String policyNumber,
+    String customerId,
+    LocalDate effectiveDate,
+    LocalDate expirationDate,
+    BigDecimal totalPremiumAmount,
+    String totalPremiumCurrency,
+    String status,
+    List<CoverageItem> coverages
+) {
+    /**
+     * Name of the field that needs the stored coverages
+     */
+    public static final String COVERAGES = "coverages";
+
+    public static PolicySummaryResponse fromDomain(Policy policy) {
+        return new PolicySummaryResponse(
+                policy.getId(),
+                policy.getPolicyNumber().value(),
+                policy.getCustomerId(),
+                policy.getEffectiveDate(),
+                policy.getExpirationDate(),
+                policy.getTotalPremium().amount(),
+                policy.getTotalPremium().currency(),
+                policy.getStatus().name(),
+                policy.getCoverages().stream()
+                        .map(coverage -> new CoverageItem(coverage.coverageType(),
+                                coverage.premiumAmount().amount(), coverage.premiumAmount().currency()))
+                        .toList()
+        );
+    }
+
+    public static PolicySummaryResponse fromSummary(PolicyRepository.Summary summary) {
+        return new PolicySummaryResponse(
+                summary.id(),
+                summary.policyNumber(),
+                summary.customerId(),
+                summary.effectiveDate(),
+                summary.expirationDate(),
+                summary.totalPremiumAmount(),
+                summary.totalPremiumCurrency(),
+                summary.status().name(),
+                null
+        );
+    }
+
+    @Schema(description = "Coverage of the policy")
+    public record CoverageItem(
+        String coverageType,
+        BigDecimal premiumAmount,
+        String currency
+    ) {
+    }
+}
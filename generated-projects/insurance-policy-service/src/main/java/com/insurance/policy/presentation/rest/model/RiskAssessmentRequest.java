@@ -0,0 +1,77 @@
+package com.insurance.policy.presentation.rest.model;
+
+import com.insurance.policy.application.dto.AssessRiskInput;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * REST API request model for assessing the underwriting risk of one or more
+ * applications.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Schema(description = "Request to assess the underwriting risk of insurance applications")
+public record RiskAssessmentRequest(
+
+    @NotEmpty(message = "At least one application is required")
+    @Size(max = AssessRiskInput.MAX_APPLICATIONS, message = "Cannot assess more than 10000 applications at once")
+    @Schema(description = "Applications to assess; assessments are returned in the same order", required = true)
+    List<@Valid ApplicationItem> applications
+) {
+
+    public AssessRiskInput toInput() {
+        return new AssessRiskInput(applications.stream().map(ApplicationItem::toInput).toList());
+    }
+
+    @Schema(description = "An applicant and the coverage they apply for")
+    public record ApplicationItem(
+
+        @NotBlank(message = "Applicant name is required")
+        @Schema(description = "Applicant's full name", example = "Jane Smith", required = true)
+        String applicantName,
+
+        @Min(value = 0, message = "Age cannot be negative")
+        @Max(value = 120, message = "Age cannot exceed 120")
+        @Schema(description = "Applicant's age in years", example = "34", required = true)
+        int age,
+
+        @NotBlank(message = "Occupation is required")
+        @Schema(description = "Applicant's occupation", example = "Software Engineer", required = true)
+        String occupation,
+
+        @NotBlank(message = "Health status is required")
+        @Schema(description = "Applicant's health status", example = "Good", required = true,
+                allowableValues = {"Excellent", "Good", "Fair", "Poor"})
+        String healthStatus,
+
+        @NotBlank(message = "Coverage type is required")
+        @Schema(description = "Type of coverage applied for", example = "LIFE", required = true)
+        String coverageType,
+
+        @NotNull(message = "Coverage amount is required")
+        @DecimalMin(value = "0.01", message = "Coverage amount must be greater than zero")
+        @Schema(description = "Coverage amount applied for", example = "250000.00", required = true)
+        BigDecimal coverageAmount,
+
+        @NotBlank(message = "Currency is required")
+        @Pattern(regexp = "^[A-Z]{3}$", message = "Currency must be a valid 3-letter ISO code (e.g., USD, EUR, GBP)")
+        @Schema(description = "Currency code in ISO 4217 format", example = "USD", required = true)
+        String currency,
+
+        @Min(value = 1, message = "Term must be at least 1 year")
+        @Max(value = 50, message = "Term cannot exceed 50 years")
+        @Schema(description = "Coverage term in years", example = "20", required = true)
+        int termYears
+    ) {
+        AssessRiskInput.Application toInput() {
+            return new AssessRiskInput.Application(
+                    applicantName, age, occupation, healthStatus,
+                    coverageType, coverageAmount, currency, termYears
+            );
+        }
+    }
+}
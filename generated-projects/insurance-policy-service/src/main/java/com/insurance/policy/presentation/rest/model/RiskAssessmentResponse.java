@@ -0,0 +1,44 @@
+package com.insurance.policy.presentation.rest.model;
+
+import com.insurance.policy.application.dto.AssessRiskOutput;
+import com.insurance.policy.domain.valueobject.RiskAssessment;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * REST API response model for an underwriting risk assessment.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@Schema(description = "Risk assessments, one per application in request order")
+public record RiskAssessmentResponse(
+    List<AssessmentItem> assessments
+) {
+    public static RiskAssessmentResponse from(AssessRiskOutput output) {
+        return new RiskAssessmentResponse(
+                output.assessments().stream().map(AssessmentItem::from).toList()
+        );
+    }
+
+    @Schema(description = "Risk assessment of one application")
+    public record AssessmentItem(
+        @Schema(description = "Risk score from 0 (lowest) to 100 (highest)", example = "30")
+        int riskScore,
+        @Schema(description = "Risk level derived from the score", example = "MEDIUM")
+        String riskLevel,
+        @Schema(description = "AUTO_APPROVE, MANUAL_REVIEW_REQUIRED or AUTO_REJECT", example = "MANUAL_REVIEW_REQUIRED")
+        String recommendation,
+        @Schema(description = "Factors that added points to the score")
+        List<String> contributingFactors
+    ) {
+        static AssessmentItem from(RiskAssessment assessment) {
+            return new AssessmentItem(
+                    assessment.riskScore().value(),
+                    assessment.riskScore().getRiskLevel().name(),
+                    assessment.recommendation().name(),
+                    assessment.contributingFactors()
+            );
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.insurance.policy.presentation.rest.streaming;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for streamed JSON list responses.
+ *
+ * @param flushEvery number of array elements written between flushes to the client
+ */
+@ConfigurationProperties(prefix = "app.streaming")
+public record StreamingProperties(int flushEvery) {
+
+    public StreamingProperties {
+        if (flushEvery <= 0) {
+            flushEvery = 100;
+        }
+    }
+}
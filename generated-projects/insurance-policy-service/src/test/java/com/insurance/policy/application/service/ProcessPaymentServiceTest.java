@@ -100,6 +100,11 @@ class ProcessPaymentServiceTest {
         assertThat(output.paymentStatus()).isEqualTo("PENDING");
         assertThat(output.transactionId()).isEqualTo("TXN1234567890");
         assertThat(output.paymentDate()).isEqualTo(LocalDate.now());
+        assertThat(output.claimId()).isEqualTo(1L);
+        assertThat(output.amount()).isEqualByComparingTo("5000.00");
+        assertThat(output.paymentMethod()).isEqualTo("BANK_TRANSFER");
+        assertThat(output.processedBy()).isEqualTo("admin@test.com");
+        assertThat(output.notes()).isEqualTo("Test payment");
 
         verify(claimRepository).findById(1L);
         verify(paymentRepository).existsByTransactionId("TXN1234567890");
@@ -3,6 +3,7 @@ package com.insurance.policy.application.service;
 import com.insurance.policy.application.dto.SubmitClaimInput;
 import com.insurance.policy.application.dto.SubmitClaimOutput;
 import com.insurance.policy.application.exception.InvalidClaimAmountException;
+import com.insurance.policy.application.exception.PolicyNotActiveException;
 import com.insurance.policy.application.exception.PolicyNotFoundException;
 import com.insurance.policy.domain.entity.Claim;
 import com.insurance.policy.domain.entity.Policy;
@@ -125,7 +126,7 @@ class SubmitClaimServiceTest {
     }
 
     @Test
-    @DisplayName("Should throw IllegalStateException when policy is not active")
+    @DisplayName("Should throw PolicyNotActiveException when policy is not active")
     void shouldThrowExceptionWhenPolicyNotActive() {
         // Given
         SubmitClaimInput input = new SubmitClaimInput(
@@ -141,8 +142,9 @@ class SubmitClaimServiceTest {
 
         // When / Then
         assertThatThrownBy(() -> service.execute(input))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("Cannot submit claim for inactive policy");
+                .isInstanceOf(PolicyNotActiveException.class)
+                .hasMessageContaining("Cannot submit claim for inactive policy")
+                .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
 
         verify(policyRepository).findById(VALID_POLICY_ID);
         verifyNoInteractions(claimRepository);
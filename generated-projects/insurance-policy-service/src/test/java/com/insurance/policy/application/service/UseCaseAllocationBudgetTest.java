@@ -0,0 +1,109 @@
+package com.insurance.policy.application.service;
+
+import com.insurance.policy.application.dto.CoverageDto;
+import com.insurance.policy.application.dto.CreatePolicyInput;
+import com.insurance.policy.application.dto.ProcessPaymentInput;
+import com.insurance.policy.application.dto.SubmitClaimInput;
+import com.insurance.policy.application.usecase.CreatePolicyUseCase;
+import com.insurance.policy.application.usecase.ProcessPaymentUseCase;
+import com.insurance.policy.application.usecase.SubmitClaimUseCase;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.domain.port.PolicyRepository;
+import com.insurance.policy.support.allocation.AllocationBudgets;
+import com.insurance.policy.support.allocation.AllocationFixtures;
+import com.insurance.policy.support.allocation.AllocationMeter;
+import com.insurance.policy.support.allocation.AllocationPhase;
+import com.insurance.policy.support.allocation.AllocationReport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets per call for the use cases, run against in-memory
+ * repository ports. Persistence is the ports' share, mapping the rest of the
+ * use case.
+ */
+class UseCaseAllocationBudgetTest {
+
+    private static final String APPLICATION_LOGGER = "com.insurance.policy";
+
+    private final AllocationBudgets budgets = AllocationBudgets.load();
+    private final ClaimRepository claimRepository = AllocationFixtures.claimRepository();
+    private final PolicyRepository policyRepository = AllocationFixtures.policyRepository();
+
+    @BeforeAll
+    static void quietApplicationLogging() {
+        LoggingSystem.get(UseCaseAllocationBudgetTest.class.getClassLoader())
+            .setLogLevel(APPLICATION_LOGGER, LogLevel.WARN);
+    }
+
+    @AfterAll
+    static void restoreApplicationLogging() {
+        LoggingSystem.get(UseCaseAllocationBudgetTest.class.getClassLoader())
+            .setLogLevel(APPLICATION_LOGGER, null);
+    }
+
+    @BeforeEach
+    void requireAllocationCounters() {
+        assumeTrue(AllocationMeter.isSupported(), "JVM does not report per-thread allocated bytes");
+    }
+
+    @Test
+    void submitClaimShouldStayWithinBudget() throws Exception {
+        // Given
+        SubmitClaimUseCase useCase = new SubmitClaimService(claimRepository, policyRepository);
+        SubmitClaimInput input = new SubmitClaimInput(
+            1L, new BigDecimal("5000.00"), LocalDate.now().minusDays(3),
+            "Rear-end collision at a junction, bumper and tailgate damaged", "USD");
+
+        // When
+        AllocationReport report = budgets.assertWithinBudget("usecase.submit-claim",
+            () -> inMappingPhase(() -> useCase.execute(input)));
+
+        // Then
+        assertThat(report.bytesByPhase().get(AllocationPhase.PERSISTENCE)).isPositive();
+        assertThat(report.bytesByPhase().get(AllocationPhase.MAPPING)).isPositive();
+    }
+
+    @Test
+    void processPaymentShouldStayWithinBudget() throws Exception {
+        // Given
+        ProcessPaymentUseCase useCase = new ProcessPaymentService(AllocationFixtures.paymentRepository(), claimRepository);
+        ProcessPaymentInput input = new ProcessPaymentInput(
+            1L, new BigDecimal("2500.00"), "BANK_TRANSFER", "TXN1234567890", "adjuster@example.com", "Settlement");
+
+        // When/Then
+        budgets.assertWithinBudget("usecase.process-payment", () -> inMappingPhase(() -> useCase.execute(input)));
+    }
+
+    @Test
+    void createPolicyShouldStayWithinBudget() throws Exception {
+        // Given
+        CreatePolicyUseCase useCase = new CreatePolicyService(policyRepository);
+        CreatePolicyInput input = new CreatePolicyInput("CUST-1", LocalDate.now().plusDays(30), List.of(
+            new CoverageDto("LIABILITY", 500.0, "USD"),
+            new CoverageDto("COLLISION", 250.0, "USD")));
+
+        // When/Then
+        budgets.assertWithinBudget("usecase.create-policy", () -> inMappingPhase(() -> useCase.execute(input)));
+    }
+
+    private static void inMappingPhase(Runnable call) {
+        AllocationMeter.enter(AllocationPhase.MAPPING);
+        try {
+            call.run();
+        } finally {
+            AllocationMeter.exit();
+        }
+    }
+}
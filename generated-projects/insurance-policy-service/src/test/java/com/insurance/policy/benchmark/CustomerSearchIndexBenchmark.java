@@ -0,0 +1,123 @@
+package com.insurance.policy.benchmark;
+
+import com.insurance.policy.infrastructure.search.InMemoryCustomerSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the in-memory customer search over a million customers.
+ *
+ * Names follow a long-tailed distribution: a few common first and last names
+ * (the most common on roughly 2% and 0.7% of customers) and thousands of
+ * rare ones, like a real customer base. Queries cover one- and two-word
+ * prefixes, e-mail, phone and typos; the typo queries take the trigram path.
+ * The set-up also prints the index's estimated heap per customer.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=CustomerSearchIndex
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CustomerSearchIndexBenchmark {
+
+    private static final int CUSTOMERS = 1_000_000;
+    private static final int LIMIT = 20;
+
+    private static final String[] COMMON_FIRST_NAMES = {
+        "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+        "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "José", "Zoë", "Aarav", "Mei", "Olga"
+    };
+    private static final String[] COMMON_LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Müller", "O'Brien", "Nguyen", "Kowalski"
+    };
+    private static final String[] SYLLABLES = {
+        "ka", "lo", "ri", "an", "de", "mi", "sa", "to", "ve", "nu", "bel", "dor", "fin", "gar", "hal",
+        "jen", "kir", "lan", "mor", "nes", "pel", "quin", "ros", "tam", "ul", "var", "wen", "yor", "zel", "ber"
+    };
+
+    @Param({"jo", "john", "john smi", "elizabeth garcia", "mary.brown", "5551234", "patrica", "jenifer lopes"})
+    private String query;
+
+    private InMemoryCustomerSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] firstNames = names(COMMON_FIRST_NAMES, 3_000);
+        String[] lastNames = names(COMMON_LAST_NAMES, 50_000);
+        double[] firstNameWeights = cumulativeWeights(firstNames.length, 10);
+        double[] lastNameWeights = cumulativeWeights(lastNames.length, 20);
+
+        index = new InMemoryCustomerSearchIndex(CUSTOMERS);
+        for (int id = 1; id <= CUSTOMERS; id++) {
+            String firstName = firstNames[pick(firstNameWeights, random)];
+            String lastName = lastNames[pick(lastNameWeights, random)];
+            index.put(id, firstName, lastName, (firstName + "." + lastName + id + "@example.com").toLowerCase(),
+                String.format("+1-555-%07d", random.nextInt(10_000_000)));
+        }
+        System.out.printf("%n%d customers, ~%d MB, %d bytes per customer%n",
+            index.size(), index.estimatedBytes() >> 20, index.estimatedBytes() / index.size());
+    }
+
+    @Benchmark
+    public List<?> search() {
+        return index.search(query, LIMIT);
+    }
+
+    /**
+     * The common names, then made-up names from syllables for the long tail
+     */
+    private static String[] names(String[] common, int count) {
+        String[] names = Arrays.copyOf(common, count);
+        for (int i = common.length; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int rest = i; rest > 0; rest /= SYLLABLES.length) {
+                name.append(SYLLABLES[rest % SYLLABLES.length]);
+            }
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            names[i] = name.toString();
+        }
+        return names;
+    }
+
+    /**
+     * Cumulative weights falling off as 1 / (rank + offset)
+     */
+    private static double[] cumulativeWeights(int count, int offset) {
+        double[] weights = new double[count];
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += 1.0 / (i + offset);
+            weights[i] = sum;
+        }
+        for (int i = 0; i < count; i++) {
+            weights[i] /= sum;
+        }
+        return weights;
+    }
+
+    private static int pick(double[] cumulativeWeights, Random random) {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        return Math.min(cumulativeWeights.length - 1, index < 0 ? -index - 1 : index);
+    }
+}
@@ -0,0 +1,109 @@
+package com.insurance.policy.benchmark;
+
+import com.insurance.policy.domain.valueobject.ClaimAmount;
+import com.insurance.policy.domain.valueobject.ClaimNumber;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the domain value objects on their hot paths: Money and ClaimAmount
+ * construction and arithmetic, Coverage creation and identifier parsing.
+ *
+ * Inputs come from a fixed-seed dataset, cycled per invocation, so runs are
+ * comparable. The benchmark profile adds -prof gc, which reports bytes
+ * allocated per operation next to the time.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=DomainValueObject
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainValueObjectBenchmark {
+
+    private static final int DATASET_SIZE = 1024;
+    private static final long SEED = 42L;
+
+    private final BigDecimal[] amounts = new BigDecimal[DATASET_SIZE];
+    private final double[] doubleAmounts = new double[DATASET_SIZE];
+    private final Money[] money = new Money[DATASET_SIZE];
+    private final String[] claimNumbers = new String[DATASET_SIZE];
+    private final String[] policyNumbers = new String[DATASET_SIZE];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            long cents = 100 + random.nextInt(10_000_000);
+            amounts[i] = BigDecimal.valueOf(cents, 2);
+            doubleAmounts[i] = cents / 100.0;
+            money[i] = new Money(amounts[i], "USD");
+            claimNumbers[i] = String.format("CLM-%d-%06d", 2020 + random.nextInt(6), random.nextInt(1_000_000));
+            policyNumbers[i] = String.format("POL-%d-%06d", 2020 + random.nextInt(6), random.nextInt(1_000_000));
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (DATASET_SIZE - 1);
+        return next;
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        int i = nextIndex();
+        return money[i].add(money[(i + 1) & (DATASET_SIZE - 1)]);
+    }
+
+    @Benchmark
+    public Money moneyOfDouble() {
+        return Money.of(doubleAmounts[nextIndex()], "USD");
+    }
+
+    @Benchmark
+    public ClaimAmount claimAmountOfBigDecimal() {
+        return ClaimAmount.of(amounts[nextIndex()], "USD");
+    }
+
+    @Benchmark
+    public ClaimAmount claimAmountOfDouble() {
+        return ClaimAmount.of(doubleAmounts[nextIndex()], "USD");
+    }
+
+    @Benchmark
+    public Coverage coverageOf() {
+        return Coverage.of("COLLISION", doubleAmounts[nextIndex()], "USD");
+    }
+
+    @Benchmark
+    public ClaimNumber claimNumberOf() {
+        return ClaimNumber.of(claimNumbers[nextIndex()]);
+    }
+
+    @Benchmark
+    public PolicyNumber policyNumberOf() {
+        return PolicyNumber.of(policyNumbers[nextIndex()]);
+    }
+
+    @Benchmark
+    public ClaimNumber claimNumberGenerate() {
+        return ClaimNumber.generate(2025, nextIndex());
+    }
+}
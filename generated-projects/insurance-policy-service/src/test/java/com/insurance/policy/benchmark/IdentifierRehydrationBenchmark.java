@@ -0,0 +1,86 @@
+package com.insurance.policy.benchmark;
+
+import com.insurance.policy.domain.valueobject.ClaimNumber;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.domain.valueobject.TransactionId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of rebuilding identifier value objects for a page of persisted rows.
+ *
+ * Compares the regex check the value objects used to run, the hand-written
+ * validators on the untrusted path, and the trusted rehydration path used by
+ * the persistence mappers.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=IdentifierRehydration
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierRehydrationBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private static final Pattern CLAIM_NUMBER_PATTERN = Pattern.compile("^CLM-\\d{4}-\\d{6}$");
+    private static final Pattern POLICY_NUMBER_PATTERN = Pattern.compile("POL-\\d{4}-\\d{6}");
+    private static final Pattern TRANSACTION_ID_PATTERN = Pattern.compile("^[A-Z0-9]{8,32}$");
+
+    private String[] claimNumbers;
+    private String[] policyNumbers;
+    private String[] transactionIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        claimNumbers = new String[ROWS];
+        policyNumbers = new String[ROWS];
+        transactionIds = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            claimNumbers[i] = String.format("CLM-2025-%06d", i);
+            policyNumbers[i] = String.format("POL-2025-%06d", i);
+            transactionIds[i] = String.format("TXN%010d", i);
+        }
+    }
+
+    @Benchmark
+    public void regexBaseline(Blackhole bh) {
+        for (int i = 0; i < ROWS; i++) {
+            bh.consume(CLAIM_NUMBER_PATTERN.matcher(claimNumbers[i]).matches());
+            bh.consume(POLICY_NUMBER_PATTERN.matcher(policyNumbers[i]).matches());
+            bh.consume(TRANSACTION_ID_PATTERN.matcher(transactionIds[i].trim().toUpperCase()).matches());
+        }
+    }
+
+    @Benchmark
+    public void validated(Blackhole bh) {
+        for (int i = 0; i < ROWS; i++) {
+            bh.consume(ClaimNumber.of(claimNumbers[i]));
+            bh.consume(PolicyNumber.of(policyNumbers[i]));
+            bh.consume(new TransactionId(transactionIds[i]));
+        }
+    }
+
+    @Benchmark
+    public void rehydrated(Blackhole bh) {
+        for (int i = 0; i < ROWS; i++) {
+            bh.consume(ClaimNumber.rehydrate(claimNumbers[i]));
+            bh.consume(PolicyNumber.rehydrate(policyNumbers[i]));
+            bh.consume(TransactionId.rehydrate(transactionIds[i]));
+        }
+    }
+}
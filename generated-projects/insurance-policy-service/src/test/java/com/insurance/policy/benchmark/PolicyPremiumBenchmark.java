@@ -0,0 +1,85 @@
+package com.insurance.policy.benchmark;
+
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a Policy, dominated by Policy.calculateTotalPremium (a
+ * Money reduction over the coverages), and of adding a coverage to an
+ * existing policy, which recalculates the premium.
+ *
+ * Policies are built through Policy.rehydrate, which computes the premium the
+ * same way the constructor does but keeps a fixed number: the constructor
+ * draws from a sequence capped at 999999, which a benchmark exhausts.
+ * Coverage premiums come from a fixed-seed dataset per coverage count.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=PolicyPremium
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyPremiumBenchmark {
+
+    private static final long SEED = 42L;
+    private static final PolicyNumber POLICY_NUMBER = PolicyNumber.of("POL-2025-000001");
+    private static final String[] COVERAGE_TYPES = {"LIABILITY", "COLLISION", "COMPREHENSIVE", "MEDICAL", "UNINSURED"};
+
+    @Param({"1", "5", "20"})
+    public int coverageCount;
+
+    private List<Coverage> coverages;
+    private Coverage extraCoverage;
+    private LocalDate effectiveDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        coverages = new ArrayList<>(coverageCount);
+        for (int i = 0; i < coverageCount; i++) {
+            coverages.add(new Coverage(COVERAGE_TYPES[i % COVERAGE_TYPES.length],
+                Money.of(100 + random.nextInt(500_000) / 100.0, "USD")));
+        }
+        extraCoverage = Coverage.of("ROADSIDE", 49.99, "USD");
+        effectiveDate = LocalDate.now().plusDays(30);
+    }
+
+    @Benchmark
+    public Policy createPolicy() {
+        return draftPolicy();
+    }
+
+    @Benchmark
+    public Money createPolicyAndAddCoverage() {
+        Policy policy = draftPolicy();
+        policy.addCoverage(extraCoverage);
+        return policy.getTotalPremium();
+    }
+
+    private Policy draftPolicy() {
+        return Policy.rehydrate(1L, POLICY_NUMBER, "CUST-001", effectiveDate, effectiveDate.plusYears(1),
+            PolicyStatus.DRAFT, coverages);
+    }
+}
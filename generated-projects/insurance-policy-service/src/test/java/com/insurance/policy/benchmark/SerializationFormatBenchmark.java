@@ -0,0 +1,122 @@
+package com.insurance.policy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.insurance.policy.presentation.rest.model.PaymentResponse;
+import com.insurance.policy.presentation.rest.model.ProcessPaymentRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization CPU and payload size of PaymentResponse and ProcessPaymentRequest
+ * for JSON, CBOR and Smile.
+ *
+ * Bytes on the wire (raw and gzip-compressed) are printed once per trial.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=SerializationFormat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private CollectionType responseListType;
+    private ProcessPaymentRequest request;
+    private PaymentResponse response;
+    private List<PaymentResponse> responsePage;
+    private byte[] requestBytes;
+    private byte[] responsePageBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        responseListType = mapper.getTypeFactory().constructCollectionType(List.class, PaymentResponse.class);
+
+        request = new ProcessPaymentRequest(1042L, new BigDecimal("5000.00"), "BANK_TRANSFER",
+            "TXN1234567890", "claims.processor@insurance.com", "Settlement for approved water damage claim");
+        responsePage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            responsePage.add(new PaymentResponse(
+                (long) i + 1,
+                1042L,
+                BigDecimal.valueOf(250_000 + i * 1_375L, 2),
+                i % 3 == 0 ? "CHECK" : "BANK_TRANSFER",
+                i % 4 == 0 ? "PENDING" : "COMPLETED",
+                String.format("TXN%010d", 1_000_000 + i),
+                LocalDate.of(2025, 1, 1).plusDays(i),
+                "claims.processor@insurance.com",
+                i % 2 == 0 ? "Partial settlement" : null
+            ));
+        }
+        response = responsePage.get(0);
+
+        requestBytes = mapper.writeValueAsBytes(request);
+        responsePageBytes = mapper.writeValueAsBytes(responsePage);
+        byte[] responseBytes = mapper.writeValueAsBytes(response);
+        System.out.printf("%n[%s] request=%dB (gzip %dB), response=%dB (gzip %dB), page of %d=%dB (gzip %dB)%n",
+            format,
+            requestBytes.length, gzippedSize(requestBytes),
+            responseBytes.length, gzippedSize(responseBytes),
+            PAGE_SIZE, responsePageBytes.length, gzippedSize(responsePageBytes));
+    }
+
+    @Benchmark
+    public ProcessPaymentRequest readRequest() throws IOException {
+        return mapper.readValue(requestBytes, ProcessPaymentRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeResponsePage() throws IOException {
+        return mapper.writeValueAsBytes(responsePage);
+    }
+
+    @Benchmark
+    public List<PaymentResponse> readResponsePage() throws IOException {
+        return mapper.readValue(responsePageBytes, responseListType);
+    }
+
+    private static int gzippedSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.size();
+    }
+}
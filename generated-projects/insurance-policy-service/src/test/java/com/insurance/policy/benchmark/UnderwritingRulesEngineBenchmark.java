@@ -0,0 +1,237 @@
+package com.insurance.policy.benchmark;
+
+import com.insurance.policy.domain.service.UnderwritingRulesEngine;
+import com.insurance.policy.domain.valueobject.ApplicantDetails;
+import com.insurance.policy.domain.valueobject.CoverageRequest;
+import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.RiskAssessment;
+import com.insurance.policy.domain.valueobject.RiskScore;
+import com.insurance.policy.domain.valueobject.UnderwritingApplication;
+import com.insurance.policy.domain.valueobject.UnderwritingRecommendation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to assess a million underwriting applications.
+ *
+ * interpretedRules is the rules engine as first written: occupation
+ * keyword lists built and lower-cased per call, BigDecimal thresholds created
+ * per call and every factor description formatted eagerly. The compiled
+ * engine is measured sequentially, sequentially with every description read
+ * (the cost when a caller does render them), and through assessBatch on the
+ * common fork/join pool.
+ *
+ * Applications come from a fixed-seed dataset over a few hundred distinct
+ * occupations.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=UnderwritingRulesEngine
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class UnderwritingRulesEngineBenchmark {
+
+    private static final int APPLICATIONS = 1_000_000;
+
+    private static final String[] OCCUPATION_ROLES = {
+        "Accountant", "Teacher", "Software Engineer", "Registered Nurse", "Electrician", "Mechanic",
+        "Truck Driver", "Security Guard", "Construction Worker", "Airline Pilot", "Firefighter",
+        "Police Officer", "Coal Miner", "Logger", "Sales Manager", "Chef", "Pharmacist", "Architect"
+    };
+    private static final String[] OCCUPATION_QUALIFIERS = {
+        "", "Senior ", "Junior ", "Lead ", "Trainee ", "Chief ", "Assistant ", "Head ", "Retired ",
+        "Part-time ", "Contract ", "Principal "
+    };
+    private static final String[] HEALTH_STATUSES = {"Excellent", "Good", "Fair", "Poor"};
+
+    private List<UnderwritingApplication> applications;
+    private InterpretedRulesEngine interpretedEngine;
+    private UnderwritingRulesEngine compiledEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        applications = new ArrayList<>(APPLICATIONS);
+        for (int i = 0; i < APPLICATIONS; i++) {
+            String occupation = OCCUPATION_QUALIFIERS[random.nextInt(OCCUPATION_QUALIFIERS.length)]
+                + OCCUPATION_ROLES[random.nextInt(OCCUPATION_ROLES.length)];
+            applications.add(new UnderwritingApplication(
+                new ApplicantDetails("Applicant " + i, 18 + random.nextInt(63), occupation,
+                    HEALTH_STATUSES[random.nextInt(HEALTH_STATUSES.length)]),
+                new CoverageRequest("LIFE", Money.of(10_000 + random.nextInt(1_990_000), "USD"),
+                    1 + random.nextInt(50))));
+        }
+        interpretedEngine = new InterpretedRulesEngine();
+        compiledEngine = new UnderwritingRulesEngine();
+    }
+
+    @Benchmark
+    public void interpretedRules(Blackhole blackhole) {
+        for (UnderwritingApplication application : applications) {
+            blackhole.consume(interpretedEngine.assessRisk(application.applicant(), application.coverage()));
+        }
+    }
+
+    @Benchmark
+    public void compiledRules(Blackhole blackhole) {
+        for (UnderwritingApplication application : applications) {
+            blackhole.consume(compiledEngine.assessRisk(application));
+        }
+    }
+
+    @Benchmark
+    public void compiledRulesRenderingFactors(Blackhole blackhole) {
+        for (UnderwritingApplication application : applications) {
+            for (String factor : compiledEngine.assessRisk(application).contributingFactors()) {
+                blackhole.consume(factor);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<RiskAssessment> compiledRulesBatch() {
+        return compiledEngine.assessBatch(applications);
+    }
+
+    /**
+     * The rules engine before its rule tables were compiled, kept as the
+     * baseline.
+     */
+    static final class InterpretedRulesEngine {
+
+        RiskAssessment assessRisk(ApplicantDetails applicantDetails, CoverageRequest coverageRequest) {
+            int totalRiskScore = 0;
+            List<String> contributingFactors = new ArrayList<>();
+
+            int ageFactor = calculateAgeFactor(applicantDetails.age());
+            totalRiskScore += ageFactor;
+            if (ageFactor > 0) {
+                contributingFactors.add(String.format("Age (%d years): +%d points",
+                    applicantDetails.age(), ageFactor));
+            }
+
+            int occupationFactor = calculateOccupationFactor(applicantDetails.occupation());
+            totalRiskScore += occupationFactor;
+            if (occupationFactor > 0) {
+                contributingFactors.add(String.format("Occupation (%s): +%d points",
+                    applicantDetails.occupation(), occupationFactor));
+            }
+
+            int healthFactor = calculateHealthFactor(applicantDetails.healthStatus());
+            totalRiskScore += healthFactor;
+            if (healthFactor > 0) {
+                contributingFactors.add(String.format("Health Status (%s): +%d points",
+                    applicantDetails.healthStatus(), healthFactor));
+            }
+
+            int coverageFactor = calculateCoverageFactor(coverageRequest.amount());
+            totalRiskScore += coverageFactor;
+            if (coverageFactor > 0) {
+                contributingFactors.add(String.format("Coverage Amount (%s): +%d points",
+                    coverageRequest.amount(), coverageFactor));
+            }
+
+            int termFactor = calculateTermFactor(coverageRequest.termYears());
+            totalRiskScore += termFactor;
+            if (termFactor > 0) {
+                contributingFactors.add(String.format("Term Length (%d years): +%d points",
+                    coverageRequest.termYears(), termFactor));
+            }
+
+            RiskScore riskScore = new RiskScore(Math.min(totalRiskScore, 100));
+            return new RiskAssessment(riskScore, contributingFactors, determineRecommendation(riskScore));
+        }
+
+        private int calculateAgeFactor(int age) {
+            if (age < 25) {
+                return 15;
+            } else if (age <= 40) {
+                return 5;
+            } else if (age <= 60) {
+                return 10;
+            } else {
+                return 20;
+            }
+        }
+
+        private int calculateOccupationFactor(String occupation) {
+            String occupationLower = occupation.toLowerCase();
+            List<String> highRiskOccupations = List.of(
+                "construction", "pilot", "firefighter", "police", "miner", "logger"
+            );
+            for (String highRisk : highRiskOccupations) {
+                if (occupationLower.contains(highRisk)) {
+                    return 25;
+                }
+            }
+            List<String> mediumRiskOccupations = List.of(
+                "nurse", "electrician", "mechanic", "truck driver", "security"
+            );
+            for (String mediumRisk : mediumRiskOccupations) {
+                if (occupationLower.contains(mediumRisk)) {
+                    return 10;
+                }
+            }
+            return 0;
+        }
+
+        private int calculateHealthFactor(String healthStatus) {
+            return switch (healthStatus) {
+                case "Excellent" -> 0;
+                case "Good" -> 5;
+                case "Fair" -> 15;
+                case "Poor" -> 30;
+                default -> 0;
+            };
+        }
+
+        private int calculateCoverageFactor(Money coverageAmount) {
+            BigDecimal amount = coverageAmount.amount();
+            if (amount.compareTo(BigDecimal.valueOf(100_000)) < 0) {
+                return 5;
+            } else if (amount.compareTo(BigDecimal.valueOf(500_000)) <= 0) {
+                return 10;
+            } else {
+                return 20;
+            }
+        }
+
+        private int calculateTermFactor(int termYears) {
+            if (termYears <= 10) {
+                return 5;
+            } else if (termYears <= 20) {
+                return 10;
+            } else {
+                return 15;
+            }
+        }
+
+        private UnderwritingRecommendation determineRecommendation(RiskScore riskScore) {
+            if (riskScore.value() <= 25) {
+                return UnderwritingRecommendation.AUTO_APPROVE;
+            } else if (riskScore.value() <= 75) {
+                return UnderwritingRecommendation.MANUAL_REVIEW_REQUIRED;
+            } else {
+                return UnderwritingRecommendation.AUTO_REJECT;
+            }
+        }
+    }
+}
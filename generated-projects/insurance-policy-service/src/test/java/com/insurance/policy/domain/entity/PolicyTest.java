@@ -2,6 +2,7 @@ package com.insurance.policy.domain.entity;
 
 import com.insurance.policy.domain.valueobject.Coverage;
 import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
 import com.insurance.policy.domain.valueobject.PolicyStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -120,4 +121,30 @@ class PolicyTest {
         // Assert
         assertEquals(Money.of(1000.00, "USD"), policy.getTotalPremium());
     }
+
+    @Test
+    @DisplayName("Should rehydrate a stored policy without validating it or drawing a policy number")
+    void shouldRehydrateStoredPolicyWithoutDrawingNumber() {
+        // Arrange
+        LocalDate effectiveDate = LocalDate.now().minusYears(2);
+        PolicyNumber stored = PolicyNumber.of("POL-2024-000042");
+        long sequenceBefore = sequenceOf(PolicyNumber.generate(2025));
+
+        // Act
+        Policy policy = Policy.rehydrate(42L, stored, "CUST-001", effectiveDate, effectiveDate.plusYears(1),
+                PolicyStatus.EXPIRED, List.of(Coverage.of("Liability", 500.00, "USD")));
+
+        // Assert
+        assertEquals(42L, policy.getId());
+        assertSame(stored, policy.getPolicyNumber());
+        assertEquals(effectiveDate, policy.getEffectiveDate());
+        assertEquals(effectiveDate.plusYears(1), policy.getExpirationDate());
+        assertEquals(PolicyStatus.EXPIRED, policy.getStatus());
+        assertEquals(Money.of(500.00, "USD"), policy.getTotalPremium());
+        assertEquals(sequenceBefore + 1, sequenceOf(PolicyNumber.generate(2025)));
+    }
+
+    private static long sequenceOf(PolicyNumber policyNumber) {
+        return Long.parseLong(policyNumber.value().substring(9));
+    }
 }
@@ -0,0 +1,193 @@
+package com.insurance.policy.domain.service;
+
+import com.insurance.policy.domain.valueobject.ApplicantDetails;
+import com.insurance.policy.domain.valueobject.ContributingFactors;
+import com.insurance.policy.domain.valueobject.CoverageRequest;
+import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.RiskAssessment;
+import com.insurance.policy.domain.valueobject.RiskFactor;
+import com.insurance.policy.domain.valueobject.RiskLevel;
+import com.insurance.policy.domain.valueobject.RiskScore;
+import com.insurance.policy.domain.valueobject.UnderwritingApplication;
+import com.insurance.policy.domain.valueobject.UnderwritingRecommendation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for UnderwritingRulesEngine
+ */
+class UnderwritingRulesEngineTest {
+
+    private final UnderwritingRulesEngine engine = new UnderwritingRulesEngine();
+
+    @Test
+    void shouldAutoApproveLowRiskApplicant() {
+        // Given: 30 years (5), office worker (0), excellent health (0), 50K (5), 10 years (5)
+        ApplicantDetails applicant = new ApplicantDetails("Jane Smith", 30, "Accountant", "Excellent");
+        CoverageRequest coverage = new CoverageRequest("LIFE", Money.of(50_000, "USD"), 10);
+
+        // When
+        RiskAssessment assessment = engine.assessRisk(applicant, coverage);
+
+        // Then
+        assertThat(assessment.riskScore()).isEqualTo(RiskScore.of(15));
+        assertThat(assessment.riskScore().getRiskLevel()).isEqualTo(RiskLevel.LOW);
+        assertThat(assessment.isAutoApprovalRecommended()).isTrue();
+        assertThat(assessment.contributingFactors()).containsExactly(
+            "Age (30 years): +5 points",
+            "Coverage Amount (USD 50000.00): +5 points",
+            "Term Length (10 years): +5 points"
+        );
+    }
+
+    @Test
+    void shouldAutoRejectVeryHighRiskApplicant() {
+        // Given: 65 years (20), pilot (25), poor health (30), 1M (20), 30 years (15) = 110, capped
+        ApplicantDetails applicant = new ApplicantDetails("John Doe", 65, "Airline Pilot", "Poor");
+        CoverageRequest coverage = new CoverageRequest("LIFE", Money.of(1_000_000, "USD"), 30);
+
+        // When
+        RiskAssessment assessment = engine.assessRisk(applicant, coverage);
+
+        // Then
+        assertThat(assessment.riskScore().value()).isEqualTo(RiskScore.MAX_SCORE);
+        assertThat(assessment.isAutoRejectionRecommended()).isTrue();
+        assertThat(assessment.contributingFactors()).hasSize(5)
+            .contains("Occupation (Airline Pilot): +25 points", "Health Status (Poor): +30 points");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "24, 15", "25, 5", "40, 5", "41, 10", "60, 10", "61, 20", "120, 20"
+    })
+    void shouldScoreAgeBands(int age, int expectedPoints) {
+        // When
+        RiskAssessment assessment = engine.assessRisk(
+            new ApplicantDetails("A", age, "Clerk", "Excellent"),
+            new CoverageRequest("LIFE", Money.of(50_000, "USD"), 10));
+
+        // Then
+        assertThat(points(assessment, RiskFactor.AGE)).isEqualTo(expectedPoints);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "Construction Worker, 25", "POLICE officer, 25", "Coal miner, 25",
+        "Registered Nurse, 10", "Long-haul truck driver, 10", "Security guard, 10",
+        "Software Engineer, 0", "Truck dispatcher, 0"
+    })
+    void shouldScoreOccupationByKeywordIgnoringCase(String occupation, int expectedPoints) {
+        // When
+        RiskAssessment first = engine.assessRisk(
+            new ApplicantDetails("A", 30, occupation, "Excellent"),
+            new CoverageRequest("LIFE", Money.of(50_000, "USD"), 10));
+        RiskAssessment memoised = engine.assessRisk(
+            new ApplicantDetails("B", 30, occupation, "Excellent"),
+            new CoverageRequest("LIFE", Money.of(50_000, "USD"), 10));
+
+        // Then
+        assertThat(points(first, RiskFactor.OCCUPATION)).isEqualTo(expectedPoints);
+        assertThat(points(memoised, RiskFactor.OCCUPATION)).isEqualTo(expectedPoints);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "99999.99, 1, 5, 5", "100000, 10, 10, 5", "500000, 11, 10, 10",
+        "500000.01, 20, 20, 10", "750000, 21, 20, 15", "750000, 50, 20, 15"
+    })
+    void shouldScoreCoverageAmountAndTermBands(double amount, int termYears, int coveragePoints, int termPoints) {
+        // When
+        RiskAssessment assessment = engine.assessRisk(
+            new ApplicantDetails("A", 30, "Clerk", "Excellent"),
+            new CoverageRequest("LIFE", Money.of(amount, "USD"), termYears));
+
+        // Then
+        assertThat(points(assessment, RiskFactor.COVERAGE_AMOUNT)).isEqualTo(coveragePoints);
+        assertThat(points(assessment, RiskFactor.TERM_LENGTH)).isEqualTo(termPoints);
+    }
+
+    @Test
+    void shouldRecommendManualReviewBetweenThresholds() {
+        // Given: 45 years (10), nurse (10), fair health (15), 250K (10), 15 years (10) = 55
+        RiskAssessment assessment = engine.assessRisk(
+            new ApplicantDetails("A", 45, "Nurse", "Fair"),
+            new CoverageRequest("LIFE", Money.of(250_000, "USD"), 15));
+
+        // Then
+        assertThat(assessment.riskScore().value()).isEqualTo(55);
+        assertThat(assessment.requiresManualReview()).isTrue();
+    }
+
+    @Test
+    void shouldCalculatePremiumFromRiskScore() {
+        // When
+        Money premium = engine.calculatePremium(Money.of(1_000, "USD"), RiskScore.of(30));
+
+        // Then
+        assertThat(premium).isEqualTo(Money.of(1_300, "USD"));
+    }
+
+    @Test
+    void shouldAssessBatchInInputOrderMatchingSingleAssessments() {
+        // Given: more applications than one slice, so the batch is split
+        List<UnderwritingApplication> applications = applications(UnderwritingRulesEngine.BATCH_SLICE * 3 + 17);
+        UnderwritingRulesEngine parallelEngine = new UnderwritingRulesEngine(new ForkJoinPool(4));
+
+        // When
+        List<RiskAssessment> batch = parallelEngine.assessBatch(applications);
+
+        // Then
+        assertThat(batch).hasSize(applications.size());
+        for (int i = 0; i < applications.size(); i++) {
+            assertThat(batch.get(i)).isEqualTo(engine.assessRisk(applications.get(i)));
+        }
+        assertThatThrownBy(() -> batch.set(0, null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldAssessBatchFromSequentialList() {
+        // Given
+        List<UnderwritingApplication> applications = new LinkedList<>(applications(100));
+
+        // When
+        List<RiskAssessment> batch = engine.assessBatch(applications);
+
+        // Then
+        assertThat(batch).hasSize(100);
+        assertThat(batch.get(99)).isEqualTo(engine.assessRisk(applications.get(99)));
+    }
+
+    @Test
+    void shouldAssessEmptyBatch() {
+        assertThat(engine.assessBatch(List.of())).isEmpty();
+    }
+
+    private static int points(RiskAssessment assessment, RiskFactor factor) {
+        return ((ContributingFactors) assessment.contributingFactors()).points(factor);
+    }
+
+    private static List<UnderwritingApplication> applications(int count) {
+        String[] occupations = {"Teacher", "Pilot", "Nurse", "Electrician", "Developer"};
+        String[] healthStatuses = {"Excellent", "Good", "Fair", "Poor"};
+        Random random = new Random(42L);
+        List<UnderwritingApplication> applications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            applications.add(new UnderwritingApplication(
+                new ApplicantDetails("Applicant " + i, 18 + random.nextInt(62),
+                    occupations[random.nextInt(occupations.length)],
+                    healthStatuses[random.nextInt(healthStatuses.length)]),
+                new CoverageRequest("LIFE", Money.of(10_000 + random.nextInt(990_000), "USD"),
+                    1 + random.nextInt(40))));
+        }
+        return applications;
+    }
+}
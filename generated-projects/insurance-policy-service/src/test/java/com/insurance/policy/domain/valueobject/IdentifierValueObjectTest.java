@@ -0,0 +1,71 @@
+package com.insurance.policy.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the claim, policy and transaction identifier value objects
+ */
+class IdentifierValueObjectTest {
+
+    @Test
+    void shouldAcceptWellFormedClaimNumber() {
+        // When
+        ClaimNumber claimNumber = ClaimNumber.of("CLM-2025-000001");
+
+        // Then
+        assertThat(claimNumber.value()).isEqualTo("CLM-2025-000001");
+        assertThat(claimNumber).isEqualTo(ClaimNumber.generate(2025, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CLM-2025-00001", "CLM-2025-0000011", "CLX-2025-000001", "CLM-20X5-000001",
+        "CLM-2025_000001", "clm-2025-000001", "CLM-2025-00000\u0661"})
+    void shouldRejectMalformedClaimNumber(String value) {
+        assertThatThrownBy(() -> ClaimNumber.of(value))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("CLM-YYYY-NNNNNN");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"POL-2025-00001", "POL-2025-000001 ", "CLM-2025-000001", "POL-2025-00A001"})
+    void shouldRejectMalformedPolicyNumber(String value) {
+        assertThatThrownBy(() -> PolicyNumber.of(value))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("POL-YYYY-NNNNNN");
+    }
+
+    @Test
+    void shouldNormalizeTransactionId() {
+        // When
+        TransactionId transactionId = new TransactionId("  txn1234567890 ");
+
+        // Then
+        assertThat(transactionId.getValue()).isEqualTo("TXN1234567890");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"TXN1234", "TXN-12345678", "TXN12345678901234567890123456789012", "TXN12345\u00C478"})
+    void shouldRejectMalformedTransactionId(String value) {
+        assertThatThrownBy(() -> new TransactionId(value))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRehydrateStoredValuesEqualToValidatedOnes() {
+        assertThat(ClaimNumber.rehydrate("CLM-2025-000042")).isEqualTo(ClaimNumber.of("CLM-2025-000042"));
+        assertThat(PolicyNumber.rehydrate("POL-2025-000042")).isEqualTo(PolicyNumber.of("POL-2025-000042"));
+        assertThat(TransactionId.rehydrate("TXN1234567890")).isEqualTo(new TransactionId("TXN1234567890"));
+        assertThat(PolicyNumber.rehydrate("POL-2025-000042").hashCode())
+            .isEqualTo(PolicyNumber.of("POL-2025-000042").hashCode());
+    }
+
+    @Test
+    void shouldRejectNullOnRehydrate() {
+        assertThatThrownBy(() -> ClaimNumber.rehydrate(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> TransactionId.rehydrate(null)).isInstanceOf(NullPointerException.class);
+    }
+}
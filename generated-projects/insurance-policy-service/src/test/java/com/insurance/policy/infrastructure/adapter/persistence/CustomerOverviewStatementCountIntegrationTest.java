@@ -0,0 +1,156 @@
+package com.insurance.policy.infrastructure.adapter.persistence;
+
+import com.insurance.policy.application.dto.CustomerOverviewOutput;
+import com.insurance.policy.application.service.GetCustomerOverviewService;
+import com.insurance.policy.domain.entity.Claim;
+import com.insurance.policy.domain.entity.Customer;
+import com.insurance.policy.domain.entity.Payment;
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.valueobject.ClaimAmount;
+import com.insurance.policy.domain.valueobject.ClaimNumber;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.CustomerStatus;
+import com.insurance.policy.domain.valueobject.PaymentAmount;
+import com.insurance.policy.domain.valueobject.PaymentMethod;
+import com.insurance.policy.domain.valueobject.TransactionId;
+import com.insurance.policy.infrastructure.persistence.PaymentRepositoryAdapter;
+import com.insurance.policy.infrastructure.persistence.mapper.PaymentMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that GetCustomerOverviewService runs the same number of statements
+ * whether the customer has one policy or many policies, claims and payments.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({CustomerRepositoryAdapter.class, PolicyRepositoryAdapter.class, ClaimRepositoryAdapter.class,
+    PaymentRepositoryAdapter.class, PaymentMapper.class, GetCustomerOverviewService.class})
+class CustomerOverviewStatementCountIntegrationTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private GetCustomerOverviewService service;
+
+    @Autowired
+    private CustomerRepositoryAdapter customerRepository;
+
+    @Autowired
+    private PolicyRepositoryAdapter policyRepository;
+
+    @Autowired
+    private ClaimRepositoryAdapter claimRepository;
+
+    @Autowired
+    private PaymentRepositoryAdapter paymentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void shouldAssembleWholeTree() {
+        // Given
+        Long customerId = createCustomerWith(2, 2, 3);
+
+        // When
+        CustomerOverviewOutput overview = measure(customerId).overview();
+
+        // Then
+        assertThat(overview.customerId()).isEqualTo(customerId);
+        assertThat(overview.policies()).hasSize(2);
+        assertThat(overview.policies()).allSatisfy(policy -> {
+            assertThat(policy.claims()).hasSize(2);
+            assertThat(policy.claims()).allSatisfy(claim -> assertThat(claim.payments()).hasSize(3));
+        });
+    }
+
+    @Test
+    void shouldRunSameNumberOfStatementsRegardlessOfTreeSize() {
+        // Given
+        Long small = createCustomerWith(1, 1, 1);
+        Long large = createCustomerWith(8, 5, 4);
+
+        // When
+        long smallStatements = measure(small).statements();
+        long largeStatements = measure(large).statements();
+
+        // Then
+        assertThat(smallStatements).isEqualTo(4);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    void shouldSkipQueriesForEmptyLevels() {
+        // Given
+        Long customerId = createCustomerWith(0, 0, 0);
+
+        // When
+        Measurement measurement = measure(customerId);
+
+        // Then
+        assertThat(measurement.overview().policies()).isEmpty();
+        assertThat(measurement.statements()).isEqualTo(2);
+    }
+
+    private Measurement measure(Long customerId) {
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CustomerOverviewOutput overview = service.execute(customerId);
+        return new Measurement(overview, statistics.getPrepareStatementCount());
+    }
+
+    private Long createCustomerWith(int policies, int claimsPerPolicy, int paymentsPerClaim) {
+        int customerSeq = SEQUENCE.incrementAndGet();
+        Customer customer = customerRepository.save(Customer.create("Overview", "Test",
+            "overview" + customerSeq + "@example.com", "+1-555-" + customerSeq,
+            "1 Overview Way", CustomerStatus.ACTIVE, LocalDate.of(2024, 1, 15)));
+        for (int p = 0; p < policies; p++) {
+            Policy policy = policyRepository.save(new Policy(customer.getCustomerId().toString(),
+                LocalDate.now().plusDays(1), List.of(Coverage.of("AUTO", 1200.00, "USD"))));
+            for (int c = 0; c < claimsPerPolicy; c++) {
+                Claim claim = claimRepository.save(new Claim(
+                    ClaimNumber.generate(2024, SEQUENCE.incrementAndGet()),
+                    ClaimAmount.of(new BigDecimal("5000.00"), "USD"),
+                    LocalDate.now().minusDays(3),
+                    policy.getId().toString()));
+                for (int m = 0; m < paymentsPerClaim; m++) {
+                    paymentRepository.save(Payment.builder()
+                        .claimId(claim.getId())
+                        .amount(new PaymentAmount(new BigDecimal("100.00")))
+                        .paymentMethod(PaymentMethod.BANK_TRANSFER)
+                        .transactionId(new TransactionId(String.format("TXN%010d", SEQUENCE.incrementAndGet())))
+                        .processedBy("adjuster@example.com")
+                        .build());
+                }
+            }
+        }
+        return customer.getCustomerId();
+    }
+
+    private record Measurement(CustomerOverviewOutput overview, long statements) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.insurance.policy.infrastructure.adapter.persistence;
+
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.port.PolicyRepository;
+import com.insurance.policy.domain.valueobject.Money;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for PolicyRepositoryAdapter reads. Summary lookups run
+ * against deliberately unparseable coverages, so any read that maps them
+ * fails the test.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PolicyRepositoryAdapter.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PolicyRepositoryAdapterIntegrationTest {
+
+    private static final LocalDate EFFECTIVE = LocalDate.of(2025, 1, 1);
+    private static final String COVERAGES = "[{\"coverageType\":\"LIABILITY\",\"premiumAmount\":150.0,\"currency\":\"USD\"}]";
+
+    @Autowired
+    private PolicyRepositoryAdapter repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM policies");
+    }
+
+    @Test
+    void shouldLoadStoredPoliciesAsStored() {
+        // Given: an effective date in the past, which new policies reject
+        long id = insertPolicy("POL-2025-000001", "ACTIVE", COVERAGES);
+
+        // When
+        List<Policy> policies = repository.findAllById(List.of(id));
+
+        // Then
+        assertThat(policies).singleElement().satisfies(policy -> {
+            assertThat(policy.getId()).isEqualTo(id);
+            assertThat(policy.getPolicyNumber()).isEqualTo(PolicyNumber.of("POL-2025-000001"));
+            assertThat(policy.getEffectiveDate()).isEqualTo(EFFECTIVE);
+            assertThat(policy.getExpirationDate()).isEqualTo(EFFECTIVE.plusYears(1));
+            assertThat(policy.getStatus()).isEqualTo(PolicyStatus.ACTIVE);
+            assertThat(policy.getTotalPremium()).isEqualTo(Money.of(150.0, "USD"));
+        });
+    }
+
+    @Test
+    void shouldReadSummariesWithoutLoadingCoverages() {
+        // Given
+        long first = insertPolicy("POL-2025-000001", "ACTIVE", "not json");
+        long second = insertPolicy("POL-2025-000002", "CANCELLED", "not json");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<PolicyRepository.Summary> summaries = repository.findSummariesById(List.of(second, first, -1L));
+
+        // Then
+        assertThat(summaries).containsExactlyInAnyOrder(
+                new PolicyRepository.Summary(first, "POL-2025-000001", "CUST-001", EFFECTIVE,
+                        EFFECTIVE.plusYears(1), new BigDecimal("150.00"), "USD", PolicyStatus.ACTIVE),
+                new PolicyRepository.Summary(second, "POL-2025-000002", "CUST-001", EFFECTIVE,
+                        EFFECTIVE.plusYears(1), new BigDecimal("150.00"), "USD", PolicyStatus.CANCELLED));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldReturnNothingForUnknownIds() {
+        // When
+        List<PolicyRepository.Summary> summaries = repository.findSummariesById(List.of(-1L, -2L));
+
+        // Then
+        assertThat(summaries).isEmpty();
+    }
+
+    private long insertPolicy(String policyNumber, String status, String coveragesJson) {
+        jdbcTemplate.update("INSERT INTO policies (policy_number, customer_id, effective_date, expiration_date, "
+                        + "total_premium_amount, total_premium_currency, status, coverages_json) "
+                        + "VALUES (?, 'CUST-001', ?, ?, 150.00, 'USD', ?, ?)",
+                policyNumber, Date.valueOf(EFFECTIVE), Date.valueOf(EFFECTIVE.plusYears(1)), status, coveragesJson);
+        return jdbcTemplate.queryForObject("SELECT id FROM policies WHERE policy_number = ?", Long.class, policyNumber);
+    }
+}
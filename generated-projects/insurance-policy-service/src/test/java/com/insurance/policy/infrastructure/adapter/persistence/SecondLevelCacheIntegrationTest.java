@@ -0,0 +1,125 @@
+package com.insurance.policy.infrastructure.adapter.persistence;
+
+import com.insurance.policy.domain.entity.Customer;
+import com.insurance.policy.domain.valueobject.CustomerStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the customer second-level, natural-id and query caches.
+ * Runs without a test transaction so every repository call commits in its own
+ * session and later reads can only be served from the shared cache.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CustomerRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private CustomerRepositoryAdapter repository;
+
+    @Autowired
+    private CustomerSpringDataRepository springDataRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.forEach(repository::deleteById);
+    }
+
+    @Test
+    void shouldServeRepeatedLoadByIdFromSecondLevelCache() {
+        // Given
+        Customer saved = save("cache.by.id@example.com", "+1-555-0101");
+        repository.findById(saved.getCustomerId());
+        long hitsBefore = statistics.getSecondLevelCacheHitCount();
+
+        // When
+        repository.findById(saved.getCustomerId());
+
+        // Then
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void shouldResolveEmailFromNaturalIdCache() {
+        // Given
+        save("cache.by.email@example.com", "+1-555-0102");
+        repository.findByEmail("cache.by.email@example.com");
+        long hitsBefore = statistics.getNaturalIdCacheHitCount();
+        long queriesBefore = statistics.getNaturalIdQueryExecutionCount();
+
+        // When
+        var found = repository.findByEmail("cache.by.email@example.com");
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThan(hitsBefore);
+        assertThat(statistics.getNaturalIdQueryExecutionCount()).isEqualTo(queriesBefore);
+    }
+
+    @Test
+    void shouldFollowEmailChangeInNaturalIdCache() {
+        // Given
+        Customer saved = save("cache.old@example.com", "+1-555-0103");
+        repository.findByEmail("cache.old@example.com");
+
+        // When
+        saved.setEmail("cache.new@example.com");
+        repository.save(saved);
+
+        // Then
+        assertThat(repository.findByEmail("cache.new@example.com")).isPresent();
+        assertThat(repository.findByEmail("cache.old@example.com")).isEmpty();
+    }
+
+    @Test
+    void shouldServeRepeatedCacheableQueryFromQueryCache() {
+        // Given
+        save("cache.by.phone@example.com", "+1-555-0104");
+        springDataRepository.findByPhone("+1-555-0104");
+        long hitsBefore = statistics.getQueryCacheHitCount();
+
+        // When
+        var found = springDataRepository.findByPhone("+1-555-0104");
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    private Customer save(String email, String phone) {
+        Customer saved = repository.save(Customer.create("Cache", "Test", email, phone,
+            "1 Cache Lane", CustomerStatus.ACTIVE, LocalDate.of(2024, 1, 15)));
+        created.add(saved.getCustomerId());
+        return saved;
+    }
+}
@@ -0,0 +1,125 @@
+package com.insurance.policy.infrastructure.cache;
+
+import com.insurance.policy.application.dto.CustomerOverviewOutput;
+import com.insurance.policy.application.dto.CustomerOverviewOutput.ClaimOverview;
+import com.insurance.policy.application.dto.CustomerOverviewOutput.PolicyOverview;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for CustomerOverviewCache
+ */
+class CustomerOverviewCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private CustomerOverviewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CustomerOverviewCache(customerId -> {
+            loads.incrementAndGet();
+            return overview(customerId);
+        }, Duration.ofSeconds(60), 2, clock::get);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // When
+        CustomerOverviewOutput first = cache.execute(1L);
+        CustomerOverviewOutput second = cache.execute(1L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldReloadAfterTtl() {
+        // Given
+        cache.execute(1L);
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        cache.execute(1L);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldEvictOverviewsContainingWrittenPolicyOrClaim() {
+        // Given
+        cache.execute(1L);
+        cache.execute(2L);
+
+        // When
+        cache.evictContainingPolicy("10");
+        cache.evictContainingClaim(200L);
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldKeepUnrelatedOverviews() {
+        // Given
+        cache.execute(1L);
+        cache.execute(2L);
+
+        // When
+        cache.evictCustomer(1L);
+        cache.evictContainingClaim(999L);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        cache.execute(2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheOverviewLoadedWhileEvicting() {
+        // Given
+        CustomerOverviewCache[] racing = new CustomerOverviewCache[1];
+        racing[0] = new CustomerOverviewCache(customerId -> {
+            racing[0].evictCustomer(customerId);
+            return overview(customerId);
+        }, Duration.ofSeconds(60), 10, clock::get);
+
+        // When
+        racing[0].execute(1L);
+
+        // Then
+        assertThat(racing[0].size()).isZero();
+    }
+
+    @Test
+    void shouldNotAdmitNewCustomersWhenFull() {
+        // Given
+        cache.execute(1L);
+        cache.execute(2L);
+
+        // When
+        cache.execute(3L);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private static CustomerOverviewOutput overview(Long customerId) {
+        ClaimOverview claim = new ClaimOverview(customerId * 100, "CLM-2024-000001", "SUBMITTED",
+            LocalDate.of(2024, 3, 1), new BigDecimal("500.00"), "USD", List.of());
+        PolicyOverview policy = new PolicyOverview(customerId * 10, "POL-2024-000001", "ACTIVE",
+            LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1), new BigDecimal("1200.00"), "USD", List.of(claim));
+        return new CustomerOverviewOutput(customerId, "Jane", "Doe", "jane@example.com", "ACTIVE", List.of(policy));
+    }
+}
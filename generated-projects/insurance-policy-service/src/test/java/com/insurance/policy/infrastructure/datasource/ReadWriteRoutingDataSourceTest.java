@@ -0,0 +1,107 @@
+package com.insurance.policy.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ReadWriteRoutingDataSource backed by two embedded H2 databases
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String NODE_QUERY = "SELECT name FROM node";
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("payments_primary", "primary");
+        replica = h2("payments_replica", "replica");
+        meterRegistry = new SimpleMeterRegistry();
+        useLagMonitor("SELECT 0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        lagMonitor.close();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        // When
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+        assertThat(meterRegistry.counter("datasource.routing.connections",
+                "route", "replica", "reason", "read-only").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRouteReadWriteTransactionsToPrimary() {
+        // When
+        String node = readWriteTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        // Then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        // Given
+        lagMonitor.close();
+        useLagMonitor("SELECT 30");
+
+        // When
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        // Then
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(node).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.routing.connections",
+                "route", "primary", "reason", "replica-lag").count()).isEqualTo(1.0);
+    }
+
+    private void useLagMonitor(String lagQuery) {
+        lagMonitor = new ReplicaLagMonitor(replica, lagQuery, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        lagMonitor.checkNow();
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private static DataSource h2(String database, String nodeName) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", nodeName);
+        return dataSource;
+    }
+}
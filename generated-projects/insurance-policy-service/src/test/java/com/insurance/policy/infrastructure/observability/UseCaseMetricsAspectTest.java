@@ -0,0 +1,106 @@
+package com.insurance.policy.infrastructure.observability;
+
+import com.insurance.policy.application.dto.ProcessPaymentInput;
+import com.insurance.policy.application.exception.InvalidPaymentException;
+import com.insurance.policy.application.service.ProcessPaymentService;
+import com.insurance.policy.application.usecase.ProcessPaymentUseCase;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.domain.port.PaymentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for UseCaseMetricsAspect
+ */
+class UseCaseMetricsAspectTest {
+
+    private static final ProcessPaymentInput INPUT = new ProcessPaymentInput(
+        1L, new BigDecimal("50.00"), "BANK_TRANSFER", "TXN1234567890", "admin@test.com", null);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimRepository claimRepository;
+    private ProcessPaymentUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        claimRepository = mock(ClaimRepository.class);
+        ProcessPaymentService service = new ProcessPaymentService(mock(PaymentRepository.class), claimRepository);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(service);
+        proxyFactory.addAspect(new UseCaseMetricsAspect(
+            beanFactory.getBeanProvider(MeterRegistry.class),
+            new UseCaseMetricsProperties(true, null, null, null, null)));
+        useCase = proxyFactory.getProxy();
+    }
+
+    @Test
+    void shouldTagBusinessRejectionWithExceptionType() {
+        // Given
+        when(claimRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        assertThatThrownBy(() -> useCase.execute(INPUT)).isInstanceOf(InvalidPaymentException.class);
+
+        // Then
+        Timer timer = meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME)
+            .tag("use_case", "ProcessPaymentUseCase")
+            .tag("method", "execute")
+            .tag("outcome", "InvalidPaymentException")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagUnexpectedFailureAsError() {
+        // Given
+        when(claimRepository.findById(1L)).thenThrow(new RuntimeException("connection reset"));
+
+        // When
+        assertThatThrownBy(() -> useCase.execute(INPUT)).hasMessage("connection reset");
+
+        // Then
+        assertThat(meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME)
+            .tag("outcome", UseCaseMetricsAspect.ERROR)
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishSloBucketsAndReuseTimerAcrossCalls() {
+        // Given
+        when(claimRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> useCase.execute(INPUT)).isInstanceOf(InvalidPaymentException.class);
+        }
+
+        // Then
+        Timer timer = meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME)
+            .tag("outcome", "InvalidPaymentException")
+            .timer();
+        assertThat(meterRegistry.find(UseCaseMetricsAspect.METRIC_NAME)
+            .tag("outcome", "InvalidPaymentException")
+            .timers()).hasSize(1);
+        assertThat(timer.count()).isEqualTo(3);
+        assertThat(timer.takeSnapshot().histogramCounts())
+            .anySatisfy(bucket -> assertThat(bucket.bucket()).isEqualTo(Duration.ofMillis(100).toNanos()));
+    }
+}
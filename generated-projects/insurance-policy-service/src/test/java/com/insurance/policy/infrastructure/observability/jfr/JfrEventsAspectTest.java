@@ -0,0 +1,118 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import com.insurance.policy.application.dto.ProcessPaymentInput;
+import com.insurance.policy.application.exception.InvalidPaymentException;
+import com.insurance.policy.application.service.ProcessPaymentService;
+import com.insurance.policy.application.usecase.ProcessPaymentUseCase;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.domain.port.PaymentRepository;
+import com.insurance.policy.infrastructure.persistence.PaymentRepositoryAdapter;
+import com.insurance.policy.infrastructure.persistence.PaymentSpringDataRepository;
+import com.insurance.policy.infrastructure.persistence.entity.PaymentJpaEntity;
+import com.insurance.policy.infrastructure.persistence.mapper.PaymentMapper;
+import jakarta.persistence.EntityManager;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for JfrEventsAspect applied through a Spring AOP proxy, so the
+ * pointcut expressions are parsed and matched as they are in the application
+ */
+class JfrEventsAspectTest {
+
+    private static final String USE_CASE_EVENT = "com.insurance.policy.UseCase";
+    private static final String REPOSITORY_CALL_EVENT = "com.insurance.policy.RepositoryCall";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordUseCaseCallWithOutcome() throws Exception {
+        // Given
+        ClaimRepository claimRepository = mock(ClaimRepository.class);
+        when(claimRepository.findById(1L)).thenReturn(Optional.empty());
+        ProcessPaymentUseCase useCase = proxy(new ProcessPaymentService(mock(PaymentRepository.class), claimRepository));
+        ProcessPaymentInput input = new ProcessPaymentInput(
+            1L, new BigDecimal("50.00"), "BANK_TRANSFER", "TXN1234567890", "admin@test.com", null);
+
+        // When
+        List<RecordedEvent> events = record(USE_CASE_EVENT, () ->
+            assertThatThrownBy(() -> useCase.execute(input)).isInstanceOf(InvalidPaymentException.class));
+
+        // Then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("useCase")).isEqualTo("ProcessPaymentUseCase");
+        assertThat(events.get(0).getString("method")).isEqualTo("execute");
+        assertThat(events.get(0).getString("outcome")).isEqualTo("InvalidPaymentException");
+    }
+
+    @Test
+    void shouldRecordRepositoryCallCountingStreamedRows() throws Exception {
+        // Given
+        PaymentSpringDataRepository springDataRepository = mock(PaymentSpringDataRepository.class);
+        when(springDataRepository.streamByClaimId(7L))
+            .thenReturn(Stream.of(new PaymentJpaEntity(), new PaymentJpaEntity()));
+        PaymentRepository repository = proxy(new PaymentRepositoryAdapter(
+            springDataRepository, mock(PaymentMapper.class), mock(EntityManager.class)));
+        List<Object> streamed = new ArrayList<>();
+
+        // When
+        List<RecordedEvent> events = record(REPOSITORY_CALL_EVENT, () -> repository.forEachByClaimId(7L, streamed::add));
+
+        // Then
+        assertThat(streamed).hasSize(2);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("entityType")).isEqualTo("Payment");
+        assertThat(events.get(0).getString("operation")).isEqualTo("forEachByClaimId");
+        assertThat(events.get(0).getLong("rowCount")).isEqualTo(2);
+        assertThat(events.get(0).getString("outcome")).isEqualTo(JfrEventsAspect.SUCCESS);
+    }
+
+    @Test
+    void shouldProceedWithoutRecording() {
+        // Given
+        PaymentSpringDataRepository springDataRepository = mock(PaymentSpringDataRepository.class);
+        PaymentRepository repository = proxy(new PaymentRepositoryAdapter(
+            springDataRepository, mock(PaymentMapper.class), mock(EntityManager.class)));
+
+        // When / Then
+        assertThat(repository.findByClaimIds(List.of())).isEmpty();
+    }
+
+    private static <T> T proxy(Object target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new JfrEventsAspect());
+        return proxyFactory.getProxy();
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals(eventName))
+            .toList();
+    }
+}
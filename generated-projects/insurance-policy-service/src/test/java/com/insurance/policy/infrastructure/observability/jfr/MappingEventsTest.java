@@ -0,0 +1,71 @@
+package com.insurance.policy.infrastructure.observability.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for MappingEvents and the JfrEventsAspect row counting
+ */
+class MappingEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordMappingEventWithEntityTypeAndRowCount() throws Exception {
+        // Given
+        Path file = tempDir.resolve("mapping.jfr");
+        List<Integer> mapped;
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable("com.insurance.policy.Mapping").withThreshold(Duration.ZERO);
+            recording.start();
+            mapped = MappingEvents.toDomainList("Claim", List.of("1", "22", "333"), String::length);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        assertThat(mapped).containsExactly(1, 2, 3);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals("com.insurance.policy.Mapping"))
+            .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("entityType")).isEqualTo("Claim");
+        assertThat(events.get(0).getLong("rowCount")).isEqualTo(3);
+    }
+
+    @Test
+    void shouldMapWithoutRecording() {
+        // When
+        List<Integer> mapped = MappingEvents.toDomainList("Claim", List.of("ab"), String::length);
+        Integer single = MappingEvents.toDomain("Claim", "abc", String::length);
+
+        // Then
+        assertThat(mapped).containsExactly(2);
+        assertThat(single).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCountRowsByResultShape() {
+        assertThat(JfrEventsAspect.rowCount(List.of(1, 2))).isEqualTo(2);
+        assertThat(JfrEventsAspect.rowCount(Map.of("a", 1))).isEqualTo(1);
+        assertThat(JfrEventsAspect.rowCount(Optional.empty())).isZero();
+        assertThat(JfrEventsAspect.rowCount(Optional.of("x"))).isEqualTo(1);
+        assertThat(JfrEventsAspect.rowCount(Boolean.TRUE)).isZero();
+        assertThat(JfrEventsAspect.rowCount(null)).isZero();
+        assertThat(JfrEventsAspect.rowCount("entity")).isEqualTo(1);
+    }
+}
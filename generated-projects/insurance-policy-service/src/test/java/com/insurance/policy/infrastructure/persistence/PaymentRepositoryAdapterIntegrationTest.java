@@ -13,6 +13,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +64,35 @@ class PaymentRepositoryAdapterIntegrationTest {
             .contains("TXN2222222222", "TXN3333333333");
     }
 
+    @Test
+    void shouldStreamPaymentsByClaimId() {
+        // Given
+        paymentRepository.save(createTestPayment("TXN2323232323"));
+        paymentRepository.save(createTestPayment("TXN3434343434"));
+
+        // When
+        List<Payment> streamed = new ArrayList<>();
+        paymentRepository.forEachByClaimId(1L, streamed::add);
+
+        // Then
+        assertThat(streamed).extracting(p -> p.getTransactionId().getValue())
+            .contains("TXN2323232323", "TXN3434343434");
+    }
+
+    @Test
+    void shouldStreamPaymentsByStatus() {
+        // Given
+        paymentRepository.save(createTestPayment("TXN4545454545"));
+
+        // When
+        List<Payment> streamed = new ArrayList<>();
+        paymentRepository.forEachByPaymentStatus(PaymentStatus.PENDING, streamed::add);
+
+        // Then
+        assertThat(streamed).isNotEmpty();
+        assertThat(streamed).allMatch(p -> p.getPaymentStatus() == PaymentStatus.PENDING);
+    }
+
     @Test
     void shouldFindPaymentsByStatus() {
         // Given
@@ -127,6 +157,21 @@ class PaymentRepositoryAdapterIntegrationTest {
         assertThat(completedPayments).allMatch(p -> p.getPaymentStatus() == PaymentStatus.COMPLETED);
     }
 
+    @Test
+    void shouldFindPaymentsByIdsInOneCall() {
+        // Given
+        Payment first = paymentRepository.save(createTestPayment("TXN1212121212"));
+        Payment second = paymentRepository.save(createTestPayment("TXN3434343434"));
+
+        // When
+        List<Payment> payments = paymentRepository.findAllById(
+            List.of(second.getPaymentId(), first.getPaymentId(), Long.MAX_VALUE));
+
+        // Then
+        assertThat(payments).extracting(Payment::getPaymentId)
+            .containsExactlyInAnyOrder(first.getPaymentId(), second.getPaymentId());
+    }
+
     @Test
     void shouldDeletePaymentById() {
         // Given
@@ -0,0 +1,193 @@
+package com.insurance.policy.infrastructure.repricing;
+
+import com.insurance.policy.domain.service.CoverageTypeRates;
+import com.insurance.policy.infrastructure.cache.CustomerOverviewCache;
+import com.insurance.policy.infrastructure.cache.SecondLevelCacheInvalidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for PortfolioRepricingJob against the policies table.
+ * Runs without a test transaction because the job commits chunk by chunk.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PortfolioRepricingJobIntegrationTest {
+
+    private static final String COVERAGES = "[{\"coverageType\":\"COLLISION\",\"premiumAmount\":100.0,\"currency\":\"USD\"},"
+            + "{\"coverageType\":\"LIABILITY\",\"premiumAmount\":50.0,\"currency\":\"USD\"}]";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private int policyNumber;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM policies");
+        jdbcTemplate.update("DELETE FROM repricing_checkpoints");
+    }
+
+    @Test
+    void shouldRepriceEveryActivePolicyAcrossChunksAndCursors() {
+        // Given: more policies than one cursor reads, plus cancelled ones
+        int active = 4 * PortfolioRepricingJob.CHUNKS_PER_CURSOR + 50;
+        insertPolicies(active, "ACTIVE", COVERAGES);
+        insertPolicies(5, "CANCELLED", COVERAGES);
+
+        // When
+        RepricingProgress progress = job(4, Map.of("collision", new BigDecimal("1.10"))).run("rates-2026-11");
+
+        // Then
+        assertThat(progress.checkpoint().status()).isEqualTo(RepricingStatus.COMPLETED);
+        assertThat(progress.checkpoint().repriced()).isEqualTo(active);
+        assertThat(progress.total()).isEqualTo(active);
+        assertThat(progress.remaining()).isZero();
+        assertThat(totalsByStatus("ACTIVE")).hasSize(active).containsOnly(new BigDecimal("160.00"));
+        assertThat(totalsByStatus("CANCELLED")).containsOnly(new BigDecimal("150.00"));
+        assertThat(jdbcTemplate.queryForList("SELECT coverages_json FROM policies WHERE status = 'ACTIVE'", String.class))
+                .allSatisfy(json -> assertThat(json)
+                        .contains("\"coverageType\":\"COLLISION\",\"premiumAmount\":110.0")
+                        .contains("\"coverageType\":\"LIABILITY\",\"premiumAmount\":50.0"));
+    }
+
+    @Test
+    void shouldNotRepriceAgainOnceCompleted() {
+        // Given
+        insertPolicies(10, "ACTIVE", COVERAGES);
+        PortfolioRepricingJob job = job(4, Map.of("COLLISION", new BigDecimal("1.10")));
+        job.run("rates-2026-11");
+
+        // When
+        RepricingProgress progress = job.run("rates-2026-11");
+
+        // Then
+        assertThat(progress.checkpoint().status()).isEqualTo(RepricingStatus.COMPLETED);
+        assertThat(progress.checkpoint().repriced()).isEqualTo(10);
+        assertThat(totalsByStatus("ACTIVE")).containsOnly(new BigDecimal("160.00"));
+    }
+
+    @Test
+    void shouldResumeAfterLastCommittedPolicy() {
+        // Given: a failed job that had committed the first four policies
+        List<Long> ids = insertPolicies(10, "ACTIVE", COVERAGES);
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO repricing_checkpoints (job_id, status, last_policy_id, repriced, unchanged, "
+                + "conflicts, failed, started_at, updated_at, error) VALUES (?, 'FAILED', ?, 4, 0, 0, 0, ?, ?, 'boom')",
+                "rates-2026-11", ids.get(3), now, now);
+
+        // When
+        RepricingProgress progress = job(3, Map.of("COLLISION", new BigDecimal("1.10"))).run("rates-2026-11");
+
+        // Then
+        assertThat(progress.checkpoint().status()).isEqualTo(RepricingStatus.COMPLETED);
+        assertThat(progress.checkpoint().repriced()).isEqualTo(10);
+        assertThat(progress.checkpoint().error()).isNull();
+        assertThat(totalOf(ids.get(3))).isEqualByComparingTo("150.00");
+        assertThat(totalOf(ids.get(4))).isEqualByComparingTo("160.00");
+        assertThat(totalOf(ids.get(9))).isEqualByComparingTo("160.00");
+    }
+
+    @Test
+    void shouldNotTakeOverJobRunningElsewhere() {
+        // Given
+        RepricingCheckpointStore store = new RepricingCheckpointStore(jdbcTemplate);
+        store.claim("rates-2026-11", Duration.ofMinutes(5));
+
+        // When / Then
+        assertThat(store.claim("rates-2026-11", Duration.ofMinutes(5))).isEmpty();
+        assertThat(store.claim("rates-2026-11", Duration.ZERO.minusSeconds(1))).isPresent();
+    }
+
+    @Test
+    void shouldCountUnreadableAndUnchangedPolicies() {
+        // Given
+        insertPolicies(3, "ACTIVE", COVERAGES);
+        insertPolicies(1, "ACTIVE", "not json");
+        insertPolicies(2, "ACTIVE",
+                "[{\"coverageType\":\"MEDICAL\",\"premiumAmount\":150.0,\"currency\":\"USD\"}]");
+
+        // When
+        RepricingProgress progress = job(2, Map.of("COLLISION", new BigDecimal("1.10"))).run("rates-2026-11");
+
+        // Then
+        RepricingCheckpoint checkpoint = progress.checkpoint();
+        assertThat(checkpoint.status()).isEqualTo(RepricingStatus.COMPLETED);
+        assertThat(checkpoint.repriced()).isEqualTo(3);
+        assertThat(checkpoint.failed()).isEqualTo(1);
+        assertThat(checkpoint.unchanged()).isEqualTo(2);
+        assertThat(checkpoint.processed()).isEqualTo(6);
+    }
+
+    private PortfolioRepricingJob job(int chunkSize, Map<String, BigDecimal> rates) {
+        RepricingProperties properties = new RepricingProperties(chunkSize, 2, null, BigDecimal.ONE, rates);
+        return new PortfolioRepricingJob(
+                dataSource,
+                jdbcTemplate,
+                transactionManager,
+                new RepricingCheckpointStore(jdbcTemplate),
+                new CoverageTypeRates(properties.rates(), properties.defaultRate()),
+                properties,
+                new SecondLevelCacheInvalidator(entityManagerFactory.unwrap(SessionFactory.class).getCache()),
+                new StaticListableBeanFactory().getBeanProvider(CustomerOverviewCache.class),
+                new SimpleMeterRegistry());
+    }
+
+    private List<Long> insertPolicies(int count, String status, String coveragesJson) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String number = String.format("POL-2026-%06d", ++policyNumber);
+            jdbcTemplate.update("INSERT INTO policies (policy_number, customer_id, effective_date, expiration_date, "
+                            + "total_premium_amount, total_premium_currency, status, coverages_json) "
+                            + "VALUES (?, 'CUST-001', ?, ?, 150.00, 'USD', ?, ?)",
+                    number, Date.valueOf(LocalDate.of(2026, 1, 1)), Date.valueOf(LocalDate.of(2027, 1, 1)),
+                    status, coveragesJson);
+            ids.add(jdbcTemplate.queryForObject("SELECT id FROM policies WHERE policy_number = ?", Long.class, number));
+        }
+        return ids;
+    }
+
+    private List<BigDecimal> totalsByStatus(String status) {
+        return jdbcTemplate.queryForList("SELECT total_premium_amount FROM policies WHERE status = ?",
+                BigDecimal.class, status);
+    }
+
+    private BigDecimal totalOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT total_premium_amount FROM policies WHERE id = ?",
+                BigDecimal.class, id);
+    }
+}
@@ -0,0 +1,171 @@
+package com.insurance.policy.infrastructure.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for AdaptiveConcurrencyLimiter and its AIMD limit
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(900);
+
+    private Bulkhead bulkhead;
+    private Counter rejected;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = Bulkhead.of("claims-write", BulkheadConfig.custom()
+                .maxConcurrentCalls(10)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        rejected = new SimpleMeterRegistry().counter("adaptive.concurrency.rejected");
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(4, 2, 8, 0.5, TimeUnit.MILLISECONDS.toNanos(500));
+        limiter = new AdaptiveConcurrencyLimiter(bulkhead, limit, rejected);
+    }
+
+    @Test
+    void shouldApplyInitialLimitToBulkhead() {
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(bulkhead.getMetrics().getMaxAllowedConcurrentCalls()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldShedCallsOverTheLimit() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> limiter.acquire()).isInstanceOf(BulkheadFullException.class);
+        assertThat(rejected.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldIncreaseLimitForFastCallsUnderLoad() {
+        // Given
+        limiter.acquire();
+        limiter.acquire();
+
+        // When
+        limiter.release(FAST, false);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(bulkhead.getMetrics().getMaxAllowedConcurrentCalls()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldBackOffOnSlowCalls() {
+        // Given
+        limiter.acquire();
+
+        // When
+        limiter.release(SLOW, false);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(bulkhead.getMetrics().getMaxAllowedConcurrentCalls()).isEqualTo(2);
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBackOffOnFailedCalls() {
+        // Given
+        limiter.acquire();
+
+        // When
+        limiter.release(FAST, true);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotGrowBeyondMaxLimit() {
+        // When
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < limiter.getLimit(); j++) {
+                limiter.acquire();
+            }
+            for (int j = limiter.getLimit(); j > 0; j--) {
+                limiter.release(FAST, false);
+            }
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void shouldNotBlockReleaseWhenCallArrivesWhileShrinking() {
+        // Given
+        Bulkhead racing = spy(Bulkhead.of("claims-write-racing", BulkheadConfig.custom()
+                .maxConcurrentCalls(4)
+                .maxWaitDuration(Duration.ZERO)
+                .build()));
+        AdaptiveConcurrencyLimiter racingLimiter = new AdaptiveConcurrencyLimiter(racing,
+                new AimdConcurrencyLimit(4, 2, 8, 0.5, TimeUnit.MILLISECONDS.toNanos(500)), rejected);
+        for (int i = 0; i < 4; i++) {
+            racingLimiter.acquire();
+        }
+        Bulkhead.Metrics realMetrics = racing.getMetrics();
+        Bulkhead.Metrics metrics = mock(Bulkhead.Metrics.class);
+        when(metrics.getMaxAllowedConcurrentCalls())
+                .thenAnswer(invocation -> racing.getBulkheadConfig().getMaxConcurrentCalls());
+        when(racing.getMetrics()).thenReturn(metrics);
+        AtomicInteger readsUntilArrival = new AtomicInteger(2);
+        AtomicReference<Future<?>> arrival = new AtomicReference<>();
+        try (ExecutorService caller = Executors.newSingleThreadExecutor()) {
+            when(metrics.getAvailableConcurrentCalls()).thenAnswer(invocation -> {
+                int available = realMetrics.getAvailableConcurrentCalls();
+                if (readsUntilArrival.decrementAndGet() == 0) {
+                    // Another request arrives after the free permits were counted for the shrink
+                    arrival.set(caller.submit(racingLimiter::acquire));
+                    try {
+                        arrival.get().get(100, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException | ExecutionException e) {
+                        // Waiting for the resize or shed
+                    }
+                }
+                return available;
+            });
+
+            // When
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> racingLimiter.release(SLOW, false));
+
+            // Then
+            ExecutionException shed = catchThrowableOfType(
+                    () -> arrival.get().get(5, TimeUnit.SECONDS), ExecutionException.class);
+            assertThat(shed).hasCauseInstanceOf(BulkheadFullException.class);
+        }
+        assertThat(racing.getBulkheadConfig().getMaxConcurrentCalls()).isEqualTo(3);
+        assertThat(realMetrics.getAvailableConcurrentCalls()).isZero();
+    }
+}
@@ -0,0 +1,192 @@
+package com.insurance.policy.infrastructure.search;
+
+import com.insurance.policy.domain.port.CustomerSearch.Match;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for InMemoryCustomerSearchIndex
+ */
+class InMemoryCustomerSearchIndexTest {
+
+    private static final long BYTES_PER_CUSTOMER_BUDGET = 400;
+
+    private final InMemoryCustomerSearchIndex index = new InMemoryCustomerSearchIndex(1_000);
+
+    @Test
+    void shouldRankExactWordAboveLongerPrefixMatches() {
+        // Given
+        index.put(3, "Annabel", "Jones", "annabel@example.com", null);
+        index.put(2, "Anna", "Smith", "anna@example.com", null);
+        index.put(1, "Ann", "Lee", "ann@example.com", null);
+
+        // When
+        List<Match> matches = index.search("Ann", 10);
+
+        // Then
+        assertThat(ids(matches)).containsExactly(1L, 2L, 3L);
+        assertThat(matches.get(0).score()).isEqualTo(InMemoryCustomerSearchIndex.EXACT);
+    }
+
+    @Test
+    void shouldRankCustomersMatchingEveryWordAboveFuzzyMatches() {
+        // Given
+        index.put(1, "John", "Brown", "john.brown@example.com", null);
+        index.put(2, "John", "Smith", "john.smith@example.com", null);
+        index.put(3, "Jane", "Smithers", "jane@example.com", null);
+
+        // When
+        List<Match> matches = index.search("smi john", 10);
+
+        // Then
+        assertThat(matches.get(0).customerId()).isEqualTo(2L);
+        assertThat(matches.get(0).score()).isGreaterThan(2.0);
+        assertThat(matches.subList(1, matches.size())).allSatisfy(match -> assertThat(match.score()).isLessThan(1.0));
+    }
+
+    @Test
+    void shouldIgnoreCaseAndAccents() {
+        // Given
+        index.put(1, "José", "Müller", "jose@example.com", null);
+
+        // When / Then
+        assertThat(ids(index.search("JOSE mull", 10))).containsExactly(1L);
+        assertThat(ids(index.search("müll", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void shouldFindByEmailPrefix() {
+        // Given
+        index.put(1, "Jane", "Doe", "jane.doe@example.com", null);
+        index.put(2, "Jane", "Dobson", "jane.dobson@example.com", null);
+
+        // When
+        List<Match> matches = index.search("jane.doe@ex", 10);
+
+        // Then
+        assertThat(ids(matches)).containsExactly(1L);
+        assertThat(matches.get(0).email()).isEqualTo("jane.doe@example.com");
+    }
+
+    @Test
+    void shouldFindByPhoneWithOrWithoutCountryCode() {
+        // Given
+        index.put(1, "Jane", "Doe", "jane@example.com", "+1 (555) 123-4567");
+        index.put(2, "John", "Doe", "john@example.com", "+1 (555) 987-6543");
+
+        // When / Then
+        assertThat(ids(index.search("555-123", 10))).containsExactly(1L);
+        assertThat(ids(index.search("+1 555 12", 10))).containsExactly(1L);
+        assertThat(ids(index.search("15559876543", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void shouldFindNameWithTypo() {
+        // Given
+        index.put(1, "Patricia", "Smith", "p.smith@example.com", null);
+        index.put(2, "Peter", "Jones", "p.jones@example.com", null);
+
+        // When
+        List<Match> matches = index.search("patrica", 10);
+
+        // Then
+        assertThat(ids(matches)).containsExactly(1L);
+        assertThat(matches.get(0).score()).isLessThan(1.0);
+    }
+
+    @Test
+    void shouldReturnAtMostLimitMatches() {
+        // Given
+        for (long id = 1; id <= 50; id++) {
+            index.put(id, "Maria", "Garcia" + id, "maria" + id + "@example.com", null);
+        }
+
+        // When
+        List<Match> matches = index.search("maria", 5);
+
+        // Then
+        assertThat(ids(matches)).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void shouldReflectUpdatesAndRemovals() {
+        // Given
+        index.put(1, "John", "Smith", "john@example.com", null);
+
+        // When
+        index.put(1, "John", "Brown", "john@example.com", null);
+
+        // Then
+        assertThat(index.search("smith", 10)).isEmpty();
+        assertThat(ids(index.search("brown", 10))).containsExactly(1L);
+
+        // When
+        index.remove(1);
+
+        // Then
+        assertThat(index.search("john", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void shouldNotIndexNewCustomersBeyondCapacity() {
+        // Given
+        InMemoryCustomerSearchIndex small = new InMemoryCustomerSearchIndex(2);
+        small.put(1, "Ann", "Lee", "ann@example.com", null);
+        small.put(2, "Bob", "Lee", "bob@example.com", null);
+
+        // When / Then
+        assertThat(small.put(3, "Cal", "Lee", "cal@example.com", null)).isFalse();
+        assertThat(small.put(2, "Bob", "Leeds", "bob@example.com", null)).isTrue();
+        assertThat(ids(small.search("lee", 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldLetWritesDuringLoadWinOverLoadedRows() {
+        // Given
+        index.beginLoad();
+        index.put(1, "John", "Brown", "john@example.com", null);
+        index.remove(2);
+
+        // When
+        boolean staleUpdate = index.load(1, "John", "Smith", "john@example.com", null);
+        boolean deleted = index.load(2, "Jane", "Smith", "jane@example.com", null);
+        boolean untouched = index.load(3, "Joe", "Smith", "joe@example.com", null);
+        index.endLoad();
+
+        // Then
+        assertThat(staleUpdate).isFalse();
+        assertThat(deleted).isFalse();
+        assertThat(untouched).isTrue();
+        assertThat(ids(index.search("smith", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void shouldStayWithinMemoryBudgetPerCustomer() {
+        // Given
+        int customers = 100_000;
+        InMemoryCustomerSearchIndex large = new InMemoryCustomerSearchIndex(customers);
+        String[] firstNames = {"James", "Mary", "Robert", "Patricia", "Michael", "Linda", "David", "Susan"};
+        String[] lastNames = {"Smith", "Johnson", "Williams", "Brown", "Garcia", "Miller", "Davis", "Wilson"};
+
+        // When
+        for (int id = 1; id <= customers; id++) {
+            String firstName = firstNames[id % firstNames.length];
+            String lastName = lastNames[(id / firstNames.length) % lastNames.length] + (id % 997);
+            large.put(id, firstName, lastName, (firstName + "." + lastName + id + "@example.com").toLowerCase(),
+                String.format("+1-555-%07d", id));
+        }
+
+        // Then
+        assertThat(large.size()).isEqualTo(customers);
+        assertThat(large.estimatedBytes() / customers).isLessThan(BYTES_PER_CUSTOMER_BUDGET);
+        assertThat(large.search("mary smi", 20)).hasSize(20);
+    }
+
+    private static List<Long> ids(List<Match> matches) {
+        return matches.stream().map(Match::customerId).toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.insurance.policy.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.infrastructure.persistence.mapper.PaymentMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for MappingWarmupCalls run through Warmup
+ */
+class MappingWarmupCallsTest {
+
+    @Test
+    void shouldRoundTripEveryMapperWithoutDrawingPolicyNumbers() {
+        // Given
+        long sequenceBefore = sequenceOf(PolicyNumber.generate(2025));
+        Warmup warmup = new Warmup(MappingWarmupCalls.create(new ObjectMapper(), new PaymentMapper()),
+                100, Duration.ofMinutes(1));
+
+        // When
+        Warmup.Result result = warmup.run();
+
+        // Then
+        assertThat(result.calls()).isEqualTo(300);
+        assertThat(result.failed()).isZero();
+        assertThat(sequenceOf(PolicyNumber.generate(2025))).isEqualTo(sequenceBefore + 1);
+    }
+
+    private static long sequenceOf(PolicyNumber policyNumber) {
+        return Long.parseLong(policyNumber.value().substring(9));
+    }
+}
@@ -0,0 +1,74 @@
+package com.insurance.policy.infrastructure.warmup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for Warmup iteration budget, time cap and failure handling
+ */
+class WarmupTest {
+
+    @Test
+    void shouldRunEveryCallForEachIteration() {
+        // Given
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        Warmup warmup = new Warmup(List.of(
+                new WarmupCall("first", first::incrementAndGet),
+                new WarmupCall("second", second::incrementAndGet)
+        ), 50, Duration.ofMinutes(1));
+
+        // When
+        Warmup.Result result = warmup.run();
+
+        // Then
+        assertThat(first).hasValue(50);
+        assertThat(second).hasValue(50);
+        assertThat(result.calls()).isEqualTo(100);
+        assertThat(result.failed()).isZero();
+        assertThat(result.capped()).isFalse();
+    }
+
+    @Test
+    void shouldStopAtMaxDuration() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Warmup warmup = new Warmup(List.of(new WarmupCall("slow", () -> {
+            calls.incrementAndGet();
+            Thread.sleep(20);
+        })), 1_000_000, Duration.ofMillis(100));
+
+        // When
+        Warmup.Result result = warmup.run();
+
+        // Then
+        assertThat(result.capped()).isTrue();
+        assertThat(result.calls()).isEqualTo(calls.get()).isLessThan(1_000_000);
+        assertThat(result.elapsed()).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldCountFailuresAndKeepGoing() {
+        // Given
+        AtomicInteger healthy = new AtomicInteger();
+        Warmup warmup = new Warmup(List.of(
+                new WarmupCall("failing", () -> {
+                    throw new IllegalStateException("boom");
+                }),
+                new WarmupCall("healthy", healthy::incrementAndGet)
+        ), 10, Duration.ofMinutes(1));
+
+        // When
+        Warmup.Result result = warmup.run();
+
+        // Then
+        assertThat(healthy).hasValue(10);
+        assertThat(result.calls()).isEqualTo(20);
+        assertThat(result.failed()).isEqualTo(10);
+    }
+}
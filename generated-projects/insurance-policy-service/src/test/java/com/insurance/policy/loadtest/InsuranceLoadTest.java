@@ -0,0 +1,149 @@
+package com.insurance.policy.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policy.InsurancePolicyApplication;
+import com.insurance.policy.domain.entity.Claim;
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.domain.valueobject.ClaimAmount;
+import com.insurance.policy.domain.valueobject.ClaimNumber;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+import com.insurance.policy.infrastructure.adapter.persistence.PolicySpringDataRepository;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.mapper.PolicyMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test for the insurance REST API against an embedded H2 database.
+ *
+ * Boots the application on a random port, seeds active policies and approved
+ * claims, then drives a mix of policy creation, claim submission and payment
+ * processing through {@link LoadTestHarness}.
+ * Run with: mvn -Ploadtest test-compile exec:exec -Dloadtest.rate=200 -Dloadtest.duration-seconds=60
+ */
+public final class InsuranceLoadTest {
+
+    private static final int SEEDED_POLICIES = 200;
+    private static final int SEEDED_CLAIMS = 2_000;
+    private static final String[] COVERAGE_TYPES = {"LIABILITY", "COLLISION", "COMPREHENSIVE"};
+
+    private InsuranceLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        try (ConfigurableApplicationContext context = start(args)) {
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            List<Long> policyIds = seedActivePolicies(context);
+            List<Long> claimIds = seedApprovedClaims(context.getBean(ClaimRepository.class), policyIds);
+            AtomicLong transactions = new AtomicLong();
+
+            LoadTestHarness harness = new LoadTestHarness(profile, List.of(
+                new LoadScenario("POST /api/v1/policies", 2, () -> LoadTestHarness.postJson(
+                    baseUri.resolve("/api/v1/policies"), createPolicyJson())),
+                new LoadScenario("POST /api/v1/claims", 3, () -> LoadTestHarness.postJson(
+                    baseUri.resolve("/api/v1/claims"), submitClaimJson(any(policyIds)))),
+                new LoadScenario("POST /api/v1/payments", 3, () -> LoadTestHarness.postJson(
+                    baseUri.resolve("/api/v1/payments"),
+                    processPaymentJson(any(claimIds), transactions.incrementAndGet())))
+            ));
+            Path report = harness.run("insurance-policy-service");
+            System.out.println("Report written to " + report.toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String[] overrides) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.show-sql=false",
+            "--springdoc.api-docs.enabled=false",
+            "--springdoc.swagger-ui.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.insurance.policy=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(InsurancePolicyApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Policies cannot be activated through the domain before their effective
+     * date, and cannot be created with a past one, so the seed rows are written
+     * as ACTIVE directly.
+     */
+    private static List<Long> seedActivePolicies(ConfigurableApplicationContext context) {
+        PolicySpringDataRepository repository = context.getBean(PolicySpringDataRepository.class);
+        PolicyMapper mapper = new PolicyMapper(context.getBean(ObjectMapper.class));
+        List<Long> ids = new ArrayList<>(SEEDED_POLICIES);
+        for (int i = 0; i < SEEDED_POLICIES; i++) {
+            Policy policy = new Policy("CUST-" + i, LocalDate.now().plusDays(1),
+                List.of(Coverage.of(COVERAGE_TYPES[i % COVERAGE_TYPES.length], 500.0, "USD")));
+            PolicyJpaEntity row = mapper.toJpa(policy);
+            row.setStatus(PolicyStatus.ACTIVE);
+            ids.add(repository.save(row).getId());
+        }
+        return ids;
+    }
+
+    private static List<Long> seedApprovedClaims(ClaimRepository repository, List<Long> policyIds) {
+        List<Long> ids = new ArrayList<>(SEEDED_CLAIMS);
+        for (int i = 0; i < SEEDED_CLAIMS; i++) {
+            Claim claim = new Claim(
+                ClaimNumber.of(String.format("CLM-2000-%06d", i)),
+                ClaimAmount.of(new BigDecimal("100000.00"), "USD"),
+                LocalDate.now().minusDays(1),
+                policyIds.get(i % policyIds.size()).toString()
+            );
+            claim.moveToUnderReview();
+            claim.approve();
+            ids.add(repository.save(claim).getId());
+        }
+        return ids;
+    }
+
+    private static long any(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static String createPolicyJson() {
+        String coverageType = COVERAGE_TYPES[ThreadLocalRandom.current().nextInt(COVERAGE_TYPES.length)];
+        return """
+            {"customerId":"CUST-%d","effectiveDate":"%s",\
+            "coverages":[{"coverageType":"%s","premiumAmount":750.00,"currency":"USD"}]}"""
+            .formatted(ThreadLocalRandom.current().nextInt(10_000), LocalDate.now().plusDays(30), coverageType);
+    }
+
+    private static String submitClaimJson(long policyId) {
+        return """
+            {"policyId":%d,"claimedAmount":2500.00,"incidentDate":"%s",\
+            "description":"Load test claim for rear bumper damage","currency":"USD"}"""
+            .formatted(policyId, LocalDate.now().minusDays(2));
+    }
+
+    private static String processPaymentJson(long claimId, long transaction) {
+        return """
+            {"claimId":%d,"amount":10.00,"paymentMethod":"BANK_TRANSFER",\
+            "transactionId":"LOAD%012d","processedBy":"loadtest@insurance.com"}"""
+            .formatted(claimId, transaction);
+    }
+}
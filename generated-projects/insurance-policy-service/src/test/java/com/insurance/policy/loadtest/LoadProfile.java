@@ -0,0 +1,32 @@
+package com.insurance.policy.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Arrival rate and phase lengths for a load test run.
+ *
+ * Read from system properties so the loadtest Maven profile can pass
+ * -Dloadtest.rate=..., -Dloadtest.warmup-seconds=..., -Dloadtest.duration-seconds=...
+ * and -Dloadtest.output-dir=....
+ */
+public record LoadProfile(int ratePerSecond, Duration warmup, Duration duration, Path outputDirectory) {
+
+    public LoadProfile {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        if (warmup.isNegative() || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Warmup must not be negative and duration must be positive");
+        }
+    }
+
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+            Integer.getInteger("loadtest.rate", 200),
+            Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+            Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+            Path.of(System.getProperty("loadtest.output-dir", "load-results"))
+        );
+    }
+}
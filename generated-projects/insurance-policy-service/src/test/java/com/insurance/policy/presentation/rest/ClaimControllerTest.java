@@ -4,20 +4,32 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insurance.policy.application.dto.SubmitClaimInput;
 import com.insurance.policy.application.dto.SubmitClaimOutput;
 import com.insurance.policy.application.exception.InvalidClaimAmountException;
+import com.insurance.policy.application.exception.PolicyNotActiveException;
 import com.insurance.policy.application.exception.PolicyNotFoundException;
 import com.insurance.policy.application.usecase.SubmitClaimUseCase;
+import com.insurance.policy.domain.entity.Claim;
+import com.insurance.policy.domain.exception.DomainValidationException;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.domain.valueobject.ClaimAmount;
+import com.insurance.policy.domain.valueobject.ClaimNumber;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+import com.insurance.policy.presentation.rest.batch.BatchLookup;
 import com.insurance.policy.presentation.rest.model.CreateClaimRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +56,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Generated by BMAD Spring Boot Clean Architecture Generator
  */
 @WebMvcTest(ClaimController.class)
+@Import(BatchLookup.class)
 @DisplayName("Claim Controller Contract Tests")
 class ClaimControllerTest {
 
@@ -56,6 +69,9 @@ class ClaimControllerTest {
     @MockBean
     private SubmitClaimUseCase submitClaimUseCase;
 
+    @MockBean
+    private ClaimRepository claimRepository;
+
     @Test
     @DisplayName("POST /api/v1/claims - Success (201 Created)")
     void submitClaim_WithValidRequest_ShouldReturn201Created() throws Exception {
@@ -294,7 +310,7 @@ class ClaimControllerTest {
         );
 
         when(submitClaimUseCase.execute(any(SubmitClaimInput.class)))
-            .thenThrow(new IllegalStateException("Cannot submit claim for inactive policy"));
+            .thenThrow(new PolicyNotActiveException(12345L, PolicyStatus.CANCELLED));
 
         // When & Then: POST request returns 409 Conflict
         mockMvc.perform(post("/api/v1/claims")
@@ -309,6 +325,30 @@ class ClaimControllerTest {
         verify(submitClaimUseCase, times(1)).execute(any(SubmitClaimInput.class));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/claims - Domain Rule Rejection (400 Bad Request)")
+    void submitClaim_WithDomainRuleViolation_ShouldReturn400BadRequest() throws Exception {
+        // Given: Valid request rejected by a domain invariant
+        CreateClaimRequest request = new CreateClaimRequest(
+            12345L,
+            new BigDecimal("5000.00"),
+            LocalDate.of(2024, 1, 15),
+            "Vehicle collision at intersection causing front bumper damage",
+            "USD"
+        );
+
+        when(submitClaimUseCase.execute(any(SubmitClaimInput.class)))
+            .thenThrow(new DomainValidationException("Incident date cannot be in the future"));
+
+        // When & Then: POST request returns 400 Bad Request
+        mockMvc.perform(post("/api/v1/claims")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Incident date cannot be in the future"));
+    }
+
     @Test
     @DisplayName("POST /api/v1/claims - Malformed JSON (Error Response)")
     void submitClaim_WithMalformedJson_ShouldReturnError() throws Exception {
@@ -403,4 +443,52 @@ class ClaimControllerTest {
 
         verify(submitClaimUseCase, never()).execute(any(SubmitClaimInput.class));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/claims?ids= - Request order with missing IDs (200 OK)")
+    void getClaimsByIds_ShouldReturnClaimsInRequestOrderAndMissingIds() throws Exception {
+        // Given: Two stored claims out of three requested IDs
+        Claim first = storedClaim(5L, "CLM-2024-000005");
+        Claim second = storedClaim(9L, "CLM-2024-000009");
+        when(claimRepository.findAllById(any())).thenReturn(List.of(first, second));
+
+        // When & Then: Items follow the requested order and the unknown ID is reported
+        mockMvc.perform(get("/api/v1/claims").param("ids", "9,7,5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].claimId").value(9))
+                .andExpect(jsonPath("$.items[0].claimNumber").value("CLM-2024-000009"))
+                .andExpect(jsonPath("$.items[0].policyId").value(12345))
+                .andExpect(jsonPath("$.items[1].claimId").value(5))
+                .andExpect(jsonPath("$.missingIds", contains(7)));
+
+        verify(claimRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/claims?ids= - More IDs than allowed (400 Bad Request)")
+    void getClaimsByIds_AboveCap_ShouldReturn400BadRequest() throws Exception {
+        // Given: One ID more than app.batch-lookup.max-ids
+        String ids = LongStream.rangeClosed(1, 101)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/claims").param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("100")));
+
+        verifyNoInteractions(claimRepository);
+    }
+
+    private Claim storedClaim(Long id, String claimNumber) {
+        Claim claim = spy(new Claim(
+            ClaimNumber.of(claimNumber),
+            ClaimAmount.of(new BigDecimal("5000.00"), "USD"),
+            LocalDate.of(2024, 1, 15),
+            "12345"
+        ));
+        doReturn(id).when(claim).getId();
+        return claim;
+    }
 }
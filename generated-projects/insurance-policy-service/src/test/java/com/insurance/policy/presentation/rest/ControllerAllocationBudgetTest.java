@@ -0,0 +1,205 @@
+package com.insurance.policy.presentation.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policy.application.dto.CoverageDto;
+import com.insurance.policy.application.service.CreatePolicyService;
+import com.insurance.policy.application.service.ProcessPaymentService;
+import com.insurance.policy.application.service.SubmitClaimService;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.domain.port.PaymentRepository;
+import com.insurance.policy.domain.port.PolicyRepository;
+import com.insurance.policy.presentation.rest.batch.BatchLookup;
+import com.insurance.policy.presentation.rest.cache.PaymentETags;
+import com.insurance.policy.presentation.rest.model.CreateClaimRequest;
+import com.insurance.policy.presentation.rest.model.CreatePolicyRequest;
+import com.insurance.policy.presentation.rest.model.ProcessPaymentRequest;
+import com.insurance.policy.presentation.rest.streaming.JsonArrayStreamer;
+import com.insurance.policy.support.allocation.AllocationBudgets;
+import com.insurance.policy.support.allocation.AllocationFixtures;
+import com.insurance.policy.support.allocation.AllocationMeter;
+import com.insurance.policy.support.allocation.AllocationPhase;
+import com.insurance.policy.support.allocation.AllocationReport;
+import com.insurance.policy.support.allocation.AllocationTrackingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Allocation budgets per request for ClaimController, PaymentController and
+ * PolicyController.
+ *
+ * Requests run through MockMvc against the real use case services and
+ * in-memory repository ports, and are measured on the test thread with
+ * AllocationMeter. Budgets live in allocation-budgets.properties; a failure
+ * prints bytes per call split into validation, mapping, persistence,
+ * serialization and other. The streaming list endpoints write their body on
+ * an executor thread and are not measured here.
+ */
+@WebMvcTest(
+    controllers = {ClaimController.class, PaymentController.class, PolicyController.class},
+    properties = "logging.level.com.insurance.policy=WARN")
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@Import({BatchLookup.class, JsonArrayStreamer.class, PaymentETags.class, AllocationTrackingConfiguration.class})
+class ControllerAllocationBudgetTest {
+
+    private static final String IDS = "1,2,3,4,5,6,7,8,9,10";
+
+    private final AllocationBudgets budgets = AllocationBudgets.load();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class UseCases {
+
+        @Bean
+        PolicyRepository policyRepository() {
+            return AllocationFixtures.policyRepository();
+        }
+
+        @Bean
+        ClaimRepository claimRepository() {
+            return AllocationFixtures.claimRepository();
+        }
+
+        @Bean
+        PaymentRepository paymentRepository() {
+            return AllocationFixtures.paymentRepository();
+        }
+
+        @Bean
+        SubmitClaimService submitClaimService(ClaimRepository claimRepository, PolicyRepository policyRepository) {
+            return new SubmitClaimService(claimRepository, policyRepository);
+        }
+
+        @Bean
+        ProcessPaymentService processPaymentService(PaymentRepository paymentRepository,
+                                                    ClaimRepository claimRepository) {
+            return new ProcessPaymentService(paymentRepository, claimRepository);
+        }
+
+        @Bean
+        CreatePolicyService createPolicyService(PolicyRepository policyRepository) {
+            return new CreatePolicyService(policyRepository);
+        }
+    }
+
+    @BeforeEach
+    void requireAllocationCounters() {
+        assumeTrue(AllocationMeter.isSupported(), "JVM does not report per-thread allocated bytes");
+    }
+
+    @Test
+    void submitClaimShouldStayWithinBudgetAndReportEveryPhase() throws Exception {
+        // Given
+        CreateClaimRequest request = new CreateClaimRequest(
+            1L, new BigDecimal("5000.00"), LocalDate.now().minusDays(3),
+            "Rear-end collision at a junction, bumper and tailgate damaged", "USD");
+
+        // When
+        AllocationReport report = assertWithinBudget("controller.claims.submit", postJson("/api/v1/claims", request), 201);
+
+        // Then
+        assertThat(report.bytesByPhase().get(AllocationPhase.VALIDATION)).isPositive();
+        assertThat(report.bytesByPhase().get(AllocationPhase.MAPPING)).isPositive();
+        assertThat(report.bytesByPhase().get(AllocationPhase.PERSISTENCE)).isPositive();
+        assertThat(report.bytesByPhase().get(AllocationPhase.SERIALIZATION)).isPositive();
+    }
+
+    @Test
+    void getClaimsByIdsShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.claims.by-ids", get("/api/v1/claims").param("ids", IDS), 200);
+    }
+
+    @Test
+    void claimsHealthShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.claims.health", get("/api/v1/claims/health"), 200);
+    }
+
+    @Test
+    void processPaymentShouldStayWithinBudget() throws Exception {
+        // Given
+        ProcessPaymentRequest request = new ProcessPaymentRequest(
+            1L, new BigDecimal("2500.00"), "BANK_TRANSFER", "TXN1234567890", "adjuster@example.com", "Settlement");
+
+        // When/Then
+        assertWithinBudget("controller.payments.process", postJson("/api/v1/payments", request), 201);
+    }
+
+    @Test
+    void getPaymentByIdShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.payments.by-id", get("/api/v1/payments/1"), 200);
+    }
+
+    @Test
+    void notModifiedPaymentShouldStayWithinBudget() throws Exception {
+        // Given
+        String tag = mockMvc.perform(get("/api/v1/payments/2")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then
+        assertWithinBudget("controller.payments.by-id-not-modified",
+            get("/api/v1/payments/2").header(HttpHeaders.IF_NONE_MATCH, tag), 304);
+    }
+
+    @Test
+    void getPaymentsByIdsShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.payments.by-ids", get("/api/v1/payments").param("ids", IDS), 200);
+    }
+
+    @Test
+    void createPolicyShouldStayWithinBudget() throws Exception {
+        // Given
+        CreatePolicyRequest request = new CreatePolicyRequest("CUST-1", LocalDate.now().plusDays(30), List.of(
+            new CoverageDto("LIABILITY", 500.0, "USD"),
+            new CoverageDto("COLLISION", 250.0, "USD")));
+
+        // When/Then
+        assertWithinBudget("controller.policies.create", postJson("/api/v1/policies", request), 201);
+    }
+
+    @Test
+    void getPoliciesByIdsShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.policies.by-ids", get("/api/v1/policies").param("ids", IDS), 200);
+    }
+
+    @Test
+    void policiesHealthShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.policies.health", get("/api/v1/policies/health"), 200);
+    }
+
+    private RequestBuilder postJson(String path, Object body) throws Exception {
+        return post(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsBytes(body));
+    }
+
+    private AllocationReport assertWithinBudget(String key, RequestBuilder request, int expectedStatus)
+            throws Exception {
+        int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+        assertThat(status).as("status of %s", key).isEqualTo(expectedStatus);
+        return budgets.assertWithinBudget(key, () -> mockMvc.perform(request));
+    }
+}
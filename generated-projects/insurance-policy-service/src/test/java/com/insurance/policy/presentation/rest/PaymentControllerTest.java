@@ -5,6 +5,7 @@ import com.insurance.policy.application.dto.ProcessPaymentOutput;
 import com.insurance.policy.application.exception.ClaimNotApprovedException;
 import com.insurance.policy.application.exception.DuplicateTransactionIdException;
 import com.insurance.policy.application.exception.InvalidPaymentException;
+import com.insurance.policy.application.exception.PaymentNotFoundException;
 import com.insurance.policy.application.usecase.ProcessPaymentUseCase;
 import com.insurance.policy.domain.entity.Payment;
 import com.insurance.policy.domain.port.PaymentRepository;
@@ -12,22 +13,37 @@ import com.insurance.policy.domain.valueobject.PaymentAmount;
 import com.insurance.policy.domain.valueobject.PaymentMethod;
 import com.insurance.policy.domain.valueobject.PaymentStatus;
 import com.insurance.policy.domain.valueobject.TransactionId;
+import com.insurance.policy.presentation.rest.batch.BatchLookup;
+import com.insurance.policy.presentation.rest.cache.PaymentETags;
 import com.insurance.policy.presentation.rest.model.ProcessPaymentRequest;
+import com.insurance.policy.presentation.rest.streaming.JsonArrayStreamer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Controller tests for PaymentController
  */
 @WebMvcTest(PaymentController.class)
+@Import({JsonArrayStreamer.class, PaymentETags.class, BatchLookup.class})
 class PaymentControllerTest {
 
     @Autowired
@@ -64,15 +81,17 @@ class PaymentControllerTest {
 
         ProcessPaymentOutput output = new ProcessPaymentOutput(
             1L,
+            1L,
+            new BigDecimal("5000.00"),
+            "BANK_TRANSFER",
             "PENDING",
+            "TXN1234567890",
             LocalDate.now(),
-            "TXN1234567890"
+            "admin@test.com",
+            "Test payment"
         );
 
-        Payment payment = createTestPayment(1L);
-
         when(processPaymentUseCase.execute(any(ProcessPaymentInput.class))).thenReturn(output);
-        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
 
         // When/Then
         mockMvc.perform(post("/api/v1/payments")
@@ -81,10 +100,12 @@ class PaymentControllerTest {
             .andExpect(status().isCreated())
             .andExpect(jsonPath("$.paymentId").value(1))
             .andExpect(jsonPath("$.paymentStatus").value("PENDING"))
-            .andExpect(jsonPath("$.transactionId").value("TXN1234567890"));
+            .andExpect(jsonPath("$.transactionId").value("TXN1234567890"))
+            .andExpect(jsonPath("$.amount").value(5000.00))
+            .andExpect(jsonPath("$.processedBy").value("admin@test.com"));
 
         verify(processPaymentUseCase).execute(any(ProcessPaymentInput.class));
-        verify(paymentRepository).findById(1L);
+        verify(paymentRepository, never()).findById(any());
     }
 
     @Test
@@ -171,6 +192,98 @@ class PaymentControllerTest {
         verify(paymentRepository).findById(1L);
     }
 
+    @Test
+    void shouldReturnNotFoundWithoutStackTraceForUnknownPayment() throws Exception {
+        // Given
+        when(paymentRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When/Then
+        MvcResult result = mockMvc.perform(get("/api/v1/payments/99"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.status").value(404))
+            .andExpect(jsonPath("$.message").value("Payment not found with ID: 99"))
+            .andReturn();
+
+        assertThat(result.getResolvedException()).isInstanceOf(PaymentNotFoundException.class);
+        assertThat(result.getResolvedException().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNotModifiedFromETagIndexWithoutLoadingPayment() throws Exception {
+        // Given
+        Payment payment = createTestPayment(7L);
+        when(paymentRepository.findById(7L)).thenReturn(Optional.of(payment));
+
+        String etag = mockMvc.perform(get("/api/v1/payments/7"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/payments/7").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+
+        verify(paymentRepository, times(1)).findById(7L);
+    }
+
+    @Test
+    void shouldReturnPaymentWhenETagIsOutdated() throws Exception {
+        // Given
+        Payment payment = createTestPayment(8L);
+        when(paymentRepository.findById(8L)).thenReturn(Optional.of(payment));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/payments/8").header(HttpHeaders.IF_NONE_MATCH, "\"8-outdated\""))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.paymentId").value(8));
+    }
+
+    @Test
+    void shouldTagEachFieldsetSeparatelyAndVaryByAccept() throws Exception {
+        // Given
+        Payment payment = createTestPayment(9L);
+        when(paymentRepository.findById(9L)).thenReturn(Optional.of(payment));
+
+        String fullTag = mockMvc.perform(get("/api/v1/payments/9"))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        String projectedTag = mockMvc.perform(get("/api/v1/payments/9")
+                .param("fields", "paymentStatus,amount")
+                .header(HttpHeaders.IF_NONE_MATCH, fullTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.paymentStatus").exists())
+            .andExpect(jsonPath("$.paymentId").doesNotExist())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(fullTag).startsWith("W/\"");
+        assertThat(projectedTag).startsWith("W/\"").isNotEqualTo(fullTag);
+        mockMvc.perform(get("/api/v1/payments/9")
+                .param("fields", "amount,paymentStatus")
+                .header(HttpHeaders.IF_NONE_MATCH, projectedTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, projectedTag))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void shouldNegotiateCborForPaymentById() throws Exception {
+        // Given
+        Payment payment = createTestPayment(1L);
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/payments/1").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
     @Test
     void shouldGetPaymentsByClaimId() throws Exception {
         // Given
@@ -178,14 +291,23 @@ class PaymentControllerTest {
             createTestPayment(1L),
             createTestPayment(2L)
         );
-        when(paymentRepository.findByClaimId(1L)).thenReturn(payments);
+        doAnswer(invocation -> {
+            payments.forEach(invocation.<Consumer<Payment>>getArgument(1));
+            return null;
+        }).when(paymentRepository).forEachByClaimId(eq(1L), any());
 
         // When/Then
-        mockMvc.perform(get("/api/v1/payments/claim/1"))
+        MvcResult result = mockMvc.perform(get("/api/v1/payments/claim/1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.length()").value(2));
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[1].paymentId").value(2));
 
-        verify(paymentRepository).findByClaimId(1L);
+        verify(paymentRepository).forEachByClaimId(eq(1L), any());
     }
 
     @Test
@@ -195,28 +317,145 @@ class PaymentControllerTest {
             createTestPayment(1L),
             createTestPayment(2L)
         );
-        when(paymentRepository.findAll()).thenReturn(payments);
+        doAnswer(invocation -> {
+            payments.forEach(invocation.<Consumer<Payment>>getArgument(0));
+            return null;
+        }).when(paymentRepository).forEach(any());
 
         // When/Then
-        mockMvc.perform(get("/api/v1/payments"))
+        MvcResult result = mockMvc.perform(get("/api/v1/payments"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.length()").value(2));
 
-        verify(paymentRepository).findAll();
+        verify(paymentRepository).forEach(any());
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedFieldsForPaymentById() throws Exception {
+        // Given
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(createTestPayment(1L)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/payments/1").param("fields", "paymentStatus,paymentId"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"paymentId\":1,\"paymentStatus\":\"PENDING\"}", true));
+    }
+
+    @Test
+    void shouldStreamOnlyRequestedFields() throws Exception {
+        // Given
+        List<Payment> payments = Arrays.asList(createTestPayment(1L), createTestPayment(2L));
+        doAnswer(invocation -> {
+            payments.forEach(invocation.<Consumer<Payment>>getArgument(0));
+            return null;
+        }).when(paymentRepository).forEach(any());
+
+        // When/Then
+        MvcResult result = mockMvc.perform(get("/api/v1/payments").param("fields", "paymentId,amount"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[1].length()").value(2))
+            .andExpect(jsonPath("$[1].paymentId").value(2))
+            .andExpect(jsonPath("$[1].amount").value(5000.00))
+            .andExpect(jsonPath("$[1].transactionId").doesNotExist());
+    }
+
+    @Test
+    void shouldRejectUnknownFieldBeforeStreaming() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/api/v1/payments").param("fields", "paymentId,coverages"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(containsString("coverages")));
+
+        verifyNoInteractions(paymentRepository);
+    }
+
+    @Test
+    void shouldGetPaymentsByIdsInRequestOrderWithMissingIds() throws Exception {
+        // Given
+        when(paymentRepository.findAllById(any()))
+            .thenReturn(List.of(createTestPayment(1L), createTestPayment(3L)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/payments").param("ids", "3,2,1,3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].paymentId").value(3))
+            .andExpect(jsonPath("$.items[1].paymentId").value(1))
+            .andExpect(jsonPath("$.missingIds").value(contains(2)));
+
+        verify(paymentRepository).findAllById(eq(Set.of(3L, 2L, 1L)));
+        verify(paymentRepository, never()).forEach(any());
+    }
+
+    @Test
+    void shouldApplyFieldsToBatchLookupItems() throws Exception {
+        // Given
+        when(paymentRepository.findAllById(any())).thenReturn(List.of(createTestPayment(1L)));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/payments").param("ids", "1").param("fields", "paymentId"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].length()").value(1))
+            .andExpect(jsonPath("$.items[0].paymentId").value(1))
+            .andExpect(jsonPath("$.missingIds").isEmpty());
+    }
+
+    @Test
+    void shouldRejectBatchLookupAboveCap() throws Exception {
+        // Given
+        String ids = LongStream.rangeClosed(1, 101)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/payments").param("ids", ids))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(paymentRepository);
     }
 
     @Test
     void shouldGetPaymentsByStatus() throws Exception {
         // Given
         List<Payment> payments = Arrays.asList(createTestPayment(1L));
-        when(paymentRepository.findByPaymentStatus(PaymentStatus.PENDING)).thenReturn(payments);
+        doAnswer(invocation -> {
+            payments.forEach(invocation.<Consumer<Payment>>getArgument(1));
+            return null;
+        }).when(paymentRepository).forEachByPaymentStatus(eq(PaymentStatus.PENDING), any());
 
         // When/Then
-        mockMvc.perform(get("/api/v1/payments?status=PENDING"))
+        MvcResult result = mockMvc.perform(get("/api/v1/payments?status=PENDING"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.length()").value(1));
 
-        verify(paymentRepository).findByPaymentStatus(PaymentStatus.PENDING);
+        verify(paymentRepository).forEachByPaymentStatus(eq(PaymentStatus.PENDING), any());
+    }
+
+    @Test
+    void shouldStreamEmptyArrayWhenClaimHasNoPayments() throws Exception {
+        // Given - repository mock passes no payments to the consumer
+
+        // When/Then
+        MvcResult result = mockMvc.perform(get("/api/v1/payments/claim/99"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[]"));
     }
 
     private Payment createTestPayment(Long paymentId) {
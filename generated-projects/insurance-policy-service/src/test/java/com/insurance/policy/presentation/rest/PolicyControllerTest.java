@@ -0,0 +1,119 @@
+package com.insurance.policy.presentation.rest;
+
+import com.insurance.policy.application.usecase.CreatePolicyUseCase;
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.port.PolicyRepository;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+import com.insurance.policy.presentation.rest.batch.BatchLookup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Contract tests for PolicyController REST API.
+ *
+ * The batch lookup picks its query from ?fields=, so these tests pin which
+ * repository finder each selection reaches.
+ *
+ * @author Generated by BMAD Spring Boot Clean Architecture Generator
+ */
+@WebMvcTest(PolicyController.class)
+@Import(BatchLookup.class)
+@DisplayName("Policy Controller Contract Tests")
+class PolicyControllerTest {
+
+    private static final LocalDate EFFECTIVE = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CreatePolicyUseCase createPolicyUseCase;
+
+    @MockBean
+    private PolicyRepository policyRepository;
+
+    @Test
+    @DisplayName("GET /api/v1/policies?ids=&fields= - Coverages not selected, summary columns only (200 OK)")
+    void getPoliciesByIds_WithoutCoverages_ShouldReadSummariesOnly() throws Exception {
+        // Given: Two stored policies out of three requested IDs
+        when(policyRepository.findSummariesById(any())).thenReturn(List.of(summary(5L), summary(9L)));
+
+        // When & Then: Items follow the requested order and only the selected fields are written
+        mockMvc.perform(get("/api/v1/policies").param("ids", "9,7,5").param("fields", "policyId,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].policyId").value(9))
+                .andExpect(jsonPath("$.items[0].status").value("ACTIVE"))
+                .andExpect(jsonPath("$.items[0].coverages").doesNotExist())
+                .andExpect(jsonPath("$.items[1].policyId").value(5))
+                .andExpect(jsonPath("$.missingIds", contains(7)));
+
+        verify(policyRepository, times(1)).findSummariesById(any());
+        verify(policyRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/policies?ids=&fields=coverages - Coverages selected, full rows (200 OK)")
+    void getPoliciesByIds_WithCoverages_ShouldLoadFullPolicies() throws Exception {
+        // Given
+        when(policyRepository.findAllById(any())).thenReturn(List.of(policy(9L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/policies").param("ids", "9").param("fields", "policyId,coverages"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].policyId").value(9))
+                .andExpect(jsonPath("$.items[0].status").doesNotExist())
+                .andExpect(jsonPath("$.items[0].coverages", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].coverages[0].coverageType").value("LIABILITY"))
+                .andExpect(jsonPath("$.items[0].coverages[0].premiumAmount").value(500.0))
+                .andExpect(jsonPath("$.items[0].coverages[1].coverageType").value("COLLISION"));
+
+        verify(policyRepository, times(1)).findAllById(any());
+        verify(policyRepository, never()).findSummariesById(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/policies?ids= - No fieldset, every field including coverages (200 OK)")
+    void getPoliciesByIds_WithoutFieldset_ShouldLoadFullPolicies() throws Exception {
+        // Given
+        when(policyRepository.findAllById(any())).thenReturn(List.of(policy(9L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/policies").param("ids", "9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].policyNumber").value("POL-2025-000009"))
+                .andExpect(jsonPath("$.items[0].totalPremiumAmount").value(750.0))
+                .andExpect(jsonPath("$.items[0].coverages", hasSize(2)));
+
+        verify(policyRepository, never()).findSummariesById(any());
+    }
+
+    private static PolicyRepository.Summary summary(Long id) {
+        return new PolicyRepository.Summary(id, String.format("POL-2025-%06d", id), "CUST-001", EFFECTIVE,
+                EFFECTIVE.plusYears(1), new BigDecimal("750.00"), "USD", PolicyStatus.ACTIVE);
+    }
+
+    private static Policy policy(Long id) {
+        return Policy.rehydrate(id, PolicyNumber.of(String.format("POL-2025-%06d", id)), "CUST-001", EFFECTIVE,
+                EFFECTIVE.plusYears(1), PolicyStatus.ACTIVE, List.of(
+                        Coverage.of("LIABILITY", 500.0, "USD"),
+                        Coverage.of("COLLISION", 250.0, "USD")));
+    }
+}
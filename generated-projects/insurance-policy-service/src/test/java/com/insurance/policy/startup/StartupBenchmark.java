@@ -0,0 +1,201 @@
+package com.insurance.policy.startup;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark for the fast-startup build (JIT only, Spring AOT, AOT + AppCDS).
+ *
+ * Launches the packaged jar several times per variant and records the time from
+ * process start until /actuator/health reports UP, plus the resident set size at
+ * that point (read from /proc, Linux only). The database from application.properties
+ * must be reachable. Each run's output goes to a log file next to the report.
+ * Run with: mvn -Pfast-startup package exec:exec@startup-benchmark -DskipTests -Dstartup.runs=5
+ */
+public final class StartupBenchmark {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+    private static final String ARCHIVE = "app.jsa";
+
+    private final Path appDirectory;
+    private final String jar;
+    private final int runs;
+    private final Path outputDirectory;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private StartupBenchmark(Path appDirectory, String jar, int runs, Path outputDirectory) {
+        this.appDirectory = appDirectory;
+        this.jar = jar;
+        this.runs = runs;
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * @param args application directory, jar file name in it, runs per variant, report directory
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("Usage: StartupBenchmark <app-dir> <jar> <runs> <output-dir>");
+        }
+        StartupBenchmark benchmark = new StartupBenchmark(
+            Path.of(args[0]), args[1], Integer.parseInt(args[2]), Path.of(args[3]));
+        Path report = benchmark.run("insurance-policy-service");
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    private Path run(String applicationName) throws Exception {
+        List<Variant> variants = new ArrayList<>(List.of(
+            new Variant("jit", List.of("-Dspring.aot.enabled=false")),
+            new Variant("aot", List.of("-Dspring.aot.enabled=true"))));
+        if (Files.exists(appDirectory.resolve(ARCHIVE))) {
+            variants.add(new Variant("aot-cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + ARCHIVE)));
+        } else {
+            System.out.println(ARCHIVE + " not found in " + appDirectory + ", skipping aot-cds");
+        }
+
+        Files.createDirectories(outputDirectory);
+        String timestamp = LocalDateTime.now().format(FILE_TIMESTAMP);
+        List<Result> results = new ArrayList<>();
+        for (Variant variant : variants) {
+            long[] readyMillis = new long[runs];
+            long[] rssKb = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                Path log = outputDirectory.resolve(applicationName + "-" + timestamp + "-" + variant.name() + "-" + i + ".log");
+                Sample sample = start(variant, log);
+                readyMillis[i] = sample.readyMillis();
+                rssKb[i] = sample.rssKb();
+                System.out.printf("%-8s run %d: ready in %,d ms, RSS %s%n",
+                    variant.name(), i + 1, sample.readyMillis(), formatRss(sample.rssKb()));
+            }
+            results.add(new Result(variant.name(), readyMillis, rssKb));
+        }
+
+        Path report = outputDirectory.resolve(applicationName + "-startup-" + timestamp + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+            writeReport(out, applicationName, results);
+        }
+        writeReport(System.out, applicationName, results);
+        return report;
+    }
+
+    private Sample start(Variant variant, Path log) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("--enable-preview");
+        command.addAll(variant.jvmArguments());
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(appDirectory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        try {
+            awaitReady(process, URI.create("http://localhost:" + port + "/actuator/health"), log);
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched);
+            return new Sample(readyMillis, residentKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void awaitReady(Process process, URI health, Path log) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(health).timeout(Duration.ofSeconds(1)).GET().build();
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Application not ready within " + READY_TIMEOUT + ", see " + log);
+    }
+
+    /**
+     * VmRSS of the process in kB, or -1 where /proc is not available
+     */
+    private static long residentKb(long pid) {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not Linux, or the process is gone
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void writeReport(PrintStream out, String applicationName, List<Result> results) {
+        out.printf("Startup benchmark: %s, %s%n%n", applicationName, Runtime.version());
+        out.printf("%-8s %5s %12s %12s %12s %12s%n", "variant", "runs", "ready p50", "ready min", "ready max", "RSS p50");
+        for (Result result : results) {
+            out.printf("%-8s %5d %9d ms %9d ms %9d ms %12s%n",
+                result.variant(),
+                result.readyMillis().length,
+                median(result.readyMillis()),
+                Arrays.stream(result.readyMillis()).min().orElse(0),
+                Arrays.stream(result.readyMillis()).max().orElse(0),
+                formatRss(median(result.rssKb())));
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String formatRss(long kb) {
+        return kb < 0 ? "n/a" : String.format("%,.1f MB", kb / 1024.0);
+    }
+
+    private record Variant(String name, List<String> jvmArguments) {
+    }
+
+    private record Sample(long readyMillis, long rssKb) {
+    }
+
+    private record Result(String variant, long[] readyMillis, long[] rssKb) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.insurance.policy.support.allocation;
+
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Per-call allocation budgets, read from allocation-budgets.properties on the
+ * test classpath.
+ *
+ * Values are data sizes such as 96KB (binary units). A single budget can be
+ * overridden with -Dallocation.budget.&lt;key&gt;=&lt;size&gt; and all budgets
+ * scaled with -Dallocation.budget-factor=1.5, e.g. for a JVM with escape
+ * analysis disabled. -Dallocation.report=true prints every measurement, which
+ * is how budgets are re-baselined.
+ */
+public final class AllocationBudgets {
+
+    private static final String RESOURCE = "allocation-budgets.properties";
+    private static final String OVERRIDE_PREFIX = "allocation.budget.";
+
+    /** Calls run before measuring, overridable with -Dallocation.warmup-calls */
+    public static final int WARMUP_CALLS = Integer.getInteger("allocation.warmup-calls", 2_000);
+
+    /** Calls measured, overridable with -Dallocation.measured-calls */
+    public static final int MEASURED_CALLS = Integer.getInteger("allocation.measured-calls", 500);
+
+    private final Properties budgets;
+    private final double factor;
+    private final boolean report;
+
+    private AllocationBudgets(Properties budgets, double factor, boolean report) {
+        this.budgets = budgets;
+        this.factor = factor;
+        this.report = report;
+    }
+
+    /**
+     * Load the budgets from the classpath and the system properties
+     */
+    public static AllocationBudgets load() {
+        Properties budgets = new Properties();
+        try (InputStream in = AllocationBudgets.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " not found on the test classpath");
+            }
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        double factor = Double.parseDouble(System.getProperty("allocation.budget-factor", "1.0"));
+        return new AllocationBudgets(budgets, factor, Boolean.getBoolean("allocation.report"));
+    }
+
+    /**
+     * Budget in bytes per call for the given key
+     *
+     * @throws IllegalArgumentException if no budget is defined for the key
+     */
+    public long budgetFor(String key) {
+        String value = System.getProperty(OVERRIDE_PREFIX + key, budgets.getProperty(key));
+        if (value == null) {
+            throw new IllegalArgumentException("No allocation budget defined for " + key + " in " + RESOURCE);
+        }
+        return Math.round(DataSize.parse(value.trim()).toBytes() * factor);
+    }
+
+    /**
+     * Measure the call and fail with a per-phase breakdown when it allocates
+     * more than its budget
+     *
+     * @param key  budget key, also the name used in the report
+     * @param call the call, run on the current thread
+     * @return the report, for further assertions
+     */
+    public AllocationReport assertWithinBudget(String key, AllocationMeter.Call call) throws Exception {
+        long budget = budgetFor(key);
+        AllocationReport result = AllocationMeter.measure(key, WARMUP_CALLS, MEASURED_CALLS, call);
+        if (report) {
+            System.out.print(result.format(budget));
+        }
+        if (result.bytesPerCall() > budget) {
+            throw new AssertionError("Allocation budget exceeded by "
+                + String.format("%,d", result.bytesPerCall() - budget) + " B/call\n" + result.format(budget));
+        }
+        return result;
+    }
+}
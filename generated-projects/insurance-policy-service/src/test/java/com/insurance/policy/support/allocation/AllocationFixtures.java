@@ -0,0 +1,343 @@
+package com.insurance.policy.support.allocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policy.domain.entity.Claim;
+import com.insurance.policy.domain.entity.Payment;
+import com.insurance.policy.domain.entity.Policy;
+import com.insurance.policy.domain.port.ClaimRepository;
+import com.insurance.policy.domain.port.PaymentRepository;
+import com.insurance.policy.domain.port.PolicyRepository;
+import com.insurance.policy.domain.valueobject.ClaimNumber;
+import com.insurance.policy.domain.valueobject.ClaimStatus;
+import com.insurance.policy.domain.valueobject.Coverage;
+import com.insurance.policy.domain.valueobject.PaymentMethod;
+import com.insurance.policy.domain.valueobject.PaymentStatus;
+import com.insurance.policy.domain.valueobject.PolicyNumber;
+import com.insurance.policy.domain.valueobject.PolicyStatus;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.ClaimJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.entity.PolicyJpaEntity;
+import com.insurance.policy.infrastructure.adapter.persistence.mapper.ClaimMapper;
+import com.insurance.policy.infrastructure.adapter.persistence.mapper.PolicyMapper;
+import com.insurance.policy.infrastructure.persistence.entity.PaymentJpaEntity;
+import com.insurance.policy.infrastructure.persistence.mapper.PaymentMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Repository ports backed by fixed in-memory rows, for allocation budget tests.
+ *
+ * Reads and saves go through the real persistence mappers, so the persistence
+ * phase holds what an adapter allocates minus the database driver and
+ * Hibernate. Every port is instrumented for {@link AllocationPhase#PERSISTENCE}.
+ * Every port method is answered from the rows, so a use case that starts
+ * calling another repository method keeps working here. Saves map the entity
+ * and give it id 1 without storing it, so the rows stay fixed across calls.
+ */
+public final class AllocationFixtures {
+
+    /** Number of rows per table; ids run from 1 */
+    public static final int ROWS = 20;
+
+    /** Ids of a typical multi-get request */
+    public static final List<Long> BATCH_IDS = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+    private AllocationFixtures() {
+    }
+
+    /**
+     * Active policies 1..ROWS for customers CUST-1..CUST-ROWS, in force from
+     * today. PolicyMapper rebuilds policies through the Policy constructor,
+     * which rejects past effective dates, so today is the earliest that loads.
+     */
+    public static PolicyRepository policyRepository() {
+        return AllocationMeter.instrument(AllocationPhase.PERSISTENCE, PolicyRepository.class, new Policies());
+    }
+
+    /**
+     * Approved claims 1..ROWS of 10,000.00 USD against policy 1
+     */
+    public static ClaimRepository claimRepository() {
+        return AllocationMeter.instrument(AllocationPhase.PERSISTENCE, ClaimRepository.class, new Claims());
+    }
+
+    /**
+     * Completed payments 1..ROWS against claim 1, with transaction ids
+     * TXN0000000001..TXN0000000020
+     */
+    public static PaymentRepository paymentRepository() {
+        return AllocationMeter.instrument(AllocationPhase.PERSISTENCE, PaymentRepository.class, new Payments());
+    }
+
+    private static <R, T> List<T> mapAll(Collection<Long> ids, Map<Long, R> rows, Function<R, T> toDomain) {
+        List<T> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            R row = rows.get(id);
+            if (row != null) {
+                result.add(toDomain.apply(row));
+            }
+        }
+        return result;
+    }
+
+    private static <R, T> List<T> mapWhere(Map<Long, R> rows, Predicate<R> filter, Function<R, T> toDomain) {
+        List<T> result = new ArrayList<>();
+        for (R row : rows.values()) {
+            if (filter.test(row)) {
+                result.add(toDomain.apply(row));
+            }
+        }
+        return result;
+    }
+
+    private static <R, T> Optional<T> findFirst(Map<Long, R> rows, Predicate<R> filter, Function<R, T> toDomain) {
+        for (R row : rows.values()) {
+            if (filter.test(row)) {
+                return Optional.of(toDomain.apply(row));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final class Policies implements PolicyRepository {
+
+        private final PolicyMapper mapper = new PolicyMapper(new ObjectMapper());
+        private final Map<Long, PolicyJpaEntity> rows = new HashMap<>();
+
+        Policies() {
+            for (long id = 1; id <= ROWS; id++) {
+                PolicyJpaEntity row = mapper.toJpa(new Policy("CUST-" + id, LocalDate.now(),
+                    List.of(Coverage.of("LIABILITY", 500, "USD"), Coverage.of("COLLISION", 250, "USD"))));
+                row.setId(id);
+                row.setPolicyNumber(String.format("POL-2025-%06d", id));
+                row.setStatus(PolicyStatus.ACTIVE);
+                rows.put(id, row);
+            }
+        }
+
+        @Override
+        public Policy save(Policy policy) {
+            PolicyJpaEntity row = mapper.toJpa(policy);
+            row.setId(1L);
+            return mapper.toDomain(row);
+        }
+
+        @Override
+        public Optional<Policy> findById(Long id) {
+            return Optional.ofNullable(rows.get(id)).map(mapper::toDomain);
+        }
+
+        @Override
+        public List<Policy> findAllById(Collection<Long> ids) {
+            return mapAll(ids, rows, mapper::toDomain);
+        }
+
+        @Override
+        public List<Summary> findSummariesById(Collection<Long> ids) {
+            return mapAll(ids, rows, row -> new Summary(row.getId(), row.getPolicyNumber(), row.getCustomerId(),
+                    row.getEffectiveDate(), row.getExpirationDate(), row.getTotalPremiumAmount(),
+                    row.getTotalPremiumCurrency(), row.getStatus()));
+        }
+
+        @Override
+        public Optional<Policy> findByPolicyNumber(PolicyNumber policyNumber) {
+            return findFirst(rows, row -> row.getPolicyNumber().equals(policyNumber.value()), mapper::toDomain);
+        }
+
+        @Override
+        public List<Policy> findByCustomerId(String customerId) {
+            return mapWhere(rows, row -> row.getCustomerId().equals(customerId), mapper::toDomain);
+        }
+
+        @Override
+        public List<Policy> findAll() {
+            return mapWhere(rows, row -> true, mapper::toDomain);
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            rows.remove(id);
+        }
+
+        @Override
+        public boolean existsById(Long id) {
+            return rows.containsKey(id);
+        }
+    }
+
+    private static final class Claims implements ClaimRepository {
+
+        private final Map<Long, ClaimJpaEntity> rows = new HashMap<>();
+
+        Claims() {
+            for (long id = 1; id <= ROWS; id++) {
+                ClaimJpaEntity row = new ClaimJpaEntity();
+                row.setId(id);
+                row.setClaimNumber(String.format("CLM-2025-%06d", id));
+                row.setClaimedAmount(new BigDecimal("10000.00"));
+                row.setClaimedCurrency("USD");
+                row.setIncidentDate(LocalDate.now().minusDays(10));
+                row.setStatus(ClaimStatus.APPROVED);
+                row.setSubmittedDate(LocalDate.now().minusDays(5));
+                row.setPolicyId("1");
+                rows.put(id, row);
+            }
+        }
+
+        @Override
+        public Claim save(Claim claim) {
+            ClaimJpaEntity row = ClaimMapper.toJpa(claim);
+            row.setId(1L);
+            return ClaimMapper.toDomain(row);
+        }
+
+        @Override
+        public Optional<Claim> findById(Long id) {
+            return Optional.ofNullable(rows.get(id)).map(ClaimMapper::toDomain);
+        }
+
+        @Override
+        public List<Claim> findAllById(Collection<Long> ids) {
+            return mapAll(ids, rows, ClaimMapper::toDomain);
+        }
+
+        @Override
+        public List<Claim> findAll() {
+            return mapWhere(rows, row -> true, ClaimMapper::toDomain);
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            rows.remove(id);
+        }
+
+        @Override
+        public boolean existsById(Long id) {
+            return rows.containsKey(id);
+        }
+
+        @Override
+        public Optional<Claim> findByClaimNumber(ClaimNumber claimNumber) {
+            return findFirst(rows, row -> row.getClaimNumber().equals(claimNumber.value()), ClaimMapper::toDomain);
+        }
+
+        @Override
+        public List<Claim> findByStatus(ClaimStatus status) {
+            return mapWhere(rows, row -> row.getStatus() == status, ClaimMapper::toDomain);
+        }
+
+        @Override
+        public List<Claim> findByPolicyId(String policyId) {
+            return mapWhere(rows, row -> row.getPolicyId().equals(policyId), ClaimMapper::toDomain);
+        }
+
+        @Override
+        public List<Claim> findByPolicyIds(Collection<String> policyIds) {
+            return mapWhere(rows, row -> policyIds.contains(row.getPolicyId()), ClaimMapper::toDomain);
+        }
+    }
+
+    private static final class Payments implements PaymentRepository {
+
+        private final PaymentMapper mapper = new PaymentMapper();
+        private final Map<Long, PaymentJpaEntity> rows = new HashMap<>();
+
+        Payments() {
+            for (long id = 1; id <= ROWS; id++) {
+                PaymentJpaEntity row = new PaymentJpaEntity();
+                row.setPaymentId(id);
+                row.setClaimId(1L);
+                row.setAmount(new BigDecimal("2500.00"));
+                row.setPaymentMethod(PaymentMethod.BANK_TRANSFER.name());
+                row.setPaymentStatus(PaymentStatus.COMPLETED.name());
+                row.setTransactionId(String.format("TXN%010d", id));
+                row.setPaymentDate(LocalDate.now());
+                row.setProcessedBy("adjuster@example.com");
+                row.setNotes("Settlement");
+                rows.put(id, row);
+            }
+        }
+
+        @Override
+        public Payment save(Payment payment) {
+            PaymentJpaEntity row = mapper.toJpaEntity(payment);
+            row.setPaymentId(1L);
+            return mapper.toDomainEntity(row);
+        }
+
+        @Override
+        public Optional<Payment> findById(Long id) {
+            return Optional.ofNullable(rows.get(id)).map(mapper::toDomainEntity);
+        }
+
+        @Override
+        public List<Payment> findAllById(Collection<Long> ids) {
+            return mapAll(ids, rows, mapper::toDomainEntity);
+        }
+
+        @Override
+        public List<Payment> findByClaimId(Long claimId) {
+            return mapWhere(rows, row -> row.getClaimId().equals(claimId), mapper::toDomainEntity);
+        }
+
+        @Override
+        public List<Payment> findByClaimIds(Collection<Long> claimIds) {
+            return mapWhere(rows, row -> claimIds.contains(row.getClaimId()), mapper::toDomainEntity);
+        }
+
+        @Override
+        public List<Payment> findByPaymentStatus(PaymentStatus status) {
+            return mapWhere(rows, row -> row.getPaymentStatus().equals(status.name()), mapper::toDomainEntity);
+        }
+
+        @Override
+        public void forEachByClaimId(Long claimId, Consumer<Payment> action) {
+            findByClaimId(claimId).forEach(action);
+        }
+
+        @Override
+        public void forEachByPaymentStatus(PaymentStatus status, Consumer<Payment> action) {
+            findByPaymentStatus(status).forEach(action);
+        }
+
+        @Override
+        public Optional<Payment> findByTransactionId(String transactionId) {
+            return findFirst(rows, row -> row.getTransactionId().equals(transactionId), mapper::toDomainEntity);
+        }
+
+        @Override
+        public List<Payment> findCompletedPaymentsAfter(LocalDate date) {
+            return mapWhere(rows, row -> row.getPaymentStatus().equals(PaymentStatus.COMPLETED.name())
+                && row.getPaymentDate().isAfter(date), mapper::toDomainEntity);
+        }
+
+        @Override
+        public List<Payment> findAll() {
+            return mapWhere(rows, row -> true, mapper::toDomainEntity);
+        }
+
+        @Override
+        public void forEach(Consumer<Payment> action) {
+            findAll().forEach(action);
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            rows.remove(id);
+        }
+
+        @Override
+        public boolean existsByTransactionId(String transactionId) {
+            return findFirst(rows, row -> row.getTransactionId().equals(transactionId), row -> row).isPresent();
+        }
+    }
+}
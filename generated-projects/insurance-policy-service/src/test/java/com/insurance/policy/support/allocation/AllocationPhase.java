@@ -0,0 +1,38 @@
+package com.insurance.policy.support.allocation;
+
+/**
+ * Phases a request's allocations are attributed to.
+ *
+ * Attribution is exclusive: bytes allocated inside a nested phase count only
+ * towards the innermost one, so the phases of a report add up to its total.
+ */
+public enum AllocationPhase {
+
+    /** Bean Validation of request bodies */
+    VALIDATION("validation"),
+
+    /**
+     * Handler and use case code outside the other phases: request to input
+     * mapping, domain rules and output to response mapping
+     */
+    MAPPING("mapping"),
+
+    /** Repository port calls, including the JPA entity to domain mapping they do */
+    PERSISTENCE("persistence"),
+
+    /** JSON reading of request bodies and writing of response bodies */
+    SERIALIZATION("serialization"),
+
+    /** Everything not attributed to a phase: dispatch, filters, MockMvc itself */
+    OTHER("other");
+
+    private final String label;
+
+    AllocationPhase(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
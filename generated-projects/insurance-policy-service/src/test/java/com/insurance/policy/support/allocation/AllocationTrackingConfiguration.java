@@ -0,0 +1,138 @@
+package com.insurance.policy.support.allocation;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Marks allocation phases inside Spring MVC for {@link AllocationMeter}.
+ *
+ * Import it into a {@code @WebMvcTest}: the whole handler invocation is
+ * marked as mapping, with Bean Validation of request bodies and the JSON
+ * converter's reads and writes nested inside it as validation and
+ * serialization. Persistence is marked by registering the repository ports
+ * through {@link AllocationMeter#instrument}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class AllocationTrackingConfiguration {
+
+    @Bean
+    WebMvcConfigurer allocationTrackingConfigurer(ObjectProvider<jakarta.validation.Validator> validator) {
+        return new WebMvcConfigurer() {
+
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new MappingPhaseInterceptor());
+            }
+
+            @Override
+            public Validator getValidator() {
+                return new PhaseValidator(new SpringValidatorAdapter(validator.getObject()));
+            }
+
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                    ? new PhaseJsonConverter((MappingJackson2HttpMessageConverter) converter)
+                    : converter);
+            }
+        };
+    }
+
+    private static final class MappingPhaseInterceptor implements HandlerInterceptor {
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            AllocationMeter.enter(AllocationPhase.MAPPING);
+            return true;
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                    @Nullable Exception ex) {
+            AllocationMeter.exit();
+        }
+    }
+
+    private static final class PhaseValidator implements SmartValidator {
+
+        private final SmartValidator delegate;
+
+        PhaseValidator(SmartValidator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return delegate.supports(clazz);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            AllocationMeter.enter(AllocationPhase.VALIDATION);
+            try {
+                delegate.validate(target, errors);
+            } finally {
+                AllocationMeter.exit();
+            }
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+            AllocationMeter.enter(AllocationPhase.VALIDATION);
+            try {
+                delegate.validate(target, errors, validationHints);
+            } finally {
+                AllocationMeter.exit();
+            }
+        }
+    }
+
+    private static final class PhaseJsonConverter extends MappingJackson2HttpMessageConverter {
+
+        PhaseJsonConverter(MappingJackson2HttpMessageConverter original) {
+            super(original.getObjectMapper());
+            setSupportedMediaTypes(original.getSupportedMediaTypes());
+        }
+
+        @Override
+        public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+                throws IOException {
+            AllocationMeter.enter(AllocationPhase.SERIALIZATION);
+            try {
+                return super.read(type, contextClass, inputMessage);
+            } finally {
+                AllocationMeter.exit();
+            }
+        }
+
+        @Override
+        protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+                throws IOException {
+            AllocationMeter.enter(AllocationPhase.SERIALIZATION);
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                AllocationMeter.exit();
+            }
+        }
+    }
+}
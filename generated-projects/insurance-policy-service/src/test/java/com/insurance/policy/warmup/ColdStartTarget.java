@@ -0,0 +1,94 @@
+package com.insurance.policy.warmup;
+
+import com.insurance.policy.InsurancePolicyApplication;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Application process started by {@link FirstRequestLatencyReport}, one fresh JVM per run.
+ *
+ * Boots the service on the given port against an in-memory H2 database and
+ * seeds active policies, approved claims and payments with plain JDBC before
+ * any other ApplicationRunner (the warm-up included) runs, so the lookups hit
+ * real rows and the seeding itself does not warm the mappers or JPA.
+ */
+public final class ColdStartTarget {
+
+    static final int SEEDED_ROWS = 50;
+
+    private ColdStartTarget() {
+    }
+
+    public static void main(String[] args) {
+        List<String> arguments = new ArrayList<>(List.of(
+            "--spring.datasource.url=jdbc:h2:mem:coldstart-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.show-sql=false",
+            "--springdoc.api-docs.enabled=false",
+            "--springdoc.swagger-ui.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.insurance.policy=INFO",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        arguments.addAll(List.of(args));
+        new SpringApplicationBuilder(InsurancePolicyApplication.class)
+            .initializers(context -> context.getBeanFactory().registerSingleton("coldStartSeed", new Seed(context)))
+            .run(arguments.toArray(String[]::new));
+    }
+
+    private static final class Seed implements ApplicationRunner, Ordered {
+
+        private final ConfigurableApplicationContext context;
+
+        private Seed(ConfigurableApplicationContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void run(ApplicationArguments args) {
+            JdbcTemplate jdbc = new JdbcTemplate(context.getBean(DataSource.class));
+            Date today = Date.valueOf(LocalDate.now());
+            for (int i = 1; i <= SEEDED_ROWS; i++) {
+                jdbc.update("""
+                    INSERT INTO policies (policy_number, customer_id, effective_date, expiration_date,
+                        total_premium_amount, total_premium_currency, status, coverages_json)
+                    VALUES (?, ?, ?, ?, 500.00, 'USD', 'ACTIVE', ?)""",
+                    String.format("POL-2000-%06d", i), "CUST-" + i, today, Date.valueOf(LocalDate.now().plusYears(1)),
+                    "[{\"coverageType\":\"LIABILITY\",\"premiumAmount\":500.00,\"currency\":\"USD\"}]");
+                jdbc.update("""
+                    INSERT INTO claims (claim_number, claimed_amount, claimed_currency, incident_date, status,
+                        submitted_date, policy_id)
+                    VALUES (?, 2500.00, 'USD', ?, 'APPROVED', ?, ?)""",
+                    String.format("CLM-2000-%06d", i), Date.valueOf(LocalDate.now().minusDays(2)), today,
+                    Integer.toString(i));
+                jdbc.update("""
+                    INSERT INTO payments (claim_id, amount, payment_method, payment_status, transaction_id,
+                        payment_date, processed_by, notes)
+                    VALUES (?, 2500.00, 'BANK_TRANSFER', 'COMPLETED', ?, ?, 'seed', NULL)""",
+                    i, String.format("TXNSEED%06d", i), today);
+            }
+        }
+    }
+}
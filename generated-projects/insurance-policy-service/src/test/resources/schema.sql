@@ -32,3 +32,17 @@ CREATE TABLE IF NOT EXISTS claims (
 CREATE INDEX IF NOT EXISTS idx_claims_policy_id ON claims(policy_id);
 CREATE INDEX IF NOT EXISTS idx_claims_status ON claims(status);
 CREATE INDEX IF NOT EXISTS idx_claims_claim_number ON claims(claim_number);
+
+-- Repricing job checkpoints (one row per job, see PortfolioRepricingJob)
+CREATE TABLE IF NOT EXISTS repricing_checkpoints (
+    job_id VARCHAR(100) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    last_policy_id BIGINT NOT NULL,
+    repriced BIGINT NOT NULL,
+    unchanged BIGINT NOT NULL,
+    conflicts BIGINT NOT NULL,
+    failed BIGINT NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    error VARCHAR(1000)
+);
@@ -2,18 +2,29 @@ package com.kishen.weather.application.service;
 
 import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
 import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.LatestWeatherDataStore;
 import com.kishen.weather.domain.port.WeatherDataRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * GetWeatherDataService
  *
  * This service implements the GetWeatherDataUseCase.
- * It retrieves weather data from the repository.
+ * It retrieves weather data from the repository, answering latest-reading
+ * lookups from the LatestWeatherDataStore first when one is configured.
  *
  * @author Kishen Sivalingam
  */
@@ -22,9 +33,12 @@ import java.util.UUID;
 public class GetWeatherDataService implements GetWeatherDataUseCase {
 
     private final WeatherDataRepository repository;
+    private final Optional<LatestWeatherDataStore> latestStore;
 
-    public GetWeatherDataService(WeatherDataRepository repository) {
+    public GetWeatherDataService(WeatherDataRepository repository,
+                                 Optional<LatestWeatherDataStore> latestStore) {
         this.repository = repository;
+        this.latestStore = latestStore;
     }
 
     @Override
@@ -34,6 +48,44 @@ public class GetWeatherDataService implements GetWeatherDataUseCase {
 
     @Override
     public Optional<WeatherData> getLatestByCity(String city) {
-        return repository.findLatestByCity(city);
+        if (latestStore.isEmpty()) {
+            return repository.findLatestByCity(city);
+        }
+        LatestWeatherDataStore store = latestStore.get();
+        Optional<WeatherData> held = store.findLatest(city);
+        if (held.isPresent()) {
+            return held;
+        }
+        Optional<WeatherData> loaded = repository.findLatestByCity(city);
+        loaded.ifPresent(store::putIfNewer);
+        return loaded;
+    }
+
+    @Override
+    public Map<String, WeatherData> getLatestByCities(Collection<String> cities) {
+        Set<String> requested = new LinkedHashSet<>(cities);
+        Map<String, WeatherData> held = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String city : requested) {
+            latestStore.flatMap(store -> store.findLatest(city))
+                    .ifPresentOrElse(weatherData -> held.put(city, weatherData), () -> misses.add(city));
+        }
+
+        Map<String, WeatherData> loaded = misses.isEmpty() ? Map.of() : repository.findLatestByCities(misses);
+        latestStore.ifPresent(store -> loaded.values().forEach(store::putIfNewer));
+
+        Map<String, WeatherData> latest = new LinkedHashMap<>();
+        for (String city : requested) {
+            WeatherData weatherData = held.getOrDefault(city, loaded.get(city));
+            if (weatherData != null) {
+                latest.put(city, weatherData);
+            }
+        }
+        return latest;
+    }
+
+    @Override
+    public void forEachInHistory(String city, Consumer<WeatherData> action) {
+        repository.forEachByCity(city, action);
     }
 }
@@ -3,11 +3,18 @@ package com.kishen.weather.application.service;
 import com.kishen.weather.application.usecase.RecordWeatherDataInput;
 import com.kishen.weather.application.usecase.RecordWeatherDataUseCase;
 import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.WeatherDataEventPublisher;
 import com.kishen.weather.domain.port.WeatherDataRepository;
 import com.kishen.weather.domain.valueobject.Location;
 import com.kishen.weather.domain.valueobject.Temperature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
 
 /**
  * RecordWeatherDataService
@@ -21,15 +28,23 @@ import org.springframework.transaction.annotation.Transactional;
  * - Manage transactions
  * - Do not contain business logic (that's in domain entities)
  *
+ * Recorded data is handed to the WeatherDataEventPublishers once the
+ * transaction commits, so subscribers never see rolled-back readings.
+ *
  * @author Kishen Sivalingam
  */
 @Service
 public class RecordWeatherDataService implements RecordWeatherDataUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(RecordWeatherDataService.class);
+
     private final WeatherDataRepository repository;
+    private final List<WeatherDataEventPublisher> eventPublishers;
 
-    public RecordWeatherDataService(WeatherDataRepository repository) {
+    public RecordWeatherDataService(WeatherDataRepository repository,
+                                    List<WeatherDataEventPublisher> eventPublishers) {
         this.repository = repository;
+        this.eventPublishers = eventPublishers;
     }
 
     @Override
@@ -58,6 +73,34 @@ public class RecordWeatherDataService implements RecordWeatherDataUseCase {
         );
 
         // Persist
-        return repository.save(weatherData);
+        WeatherData saved = repository.save(weatherData);
+        publishAfterCommit(saved);
+        return saved;
+    }
+
+    private void publishAfterCommit(WeatherData weatherData) {
+        if (eventPublishers.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(weatherData);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(weatherData);
+            }
+        });
+    }
+
+    private void publish(WeatherData weatherData) {
+        for (WeatherDataEventPublisher publisher : eventPublishers) {
+            try {
+                publisher.publishRecorded(weatherData);
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish weather data {}: {}", weatherData.getId(), e.getMessage());
+            }
+        }
     }
 }
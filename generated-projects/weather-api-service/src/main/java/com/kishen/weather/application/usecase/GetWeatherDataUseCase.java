@@ -2,8 +2,11 @@ package com.kishen.weather.application.usecase;
 
 import com.kishen.weather.domain.entity.WeatherData;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * GetWeatherDataUseCase Interface
@@ -29,4 +32,33 @@ public interface GetWeatherDataUseCase {
      * @return Optional containing the latest weather data if found
      */
     Optional<WeatherData> getLatestByCity(String city);
+
+    /**
+     * Get the key under which latest-by-city lookups treat city spellings as
+     * one city; spellings with equal keys get the same latest reading
+     *
+     * @param city The city name as requested
+     * @return The lookup key; the city itself unless lookups normalize it
+     */
+    default String cityKey(String city) {
+        return city;
+    }
+
+    /**
+     * Get the latest weather data for several cities at once
+     *
+     * @param cities The city names
+     * @return Map of city name to its latest weather data, in request order;
+     *         cities without data are absent
+     */
+    Map<String, WeatherData> getLatestByCities(Collection<String> cities);
+
+    /**
+     * Pass every recorded weather data reading for a city to the action,
+     * newest first, as it is read from the repository
+     *
+     * @param city   The city name
+     * @param action The action receiving each reading
+     */
+    void forEachInHistory(String city, Consumer<WeatherData> action);
 }
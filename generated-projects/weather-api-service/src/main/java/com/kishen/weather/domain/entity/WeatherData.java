@@ -57,7 +57,12 @@ public class WeatherData {
 
     // Business Logic: Check if data is stale (older than 1 hour)
     public boolean isStale() {
-        return recordedAt.isBefore(LocalDateTime.now().minusHours(1));
+        return getStaleAt().isBefore(LocalDateTime.now());
+    }
+
+    // Business Logic: The moment this reading becomes stale
+    public LocalDateTime getStaleAt() {
+        return recordedAt.plusHours(1);
     }
 
     // Business Logic: Determine weather condition severity
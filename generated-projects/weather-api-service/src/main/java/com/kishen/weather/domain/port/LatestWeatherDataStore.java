@@ -0,0 +1,32 @@
+package com.kishen.weather.domain.port;
+
+import com.kishen.weather.domain.entity.WeatherData;
+
+import java.util.Optional;
+
+/**
+ * LatestWeatherDataStore Port (Interface)
+ *
+ * Optional fast path holding the most recent weather data per city.
+ * When an implementation is present, latest-reading lookups consult it
+ * before falling back to the WeatherDataRepository.
+ *
+ * @author Kishen Sivalingam
+ */
+public interface LatestWeatherDataStore {
+
+    /**
+     * Find the latest known weather data for a city
+     *
+     * @param city The city name
+     * @return Optional containing the latest weather data if held
+     */
+    Optional<WeatherData> findLatest(String city);
+
+    /**
+     * Remember weather data unless a more recent reading is already held
+     *
+     * @param weatherData The weather data
+     */
+    void putIfNewer(WeatherData weatherData);
+}
@@ -0,0 +1,25 @@
+package com.kishen.weather.domain.port;
+
+import com.kishen.weather.domain.entity.WeatherData;
+
+/**
+ * WeatherDataEventPublisher Port (Interface)
+ *
+ * Notifies interested parties about newly recorded weather data.
+ * Implementations reside outside the domain (for example the live update
+ * stream in the presentation layer).
+ *
+ * Implementations are called on the recording thread after the transaction
+ * has committed, so they must hand work off instead of blocking.
+ *
+ * @author Kishen Sivalingam
+ */
+public interface WeatherDataEventPublisher {
+
+    /**
+     * Publish weather data that has just been recorded
+     *
+     * @param weatherData The persisted weather data
+     */
+    void publishRecorded(WeatherData weatherData);
+}
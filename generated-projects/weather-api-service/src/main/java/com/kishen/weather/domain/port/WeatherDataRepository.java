@@ -2,9 +2,12 @@ package com.kishen.weather.domain.port;
 
 import com.kishen.weather.domain.entity.WeatherData;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * WeatherDataRepository Port (Interface)
@@ -44,6 +47,15 @@ public interface WeatherDataRepository {
      */
     List<WeatherData> findByCity(String city);
 
+    /**
+     * Pass each weather data reading for a city to the action, newest first,
+     * as it is read and without collecting them into a list
+     *
+     * @param city   The city name
+     * @param action The action receiving each reading
+     */
+    void forEachByCity(String city, Consumer<WeatherData> action);
+
     /**
      * Find the latest weather data for a specific city
      *
@@ -52,6 +64,16 @@ public interface WeatherDataRepository {
      */
     Optional<WeatherData> findLatestByCity(String city);
 
+    /**
+     * Find the latest weather data for each of the given cities in one query
+     *
+     * Cities without any recorded data are absent from the result.
+     *
+     * @param cities The city names
+     * @return Map of city name to its latest weather data
+     */
+    Map<String, WeatherData> findLatestByCities(Collection<String> cities);
+
     /**
      * Find all weather data
      *
@@ -1,13 +1,18 @@
 package com.kishen.weather.infrastructure.adapter.persistence;
 
 import com.kishen.weather.infrastructure.adapter.persistence.entity.WeatherDataJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository for WeatherData
@@ -27,6 +32,18 @@ public interface WeatherDataJpaRepository extends JpaRepository<WeatherDataJpaEn
      */
     List<WeatherDataJpaEntity> findByCity(String city);
 
+    /**
+     * Stream all weather data for a city, newest first
+     *
+     * Rows are fetched from a cursor in batches of 256 and must be consumed
+     * inside a transaction.
+     *
+     * @param city The city name
+     * @return Stream of weather data JPA entities
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    Stream<WeatherDataJpaEntity> streamByCityOrderByRecordedAtDesc(String city);
+
     /**
      * Find the latest weather data for a specific city
      *
@@ -36,6 +53,23 @@ public interface WeatherDataJpaRepository extends JpaRepository<WeatherDataJpaEn
     @Query("SELECT w FROM WeatherDataJpaEntity w WHERE w.city = :city ORDER BY w.recordedAt DESC LIMIT 1")
     Optional<WeatherDataJpaEntity> findLatestByCity(@Param("city") String city);
 
+    /**
+     * Find the latest weather data for each of the given cities
+     *
+     * Ranks each city's rows by recorded_at with a window function so all
+     * cities resolve in a single round trip, using idx_city to narrow the scan.
+     *
+     * @param cities The city names
+     * @return The latest weather data JPA entity per city that has data
+     */
+    @Query(value = "SELECT id, city, country, latitude, longitude, temperature_value, temperature_unit, "
+            + "humidity, description, wind_speed, recorded_at, updated_at FROM ("
+            + "SELECT w.*, ROW_NUMBER() OVER (PARTITION BY w.city ORDER BY w.recorded_at DESC) AS row_rank "
+            + "FROM weather_data w WHERE w.city IN (:cities)"
+            + ") ranked WHERE ranked.row_rank = 1",
+            nativeQuery = true)
+    List<WeatherDataJpaEntity> findLatestByCities(@Param("cities") Collection<String> cities);
+
     /**
      * Check if weather data exists for a city
      *
@@ -2,15 +2,21 @@ package com.kishen.weather.infrastructure.adapter.persistence;
 
 import com.kishen.weather.domain.entity.WeatherData;
 import com.kishen.weather.domain.port.WeatherDataRepository;
-import com.kishen.weather.domain.valueobject.Location;
-import com.kishen.weather.domain.valueobject.Temperature;
 import com.kishen.weather.infrastructure.adapter.persistence.entity.WeatherDataJpaEntity;
+import com.kishen.weather.infrastructure.adapter.persistence.mapper.WeatherDataMapper;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * WeatherDataRepository Implementation
@@ -28,41 +34,69 @@ import java.util.stream.Collectors;
 public class WeatherDataRepositoryImpl implements WeatherDataRepository {
 
     private final WeatherDataJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public WeatherDataRepositoryImpl(WeatherDataJpaRepository jpaRepository) {
+    public WeatherDataRepositoryImpl(WeatherDataJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
     public WeatherData save(WeatherData weatherData) {
-        WeatherDataJpaEntity jpaEntity = toJpaEntity(weatherData);
+        WeatherDataJpaEntity jpaEntity = WeatherDataMapper.toJpaEntity(weatherData);
         WeatherDataJpaEntity saved = jpaRepository.save(jpaEntity);
-        return toDomainEntity(saved);
+        return WeatherDataMapper.toDomainEntity(saved);
     }
 
     @Override
     public Optional<WeatherData> findById(UUID id) {
         return jpaRepository.findById(id)
-                .map(this::toDomainEntity);
+                .map(WeatherDataMapper::toDomainEntity);
     }
 
     @Override
     public List<WeatherData> findByCity(String city) {
         return jpaRepository.findByCity(city).stream()
-                .map(this::toDomainEntity)
+                .map(WeatherDataMapper::toDomainEntity)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByCity(String city, Consumer<WeatherData> action) {
+        try (Stream<WeatherDataJpaEntity> entities = jpaRepository.streamByCityOrderByRecordedAtDesc(city)) {
+            entities.forEach(jpaEntity -> {
+                WeatherData weatherData = WeatherDataMapper.toDomainEntity(jpaEntity);
+                // Keep the persistence context from growing with the history size
+                entityManager.detach(jpaEntity);
+                action.accept(weatherData);
+            });
+        }
+    }
+
     @Override
     public Optional<WeatherData> findLatestByCity(String city) {
         return jpaRepository.findLatestByCity(city)
-                .map(this::toDomainEntity);
+                .map(WeatherDataMapper::toDomainEntity);
+    }
+
+    @Override
+    public Map<String, WeatherData> findLatestByCities(Collection<String> cities) {
+        if (cities.isEmpty()) {
+            return Map.of();
+        }
+        List<WeatherDataJpaEntity> latest = jpaRepository.findLatestByCities(cities);
+        Map<String, WeatherData> byCity = new HashMap<>(latest.size() * 2);
+        for (WeatherDataJpaEntity jpaEntity : latest) {
+            byCity.put(jpaEntity.getCity(), WeatherDataMapper.toDomainEntity(jpaEntity));
+        }
+        return byCity;
     }
 
     @Override
     public List<WeatherData> findAll() {
         return jpaRepository.findAll().stream()
-                .map(this::toDomainEntity)
+                .map(WeatherDataMapper::toDomainEntity)
                 .collect(Collectors.toList());
     }
 
@@ -75,59 +109,4 @@ public class WeatherDataRepositoryImpl implements WeatherDataRepository {
     public boolean existsByCity(String city) {
         return jpaRepository.existsByCity(city);
     }
-
-    // Mapping: Domain Entity -> JPA Entity
-    private WeatherDataJpaEntity toJpaEntity(WeatherData domain) {
-        WeatherDataJpaEntity jpa = new WeatherDataJpaEntity();
-        jpa.setId(domain.getId());
-        jpa.setCity(domain.getLocation().city());
-        jpa.setCountry(domain.getLocation().country());
-        jpa.setLatitude(domain.getLocation().latitude());
-        jpa.setLongitude(domain.getLocation().longitude());
-        jpa.setTemperatureValue(domain.getTemperature().value());
-        jpa.setTemperatureUnit(mapTemperatureUnit(domain.getTemperature().unit()));
-        jpa.setHumidity(domain.getHumidity());
-        jpa.setDescription(domain.getDescription());
-        jpa.setWindSpeed(domain.getWindSpeed());
-        jpa.setRecordedAt(domain.getRecordedAt());
-        jpa.setUpdatedAt(domain.getUpdatedAt());
-        return jpa;
-    }
-
-    // Mapping: JPA Entity -> Domain Entity
-    private WeatherData toDomainEntity(WeatherDataJpaEntity jpa) {
-        Location location = new Location(
-                jpa.getCity(),
-                jpa.getCountry(),
-                jpa.getLatitude(),
-                jpa.getLongitude()
-        );
-
-        Temperature temperature = new Temperature(
-                jpa.getTemperatureValue(),
-                mapTemperatureUnit(jpa.getTemperatureUnit())
-        );
-
-        WeatherData domain = new WeatherData(
-                location,
-                temperature,
-                jpa.getHumidity(),
-                jpa.getDescription(),
-                jpa.getWindSpeed()
-        );
-
-        domain.setId(jpa.getId());
-        domain.setRecordedAt(jpa.getRecordedAt());
-        domain.setUpdatedAt(jpa.getUpdatedAt());
-
-        return domain;
-    }
-
-    private WeatherDataJpaEntity.TemperatureUnit mapTemperatureUnit(Temperature.TemperatureUnit domainUnit) {
-        return WeatherDataJpaEntity.TemperatureUnit.valueOf(domainUnit.name());
-    }
-
-    private Temperature.TemperatureUnit mapTemperatureUnit(WeatherDataJpaEntity.TemperatureUnit jpaUnit) {
-        return Temperature.TemperatureUnit.valueOf(jpaUnit.name());
-    }
 }
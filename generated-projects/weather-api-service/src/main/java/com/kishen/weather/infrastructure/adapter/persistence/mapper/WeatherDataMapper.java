@@ -0,0 +1,86 @@
+package com.kishen.weather.infrastructure.adapter.persistence.mapper;
+
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.infrastructure.adapter.persistence.entity.WeatherDataJpaEntity;
+
+/**
+ * WeatherDataMapper
+ *
+ * Translates between the WeatherData domain entity and its JPA entity.
+ * Runs once per row on every read, so it is kept free of Spring and state
+ * and can be benchmarked on its own.
+ *
+ * @author Kishen Sivalingam
+ */
+public final class WeatherDataMapper {
+
+    private WeatherDataMapper() {
+    }
+
+    /**
+     * Maps a domain entity to a JPA entity.
+     *
+     * @param domain the domain entity
+     * @return the JPA entity
+     */
+    public static WeatherDataJpaEntity toJpaEntity(WeatherData domain) {
+        WeatherDataJpaEntity jpa = new WeatherDataJpaEntity();
+        jpa.setId(domain.getId());
+        jpa.setCity(domain.getLocation().city());
+        jpa.setCountry(domain.getLocation().country());
+        jpa.setLatitude(domain.getLocation().latitude());
+        jpa.setLongitude(domain.getLocation().longitude());
+        jpa.setTemperatureValue(domain.getTemperature().value());
+        jpa.setTemperatureUnit(mapTemperatureUnit(domain.getTemperature().unit()));
+        jpa.setHumidity(domain.getHumidity());
+        jpa.setDescription(domain.getDescription());
+        jpa.setWindSpeed(domain.getWindSpeed());
+        jpa.setRecordedAt(domain.getRecordedAt());
+        jpa.setUpdatedAt(domain.getUpdatedAt());
+        return jpa;
+    }
+
+    /**
+     * Maps a JPA entity to a domain entity.
+     *
+     * @param jpa the JPA entity
+     * @return the domain entity
+     */
+    public static WeatherData toDomainEntity(WeatherDataJpaEntity jpa) {
+        Location location = new Location(
+                jpa.getCity(),
+                jpa.getCountry(),
+                jpa.getLatitude(),
+                jpa.getLongitude()
+        );
+
+        Temperature temperature = new Temperature(
+                jpa.getTemperatureValue(),
+                mapTemperatureUnit(jpa.getTemperatureUnit())
+        );
+
+        WeatherData domain = new WeatherData(
+                location,
+                temperature,
+                jpa.getHumidity(),
+                jpa.getDescription(),
+                jpa.getWindSpeed()
+        );
+
+        domain.setId(jpa.getId());
+        domain.setRecordedAt(jpa.getRecordedAt());
+        domain.setUpdatedAt(jpa.getUpdatedAt());
+
+        return domain;
+    }
+
+    private static WeatherDataJpaEntity.TemperatureUnit mapTemperatureUnit(Temperature.TemperatureUnit domainUnit) {
+        return WeatherDataJpaEntity.TemperatureUnit.valueOf(domainUnit.name());
+    }
+
+    private static Temperature.TemperatureUnit mapTemperatureUnit(WeatherDataJpaEntity.TemperatureUnit jpaUnit) {
+        return Temperature.TemperatureUnit.valueOf(jpaUnit.name());
+    }
+}
@@ -0,0 +1,54 @@
+package com.kishen.weather.infrastructure.cache;
+
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.LatestWeatherDataStore;
+import com.kishen.weather.domain.port.WeatherDataEventPublisher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * InMemoryLatestWeatherDataStore
+ *
+ * Keeps the latest weather data per city in memory. It is filled from
+ * repository lookups and kept current by listening to recorded weather data,
+ * so it is only accurate when this instance sees every write. Enable it with
+ * app.weather.latest-store.enabled=true for single-instance deployments.
+ *
+ * Metrics: weather.latest-store.size.
+ *
+ * @author Kishen Sivalingam
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.weather.latest-store", name = "enabled", havingValue = "true")
+public class InMemoryLatestWeatherDataStore implements LatestWeatherDataStore, WeatherDataEventPublisher {
+
+    private final ConcurrentMap<String, WeatherData> latestByCity = new ConcurrentHashMap<>();
+
+    public InMemoryLatestWeatherDataStore(MeterRegistry meterRegistry) {
+        Gauge.builder("weather.latest-store.size", latestByCity, ConcurrentMap::size)
+                .description("Cities with a latest reading held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<WeatherData> findLatest(String city) {
+        return Optional.ofNullable(latestByCity.get(city));
+    }
+
+    @Override
+    public void putIfNewer(WeatherData weatherData) {
+        latestByCity.merge(weatherData.getLocation().city(), weatherData,
+                (held, candidate) -> candidate.getRecordedAt().isBefore(held.getRecordedAt()) ? held : candidate);
+    }
+
+    @Override
+    public void publishRecorded(WeatherData weatherData) {
+        putIfNewer(weatherData);
+    }
+}
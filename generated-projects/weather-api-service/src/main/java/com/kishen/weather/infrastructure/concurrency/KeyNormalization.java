@@ -0,0 +1,34 @@
+package com.kishen.weather.infrastructure.concurrency;
+
+import java.util.Locale;
+
+/**
+ * KeyNormalization
+ *
+ * Controls which city lookups are considered identical for coalescing.
+ * Callers whose keys normalize to the same value share one lookup of the
+ * normalized city, so folding case is only appropriate when city lookups are
+ * case-insensitive in the database as well; otherwise every lower-cased
+ * lookup misses.
+ *
+ * @author Kishen Sivalingam
+ */
+public enum KeyNormalization {
+
+    /** Keys must match exactly. */
+    EXACT,
+
+    /** Leading and trailing whitespace is ignored. */
+    TRIM,
+
+    /** Whitespace and letter case are ignored. */
+    TRIM_LOWER_CASE;
+
+    public String normalize(String key) {
+        return switch (this) {
+            case EXACT -> key;
+            case TRIM -> key.trim();
+            case TRIM_LOWER_CASE -> key.trim().toLowerCase(Locale.ROOT);
+        };
+    }
+}
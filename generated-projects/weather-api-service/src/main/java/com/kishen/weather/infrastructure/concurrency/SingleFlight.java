@@ -0,0 +1,84 @@
+package com.kishen.weather.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight
+ *
+ * Collapses concurrent calls for the same key into one execution. The first
+ * caller for a key (the leader) runs the call; callers arriving while it is in
+ * flight wait for and receive the leader's result or exception. Once the call
+ * completes the key is released, so the next miss triggers a fresh call.
+ *
+ * @param <K> key type, must implement equals/hashCode
+ * @param <V> result type, shared between all coalesced callers
+ * @author Kishen Sivalingam
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedCalls;
+    private final Counter coalescedCalls;
+
+    public SingleFlight(Counter executedCalls, Counter coalescedCalls) {
+        this.executedCalls = executedCalls;
+        this.coalescedCalls = coalescedCalls;
+    }
+
+    /**
+     * Execute the call for the key, or join the call already in flight for it.
+     *
+     * @param key The coalescing key
+     * @param call The call to run when no call is in flight for the key
+     * @return The result of the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing);
+        }
+
+        executedCalls.increment();
+        try {
+            V value = call.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Number of keys with a call currently in flight.
+     *
+     * @return in-flight key count
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.kishen.weather.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SingleFlightProperties
+ *
+ * Settings for coalescing concurrent weather lookups
+ * (prefix app.weather.single-flight).
+ *
+ * @author Kishen Sivalingam
+ */
+@ConfigurationProperties(prefix = "app.weather.single-flight")
+public record SingleFlightProperties(
+        boolean enabled,
+        KeyNormalization cityKeyNormalization
+) {
+
+    public SingleFlightProperties {
+        if (cityKeyNormalization == null) {
+            cityKeyNormalization = KeyNormalization.EXACT;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.kishen.weather.infrastructure.concurrency;
+
+import com.kishen.weather.application.service.GetWeatherDataService;
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.domain.entity.WeatherData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * SingleFlightWeatherDataLookup
+ *
+ * Decorates GetWeatherDataService so that concurrent identical lookups share
+ * one repository call. When a hot city's reading is requested by hundreds of
+ * clients at once, only the first request reaches the database and the rest
+ * wait for its result.
+ *
+ * Coalesced callers receive the same WeatherData instance, which callers
+ * treat as read-only. City lookups are keyed and queried by the normalized
+ * city, so every caller sharing a flight gets the answer for the same string
+ * rather than for whichever spelling arrived first. Multi-city lookups and
+ * history streams pass straight through.
+ *
+ * Metrics: weather.singleflight.calls{operation, outcome=executed|coalesced}
+ * and weather.singleflight.inflight{operation}.
+ *
+ * @author Kishen Sivalingam
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "app.weather.single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SingleFlightProperties.class)
+public class SingleFlightWeatherDataLookup implements GetWeatherDataUseCase {
+
+    private final GetWeatherDataService delegate;
+    private final KeyNormalization cityKeyNormalization;
+    private final SingleFlight<UUID, Optional<WeatherData>> byId;
+    private final SingleFlight<String, Optional<WeatherData>> latestByCity;
+
+    public SingleFlightWeatherDataLookup(GetWeatherDataService delegate,
+                                         SingleFlightProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cityKeyNormalization = properties.cityKeyNormalization();
+        this.byId = singleFlight("by-id", meterRegistry);
+        this.latestByCity = singleFlight("latest-by-city", meterRegistry);
+    }
+
+    @Override
+    public Optional<WeatherData> getById(UUID id) {
+        return byId.execute(id, () -> delegate.getById(id));
+    }
+
+    @Override
+    public Optional<WeatherData> getLatestByCity(String city) {
+        String key = cityKey(city);
+        return latestByCity.execute(key, () -> delegate.getLatestByCity(key));
+    }
+
+    @Override
+    public String cityKey(String city) {
+        return cityKeyNormalization.normalize(city);
+    }
+
+    @Override
+    public Map<String, WeatherData> getLatestByCities(Collection<String> cities) {
+        // Bulk lookups already collapse many cities into one query; keying a
+        // flight on the whole city list would rarely coalesce anything.
+        return delegate.getLatestByCities(cities);
+    }
+
+    @Override
+    public void forEachInHistory(String city, Consumer<WeatherData> action) {
+        delegate.forEachInHistory(city, action);
+    }
+
+    private static <K> SingleFlight<K, Optional<WeatherData>> singleFlight(String operation, MeterRegistry registry) {
+        SingleFlight<K, Optional<WeatherData>> singleFlight = new SingleFlight<>(
+                callCounter(registry, operation, "executed"),
+                callCounter(registry, operation, "coalesced")
+        );
+        Gauge.builder("weather.singleflight.inflight", singleFlight, SingleFlight::inFlightCount)
+                .description("Keys with a lookup currently in flight")
+                .tag("operation", operation)
+                .register(registry);
+        return singleFlight;
+    }
+
+    private static Counter callCounter(MeterRegistry registry, String operation, String outcome) {
+        return Counter.builder("weather.singleflight.calls")
+                .description("Weather lookups by whether they ran or joined an in-flight call")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
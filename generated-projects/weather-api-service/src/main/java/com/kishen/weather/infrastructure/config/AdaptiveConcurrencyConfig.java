@@ -0,0 +1,81 @@
+package com.kishen.weather.infrastructure.config;
+
+import com.kishen.weather.infrastructure.resilience.AdaptiveConcurrencyInterceptor;
+import com.kishen.weather.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.kishen.weather.infrastructure.resilience.AimdConcurrencyLimit;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Adaptive Concurrency Configuration
+ *
+ * Adaptive concurrency limit for the weather ingest endpoint.
+ *
+ * POST /api/v1/weather gets a Resilience4j bulkhead (weather-ingest) whose
+ * limit adapts to observed latency. The interceptor is registered as a
+ * MappedInterceptor bean rather than through WebConfig so web slice tests are
+ * unaffected. The current limit is exported as adaptive.concurrency.limit{name}.
+ *
+ * @author Kishen Sivalingam
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdaptiveConcurrencyProperties.class)
+public class AdaptiveConcurrencyConfig {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final AdaptiveConcurrencyProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public AdaptiveConcurrencyConfig(BulkheadRegistry bulkheadRegistry,
+                                     AdaptiveConcurrencyProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public MappedInterceptor weatherIngestConcurrencyInterceptor() {
+        return postInterceptor("/api/v1/weather", limiter("weather-ingest"));
+    }
+
+    private MappedInterceptor postInterceptor(String path, AdaptiveConcurrencyLimiter limiter) {
+        return new MappedInterceptor(new String[]{path}, new AdaptiveConcurrencyInterceptor(limiter, "POST"));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String name) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.initialLimit())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(
+                properties.initialLimit(),
+                properties.minLimit(),
+                properties.maxLimit(),
+                properties.backoffRatio(),
+                properties.latencyThreshold().toNanos()
+        );
+        Counter rejected = Counter.builder("adaptive.concurrency.rejected")
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("name", name)
+                .register(meterRegistry);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(bulkhead, limit, rejected);
+        Gauge.builder("adaptive.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("name", name)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
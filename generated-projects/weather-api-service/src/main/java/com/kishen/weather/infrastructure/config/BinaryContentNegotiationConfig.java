@@ -0,0 +1,40 @@
+package com.kishen.weather.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * BinaryContentNegotiationConfig
+ *
+ * Binary content negotiation for sensor gateways and other machine clients.
+ *
+ * Registers CBOR (application/cbor) and Smile (application/x-jackson-smile)
+ * message converters so every endpoint reads and writes them based on the
+ * Content-Type and Accept headers. The object mappers are built from Spring
+ * Boot's Jackson builder, so date handling, modules and spring.jackson.*
+ * settings match the JSON output exactly.
+ *
+ * Spring Boot swaps these beans in at the position of MVC's default CBOR and
+ * Smile converters, after the JSON converter, so browsers and other clients
+ * sending wildcard Accept headers keep receiving JSON.
+ *
+ * @author Kishen Sivalingam
+ */
+@Configuration
+public class BinaryContentNegotiationConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,38 @@
+package com.kishen.weather.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * DataSourceRoutingProperties
+ *
+ * Settings for read/write DataSource routing (prefix app.datasource.routing).
+ * The connection settings of the two pools live under app.datasource.primary
+ * and app.datasource.replica and are bound directly onto HikariCP.
+ *
+ * @author Kishen Sivalingam
+ */
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public record DataSourceRoutingProperties(
+        boolean enabled,
+        Duration maxReplicaLag,
+        Duration lagCheckInterval,
+        String replicaLagQuery
+) {
+
+    private static final String POSTGRES_LAG_QUERY =
+            "SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)";
+
+    public DataSourceRoutingProperties {
+        if (maxReplicaLag == null) {
+            maxReplicaLag = Duration.ofSeconds(5);
+        }
+        if (lagCheckInterval == null) {
+            lagCheckInterval = Duration.ofSeconds(2);
+        }
+        if (replicaLagQuery == null || replicaLagQuery.isBlank()) {
+            replicaLagQuery = POSTGRES_LAG_QUERY;
+        }
+    }
+}
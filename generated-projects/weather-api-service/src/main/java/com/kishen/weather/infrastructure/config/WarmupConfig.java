@@ -0,0 +1,30 @@
+package com.kishen.weather.infrastructure.config;
+
+import com.kishen.weather.infrastructure.warmup.MappingWarmupCalls;
+import com.kishen.weather.infrastructure.warmup.WarmupProperties;
+import com.kishen.weather.infrastructure.warmup.WarmupRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * WarmupConfig
+ *
+ * Start-up warm-up that runs before the readiness probe flips to UP. Disable
+ * with app.warmup.enabled=false, e.g. for local development where start-up
+ * time matters more than first-request latency.
+ *
+ * @author Kishen Sivalingam
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    public WarmupRunner warmupRunner(WarmupProperties properties, Environment environment) {
+        return new WarmupRunner(properties, MappingWarmupCalls.create(), environment);
+    }
+}
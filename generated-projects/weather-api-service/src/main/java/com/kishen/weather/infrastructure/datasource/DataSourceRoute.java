@@ -0,0 +1,13 @@
+package com.kishen.weather.infrastructure.datasource;
+
+/**
+ * DataSourceRoute
+ *
+ * Lookup keys used by the read/write routing DataSource.
+ *
+ * @author Kishen Sivalingam
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,117 @@
+package com.kishen.weather.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReplicaLagMonitor
+ *
+ * Periodically measures how far the read replica is behind the primary and
+ * decides whether read-only traffic may be sent to it. The replica is treated
+ * as unusable when the lag exceeds the configured maximum or when the lag
+ * query itself fails, so reads fall back to the primary instead of serving
+ * stale or failing responses.
+ *
+ * @author Kishen Sivalingam
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+
+    private volatile boolean replicaUsable = true;
+    private volatile double lagSeconds = 0.0;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Start the background lag checks.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkNow, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Measure the replica lag once and update the routing decision.
+     */
+    public void checkNow() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            double lag = resultSet.next() ? resultSet.getDouble(1) : 0.0;
+            updateLag(lag);
+        } catch (Exception e) {
+            if (replicaUsable) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+            replicaUsable = false;
+        }
+    }
+
+    private void updateLag(double lag) {
+        boolean usable = lag * 1000 <= maxLag.toMillis();
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica caught up (lag {}s), routing read-only transactions to replica", lag);
+            } else {
+                log.warn("Replica lag {}s exceeds {}, routing read-only transactions to primary", lag, maxLag);
+            }
+        }
+        lagSeconds = lag;
+        replicaUsable = usable;
+    }
+
+    /**
+     * Whether read-only transactions may currently be routed to the replica.
+     *
+     * @return true when the last lag check succeeded within the allowed lag
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Last measured replica lag.
+     *
+     * @return lag in seconds
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
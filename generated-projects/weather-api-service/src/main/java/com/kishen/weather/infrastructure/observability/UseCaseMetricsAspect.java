@@ -0,0 +1,145 @@
+package com.kishen.weather.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UseCaseMetricsAspect
+ *
+ * Records the latency of every use case execute and get* call made on the
+ * application services. Calls answered by SingleFlightWeatherDataLookup
+ * without reaching the service are not timed here; they are counted by the
+ * weather.singleflight.calls metric instead.
+ *
+ * Metric: usecase.duration{use_case, method, outcome}, with a percentile
+ * histogram and SLO buckets for Prometheus. The outcome is success, the simple
+ * name of a rejected input (IllegalArgumentException or IllegalStateException),
+ * or error for anything unexpected.
+ *
+ * Timers are built once per method and outcome and then looked up from a map,
+ * so a call costs two nanoTime reads and a histogram update.
+ *
+ * @author Kishen Sivalingam
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "app.metrics.use-case", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(UseCaseMetricsProperties.class)
+public class UseCaseMetricsAspect {
+
+    static final String METRIC_NAME = "usecase.duration";
+    static final String SUCCESS = "success";
+    static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final UseCaseMetricsProperties properties;
+    private final Duration[] slo;
+    private final Map<Method, UseCaseTimers> timers = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsAspect(ObjectProvider<MeterRegistry> meterRegistry, UseCaseMetricsProperties properties) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.properties = properties;
+        this.slo = properties.slo().toArray(Duration[]::new);
+    }
+
+    /**
+     * Time a use case call and tag it with its outcome
+     *
+     * @param joinPoint The intercepted use case call
+     * @return The result of the call
+     * @throws Throwable Whatever the use case throws, unchanged
+     */
+    @Around("within(com.kishen.weather.application.service..*) && ("
+            + "execution(* com.kishen.weather.application.usecase.*UseCase+.execute(..)) || "
+            + "execution(* com.kishen.weather.application.usecase.*UseCase+.get*(..)))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        UseCaseTimers useCase = timersFor(joinPoint);
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            useCase.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            useCase.failure(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private UseCaseTimers timersFor(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        UseCaseTimers existing = timers.get(method);
+        if (existing != null) {
+            return existing;
+        }
+        String useCase = useCaseName(joinPoint.getTarget().getClass());
+        return timers.computeIfAbsent(method, key -> new UseCaseTimers(useCase, key.getName()));
+    }
+
+    private static String useCaseName(Class<?> serviceClass) {
+        for (Class<?> type = serviceClass; type != null; type = type.getSuperclass()) {
+            for (Class<?> contract : type.getInterfaces()) {
+                if (contract.getSimpleName().endsWith("UseCase")) {
+                    return contract.getSimpleName();
+                }
+            }
+        }
+        return serviceClass.getSimpleName();
+    }
+
+    static String outcome(Throwable e) {
+        if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+            return e.getClass().getSimpleName();
+        }
+        return ERROR;
+    }
+
+    private Timer timer(String useCase, String method, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Latency of application use cases")
+                .tag("use_case", useCase)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(properties.percentileHistogram())
+                .serviceLevelObjectives(slo)
+                .minimumExpectedValue(properties.minimumExpected())
+                .maximumExpectedValue(properties.maximumExpected())
+                .register(meterRegistry);
+    }
+
+    private final class UseCaseTimers {
+
+        private final String useCase;
+        private final String method;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        private UseCaseTimers(String useCase, String method) {
+            this.useCase = useCase;
+            this.method = method;
+            this.success = timer(useCase, method, SUCCESS);
+        }
+
+        private Timer success() {
+            return success;
+        }
+
+        private Timer failure(Throwable e) {
+            return failures.computeIfAbsent(e.getClass(), type -> timer(useCase, method, outcome(e)));
+        }
+    }
+}
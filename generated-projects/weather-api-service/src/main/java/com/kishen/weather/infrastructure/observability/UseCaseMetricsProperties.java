@@ -0,0 +1,39 @@
+package com.kishen.weather.infrastructure.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * UseCaseMetricsProperties
+ *
+ * Settings for use case latency timers (prefix app.metrics.use-case).
+ *
+ * @author Kishen Sivalingam
+ */
+@ConfigurationProperties(prefix = "app.metrics.use-case")
+public record UseCaseMetricsProperties(
+        boolean enabled,
+        Boolean percentileHistogram,
+        List<Duration> slo,
+        Duration minimumExpected,
+        Duration maximumExpected
+) {
+
+    public UseCaseMetricsProperties {
+        if (percentileHistogram == null) {
+            percentileHistogram = Boolean.TRUE;
+        }
+        if (slo == null || slo.isEmpty()) {
+            slo = List.of(Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100),
+                    Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1));
+        }
+        if (minimumExpected == null) {
+            minimumExpected = Duration.ofNanos(100_000);
+        }
+        if (maximumExpected == null) {
+            maximumExpected = Duration.ofSeconds(10);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.kishen.weather.infrastructure.resilience;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * AdaptiveConcurrencyInterceptor
+ *
+ * Guards a write endpoint with an AdaptiveConcurrencyLimiter.
+ *
+ * Requests over the current limit are rejected in preHandle with a
+ * BulkheadFullException, which the GlobalExceptionHandler turns into
+ * 503 Service Unavailable with a Retry-After header.
+ *
+ * @author Kishen Sivalingam
+ */
+public class AdaptiveConcurrencyInterceptor implements HandlerInterceptor {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String method;
+    private final String startAttribute;
+
+    public AdaptiveConcurrencyInterceptor(AdaptiveConcurrencyLimiter limiter, String method) {
+        this.limiter = limiter;
+        this.method = method;
+        this.startAttribute = AdaptiveConcurrencyInterceptor.class.getName() + "." + limiter.getName();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!method.equals(request.getMethod())) {
+            return true;
+        }
+        limiter.acquire();
+        request.setAttribute(startAttribute, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object start = request.getAttribute(startAttribute);
+        if (start == null) {
+            return;
+        }
+        request.removeAttribute(startAttribute);
+        long latencyNanos = System.nanoTime() - (Long) start;
+        boolean failed = ex != null || response.getStatus() >= 500;
+        limiter.release(latencyNanos, failed);
+    }
+}
@@ -0,0 +1,60 @@
+package com.kishen.weather.infrastructure.resilience;
+
+/**
+ * AimdConcurrencyLimit
+ *
+ * Additive-increase/multiplicative-decrease concurrency limit.
+ *
+ * Every completed request is a sample. A sample slower than the latency
+ * threshold, or a failed one, shrinks the limit by the backoff ratio; a fast
+ * sample grows it by one while at least half of the current limit is in use.
+ * The limit therefore settles just below the concurrency at which latency
+ * starts to climb, which keeps p99 bounded instead of letting queues grow.
+ *
+ * @author Kishen Sivalingam
+ */
+public class AimdConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                double backoffRatio, long latencyThresholdNanos) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Record a completed request and adjust the limit.
+     *
+     * @param latencyNanos Observed latency of the request
+     * @param inFlight Requests in flight when the request completed, including itself
+     * @param failed Whether the request failed with a server error
+     * @return The new limit
+     */
+    public synchronized int onSample(long latencyNanos, int inFlight, boolean failed) {
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        return (int) limit;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+}
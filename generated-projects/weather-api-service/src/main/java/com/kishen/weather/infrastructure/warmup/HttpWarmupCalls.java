@@ -0,0 +1,83 @@
+package com.kishen.weather.infrastructure.warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * HttpWarmupCalls
+ *
+ * Read-only HTTP requests against the application's own port. Going through
+ * the real server warms the whole request path: Tomcat, filters and
+ * interceptors, the controller, the read use cases and repository queries,
+ * the persistence mapper for cities that have readings, and the Jackson
+ * writers. Lookups that find nothing still exercise the query and the 404
+ * handling. Only GET endpoints are called, so nothing is recorded and the
+ * ingest concurrency limit keeps its initial value.
+ *
+ * @author Kishen Sivalingam
+ */
+public final class HttpWarmupCalls {
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final List<String> cities;
+    private final String cityList;
+    private int nextCity;
+
+    private HttpWarmupCalls(int port, List<String> cities, Duration requestTimeout) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .build();
+        this.baseUri = URI.create("http://localhost:" + port);
+        this.requestTimeout = requestTimeout;
+        this.cities = cities.stream().map(city -> URLEncoder.encode(city, StandardCharsets.UTF_8)).toList();
+        this.cityList = String.join(",", this.cities);
+    }
+
+    /**
+     * Warm-up calls for the server listening on the given local port.
+     *
+     * @param port           local server port
+     * @param cities         cities looked up by the city endpoints
+     * @param requestTimeout timeout per request
+     */
+    public static List<WarmupCall> forLocalServer(int port, List<String> cities, Duration requestTimeout) {
+        HttpWarmupCalls calls = new HttpWarmupCalls(port, cities, requestTimeout);
+        return List.of(
+                new WarmupCall("GET /api/v1/weather/city/{city}",
+                        () -> calls.get("/api/v1/weather/city/" + calls.nextCity())),
+                new WarmupCall("GET /api/v1/weather/latest",
+                        () -> calls.get("/api/v1/weather/latest?cities=" + calls.cityList)),
+                new WarmupCall("GET /api/v1/weather/city/{city}/history",
+                        () -> calls.get("/api/v1/weather/city/" + calls.nextCity() + "/history")),
+                new WarmupCall("GET /api/v1/weather/{id}",
+                        () -> calls.get("/api/v1/weather/" + UUID.randomUUID()))
+        );
+    }
+
+    private String nextCity() {
+        nextCity = (nextCity + 1) % cities.size();
+        return cities.get(nextCity);
+    }
+
+    private void get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 500) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.kishen.weather.infrastructure.warmup;
+
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.infrastructure.adapter.persistence.mapper.WeatherDataMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * MappingWarmupCalls
+ *
+ * In-process round trips through the persistence mapper with a synthetic
+ * reading. They run whether or not the database holds any rows, so the
+ * mapper is compiled even on an empty database. Nothing is persisted.
+ *
+ * @author Kishen Sivalingam
+ */
+public final class MappingWarmupCalls {
+
+    private MappingWarmupCalls() {
+    }
+
+    public static List<WarmupCall> create() {
+        WeatherData weatherData = new WeatherData(
+                new Location("Warmup", "GB", 51.5, -0.1),
+                new Temperature(BigDecimal.valueOf(12.5), Temperature.TemperatureUnit.CELSIUS),
+                70,
+                "Overcast",
+                4.2
+        );
+        return List.of(
+                new WarmupCall("WeatherDataMapper",
+                        () -> WeatherDataMapper.toDomainEntity(WeatherDataMapper.toJpaEntity(weatherData)))
+        );
+    }
+}
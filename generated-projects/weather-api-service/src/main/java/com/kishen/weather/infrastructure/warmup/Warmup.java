@@ -0,0 +1,87 @@
+package com.kishen.weather.infrastructure.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Warmup
+ *
+ * Runs warm-up calls round-robin until the iteration budget is spent or the
+ * time cap is reached, whichever comes first.
+ *
+ * Calls are interleaved rather than run back to back so each code path sees
+ * the same mix of receiver types it will see under real traffic, which keeps
+ * the JIT's inlining decisions representative. A failing call is counted and
+ * skipped; warm-up never fails start-up.
+ *
+ * @author Kishen Sivalingam
+ */
+public class Warmup {
+
+    private static final Logger log = LoggerFactory.getLogger(Warmup.class);
+
+    private final List<WarmupCall> calls;
+    private final int iterations;
+    private final Duration maxDuration;
+
+    public Warmup(List<WarmupCall> calls, int iterations, Duration maxDuration) {
+        this.calls = List.copyOf(calls);
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Run the warm-up on the calling thread.
+     *
+     * @return how many calls ran, how many failed and whether the time cap cut the run short
+     */
+    public Result run() {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        long[] failures = new long[calls.size()];
+        long executed = 0;
+        boolean capped = false;
+
+        rounds:
+        for (int round = 0; round < iterations; round++) {
+            for (int i = 0; i < calls.size(); i++) {
+                if (System.nanoTime() - deadline >= 0) {
+                    capped = true;
+                    break rounds;
+                }
+                try {
+                    calls.get(i).action().run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    capped = true;
+                    break rounds;
+                } catch (Exception e) {
+                    if (failures[i]++ == 0) {
+                        log.debug("Warm-up call {} failed: {}", calls.get(i).name(), e.toString());
+                    }
+                }
+                executed++;
+            }
+        }
+
+        long failed = 0;
+        for (long count : failures) {
+            failed += count;
+        }
+        return new Result(executed, failed, Duration.ofNanos(System.nanoTime() - start), capped);
+    }
+
+    /**
+     * Outcome of a warm-up run.
+     *
+     * @param calls   calls executed, including failed ones
+     * @param failed  calls that threw
+     * @param elapsed wall-clock time of the run
+     * @param capped  true when max-duration (or an interrupt) stopped the run before the iteration budget was spent
+     */
+    public record Result(long calls, long failed, Duration elapsed, boolean capped) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.kishen.weather.infrastructure.warmup;
+
+/**
+ * WarmupCall
+ *
+ * One synthetic, side-effect-free call made during warm-up. Exceptions
+ * thrown by the action are counted, never propagated.
+ *
+ * @param name   label used in the warm-up log
+ * @param action the call
+ *
+ * @author Kishen Sivalingam
+ */
+public record WarmupCall(String name, Action action) {
+
+    @FunctionalInterface
+    public interface Action {
+
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,41 @@
+package com.kishen.weather.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * WarmupProperties
+ *
+ * Settings for the start-up warm-up run (prefix app.warmup). iterations is
+ * the number of rounds over all warm-up calls; max-duration caps the whole
+ * run, so readiness is never delayed by more than that. sample-cities are
+ * the cities the read-only lookups ask for.
+ *
+ * @author Kishen Sivalingam
+ */
+@ConfigurationProperties(prefix = "app.warmup")
+public record WarmupProperties(
+        boolean enabled,
+        int iterations,
+        Duration maxDuration,
+        List<String> sampleCities,
+        Duration requestTimeout
+) {
+
+    public WarmupProperties {
+        if (iterations <= 0) {
+            iterations = 1000;
+        }
+        if (maxDuration == null) {
+            maxDuration = Duration.ofSeconds(30);
+        }
+        if (sampleCities == null || sampleCities.isEmpty()) {
+            sampleCities = List.of("London", "Paris", "Tokyo");
+        }
+        if (requestTimeout == null) {
+            requestTimeout = Duration.ofSeconds(5);
+        }
+    }
+}
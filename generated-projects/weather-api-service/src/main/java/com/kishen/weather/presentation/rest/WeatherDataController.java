@@ -4,16 +4,29 @@ import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
 import com.kishen.weather.application.usecase.RecordWeatherDataInput;
 import com.kishen.weather.application.usecase.RecordWeatherDataUseCase;
 import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.presentation.rest.cache.ETagIndex;
+import com.kishen.weather.presentation.rest.cache.WeatherETags;
 import com.kishen.weather.presentation.rest.exception.WeatherDataNotFoundException;
+import com.kishen.weather.presentation.rest.fields.SparseFieldset;
 import com.kishen.weather.presentation.rest.model.WeatherDataRequest;
 import com.kishen.weather.presentation.rest.model.WeatherDataResponse;
+import com.kishen.weather.presentation.rest.stream.JsonArrayStreamer;
+import com.kishen.weather.presentation.rest.stream.WeatherStreamRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -27,6 +40,8 @@ import java.util.UUID;
  * - Maps between DTOs and domain objects
  * - Delegates to use cases
  *
+ * GET responses accept ?fields=a,b,c to return only the named response fields.
+ *
  * @author Kishen Sivalingam
  */
 @RestController
@@ -34,13 +49,24 @@ import java.util.UUID;
 @Tag(name = "Weather Data", description = "Weather data management API")
 public class WeatherDataController {
 
+    private static final int MAX_CITIES_PER_LATEST_LOOKUP = 1000;
+
     private final RecordWeatherDataUseCase recordWeatherDataUseCase;
     private final GetWeatherDataUseCase getWeatherDataUseCase;
+    private final WeatherStreamRegistry weatherStreamRegistry;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final WeatherETags weatherETags;
 
     public WeatherDataController(RecordWeatherDataUseCase recordWeatherDataUseCase,
-                                 GetWeatherDataUseCase getWeatherDataUseCase) {
+                                 GetWeatherDataUseCase getWeatherDataUseCase,
+                                 WeatherStreamRegistry weatherStreamRegistry,
+                                 JsonArrayStreamer jsonArrayStreamer,
+                                 WeatherETags weatherETags) {
         this.recordWeatherDataUseCase = recordWeatherDataUseCase;
         this.getWeatherDataUseCase = getWeatherDataUseCase;
+        this.weatherStreamRegistry = weatherStreamRegistry;
+        this.jsonArrayStreamer = jsonArrayStreamer;
+        this.weatherETags = weatherETags;
     }
 
     @PostMapping
@@ -67,28 +93,102 @@ public class WeatherDataController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get weather data by ID", description = "Retrieves weather data by its unique identifier")
-    public ResponseEntity<WeatherDataResponse> getWeatherDataById(@PathVariable UUID id) {
+    @Operation(summary = "Get weather data by ID", description = "Retrieves weather data by its unique identifier; supports If-None-Match")
+    public ResponseEntity<WeatherDataResponse> getWeatherDataById(
+            @PathVariable UUID id,
+            @RequestParam(value = SparseFieldset.PARAMETER, required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // Answer from the ETag index when the client's copy is known to be current
+        SparseFieldset fieldset = SparseFieldset.parse(fields);
+        Optional<String> knownTag = weatherETags.knownTagForId(id)
+                .map(tag -> WeatherETags.forFieldset(tag, fieldset));
+        if (knownTag.isPresent() && ETagIndex.matches(ifNoneMatch, knownTag.get())) {
+            weatherETags.countNotModified("by-id", true);
+            return notModified(knownTag.get());
+        }
+
         WeatherData weatherData = getWeatherDataUseCase.getById(id)
                 .orElseThrow(() -> new WeatherDataNotFoundException(id));
 
+        String tag = WeatherETags.forFieldset(weatherETags.rememberById(weatherData), fieldset);
+        if (ETagIndex.matches(ifNoneMatch, tag)) {
+            weatherETags.countNotModified("by-id", false);
+            return notModified(tag);
+        }
+
         WeatherDataResponse response = WeatherDataResponse.fromDomain(weatherData);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(tag).varyBy(HttpHeaders.ACCEPT).body(response);
     }
 
     @GetMapping("/city/{city}")
-    @Operation(summary = "Get latest weather data for a city", description = "Retrieves the most recent weather data for a specific city")
-    public ResponseEntity<WeatherDataResponse> getLatestWeatherDataByCity(@PathVariable String city) {
+    @Operation(summary = "Get latest weather data for a city", description = "Retrieves the most recent weather data for a specific city; supports If-None-Match")
+    public ResponseEntity<WeatherDataResponse> getLatestWeatherDataByCity(
+            @PathVariable String city,
+            @RequestParam(value = SparseFieldset.PARAMETER, required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        SparseFieldset fieldset = SparseFieldset.parse(fields);
+        Optional<String> knownTag = weatherETags.knownTagForCity(city)
+                .map(tag -> WeatherETags.forFieldset(tag, fieldset));
+        if (knownTag.isPresent() && ETagIndex.matches(ifNoneMatch, knownTag.get())) {
+            weatherETags.countNotModified("latest-by-city", true);
+            return notModified(knownTag.get());
+        }
+
         WeatherData weatherData = getWeatherDataUseCase.getLatestByCity(city)
                 .orElseThrow(() -> new WeatherDataNotFoundException(city));
 
+        String tag = WeatherETags.forFieldset(weatherETags.rememberLatestForCity(city, weatherData), fieldset);
+        if (ETagIndex.matches(ifNoneMatch, tag)) {
+            weatherETags.countNotModified("latest-by-city", false);
+            return notModified(tag);
+        }
+
         WeatherDataResponse response = WeatherDataResponse.fromDomain(weatherData);
+        return ResponseEntity.ok().eTag(tag).varyBy(HttpHeaders.ACCEPT).body(response);
+    }
+
+    @GetMapping("/city/{city}/history")
+    @Operation(summary = "Get weather history for a city", description = "Streams every recorded weather data reading for a specific city as a JSON array, newest first")
+    public ResponseEntity<StreamingResponseBody> getWeatherHistoryByCity(
+            @PathVariable String city,
+            @RequestParam(value = SparseFieldset.PARAMETER, required = false) String fields,
+            @RequestHeader HttpHeaders headers) {
+        return jsonArrayStreamer.stream(
+                headers.getAccept(),
+                action -> getWeatherDataUseCase.forEachInHistory(city, action),
+                SparseFieldset.parse(fields).projecting(WeatherDataResponse.class, WeatherDataResponse::fromDomain)
+        );
+    }
+
+    @GetMapping("/latest")
+    @Operation(summary = "Get latest weather data for several cities", description = "Retrieves the most recent weather data for each of the given comma-separated cities, keyed by city; cities without data are omitted")
+    public ResponseEntity<Map<String, WeatherDataResponse>> getLatestWeatherDataByCities(@RequestParam List<String> cities) {
+        if (cities.isEmpty() || cities.size() > MAX_CITIES_PER_LATEST_LOOKUP) {
+            throw new IllegalArgumentException(
+                    "Between 1 and " + MAX_CITIES_PER_LATEST_LOOKUP + " cities must be requested");
+        }
+
+        Map<String, WeatherData> latest = getWeatherDataUseCase.getLatestByCities(cities);
+        Map<String, WeatherDataResponse> response = new LinkedHashMap<>(latest.size() * 2);
+        latest.forEach((city, weatherData) -> response.put(city, WeatherDataResponse.fromDomain(weatherData)));
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream live weather updates", description = "Pushes newly recorded weather data for the given comma-separated cities as Server-Sent Events")
+    public SseEmitter streamWeatherUpdates(@RequestParam List<String> cities) {
+        return weatherStreamRegistry.subscribe(cities);
+    }
+
     @GetMapping("/health")
     @Operation(summary = "Health check", description = "Simple health check endpoint")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Weather API Service is running");
     }
+
+    private static ResponseEntity<WeatherDataResponse> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).varyBy(HttpHeaders.ACCEPT).build();
+    }
 }
@@ -0,0 +1,27 @@
+package com.kishen.weather.presentation.rest.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ETagProperties
+ *
+ * Settings for the in-memory ETag index used by conditional GETs
+ * (prefix app.etag). indexTtl bounds how long a tag is trusted without
+ * re-reading the entity, which covers writes made by other instances.
+ *
+ * @author Kishen Sivalingam
+ */
+@ConfigurationProperties(prefix = "app.etag")
+public record ETagProperties(Duration indexTtl, int maxEntries) {
+
+    public ETagProperties {
+        if (indexTtl == null) {
+            indexTtl = Duration.ofSeconds(30);
+        }
+        if (maxEntries <= 0) {
+            maxEntries = 100_000;
+        }
+    }
+}
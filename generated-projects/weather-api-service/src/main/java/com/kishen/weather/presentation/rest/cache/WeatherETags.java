@@ -0,0 +1,140 @@
+package com.kishen.weather.presentation.rest.cache;
+
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.WeatherDataEventPublisher;
+import com.kishen.weather.presentation.rest.fields.SparseFieldset;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * WeatherETags
+ *
+ * Weak ETags for weather data, derived from the reading's id and
+ * updatedAt plus its stale flag, since the representation changes when a
+ * reading turns stale without updatedAt moving. The same reading is served as
+ * JSON, CBOR or Smile depending on Accept; those encodings are semantically
+ * equivalent, so the tags are weak and responses carry Vary: Accept. A
+ * ?fields= projection is a different representation and gets its own tag
+ * from {@link #forFieldset}. Tags are indexed by id and by
+ * city so conditional GETs can be answered without a repository call. Cities
+ * are indexed by {@link GetWeatherDataUseCase#cityKey}, so every spelling the
+ * lookup answers with the same reading shares one entry; newly
+ * recorded readings replace the city's tag as soon as they are committed, and
+ * entries expire no later than the moment the reading turns stale.
+ *
+ * Metrics: http.etag.not-modified{endpoint, source=index|lookup}.
+ *
+ * @author Kishen Sivalingam
+ */
+@Component
+@EnableConfigurationProperties(ETagProperties.class)
+public class WeatherETags implements WeatherDataEventPublisher {
+
+    private final ETagIndex<UUID> byId;
+    private final ETagIndex<String> latestByCity;
+    private final GetWeatherDataUseCase getWeatherDataUseCase;
+    private final MeterRegistry meterRegistry;
+
+    public WeatherETags(ETagProperties properties, GetWeatherDataUseCase getWeatherDataUseCase,
+                        ObjectProvider<MeterRegistry> meterRegistry) {
+        this.byId = new ETagIndex<>(properties.indexTtl(), properties.maxEntries());
+        this.latestByCity = new ETagIndex<>(properties.indexTtl(), properties.maxEntries());
+        this.getWeatherDataUseCase = getWeatherDataUseCase;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Compute the ETag of a reading's current, unprojected representation
+     *
+     * @param weatherData The weather data
+     * @return The weak ETag
+     */
+    public String tagOf(WeatherData weatherData) {
+        LocalDateTime updatedAt = weatherData.getUpdatedAt();
+        long version = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano();
+        return "W/\"" + weatherData.getId() + "-" + Long.toHexString(version)
+                + (weatherData.isStale() ? "-stale" : "") + "\"";
+    }
+
+    /**
+     * Derive the ETag of a ?fields= projection from the full representation's tag
+     *
+     * @param tag      The ETag of the full representation
+     * @param fieldset The selected fields
+     * @return The tag itself when every field is selected, otherwise a tag unique to the selection
+     */
+    public static String forFieldset(String tag, SparseFieldset fieldset) {
+        if (fieldset.isAll()) {
+            return tag;
+        }
+        String selection = String.join(",", new TreeSet<>(fieldset.names()));
+        String digest = DigestUtils.md5DigestAsHex(selection.getBytes(StandardCharsets.UTF_8));
+        return tag.substring(0, tag.length() - 1) + "-f" + digest.substring(0, 8) + "\"";
+    }
+
+    public Optional<String> knownTagForId(UUID id) {
+        return byId.currentTag(id);
+    }
+
+    public Optional<String> knownTagForCity(String city) {
+        return latestByCity.currentTag(getWeatherDataUseCase.cityKey(city));
+    }
+
+    /**
+     * Remember the tag of a reading served by id
+     *
+     * @param weatherData The weather data
+     * @return The reading's ETag
+     */
+    public String rememberById(WeatherData weatherData) {
+        String tag = tagOf(weatherData);
+        byId.remember(weatherData.getId(), tag, untilStale(weatherData));
+        return tag;
+    }
+
+    /**
+     * Remember the tag of the latest reading served for a city
+     *
+     * @param city        The city as requested
+     * @param weatherData The latest weather data for the city
+     * @return The reading's ETag
+     */
+    public String rememberLatestForCity(String city, WeatherData weatherData) {
+        String tag = tagOf(weatherData);
+        latestByCity.remember(getWeatherDataUseCase.cityKey(city), tag, untilStale(weatherData));
+        return tag;
+    }
+
+    public void countNotModified(String endpoint, boolean fromIndex) {
+        meterRegistry.counter("http.etag.not-modified",
+                        "endpoint", endpoint,
+                        "source", fromIndex ? "index" : "lookup")
+                .increment();
+    }
+
+    @Override
+    public void publishRecorded(WeatherData weatherData) {
+        rememberById(weatherData);
+        rememberLatestForCity(weatherData.getLocation().city(), weatherData);
+    }
+
+    private static Duration untilStale(WeatherData weatherData) {
+        if (weatherData.isStale()) {
+            return null;
+        }
+        return Duration.between(LocalDateTime.now(), weatherData.getStaleAt());
+    }
+}
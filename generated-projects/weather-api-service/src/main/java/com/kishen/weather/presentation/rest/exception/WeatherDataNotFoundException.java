@@ -7,15 +7,18 @@ import java.util.UUID;
  *
  * Exception thrown when weather data is not found.
  *
+ * Unknown ids and cities are a routine outcome, so the exception skips the
+ * stack trace capture that dominates the cost of throwing.
+ *
  * @author Kishen Sivalingam
  */
 public class WeatherDataNotFoundException extends RuntimeException {
 
     public WeatherDataNotFoundException(UUID id) {
-        super("Weather data not found with ID: " + id);
+        super("Weather data not found with ID: " + id, null, false, false);
     }
 
     public WeatherDataNotFoundException(String city) {
-        super("Weather data not found for city: " + city);
+        super("Weather data not found for city: " + city, null, false, false);
     }
 }
@@ -0,0 +1,64 @@
+package com.kishen.weather.presentation.rest.stream;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DropOldestBuffer
+ *
+ * Lock-free bounded buffer that makes room for new items by discarding the
+ * oldest ones. Used per stream subscriber so a slow consumer only ever loses
+ * outdated readings and never slows down the publisher or other subscribers.
+ *
+ * @param <T> item type
+ * @author Kishen Sivalingam
+ */
+public class DropOldestBuffer<T> {
+
+    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+
+    public DropOldestBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Add an item, dropping the oldest one if the buffer is full.
+     *
+     * @param item The item to add
+     */
+    public void offer(T item) {
+        queue.offer(item);
+        if (size.incrementAndGet() > capacity && queue.poll() != null) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Take the oldest item.
+     *
+     * @return The oldest item, or null if the buffer is empty
+     */
+    public T poll() {
+        T item = queue.poll();
+        if (item != null) {
+            size.decrementAndGet();
+        }
+        return item;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,138 @@
+package com.kishen.weather.presentation.rest.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * JsonArrayStreamer
+ *
+ * Writes list responses as a JSON array, one element at a time, as the
+ * repository cursor produces them. The first element is flushed straight
+ * away and then every app.streaming.flush-every elements, so time-to-first-byte
+ * and heap use do not grow with the result size.
+ *
+ * Clients accepting a binary Jackson format registered as a message converter
+ * (CBOR, Smile) receive the same array in that encoding; everyone else,
+ * including wildcard Accept headers, gets JSON.
+ *
+ * The body is written after the status has been committed; a failure part-way
+ * through aborts the connection, so validate requests before streaming.
+ *
+ * @author Kishen Sivalingam
+ */
+@Component
+@EnableConfigurationProperties(StreamingProperties.class)
+public class JsonArrayStreamer {
+
+    private final ObjectMapper objectMapper;
+    private final Map<MediaType, ObjectMapper> binaryMappers = new LinkedHashMap<>();
+    private final int flushEvery;
+
+    public JsonArrayStreamer(ObjectMapper objectMapper,
+                             List<AbstractJackson2HttpMessageConverter> converters,
+                             StreamingProperties properties) {
+        this.objectMapper = objectMapper;
+        this.flushEvery = properties.flushEvery();
+        for (AbstractJackson2HttpMessageConverter converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter) {
+                continue;
+            }
+            for (MediaType mediaType : converter.getSupportedMediaTypes()) {
+                if (!mediaType.isWildcardSubtype()) {
+                    binaryMappers.putIfAbsent(mediaType, converter.getObjectMapper());
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a 200 response streaming the elements pushed by the source
+     *
+     * @param accept     The media types from the request's Accept header
+     * @param source     Pushes each element to the given consumer
+     * @param toResponse Maps an element to its response representation
+     * @return The response with the negotiated content type and streaming body
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(List<MediaType> accept,
+                                                            Consumer<Consumer<T>> source,
+                                                            Function<? super T, ?> toResponse) {
+        MediaType contentType = negotiate(accept);
+        ObjectMapper mapper = binaryMappers.getOrDefault(contentType, objectMapper);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = mapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                try {
+                    source.accept(new ElementWriter<>(generator, toResponse, flushEvery));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(contentType).body(body);
+    }
+
+    private MediaType negotiate(List<MediaType> accept) {
+        List<MediaType> acceptable = new ArrayList<>(accept);
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : acceptable) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            for (MediaType binary : binaryMappers.keySet()) {
+                if (binary.isCompatibleWith(mediaType)) {
+                    return binary;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private static final class ElementWriter<T> implements Consumer<T> {
+
+        private final JsonGenerator generator;
+        private final Function<? super T, ?> toResponse;
+        private final int flushEvery;
+        private long written;
+
+        ElementWriter(JsonGenerator generator, Function<? super T, ?> toResponse, int flushEvery) {
+            this.generator = generator;
+            this.toResponse = toResponse;
+            this.flushEvery = flushEvery;
+        }
+
+        @Override
+        public void accept(T element) {
+            try {
+                generator.writeObject(toResponse.apply(element));
+                written++;
+                if (written == 1 || written % flushEvery == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.kishen.weather.presentation.rest.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * StreamingProperties
+ *
+ * Settings for streamed JSON list responses (prefix app.streaming).
+ * flushEvery is the number of array elements written between flushes.
+ *
+ * @author Kishen Sivalingam
+ */
+@ConfigurationProperties(prefix = "app.streaming")
+public record StreamingProperties(int flushEvery) {
+
+    public StreamingProperties {
+        if (flushEvery <= 0) {
+            flushEvery = 100;
+        }
+    }
+}
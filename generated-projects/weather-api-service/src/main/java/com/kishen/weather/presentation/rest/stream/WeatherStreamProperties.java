@@ -0,0 +1,36 @@
+package com.kishen.weather.presentation.rest.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * WeatherStreamProperties
+ *
+ * Settings for the live weather update stream (prefix app.weather.stream).
+ *
+ * @author Kishen Sivalingam
+ */
+@ConfigurationProperties(prefix = "app.weather.stream")
+public record WeatherStreamProperties(
+        int bufferSize,
+        int maxCitiesPerSubscription,
+        Duration heartbeatInterval,
+        Duration connectionTimeout
+) {
+
+    public WeatherStreamProperties {
+        if (bufferSize <= 0) {
+            bufferSize = 16;
+        }
+        if (maxCitiesPerSubscription <= 0) {
+            maxCitiesPerSubscription = 100;
+        }
+        if (heartbeatInterval == null) {
+            heartbeatInterval = Duration.ofSeconds(15);
+        }
+        if (connectionTimeout == null) {
+            connectionTimeout = Duration.ofMinutes(30);
+        }
+    }
+}
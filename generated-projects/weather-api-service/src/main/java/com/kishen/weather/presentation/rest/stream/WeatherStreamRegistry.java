@@ -0,0 +1,126 @@
+package com.kishen.weather.presentation.rest.stream;
+
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.WeatherDataEventPublisher;
+import com.kishen.weather.presentation.rest.model.WeatherDataResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WeatherStreamRegistry
+ *
+ * Per-city registry of live update subscribers. Publishing looks up the
+ * city's subscriber set and hands each subscriber the reading without taking
+ * any lock; registration and removal only touch the affected city's entry.
+ * The response DTO is built once per reading and shared by all subscribers.
+ *
+ * @author Kishen Sivalingam
+ */
+@Component
+@EnableConfigurationProperties(WeatherStreamProperties.class)
+public class WeatherStreamRegistry implements WeatherDataEventPublisher {
+
+    private final ConcurrentHashMap<String, Set<WeatherStreamSubscriber>> subscribersByCity = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final WeatherStreamProperties properties;
+
+    public WeatherStreamRegistry(WeatherStreamProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Open a stream of readings for the given cities.
+     *
+     * @param cities City names to subscribe to
+     * @return The emitter to return from the controller
+     */
+    public SseEmitter subscribe(Collection<String> cities) {
+        Set<String> cityKeys = new LinkedHashSet<>();
+        for (String city : cities) {
+            if (city != null && !city.isBlank()) {
+                cityKeys.add(cityKey(city));
+            }
+        }
+        if (cityKeys.isEmpty()) {
+            throw new IllegalArgumentException("At least one city is required");
+        }
+        if (cityKeys.size() > properties.maxCitiesPerSubscription()) {
+            throw new IllegalArgumentException(
+                    "At most " + properties.maxCitiesPerSubscription() + " cities can be streamed per connection");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.connectionTimeout().toMillis());
+        WeatherStreamSubscriber subscriber = new WeatherStreamSubscriber(
+                Set.copyOf(cityKeys),
+                emitter,
+                properties.bufferSize(),
+                properties.heartbeatInterval().toNanos(),
+                this::unregister
+        );
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        emitter.onError(error -> subscriber.close());
+
+        for (String cityKey : subscriber.cityKeys()) {
+            subscribersByCity.compute(cityKey, (key, subscribers) -> {
+                Set<WeatherStreamSubscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                target.add(subscriber);
+                return target;
+            });
+        }
+        subscriberCount.incrementAndGet();
+        subscriber.start();
+        return emitter;
+    }
+
+    @Override
+    public void publishRecorded(WeatherData weatherData) {
+        Set<WeatherStreamSubscriber> subscribers = subscribersByCity.get(cityKey(weatherData.getLocation().city()));
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        WeatherDataResponse reading = WeatherDataResponse.fromDomain(weatherData);
+        for (WeatherStreamSubscriber subscriber : subscribers) {
+            subscriber.offer(reading);
+        }
+    }
+
+    /**
+     * Number of open stream connections.
+     *
+     * @return subscriber count
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void unregister(WeatherStreamSubscriber subscriber) {
+        boolean removed = false;
+        for (String cityKey : subscriber.cityKeys()) {
+            Set<WeatherStreamSubscriber> subscribers = subscribersByCity.get(cityKey);
+            if (subscribers != null && subscribers.remove(subscriber)) {
+                removed = true;
+                subscribersByCity.computeIfPresent(cityKey, (key, current) -> current.isEmpty() ? null : current);
+            }
+        }
+        if (removed) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private static String cityKey(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,96 @@
+package com.kishen.weather.presentation.rest.stream;
+
+import com.kishen.weather.presentation.rest.model.WeatherDataResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * WeatherStreamSubscriber
+ *
+ * One SSE connection. Published readings are queued in a drop-oldest buffer
+ * and written to the emitter by the subscriber's own virtual thread, so a
+ * slow client blocks only that thread. A comment line is sent whenever the
+ * connection has been idle for the heartbeat interval, which also detects
+ * clients that went away.
+ *
+ * @author Kishen Sivalingam
+ */
+class WeatherStreamSubscriber implements Runnable {
+
+    private final Set<String> cityKeys;
+    private final SseEmitter emitter;
+    private final DropOldestBuffer<WeatherDataResponse> buffer;
+    private final long heartbeatNanos;
+    private final Consumer<WeatherStreamSubscriber> onClose;
+
+    private volatile Thread worker;
+    private volatile boolean closed;
+
+    WeatherStreamSubscriber(Set<String> cityKeys, SseEmitter emitter, int bufferSize,
+                            long heartbeatNanos, Consumer<WeatherStreamSubscriber> onClose) {
+        this.cityKeys = cityKeys;
+        this.emitter = emitter;
+        this.buffer = new DropOldestBuffer<>(bufferSize);
+        this.heartbeatNanos = heartbeatNanos;
+        this.onClose = onClose;
+    }
+
+    Set<String> cityKeys() {
+        return cityKeys;
+    }
+
+    void start() {
+        worker = Thread.ofVirtual().name("weather-stream-subscriber").start(this);
+    }
+
+    void offer(WeatherDataResponse reading) {
+        buffer.offer(reading);
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    void close() {
+        closed = true;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        long lastSend = System.nanoTime();
+        try {
+            while (!closed) {
+                WeatherDataResponse reading = buffer.poll();
+                if (reading != null) {
+                    emitter.send(SseEmitter.event()
+                            .name("weather")
+                            .id(String.valueOf(reading.id()))
+                            .data(reading));
+                    lastSend = System.nanoTime();
+                    continue;
+                }
+                long idle = System.nanoTime() - lastSend;
+                if (idle >= heartbeatNanos) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    lastSend = System.nanoTime();
+                    continue;
+                }
+                LockSupport.parkNanos(this, heartbeatNanos - idle);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected or the emitter completed
+            emitter.completeWithError(e);
+        } finally {
+            closed = true;
+            onClose.accept(this);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.kishen.weather.application.service;
+
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.application.usecase.RecordWeatherDataInput;
+import com.kishen.weather.application.usecase.RecordWeatherDataUseCase;
+import com.kishen.weather.domain.port.WeatherDataRepository;
+import com.kishen.weather.support.allocation.AllocationBudgets;
+import com.kishen.weather.support.allocation.AllocationFixtures;
+import com.kishen.weather.support.allocation.AllocationMeter;
+import com.kishen.weather.support.allocation.AllocationPhase;
+import com.kishen.weather.support.allocation.AllocationReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets per call for the use cases, run against an in-memory
+ * WeatherDataRepository. Persistence is the repository's share, mapping the
+ * rest of the use case.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("Use Case Allocation Budget Tests")
+class UseCaseAllocationBudgetTest {
+
+    private final AllocationBudgets budgets = AllocationBudgets.load();
+    private final WeatherDataRepository repository = AllocationFixtures.weatherDataRepository();
+
+    @BeforeEach
+    void requireAllocationCounters() {
+        assumeTrue(AllocationMeter.isSupported(), "JVM does not report per-thread allocated bytes");
+    }
+
+    @Test
+    @DisplayName("Recording weather data should stay within budget")
+    void recordShouldStayWithinBudget() throws Exception {
+        // Arrange
+        RecordWeatherDataUseCase useCase = new RecordWeatherDataService(repository, List.of());
+        RecordWeatherDataInput input = new RecordWeatherDataInput(
+                "London", "GB", 51.5074, -0.1278, new BigDecimal("18.5"), "CELSIUS", 65, "Partly cloudy", 12.5);
+
+        // Act
+        AllocationReport report = budgets.assertWithinBudget("usecase.record-weather-data",
+                () -> inMappingPhase(() -> useCase.execute(input)));
+
+        // Assert
+        assertTrue(report.bytesByPhase().get(AllocationPhase.PERSISTENCE) > 0);
+        assertTrue(report.bytesByPhase().get(AllocationPhase.MAPPING) > 0);
+    }
+
+    @Test
+    @DisplayName("Getting the latest reading for a city should stay within budget")
+    void latestByCityShouldStayWithinBudget() throws Exception {
+        // Arrange
+        GetWeatherDataUseCase useCase = new GetWeatherDataService(repository, Optional.empty());
+
+        // Act & Assert
+        budgets.assertWithinBudget("usecase.latest-by-city",
+                () -> inMappingPhase(() -> useCase.getLatestByCity("Paris")));
+    }
+
+    @Test
+    @DisplayName("Getting the latest readings for several cities should stay within budget")
+    void latestByCitiesShouldStayWithinBudget() throws Exception {
+        // Arrange
+        GetWeatherDataUseCase useCase = new GetWeatherDataService(repository, Optional.empty());
+
+        // Act & Assert
+        budgets.assertWithinBudget("usecase.latest-by-cities",
+                () -> inMappingPhase(() -> useCase.getLatestByCities(AllocationFixtures.CITIES)));
+    }
+
+    private static void inMappingPhase(Runnable call) {
+        AllocationMeter.enter(AllocationPhase.MAPPING);
+        try {
+            call.run();
+        } finally {
+            AllocationMeter.exit();
+        }
+    }
+}
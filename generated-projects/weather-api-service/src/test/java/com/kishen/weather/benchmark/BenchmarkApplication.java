@@ -0,0 +1,53 @@
+package com.kishen.weather.benchmark;
+
+import com.kishen.weather.WeatherApiServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * BenchmarkApplication
+ *
+ * Boots the full application context against a private in-memory H2 database
+ * for JMH benchmarks, with SQL logging switched off so it does not dominate
+ * the measurements.
+ *
+ * @author Kishen Sivalingam
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Start the application without a web server
+     *
+     * @param overrides Additional --property=value arguments
+     * @return The running application context
+     */
+    public static ConfigurableApplicationContext start(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--springdoc.api-docs.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.kishen.weather=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        args.addAll(Arrays.asList(overrides));
+        return new SpringApplicationBuilder(WeatherApiServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,236 @@
+package com.kishen.weather.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.presentation.rest.WeatherDataController;
+import com.kishen.weather.presentation.rest.cache.ETagProperties;
+import com.kishen.weather.presentation.rest.cache.WeatherETags;
+import com.kishen.weather.presentation.rest.stream.JsonArrayStreamer;
+import com.kishen.weather.presentation.rest.stream.StreamingProperties;
+import com.kishen.weather.presentation.rest.stream.WeatherStreamProperties;
+import com.kishen.weather.presentation.rest.stream.WeatherStreamRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * ConditionalGetReplayBenchmark
+ *
+ * Replays a skewed read workload against WeatherDataController (standalone
+ * MockMvc, in-memory use case) with and without clients revalidating through
+ * If-None-Match. Most requests go to a small set of hot readings and cities,
+ * and a fraction of readings is re-recorded during the replay so some cached
+ * tags go out of date.
+ *
+ * Besides time per request, the aux counters report body bytes written,
+ * 304 responses and use-case lookups per iteration, i.e. the bytes and
+ * reads saved by conditional GETs.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=ConditionalGetReplay
+ *
+ * @author Kishen Sivalingam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionalGetReplayBenchmark {
+
+    private static final int READINGS = 1_000;
+    private static final int CITIES = 100;
+    private static final int REPLAY_LENGTH = 20_000;
+    private static final double HOT_SHARE = 0.8;
+    private static final double UPDATE_SHARE = 0.01;
+
+    @Param({"true", "false"})
+    public boolean revalidate;
+
+    private final Map<UUID, WeatherData> readingsById = new ConcurrentHashMap<>();
+    private final Map<String, WeatherData> latestByCity = new ConcurrentHashMap<>();
+    private final Map<String, String> clientETags = new ConcurrentHashMap<>();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong cursor = new AtomicLong();
+
+    private MockMvc mockMvc;
+    private WeatherETags weatherETags;
+    private List<ReplayedRequest> replay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<UUID> ids = new ArrayList<>(READINGS);
+        for (int i = 0; i < READINGS; i++) {
+            WeatherData weatherData = reading("City-" + (i % CITIES), i);
+            readingsById.put(weatherData.getId(), weatherData);
+            latestByCity.put(weatherData.getLocation().city(), weatherData);
+            ids.add(weatherData.getId());
+        }
+
+        InMemoryLookup lookup = new InMemoryLookup();
+        weatherETags = new WeatherETags(new ETagProperties(null, 0), lookup,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        WeatherDataController controller = new WeatherDataController(
+                input -> {
+                    throw new UnsupportedOperationException("read-only replay");
+                },
+                lookup,
+                new WeatherStreamRegistry(new WeatherStreamProperties(0, 0, null, null)),
+                new JsonArrayStreamer(new ObjectMapper(), List.of(), new StreamingProperties(0)),
+                weatherETags
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        // Hot keys: the first 20% of readings and cities receive HOT_SHARE of the traffic
+        Random random = new Random(42);
+        replay = new ArrayList<>(REPLAY_LENGTH);
+        for (int i = 0; i < REPLAY_LENGTH; i++) {
+            boolean hot = random.nextDouble() < HOT_SHARE;
+            boolean update = random.nextDouble() < UPDATE_SHARE;
+            if (random.nextBoolean()) {
+                int index = hot ? random.nextInt(READINGS / 5) : random.nextInt(READINGS);
+                replay.add(new ReplayedRequest("/api/v1/weather/" + ids.get(index), null, update));
+            } else {
+                int index = hot ? random.nextInt(CITIES / 5) : random.nextInt(CITIES);
+                String city = "City-" + index;
+                replay.add(new ReplayedRequest("/api/v1/weather/city/" + city, city, update));
+            }
+        }
+    }
+
+    @Benchmark
+    public int replayRequest(Traffic traffic) throws Exception {
+        ReplayedRequest request = replay.get((int) (cursor.getAndIncrement() % REPLAY_LENGTH));
+        if (request.city() != null && request.recordsNewReading()) {
+            recordNewReading(request.city());
+        }
+
+        MockHttpServletRequestBuilder builder = get(request.path());
+        String knownTag = clientETags.get(request.path());
+        if (revalidate && knownTag != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, knownTag);
+        }
+
+        long lookupsBefore = lookups.get();
+        MockHttpServletResponse response = mockMvc.perform(builder).andReturn().getResponse();
+        traffic.lookups += lookups.get() - lookupsBefore;
+        traffic.bodyBytes += response.getContentAsByteArray().length;
+        if (response.getStatus() == 304) {
+            traffic.notModified++;
+        }
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        if (etag != null) {
+            clientETags.put(request.path(), etag);
+        }
+        return response.getStatus();
+    }
+
+    private void recordNewReading(String city) {
+        WeatherData weatherData = reading(city, (int) cursor.get());
+        readingsById.put(weatherData.getId(), weatherData);
+        latestByCity.put(city, weatherData);
+        weatherETags.publishRecorded(weatherData);
+    }
+
+    private static WeatherData reading(String city, int seed) {
+        return new WeatherData(
+                new Location(city, "GB", 51.5, -0.12),
+                new Temperature(BigDecimal.valueOf(1000 + seed % 2000, 2), Temperature.TemperatureUnit.CELSIUS),
+                40 + seed % 60,
+                "Scattered clouds with occasional sunshine",
+                5.0 + seed % 20
+        );
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Traffic {
+        public long bodyBytes;
+        public long notModified;
+        public long lookups;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bodyBytes = 0;
+            notModified = 0;
+            lookups = 0;
+        }
+    }
+
+    private record ReplayedRequest(String path, String city, boolean recordsNewReading) {
+    }
+
+    private class InMemoryLookup implements GetWeatherDataUseCase {
+
+        @Override
+        public Optional<WeatherData> getById(UUID id) {
+            lookups.incrementAndGet();
+            return Optional.ofNullable(readingsById.get(id));
+        }
+
+        @Override
+        public Optional<WeatherData> getLatestByCity(String city) {
+            lookups.incrementAndGet();
+            return Optional.ofNullable(latestByCity.get(city));
+        }
+
+        @Override
+        public Map<String, WeatherData> getLatestByCities(Collection<String> cities) {
+            lookups.incrementAndGet();
+            Map<String, WeatherData> latest = new LinkedHashMap<>();
+            for (String city : cities) {
+                WeatherData weatherData = latestByCity.get(city);
+                if (weatherData != null) {
+                    latest.put(city, weatherData);
+                }
+            }
+            return latest;
+        }
+
+        @Override
+        public void forEachInHistory(String city, Consumer<WeatherData> action) {
+            lookups.incrementAndGet();
+            Map<UUID, WeatherData> snapshot = new HashMap<>(readingsById);
+            snapshot.values().stream()
+                    .filter(weatherData -> weatherData.getLocation().city().equals(city))
+                    .forEach(action);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.kishen.weather.benchmark;
+
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.WeatherDataRepository;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatestByCitiesBenchmark
+ *
+ * Compares resolving the latest reading for N cities with N single-city
+ * lookups against one bulk lookup through GetWeatherDataUseCase, on H2 with
+ * several historical readings per city.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=LatestByCities
+ *
+ * @author Kishen Sivalingam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LatestByCitiesBenchmark {
+
+    private static final int READINGS_PER_CITY = 20;
+
+    @Param({"10", "100", "500"})
+    public int cityCount;
+
+    @Param({"false", "true"})
+    public boolean latestStoreEnabled;
+
+    private ConfigurableApplicationContext context;
+    private GetWeatherDataUseCase getWeatherDataUseCase;
+    private List<String> cities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("--app.weather.latest-store.enabled=" + latestStoreEnabled);
+        getWeatherDataUseCase = context.getBean(GetWeatherDataUseCase.class);
+        WeatherDataRepository repository = context.getBean(WeatherDataRepository.class);
+
+        cities = new ArrayList<>(cityCount);
+        LocalDateTime now = LocalDateTime.now();
+        for (int c = 0; c < cityCount; c++) {
+            String city = "City-" + c;
+            cities.add(city);
+            for (int r = 0; r < READINGS_PER_CITY; r++) {
+                WeatherData weatherData = new WeatherData(
+                        new Location(city, "GB", 51.5, -0.12),
+                        new Temperature(BigDecimal.valueOf(10 + r), Temperature.TemperatureUnit.CELSIUS),
+                        60,
+                        "Overcast",
+                        12.5
+                );
+                weatherData.setRecordedAt(now.minusMinutes(r));
+                repository.save(weatherData);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singleCallPerCity(Blackhole blackhole) {
+        for (String city : cities) {
+            blackhole.consume(getWeatherDataUseCase.getLatestByCity(city));
+        }
+    }
+
+    @Benchmark
+    public Map<String, WeatherData> oneBulkCall() {
+        return getWeatherDataUseCase.getLatestByCities(cities);
+    }
+}
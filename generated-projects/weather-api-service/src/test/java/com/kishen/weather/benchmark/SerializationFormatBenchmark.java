@@ -0,0 +1,125 @@
+package com.kishen.weather.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.presentation.rest.model.WeatherDataRequest;
+import com.kishen.weather.presentation.rest.model.WeatherDataResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * SerializationFormatBenchmark
+ *
+ * Measures encode/decode CPU for JSON, CBOR and Smile using the ingest request
+ * and the response models, and prints the bytes on the wire per format (raw
+ * and gzip-compressed) once per trial.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=SerializationFormat
+ *
+ * @author Kishen Sivalingam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private CollectionType responseListType;
+    private WeatherDataRequest request;
+    private WeatherDataResponse response;
+    private List<WeatherDataResponse> responsePage;
+    private byte[] requestBytes;
+    private byte[] responsePageBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        responseListType = mapper.getTypeFactory().constructCollectionType(List.class, WeatherDataResponse.class);
+
+        request = new WeatherDataRequest("London", "GB", 51.5074, -0.1278,
+                new BigDecimal("14.35"), "CELSIUS", 72, "Light rain with moderate breeze", 18.4);
+        responsePage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            WeatherData weatherData = new WeatherData(
+                    new Location("City-" + i, "GB", 50.0 + i * 0.01, -1.0 - i * 0.01),
+                    new Temperature(BigDecimal.valueOf(1000 + i, 2), Temperature.TemperatureUnit.CELSIUS),
+                    40 + i % 60,
+                    "Scattered clouds with occasional sunshine",
+                    5.0 + i % 20
+            );
+            responsePage.add(WeatherDataResponse.fromDomain(weatherData));
+        }
+        response = responsePage.get(0);
+
+        requestBytes = mapper.writeValueAsBytes(request);
+        responsePageBytes = mapper.writeValueAsBytes(responsePage);
+        byte[] responseBytes = mapper.writeValueAsBytes(response);
+        System.out.printf("%n[%s] request=%dB (gzip %dB), response=%dB (gzip %dB), page of %d=%dB (gzip %dB)%n",
+                format,
+                requestBytes.length, gzippedSize(requestBytes),
+                responseBytes.length, gzippedSize(responseBytes),
+                PAGE_SIZE, responsePageBytes.length, gzippedSize(responsePageBytes));
+    }
+
+    @Benchmark
+    public WeatherDataRequest readRequest() throws IOException {
+        return mapper.readValue(requestBytes, WeatherDataRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeResponsePage() throws IOException {
+        return mapper.writeValueAsBytes(responsePage);
+    }
+
+    @Benchmark
+    public List<WeatherDataResponse> readResponsePage() throws IOException {
+        return mapper.readValue(responsePageBytes, responseListType);
+    }
+
+    private static int gzippedSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.size();
+    }
+}
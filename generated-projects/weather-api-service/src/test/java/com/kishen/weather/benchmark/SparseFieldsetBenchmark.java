@@ -0,0 +1,103 @@
+package com.kishen.weather.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.presentation.rest.fields.SparseFieldset;
+import com.kishen.weather.presentation.rest.model.WeatherDataResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * SparseFieldsetBenchmark
+ *
+ * Measures projecting and serializing a WeatherDataResponse and a page of them
+ * for the full representation and the common ?fields= selections, and prints
+ * the bytes on the wire per selection (raw and gzip-compressed) once per trial.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=SparseFieldset
+ *
+ * @author Kishen Sivalingam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SparseFieldsetBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"all", "id,temperatureValue", "city,temperatureValue,recordedAt", "city,temperatureValue,humidity,windSpeed,severity"})
+    public String fields;
+
+    private ObjectMapper mapper;
+    private SparseFieldset fieldset;
+    private WeatherDataResponse response;
+    private List<WeatherDataResponse> responsePage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        fieldset = SparseFieldset.parse("all".equals(fields) ? null : fields);
+
+        responsePage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            WeatherData weatherData = new WeatherData(
+                    new Location("City-" + i, "GB", 50.0 + i * 0.01, -1.0 - i * 0.01),
+                    new Temperature(BigDecimal.valueOf(1000 + i, 2), Temperature.TemperatureUnit.CELSIUS),
+                    40 + i % 60,
+                    "Scattered clouds with occasional sunshine",
+                    5.0 + i % 20
+            );
+            responsePage.add(WeatherDataResponse.fromDomain(weatherData));
+        }
+        response = responsePage.get(0);
+
+        byte[] responseBytes = writeResponse();
+        byte[] pageBytes = writeResponsePage();
+        System.out.printf("%n[fields=%s] response=%dB (gzip %dB), page of %d=%dB (gzip %dB)%n",
+                fields,
+                responseBytes.length, gzippedSize(responseBytes),
+                PAGE_SIZE, pageBytes.length, gzippedSize(pageBytes));
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return mapper.writeValueAsBytes(fieldset.project(response));
+    }
+
+    @Benchmark
+    public byte[] writeResponsePage() throws IOException {
+        return mapper.writeValueAsBytes(fieldset.project(responsePage));
+    }
+
+    private static int gzippedSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.size();
+    }
+}
@@ -0,0 +1,152 @@
+package com.kishen.weather.benchmark;
+
+import com.kishen.weather.application.service.GetWeatherDataService;
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.WeatherDataRepository;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.infrastructure.observability.UseCaseMetricsAspect;
+import com.kishen.weather.infrastructure.observability.UseCaseMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * UseCaseMetricsBenchmark
+ *
+ * Measures what UseCaseMetricsAspect adds to a use case call. The service is
+ * backed by an in-memory repository so the call itself is a few nanoseconds
+ * and the timer cost is not hidden behind database time: direct is the bare
+ * service, timed is the same service behind a proxy carrying the aspect.
+ * Runs on four threads so contention on the shared timer shows up.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=UseCaseMetrics
+ *
+ * @author Kishen Sivalingam
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class UseCaseMetricsBenchmark {
+
+    @Param({"true", "false"})
+    public boolean percentileHistogram;
+
+    private UUID id;
+    private GetWeatherDataUseCase direct;
+    private GetWeatherDataUseCase timed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WeatherData weatherData = new WeatherData(
+                new Location("London", "GB", 51.5, -0.1),
+                new Temperature(BigDecimal.valueOf(12.5), Temperature.TemperatureUnit.CELSIUS),
+                70,
+                "Overcast",
+                4.2
+        );
+        id = UUID.randomUUID();
+        weatherData.setId(id);
+
+        GetWeatherDataService service = new GetWeatherDataService(new SingleReadingRepository(weatherData), Optional.empty());
+        direct = service;
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", new SimpleMeterRegistry());
+        UseCaseMetricsProperties properties = new UseCaseMetricsProperties(true, percentileHistogram, null, null, null);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(service);
+        proxyFactory.addAspect(new UseCaseMetricsAspect(beanFactory.getBeanProvider(MeterRegistry.class), properties));
+        timed = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public Optional<WeatherData> direct() {
+        return direct.getById(id);
+    }
+
+    @Benchmark
+    public Optional<WeatherData> timed() {
+        return timed.getById(id);
+    }
+
+    private static final class SingleReadingRepository implements WeatherDataRepository {
+
+        private final WeatherData weatherData;
+
+        private SingleReadingRepository(WeatherData weatherData) {
+            this.weatherData = weatherData;
+        }
+
+        @Override
+        public WeatherData save(WeatherData weatherData) {
+            return weatherData;
+        }
+
+        @Override
+        public Optional<WeatherData> findById(UUID id) {
+            return id.equals(weatherData.getId()) ? Optional.of(weatherData) : Optional.empty();
+        }
+
+        @Override
+        public List<WeatherData> findByCity(String city) {
+            return List.of(weatherData);
+        }
+
+        @Override
+        public void forEachByCity(String city, Consumer<WeatherData> action) {
+            action.accept(weatherData);
+        }
+
+        @Override
+        public Optional<WeatherData> findLatestByCity(String city) {
+            return Optional.of(weatherData);
+        }
+
+        @Override
+        public Map<String, WeatherData> findLatestByCities(Collection<String> cities) {
+            return Map.of(weatherData.getLocation().city(), weatherData);
+        }
+
+        @Override
+        public List<WeatherData> findAll() {
+            return List.of(weatherData);
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+        }
+
+        @Override
+        public boolean existsByCity(String city) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.kishen.weather.benchmark;
+
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.infrastructure.adapter.persistence.entity.WeatherDataJpaEntity;
+import com.kishen.weather.infrastructure.adapter.persistence.mapper.WeatherDataMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * WeatherDataMapperBenchmark
+ *
+ * Measures WeatherDataMapper per row, for a single row and for a 10k-row
+ * history page mapped with the stream().map().collect(Collectors.toList())
+ * shape used by WeatherDataRepositoryImpl. The list benchmarks declare
+ * {@code @OperationsPerInvocation}, so both time and gc.alloc.rate.norm are
+ * reported per row.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=WeatherDataMapper
+ *
+ * @author Kishen Sivalingam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherDataMapperBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final long SEED = 42L;
+
+    private List<WeatherDataJpaEntity> rows;
+    private List<WeatherData> entities;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        LocalDateTime now = LocalDateTime.now();
+        WeatherDataJpaEntity.TemperatureUnit[] units = WeatherDataJpaEntity.TemperatureUnit.values();
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            WeatherDataJpaEntity row = new WeatherDataJpaEntity();
+            row.setId(new UUID(SEED, i));
+            row.setCity("City-" + (i % 500));
+            row.setCountry("GB");
+            row.setLatitude(-60 + random.nextDouble() * 120);
+            row.setLongitude(-180 + random.nextDouble() * 360);
+            row.setTemperatureValue(BigDecimal.valueOf(300 + random.nextInt(4_000), 1));
+            row.setTemperatureUnit(units[random.nextInt(units.length)]);
+            row.setHumidity(random.nextInt(101));
+            row.setDescription("Scattered clouds");
+            row.setWindSpeed(random.nextInt(8_000) / 100.0);
+            row.setRecordedAt(now.minusMinutes(i));
+            row.setUpdatedAt(now.minusMinutes(i));
+            rows.add(row);
+        }
+        entities = rows.stream().map(WeatherDataMapper::toDomainEntity).collect(Collectors.toList());
+    }
+
+    private int nextIndex() {
+        next = next + 1 == ROWS ? 0 : next + 1;
+        return next;
+    }
+
+    @Benchmark
+    public WeatherData toDomainEntity() {
+        return WeatherDataMapper.toDomainEntity(rows.get(nextIndex()));
+    }
+
+    @Benchmark
+    public WeatherDataJpaEntity toJpaEntity() {
+        return WeatherDataMapper.toJpaEntity(entities.get(nextIndex()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<WeatherData> listToDomainEntity() {
+        return rows.stream()
+                .map(WeatherDataMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,109 @@
+package com.kishen.weather.benchmark;
+
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.domain.valueobject.Temperature.TemperatureUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WeatherDomainBenchmark
+ *
+ * Measures the domain layer on the ingest and read paths: Temperature
+ * construction and convertTo between every pair of units, WeatherData
+ * construction, and the derived severity and staleness checks.
+ *
+ * Inputs come from a fixed-seed dataset, cycled per invocation, so runs are
+ * comparable. The benchmark profile adds -prof gc, which reports bytes
+ * allocated per operation next to the time.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.include=WeatherDomain
+ *
+ * @author Kishen Sivalingam
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherDomainBenchmark {
+
+    private static final int DATASET_SIZE = 1024;
+    private static final long SEED = 42L;
+
+    @Param({"CELSIUS", "FAHRENHEIT", "KELVIN"})
+    public TemperatureUnit sourceUnit;
+
+    @Param({"CELSIUS", "FAHRENHEIT", "KELVIN"})
+    public TemperatureUnit targetUnit;
+
+    private final BigDecimal[] values = new BigDecimal[DATASET_SIZE];
+    private final Temperature[] temperatures = new Temperature[DATASET_SIZE];
+    private final Location[] locations = new Location[DATASET_SIZE];
+    private final int[] humidities = new int[DATASET_SIZE];
+    private final double[] windSpeeds = new double[DATASET_SIZE];
+    private final WeatherData[] readings = new WeatherData[DATASET_SIZE];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            double celsius = -30 + random.nextInt(7_000) / 100.0;
+            values[i] = new Temperature(BigDecimal.valueOf(celsius), TemperatureUnit.CELSIUS)
+                    .convertTo(sourceUnit).value();
+            temperatures[i] = new Temperature(values[i], sourceUnit);
+            locations[i] = new Location("City-" + i, "GB", -60 + random.nextDouble() * 120, -180 + random.nextDouble() * 360);
+            humidities[i] = random.nextInt(101);
+            windSpeeds[i] = random.nextInt(8_000) / 100.0;
+            readings[i] = new WeatherData(locations[i], temperatures[i], humidities[i], "Scattered clouds", windSpeeds[i]);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (DATASET_SIZE - 1);
+        return next;
+    }
+
+    @Benchmark
+    public Temperature newTemperature() {
+        return new Temperature(values[nextIndex()], sourceUnit);
+    }
+
+    @Benchmark
+    public Temperature convertTo() {
+        return temperatures[nextIndex()].convertTo(targetUnit);
+    }
+
+    @Benchmark
+    public WeatherData newWeatherData() {
+        int i = nextIndex();
+        return new WeatherData(locations[i], temperatures[i], humidities[i], "Scattered clouds", windSpeeds[i]);
+    }
+
+    @Benchmark
+    public WeatherData.WeatherSeverity severity() {
+        return readings[nextIndex()].getSeverity();
+    }
+
+    @Benchmark
+    public boolean isStale() {
+        return readings[nextIndex()].isStale();
+    }
+}
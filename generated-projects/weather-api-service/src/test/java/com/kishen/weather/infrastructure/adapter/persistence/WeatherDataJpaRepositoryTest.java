@@ -0,0 +1,122 @@
+package com.kishen.weather.infrastructure.adapter.persistence;
+
+import com.kishen.weather.infrastructure.adapter.persistence.entity.WeatherDataJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repository tests for WeatherDataJpaRepository against an embedded H2 database.
+ *
+ * Covers the native ROW_NUMBER() query behind findLatestByCities, which the
+ * service tests only see through a mocked repository.
+ *
+ * @author Kishen Sivalingam
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@DisplayName("WeatherDataJpaRepository Tests")
+class WeatherDataJpaRepositoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Autowired
+    private WeatherDataJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should return the latest reading of each requested city in one query")
+    void shouldReturnLatestReadingPerCity() {
+        // Arrange
+        persist("London", NOON.minusHours(2));
+        WeatherDataJpaEntity latestLondon = persist("London", NOON);
+        persist("London", NOON.minusHours(1));
+        persist("Paris", NOON.minusDays(1));
+        WeatherDataJpaEntity latestParis = persist("Paris", NOON.minusMinutes(5));
+        persist("Berlin", NOON.plusHours(1));
+        entityManager.clear();
+
+        // Act
+        Map<String, WeatherDataJpaEntity> latest = byCity(repository.findLatestByCities(List.of("London", "Paris")));
+
+        // Assert
+        assertEquals(Set.of("London", "Paris"), latest.keySet());
+        assertEquals(latestLondon.getId(), latest.get("London").getId());
+        assertEquals(NOON, latest.get("London").getRecordedAt());
+        assertEquals(latestParis.getId(), latest.get("Paris").getId());
+        assertEquals(0, new BigDecimal("12.50").compareTo(latest.get("Paris").getTemperatureValue()));
+    }
+
+    @Test
+    @DisplayName("Should return exactly one of the readings tied on the latest timestamp")
+    void shouldReturnOneReadingWhenLatestTimestampsTie() {
+        // Arrange
+        persist("Oslo", NOON.minusHours(1));
+        UUID first = persist("Oslo", NOON).getId();
+        UUID second = persist("Oslo", NOON).getId();
+        entityManager.clear();
+
+        // Act
+        List<WeatherDataJpaEntity> latest = repository.findLatestByCities(List.of("Oslo"));
+
+        // Assert
+        assertEquals(1, latest.size());
+        assertTrue(Set.of(first, second).contains(latest.get(0).getId()));
+        assertEquals(NOON, latest.get(0).getRecordedAt());
+    }
+
+    @Test
+    @DisplayName("Should leave out cities without readings")
+    void shouldLeaveOutUnknownCities() {
+        // Arrange
+        WeatherDataJpaEntity rome = persist("Rome", NOON);
+        entityManager.clear();
+
+        // Act
+        List<WeatherDataJpaEntity> mixed = repository.findLatestByCities(List.of("Atlantis", "Rome", "El Dorado"));
+        List<WeatherDataJpaEntity> unknown = repository.findLatestByCities(List.of("Atlantis", "El Dorado"));
+
+        // Assert
+        assertEquals(1, mixed.size());
+        assertEquals(rome.getId(), mixed.get(0).getId());
+        assertTrue(unknown.isEmpty());
+    }
+
+    private WeatherDataJpaEntity persist(String city, LocalDateTime recordedAt) {
+        WeatherDataJpaEntity entity = new WeatherDataJpaEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setCity(city);
+        entity.setCountry("GB");
+        entity.setLatitude(51.5);
+        entity.setLongitude(-0.1);
+        entity.setTemperatureValue(new BigDecimal("12.50"));
+        entity.setTemperatureUnit(WeatherDataJpaEntity.TemperatureUnit.CELSIUS);
+        entity.setHumidity(70);
+        entity.setDescription("Overcast");
+        entity.setWindSpeed(4.2);
+        entity.setRecordedAt(recordedAt);
+        entity.setUpdatedAt(recordedAt);
+        return entityManager.persistAndFlush(entity);
+    }
+
+    private static Map<String, WeatherDataJpaEntity> byCity(List<WeatherDataJpaEntity> entities) {
+        Map<String, WeatherDataJpaEntity> byCity = entities.stream()
+                .collect(Collectors.toMap(WeatherDataJpaEntity::getCity, Function.identity()));
+        assertEquals(entities.size(), byCity.size(), "more than one reading per city");
+        return byCity;
+    }
+}
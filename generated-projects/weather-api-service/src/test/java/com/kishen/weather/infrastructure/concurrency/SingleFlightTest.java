@@ -0,0 +1,144 @@
+package com.kishen.weather.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SingleFlight.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    private Counter executed;
+    private Counter coalesced;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executed = registry.counter("calls", "outcome", "executed");
+        coalesced = registry.counter("calls", "outcome", "coalesced");
+        singleFlight = new SingleFlight<>(executed, coalesced);
+    }
+
+    @Test
+    @DisplayName("Should run one call for concurrent identical keys")
+    void shouldCoalesceConcurrentIdenticalKeys() throws Exception {
+        // Arrange
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("London", () -> {
+                    invocations.incrementAndGet();
+                    await(release);
+                    return "reading";
+                })));
+            }
+            waitUntil(() -> coalesced.count() == CALLERS - 1);
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertEquals("reading", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, invocations.get());
+        assertEquals(1.0, executed.count());
+        assertEquals(CALLERS - 1, coalesced.count());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should not coalesce different keys")
+    void shouldNotCoalesceDifferentKeys() {
+        // Act
+        singleFlight.execute("London", () -> "london");
+        singleFlight.execute("Paris", () -> "paris");
+
+        // Assert
+        assertEquals(2.0, executed.count());
+        assertEquals(0.0, coalesced.count());
+    }
+
+    @Test
+    @DisplayName("Should run a new call once the previous one completed")
+    void shouldRunNewCallAfterCompletion() {
+        // Act
+        String first = singleFlight.execute("London", () -> "first");
+        String second = singleFlight.execute("London", () -> "second");
+
+        // Assert
+        assertEquals("first", first);
+        assertEquals("second", second);
+        assertEquals(2.0, executed.count());
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader's exception to coalesced callers")
+    void shouldPropagateExceptionToCoalescedCallers() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("London", () -> {
+                await(release);
+                throw new IllegalStateException("database unavailable");
+            }));
+            waitUntil(() -> singleFlight.inFlightCount() == 1);
+            Future<String> follower = executor.submit(() -> singleFlight.execute("London", () -> "unused"));
+            waitUntil(() -> coalesced.count() == 1);
+
+            // Act
+            release.countDown();
+
+            // Assert
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+            assertInstanceOf(IllegalStateException.class, followerError.getCause());
+        }
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.kishen.weather.infrastructure.concurrency;
+
+import com.kishen.weather.application.service.GetWeatherDataService;
+import com.kishen.weather.domain.entity.WeatherData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SingleFlightWeatherDataLookup.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("SingleFlightWeatherDataLookup Tests")
+class SingleFlightWeatherDataLookupTest {
+
+    private final GetWeatherDataService delegate = mock(GetWeatherDataService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should query the normalized city rather than the caller's spelling")
+    void shouldQueryNormalizedCity() {
+        // Arrange
+        WeatherData london = mock(WeatherData.class);
+        when(delegate.getLatestByCity("London")).thenReturn(Optional.of(london));
+        SingleFlightWeatherDataLookup lookup = lookup(KeyNormalization.TRIM);
+
+        // Act
+        Optional<WeatherData> result = lookup.getLatestByCity(" London ");
+
+        // Assert
+        assertSame(london, result.orElseThrow());
+        verify(delegate).getLatestByCity("London");
+        verify(delegate, never()).getLatestByCity(" London ");
+    }
+
+    @Test
+    @DisplayName("Should give joiners with another spelling the answer for the normalized city")
+    void shouldAnswerJoinersForNormalizedCity() throws Exception {
+        // Arrange
+        WeatherData london = mock(WeatherData.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getLatestByCity(anyString())).thenAnswer(invocation -> {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return "London".equals(invocation.getArgument(0)) ? Optional.of(london) : Optional.empty();
+        });
+        SingleFlightWeatherDataLookup lookup = lookup(KeyNormalization.TRIM);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Optional<WeatherData>> leader = executor.submit(() -> lookup.getLatestByCity(" London"));
+            waitUntil(() -> registry.get("weather.singleflight.inflight")
+                    .tag("operation", "latest-by-city").gauge().value() == 1);
+            Future<Optional<WeatherData>> joiner = executor.submit(() -> lookup.getLatestByCity("London"));
+            waitUntil(() -> registry.get("weather.singleflight.calls")
+                    .tag("operation", "latest-by-city").tag("outcome", "coalesced").counter().count() == 1);
+
+            // Act
+            release.countDown();
+
+            // Assert
+            assertSame(london, leader.get(5, TimeUnit.SECONDS).orElseThrow());
+            assertSame(london, joiner.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(delegate, times(1)).getLatestByCity("London");
+    }
+
+    @Test
+    @DisplayName("Should pass the city through unchanged with exact keys")
+    void shouldPassCityThroughWithExactKeys() {
+        // Arrange
+        when(delegate.getLatestByCity(anyString())).thenReturn(Optional.empty());
+        SingleFlightWeatherDataLookup lookup = lookup(KeyNormalization.EXACT);
+
+        // Act
+        lookup.getLatestByCity(" London");
+
+        // Assert
+        verify(delegate).getLatestByCity(" London");
+    }
+
+    private SingleFlightWeatherDataLookup lookup(KeyNormalization normalization) {
+        return new SingleFlightWeatherDataLookup(delegate, new SingleFlightProperties(true, normalization), registry);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
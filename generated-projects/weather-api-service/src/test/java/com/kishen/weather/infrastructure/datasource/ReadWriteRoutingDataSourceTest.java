@@ -0,0 +1,143 @@
+package com.kishen.weather.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource using two embedded H2 databases.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("Read/Write Routing DataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String NODE_QUERY = "SELECT name FROM node";
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary", "primary");
+        replica = h2("routing_replica", "replica");
+        meterRegistry = new SimpleMeterRegistry();
+        useLagMonitor("SELECT 0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        lagMonitor.close();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        // Act
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertEquals("replica", node);
+        assertEquals(1.0, meterRegistry.counter("datasource.routing.connections",
+                "route", "replica", "reason", "read-only").count());
+    }
+
+    @Test
+    @DisplayName("Should route read-write transactions to the primary")
+    void shouldRouteReadWriteTransactionsToPrimary() {
+        // Act
+        String node = readWriteTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertEquals("primary", node);
+    }
+
+    @Test
+    @DisplayName("Should route non-transactional access to the primary")
+    void shouldRouteNonTransactionalAccessToPrimary() {
+        // Act
+        String node = jdbcTemplate.queryForObject(NODE_QUERY, String.class);
+
+        // Assert
+        assertEquals("primary", node);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when replica lag exceeds the limit")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        // Arrange
+        lagMonitor.close();
+        useLagMonitor("SELECT 30");
+
+        // Act
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals(30.0, lagMonitor.getLagSeconds());
+        assertEquals("primary", node);
+        assertEquals(1.0, meterRegistry.counter("datasource.routing.connections",
+                "route", "primary", "reason", "replica-lag").count());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the lag check fails")
+    void shouldFallBackToPrimaryWhenLagCheckFails() {
+        // Arrange
+        lagMonitor.close();
+        useLagMonitor("SELECT missing_column FROM node");
+
+        // Act
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals("primary", node);
+    }
+
+    private void useLagMonitor(String lagQuery) {
+        lagMonitor = new ReplicaLagMonitor(replica, lagQuery, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        lagMonitor.checkNow();
+        wire();
+    }
+
+    private void wire() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private static DataSource h2(String database, String nodeName) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", nodeName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,128 @@
+package com.kishen.weather.infrastructure.observability;
+
+import com.kishen.weather.application.service.GetWeatherDataService;
+import com.kishen.weather.application.service.RecordWeatherDataService;
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.application.usecase.RecordWeatherDataInput;
+import com.kishen.weather.application.usecase.RecordWeatherDataUseCase;
+import com.kishen.weather.domain.port.WeatherDataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for UseCaseMetricsAspect
+ *
+ * @author Kishen Sivalingam
+ */
+class UseCaseMetricsAspectTest {
+
+    private static final RecordWeatherDataInput INVALID_UNIT = new RecordWeatherDataInput(
+            "London", "GB", 51.5, -0.1, new BigDecimal("12.5"), "RANKINE", 70, "Overcast", 4.2);
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherDataRepository repository;
+    private UseCaseMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = mock(WeatherDataRepository.class);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        aspect = new UseCaseMetricsAspect(
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                new UseCaseMetricsProperties(true, null, null, null, null));
+    }
+
+    @Test
+    void shouldTimeSuccessfulGetCall() {
+        // Given
+        when(repository.findLatestByCity("London")).thenReturn(Optional.empty());
+        GetWeatherDataUseCase useCase = proxy(new GetWeatherDataService(repository, Optional.empty()));
+
+        // When
+        useCase.getLatestByCity("London");
+
+        // Then
+        Timer timer = meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME)
+                .tag("use_case", "GetWeatherDataUseCase")
+                .tag("method", "getLatestByCity")
+                .tag("outcome", UseCaseMetricsAspect.SUCCESS)
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagRejectedInputWithExceptionType() {
+        // Given
+        RecordWeatherDataUseCase useCase = proxy(new RecordWeatherDataService(repository, List.of()));
+
+        // When
+        assertThatThrownBy(() -> useCase.execute(INVALID_UNIT)).isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        Timer timer = meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME)
+                .tag("use_case", "RecordWeatherDataUseCase")
+                .tag("method", "execute")
+                .tag("outcome", "IllegalArgumentException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagUnexpectedFailureAsError() {
+        // Given
+        when(repository.findLatestByCity("London")).thenThrow(new RuntimeException("connection reset"));
+        GetWeatherDataUseCase useCase = proxy(new GetWeatherDataService(repository, Optional.empty()));
+
+        // When
+        assertThatThrownBy(() -> useCase.getLatestByCity("London")).hasMessage("connection reset");
+
+        // Then
+        assertThat(meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME)
+                .tag("outcome", UseCaseMetricsAspect.ERROR)
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishSloBucketsAndReuseTimerAcrossCalls() {
+        // Given
+        when(repository.findLatestByCity("London")).thenReturn(Optional.empty());
+        GetWeatherDataUseCase useCase = proxy(new GetWeatherDataService(repository, Optional.empty()));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            useCase.getLatestByCity("London");
+        }
+
+        // Then
+        Timer timer = meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME).timer();
+        assertThat(meterRegistry.find(UseCaseMetricsAspect.METRIC_NAME).timers()).hasSize(1);
+        assertThat(timer.count()).isEqualTo(3);
+        assertThat(timer.takeSnapshot().histogramCounts())
+                .anySatisfy(bucket -> assertThat(bucket.bucket()).isEqualTo(Duration.ofMillis(100).toNanos()));
+    }
+
+    private <T> T proxy(Object service) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(service);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,141 @@
+package com.kishen.weather.infrastructure.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(900);
+
+    private Bulkhead bulkhead;
+    private Counter rejected;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = Bulkhead.of("weather-ingest", BulkheadConfig.custom()
+                .maxConcurrentCalls(10)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        rejected = new SimpleMeterRegistry().counter("adaptive.concurrency.rejected");
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(4, 2, 8, 0.5, TimeUnit.MILLISECONDS.toNanos(500));
+        limiter = new AdaptiveConcurrencyLimiter(bulkhead, limit, rejected);
+    }
+
+    @Test
+    @DisplayName("Should shed calls over the current limit")
+    void shouldShedCallsOverTheLimit() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+
+        // Act & Assert
+        assertThrows(BulkheadFullException.class, () -> limiter.acquire());
+        assertEquals(1.0, rejected.count());
+    }
+
+    @Test
+    @DisplayName("Should raise the limit for fast calls under load")
+    void shouldIncreaseLimitForFastCalls() {
+        // Arrange
+        limiter.acquire();
+        limiter.acquire();
+
+        // Act
+        limiter.release(FAST, false);
+
+        // Assert
+        assertEquals(5, limiter.getLimit());
+        assertEquals(5, bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Should back off when calls become slow")
+    void shouldBackOffOnSlowCalls() {
+        // Arrange
+        limiter.acquire();
+
+        // Act
+        limiter.release(SLOW, false);
+
+        // Assert
+        assertEquals(2, limiter.getLimit());
+        assertEquals(2, bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Should not block a release when a call arrives while shrinking")
+    void shouldNotBlockReleaseWhenCallArrivesWhileShrinking() {
+        // Arrange
+        Bulkhead racing = spy(Bulkhead.of("weather-ingest-racing", BulkheadConfig.custom()
+                .maxConcurrentCalls(4)
+                .maxWaitDuration(Duration.ZERO)
+                .build()));
+        AdaptiveConcurrencyLimiter racingLimiter = new AdaptiveConcurrencyLimiter(racing,
+                new AimdConcurrencyLimit(4, 2, 8, 0.5, TimeUnit.MILLISECONDS.toNanos(500)), rejected);
+        for (int i = 0; i < 4; i++) {
+            racingLimiter.acquire();
+        }
+        Bulkhead.Metrics realMetrics = racing.getMetrics();
+        Bulkhead.Metrics metrics = mock(Bulkhead.Metrics.class);
+        when(metrics.getMaxAllowedConcurrentCalls())
+                .thenAnswer(invocation -> racing.getBulkheadConfig().getMaxConcurrentCalls());
+        when(racing.getMetrics()).thenReturn(metrics);
+        AtomicInteger readsUntilArrival = new AtomicInteger(2);
+        AtomicReference<Future<?>> arrival = new AtomicReference<>();
+        try (ExecutorService caller = Executors.newSingleThreadExecutor()) {
+            when(metrics.getAvailableConcurrentCalls()).thenAnswer(invocation -> {
+                int available = realMetrics.getAvailableConcurrentCalls();
+                if (readsUntilArrival.decrementAndGet() == 0) {
+                    // Another request arrives after the free permits were counted for the shrink
+                    arrival.set(caller.submit(racingLimiter::acquire));
+                    try {
+                        arrival.get().get(100, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException | ExecutionException e) {
+                        // Waiting for the resize or shed
+                    }
+                }
+                return available;
+            });
+
+            // Act
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> racingLimiter.release(SLOW, false));
+
+            // Assert
+            ExecutionException shed = assertThrows(ExecutionException.class,
+                    () -> arrival.get().get(5, TimeUnit.SECONDS));
+            assertInstanceOf(BulkheadFullException.class, shed.getCause());
+        }
+        assertEquals(3, racing.getBulkheadConfig().getMaxConcurrentCalls());
+        assertEquals(0, realMetrics.getAvailableConcurrentCalls());
+    }
+}
@@ -0,0 +1,82 @@
+package com.kishen.weather.infrastructure.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Warmup iteration budget, time cap and failure handling.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("Warmup Tests")
+class WarmupTest {
+
+    @Test
+    @DisplayName("Should run every call once per iteration")
+    void shouldRunEveryCallForEachIteration() {
+        // Arrange
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        Warmup warmup = new Warmup(List.of(
+                new WarmupCall("first", first::incrementAndGet),
+                new WarmupCall("second", second::incrementAndGet)
+        ), 50, Duration.ofMinutes(1));
+
+        // Act
+        Warmup.Result result = warmup.run();
+
+        // Assert
+        assertEquals(50, first.get());
+        assertEquals(50, second.get());
+        assertEquals(100, result.calls());
+        assertEquals(0, result.failed());
+        assertFalse(result.capped());
+    }
+
+    @Test
+    @DisplayName("Should stop once max duration is reached")
+    void shouldStopAtMaxDuration() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Warmup warmup = new Warmup(List.of(new WarmupCall("slow", () -> {
+            calls.incrementAndGet();
+            Thread.sleep(20);
+        })), 1_000_000, Duration.ofMillis(100));
+
+        // Act
+        Warmup.Result result = warmup.run();
+
+        // Assert
+        assertTrue(result.capped());
+        assertEquals(calls.get(), result.calls());
+        assertTrue(result.calls() < 1_000_000);
+        assertTrue(result.elapsed().compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    @DisplayName("Should count failing calls and keep going")
+    void shouldCountFailuresAndKeepGoing() {
+        // Arrange
+        AtomicInteger healthy = new AtomicInteger();
+        Warmup warmup = new Warmup(List.of(
+                new WarmupCall("failing", () -> {
+                    throw new IllegalStateException("boom");
+                }),
+                new WarmupCall("healthy", healthy::incrementAndGet)
+        ), 10, Duration.ofMinutes(1));
+
+        // Act
+        Warmup.Result result = warmup.run();
+
+        // Assert
+        assertEquals(10, healthy.get());
+        assertEquals(20, result.calls());
+        assertEquals(10, result.failed());
+    }
+}
@@ -0,0 +1,23 @@
+package com.kishen.weather.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.Supplier;
+
+/**
+ * LoadScenario
+ *
+ * One endpoint in the workload mix.
+ *
+ * The request supplier is called on the client thread for every send, so it
+ * must be thread-safe. Weights are relative to the other scenarios in the mix.
+ *
+ * @author Kishen Sivalingam
+ */
+public record LoadScenario(String name, int weight, Supplier<HttpRequest> request) {
+
+    public LoadScenario {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive: " + name);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.kishen.weather.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadTestHarness
+ *
+ * Open-model load generator: sends a weighted mix of requests at a fixed
+ * arrival rate, one virtual thread per request, and records per-scenario
+ * HdrHistogram latencies.
+ *
+ * Response time is measured from the intended send time on the arrival
+ * schedule, not from when the request actually went out, so a stalled server
+ * is charged for the requests that queued behind the stall (coordinated
+ * omission). Service time, measured from the actual send, is kept alongside
+ * for comparison.
+ *
+ * @author Kishen Sivalingam
+ */
+public final class LoadTestHarness {
+
+    private static final long SEED = 42L;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final double MICROS_PER_MILLI = 1_000.0;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadProfile profile;
+    private final List<LoadScenario> scenarios;
+    private final int[] cumulativeWeights;
+    private final HttpClient client;
+
+    public LoadTestHarness(LoadProfile profile, List<LoadScenario> scenarios) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        this.profile = profile;
+        this.scenarios = List.copyOf(scenarios);
+        this.cumulativeWeights = new int[scenarios.size()];
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * GET request with the harness timeout.
+     */
+    public static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    /**
+     * POST request with a JSON body and the harness timeout.
+     */
+    public static HttpRequest postJson(URI uri, String json) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    /**
+     * Run the warm-up phase, discard it, run the measured phase and write the report.
+     *
+     * @param applicationName prefix of the report file
+     * @return the report file
+     */
+    public Path run(String applicationName) throws IOException {
+        drive(profile.warmup(), new Results(scenarios.size()));
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        Results results = new Results(scenarios.size());
+        drive(profile.duration(), results);
+
+        Files.createDirectories(profile.outputDirectory());
+        Path report = profile.outputDirectory()
+                .resolve(applicationName + "-" + FILE_TIMESTAMP.format(startedAt) + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+            write(applicationName, startedAt, results, out, true);
+        }
+        write(applicationName, startedAt, results, System.out, false);
+        return report;
+    }
+
+    private void drive(Duration phase, Results results) {
+        if (phase.isZero()) {
+            return;
+        }
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.ratePerSecond();
+        long requests = phase.toNanos() / intervalNanos;
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        // close() waits for the requests still in flight
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; i < requests; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                int scenario = pick(random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+                clients.execute(() -> send(scenario, intendedStart, results));
+            }
+        }
+    }
+
+    private int pick(int ticket) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    private void send(int scenario, long intendedStart, Results results) {
+        long actualStart = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(
+                    scenarios.get(scenario).request().get(), HttpResponse.BodyHandlers.discarding());
+            long end = System.nanoTime();
+            if (response.statusCode() / 100 == 2) {
+                results.responseTimes[scenario].recordValue(TimeUnit.NANOSECONDS.toMicros(end - intendedStart));
+                results.serviceTimes[scenario].recordValue(TimeUnit.NANOSECONDS.toMicros(end - actualStart));
+            } else {
+                results.failed(scenario, String.valueOf(response.statusCode()));
+            }
+        } catch (IOException e) {
+            results.failed(scenario, e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            results.failed(scenario, "interrupted");
+        }
+    }
+
+    private void write(String applicationName, LocalDateTime startedAt, Results results, PrintStream out,
+                       boolean withDistributions) {
+        out.printf("# %s load test started %s%n", applicationName, startedAt);
+        out.printf("# rate=%d/s warmup=%s duration=%s%n", profile.ratePerSecond(), profile.warmup(), profile.duration());
+        out.println("# Response time in ms from the intended send time (coordinated-omission corrected);");
+        out.println("# service time in ms from the actual send. Failed requests are counted, not timed.");
+        out.println();
+        out.printf("%-34s %8s %8s %9s %9s %9s %9s %9s %9s %12s%n",
+                "scenario", "ok", "failed", "p50", "p90", "p99", "p99.9", "p99.99", "max", "service p99");
+        for (int i = 0; i < scenarios.size(); i++) {
+            Histogram response = results.responseTimes[i];
+            out.printf("%-34s %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f %12.2f%n",
+                    scenarios.get(i).name(),
+                    response.getTotalCount(),
+                    results.failedCount(i),
+                    millis(response, 50.0),
+                    millis(response, 90.0),
+                    millis(response, 99.0),
+                    millis(response, 99.9),
+                    millis(response, 99.99),
+                    response.getMaxValue() / MICROS_PER_MILLI,
+                    millis(results.serviceTimes[i], 99.0));
+        }
+        for (int i = 0; i < scenarios.size(); i++) {
+            if (!results.failures.get(i).isEmpty()) {
+                out.printf("# %s failures: %s%n", scenarios.get(i).name(), new TreeMap<>(results.failures.get(i)));
+            }
+        }
+        if (!withDistributions) {
+            return;
+        }
+        for (int i = 0; i < scenarios.size(); i++) {
+            out.println();
+            out.printf("## %s response time (ms)%n", scenarios.get(i).name());
+            results.responseTimes[i].outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static final class Results {
+
+        private final Histogram[] responseTimes;
+        private final Histogram[] serviceTimes;
+        private final List<Map<String, LongAdder>> failures;
+
+        private Results(int scenarios) {
+            responseTimes = new Histogram[scenarios];
+            serviceTimes = new Histogram[scenarios];
+            failures = new ArrayList<>(scenarios);
+            for (int i = 0; i < scenarios; i++) {
+                responseTimes[i] = new ConcurrentHistogram(3);
+                serviceTimes[i] = new ConcurrentHistogram(3);
+                failures.add(new ConcurrentHashMap<>());
+            }
+        }
+
+        private void failed(int scenario, String reason) {
+            failures.get(scenario).computeIfAbsent(reason, key -> new LongAdder()).increment();
+        }
+
+        private long failedCount(int scenario) {
+            return failures.get(scenario).values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+}
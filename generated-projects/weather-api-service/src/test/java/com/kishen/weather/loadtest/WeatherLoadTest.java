@@ -0,0 +1,109 @@
+package com.kishen.weather.loadtest;
+
+import com.kishen.weather.WeatherApiServiceApplication;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.WeatherDataRepository;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * WeatherLoadTest
+ *
+ * Load test for the weather REST API against an embedded H2 database. Boots
+ * the application on a random port, seeds one reading per city, then drives
+ * a mix of recording, latest-by-city and by-id reads through
+ * {@link LoadTestHarness}.
+ *
+ * Run with: mvn -Ploadtest test-compile exec:exec -Dloadtest.rate=200 -Dloadtest.duration-seconds=60
+ *
+ * @author Kishen Sivalingam
+ */
+public final class WeatherLoadTest {
+
+    private static final int CITIES = 50;
+
+    private WeatherLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        try (ConfigurableApplicationContext context = start(args)) {
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            List<UUID> seededIds = seed(context.getBean(WeatherDataRepository.class));
+
+            LoadTestHarness harness = new LoadTestHarness(profile, List.of(
+                    new LoadScenario("POST /api/v1/weather", 3, () -> LoadTestHarness.postJson(
+                            baseUri.resolve("/api/v1/weather"), recordJson(anyCity()))),
+                    new LoadScenario("GET /api/v1/weather/city/{city}", 5, () -> LoadTestHarness.get(
+                            baseUri.resolve("/api/v1/weather/city/" + anyCity()))),
+                    new LoadScenario("GET /api/v1/weather/{id}", 2, () -> LoadTestHarness.get(
+                            baseUri.resolve("/api/v1/weather/" + seededIds.get(
+                                    ThreadLocalRandom.current().nextInt(seededIds.size())))))
+            ));
+            Path report = harness.run("weather-api-service");
+            System.out.println("Report written to " + report.toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String[] overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--springdoc.api-docs.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.kishen.weather=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(WeatherApiServiceApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static List<UUID> seed(WeatherDataRepository repository) {
+        List<UUID> ids = new ArrayList<>(CITIES);
+        for (int i = 0; i < CITIES; i++) {
+            WeatherData weatherData = new WeatherData(
+                    new Location(city(i), "GB", 51.5, -0.1),
+                    new Temperature(BigDecimal.valueOf(12.5), Temperature.TemperatureUnit.CELSIUS),
+                    70,
+                    "Overcast",
+                    4.2
+            );
+            ids.add(repository.save(weatherData).getId());
+        }
+        return ids;
+    }
+
+    private static String city(int index) {
+        return "LoadCity" + index;
+    }
+
+    private static String anyCity() {
+        return city(ThreadLocalRandom.current().nextInt(CITIES));
+    }
+
+    private static String recordJson(String city) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return """
+                {"city":"%s","country":"GB","latitude":51.5,"longitude":-0.1,\
+                "temperatureValue":%d.5,"temperatureUnit":"CELSIUS","humidity":%d,\
+                "description":"Light rain","windSpeed":%d.0}"""
+                .formatted(city, random.nextInt(-5, 30), random.nextInt(101), random.nextInt(40));
+    }
+}
@@ -0,0 +1,161 @@
+package com.kishen.weather.presentation.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kishen.weather.application.service.GetWeatherDataService;
+import com.kishen.weather.application.service.RecordWeatherDataService;
+import com.kishen.weather.domain.port.WeatherDataEventPublisher;
+import com.kishen.weather.domain.port.WeatherDataRepository;
+import com.kishen.weather.presentation.rest.cache.WeatherETags;
+import com.kishen.weather.presentation.rest.model.WeatherDataRequest;
+import com.kishen.weather.presentation.rest.stream.JsonArrayStreamer;
+import com.kishen.weather.presentation.rest.stream.WeatherStreamRegistry;
+import com.kishen.weather.support.allocation.AllocationBudgets;
+import com.kishen.weather.support.allocation.AllocationFixtures;
+import com.kishen.weather.support.allocation.AllocationMeter;
+import com.kishen.weather.support.allocation.AllocationPhase;
+import com.kishen.weather.support.allocation.AllocationReport;
+import com.kishen.weather.support.allocation.AllocationTrackingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Allocation budgets per request for WeatherDataController.
+ *
+ * Requests run through MockMvc against the real use case services and an
+ * in-memory WeatherDataRepository, and are measured on the test thread with
+ * AllocationMeter. Budgets live in allocation-budgets.properties; a failure
+ * prints bytes per call split into validation, mapping, persistence,
+ * serialization and other. The history and live-update endpoints write their
+ * body on another thread and are not measured here.
+ *
+ * @author Kishen Sivalingam
+ */
+@WebMvcTest(controllers = WeatherDataController.class, properties = "logging.level.com.kishen.weather=WARN")
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@Import({WeatherStreamRegistry.class, JsonArrayStreamer.class, WeatherETags.class,
+        AllocationTrackingConfiguration.class})
+@DisplayName("WeatherDataController Allocation Budget Tests")
+class WeatherDataControllerAllocationBudgetTest {
+
+    private final AllocationBudgets budgets = AllocationBudgets.load();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class UseCases {
+
+        @Bean
+        WeatherDataRepository weatherDataRepository() {
+            return AllocationFixtures.weatherDataRepository();
+        }
+
+        @Bean
+        RecordWeatherDataService recordWeatherDataService(WeatherDataRepository repository,
+                                                          List<WeatherDataEventPublisher> eventPublishers) {
+            return new RecordWeatherDataService(repository, eventPublishers);
+        }
+
+        @Bean
+        GetWeatherDataService getWeatherDataService(WeatherDataRepository repository) {
+            return new GetWeatherDataService(repository, Optional.empty());
+        }
+    }
+
+    @BeforeEach
+    void requireAllocationCounters() {
+        assumeTrue(AllocationMeter.isSupported(), "JVM does not report per-thread allocated bytes");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/weather should stay within budget and report every phase")
+    void recordWeatherDataShouldStayWithinBudget() throws Exception {
+        // Arrange
+        WeatherDataRequest request = new WeatherDataRequest(
+                "London", "GB", 51.5074, -0.1278, new BigDecimal("18.5"), "CELSIUS", 65, "Partly cloudy", 12.5);
+
+        // Act
+        AllocationReport report = assertWithinBudget("controller.weather.record",
+                post("/api/v1/weather")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(request)),
+                201);
+
+        // Assert
+        assertTrue(report.bytesByPhase().get(AllocationPhase.VALIDATION) > 0);
+        assertTrue(report.bytesByPhase().get(AllocationPhase.MAPPING) > 0);
+        assertTrue(report.bytesByPhase().get(AllocationPhase.PERSISTENCE) > 0);
+        assertTrue(report.bytesByPhase().get(AllocationPhase.SERIALIZATION) > 0);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/weather/{id} should stay within budget")
+    void getByIdShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.weather.by-id", get("/api/v1/weather/{id}", AllocationFixtures.idOf(0)), 200);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/weather/{id} answered 304 should stay within budget")
+    void notModifiedByIdShouldStayWithinBudget() throws Exception {
+        // Arrange
+        String tag = mockMvc.perform(get("/api/v1/weather/{id}", AllocationFixtures.idOf(1)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        assertWithinBudget("controller.weather.by-id-not-modified",
+                get("/api/v1/weather/{id}", AllocationFixtures.idOf(1)).header(HttpHeaders.IF_NONE_MATCH, tag),
+                304);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/weather/city/{city} should stay within budget")
+    void latestByCityShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.weather.latest-by-city", get("/api/v1/weather/city/{city}", "Paris"), 200);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/weather/latest should stay within budget")
+    void latestByCitiesShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.weather.latest-by-cities",
+                get("/api/v1/weather/latest").param("cities", String.join(",", AllocationFixtures.CITIES)),
+                200);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/weather/health should stay within budget")
+    void healthShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("controller.weather.health", get("/api/v1/weather/health"), 200);
+    }
+
+    private AllocationReport assertWithinBudget(String key, RequestBuilder request, int expectedStatus)
+            throws Exception {
+        int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+        assertEquals(expectedStatus, status, "status of " + key);
+        return budgets.assertWithinBudget(key, () -> mockMvc.perform(request));
+    }
+}
@@ -0,0 +1,115 @@
+package com.kishen.weather.presentation.rest;
+
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.application.usecase.RecordWeatherDataUseCase;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.presentation.rest.cache.WeatherETags;
+import com.kishen.weather.presentation.rest.stream.JsonArrayStreamer;
+import com.kishen.weather.presentation.rest.stream.WeatherStreamRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Endpoint tests for GET /api/v1/weather/stream.
+ *
+ * @author Kishen Sivalingam
+ */
+@WebMvcTest(controllers = WeatherDataController.class)
+@Import({WeatherStreamRegistry.class, JsonArrayStreamer.class, WeatherETags.class})
+@DisplayName("WeatherDataController Stream Endpoint Tests")
+class WeatherDataControllerStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WeatherStreamRegistry weatherStreamRegistry;
+
+    @MockBean
+    private RecordWeatherDataUseCase recordWeatherDataUseCase;
+
+    @MockBean
+    private GetWeatherDataUseCase getWeatherDataUseCase;
+
+    @Test
+    @DisplayName("Should open an event stream and push readings for the requested cities")
+    void shouldStreamReadingsForRequestedCities() throws Exception {
+        // Arrange
+        WeatherData reading = new WeatherData(
+                new Location("Oslo", "NO", 59.9, 10.7),
+                new Temperature(BigDecimal.valueOf(-3.5), Temperature.TemperatureUnit.CELSIUS),
+                80,
+                "Snow",
+                6.1
+        );
+
+        MvcResult result = mockMvc.perform(get("/api/v1/weather/stream").param("cities", "Oslo,Bergen"))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Act
+        weatherStreamRegistry.publishRecorded(reading);
+
+        // Assert
+        waitUntil(() -> body(result).contains("\"city\":\"Oslo\""));
+        assertTrue(MediaType.TEXT_EVENT_STREAM.isCompatibleWith(MediaType.parseMediaType(result.getResponse().getContentType())));
+        String body = body(result);
+        assertTrue(body.contains("event:weather"));
+        assertTrue(body.contains("id:" + reading.getId()));
+
+        result.getRequest().getAsyncContext().complete();
+        waitUntil(() -> weatherStreamRegistry.subscriberCount() == 0);
+    }
+
+    @Test
+    @DisplayName("Should answer 400 when no city is given")
+    void shouldRejectStreamWithoutCity() throws Exception {
+        // Arrange
+        int subscribers = weatherStreamRegistry.subscriberCount();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/weather/stream").param("cities", " "))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", containsString("At least one city is required")));
+        assertEquals(subscribers, weatherStreamRegistry.subscriberCount());
+    }
+
+    private static String body(MvcResult result) {
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
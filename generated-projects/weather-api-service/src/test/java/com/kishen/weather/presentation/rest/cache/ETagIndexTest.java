@@ -0,0 +1,79 @@
+package com.kishen.weather.presentation.rest.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ETagIndex.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("ETagIndex Tests")
+class ETagIndexTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should return the remembered tag until the TTL elapses")
+    void shouldExpireAfterTtl() {
+        // Arrange
+        ETagIndex<String> index = new ETagIndex<>(Duration.ofSeconds(30), 10, clock::get);
+        index.remember("London", "\"v1\"");
+
+        // Act & Assert
+        assertEquals(Optional.of("\"v1\""), index.currentTag("London"));
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertEquals(Optional.empty(), index.currentTag("London"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Should expire at maxAge when it is shorter than the TTL")
+    void shouldHonourShorterMaxAge() {
+        // Arrange
+        ETagIndex<String> index = new ETagIndex<>(Duration.ofSeconds(30), 10, clock::get);
+
+        // Act
+        index.remember("London", "\"v1\"", Duration.ofSeconds(5));
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // Assert
+        assertTrue(index.currentTag("London").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should only admit new keys when full after purging expired entries")
+    void shouldBoundSize() {
+        // Arrange
+        ETagIndex<String> index = new ETagIndex<>(Duration.ofSeconds(30), 2, clock::get);
+        index.remember("a", "\"1\"", Duration.ofSeconds(1));
+        index.remember("b", "\"2\"");
+
+        // Act
+        index.remember("c", "\"3\"");
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        index.remember("d", "\"4\"");
+
+        // Assert
+        assertTrue(index.currentTag("c").isEmpty());
+        assertEquals(Optional.of("\"4\""), index.currentTag("d"));
+        assertEquals(Optional.of("\"2\""), index.currentTag("b"));
+    }
+
+    @Test
+    @DisplayName("Should match If-None-Match lists, weak tags and wildcards")
+    void shouldMatchIfNoneMatch() {
+        // Act & Assert
+        assertTrue(ETagIndex.matches("\"v1\"", "\"v1\""));
+        assertTrue(ETagIndex.matches("\"v0\", W/\"v1\"", "\"v1\""));
+        assertTrue(ETagIndex.matches("*", "\"v1\""));
+        assertFalse(ETagIndex.matches("\"v2\"", "\"v1\""));
+        assertFalse(ETagIndex.matches(null, "\"v1\""));
+    }
+}
@@ -0,0 +1,111 @@
+package com.kishen.weather.presentation.rest.cache;
+
+import com.kishen.weather.application.service.GetWeatherDataService;
+import com.kishen.weather.application.usecase.GetWeatherDataUseCase;
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.infrastructure.concurrency.KeyNormalization;
+import com.kishen.weather.infrastructure.concurrency.SingleFlightProperties;
+import com.kishen.weather.infrastructure.concurrency.SingleFlightWeatherDataLookup;
+import com.kishen.weather.presentation.rest.fields.SparseFieldset;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for WeatherETags.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("WeatherETags Tests")
+class WeatherETagsTest {
+
+    private final WeatherETags weatherETags = weatherETags(mock(GetWeatherDataUseCase.class));
+    private final WeatherData reading = reading(12.5);
+
+    @Test
+    @DisplayName("Should issue weak tags shared by every encoding of a reading")
+    void shouldIssueWeakTags() {
+        // Act
+        String tag = weatherETags.tagOf(reading);
+
+        // Assert
+        assertTrue(tag.startsWith("W/\"" + reading.getId()));
+        assertTrue(tag.endsWith("\""));
+    }
+
+    @Test
+    @DisplayName("Should keep the full representation's tag when every field is selected")
+    void shouldKeepTagForAllFields() {
+        // Arrange
+        String tag = weatherETags.tagOf(reading);
+
+        // Act & Assert
+        assertEquals(tag, WeatherETags.forFieldset(tag, SparseFieldset.parse(null)));
+        assertEquals(tag, WeatherETags.forFieldset(tag, SparseFieldset.parse(" ")));
+    }
+
+    @Test
+    @DisplayName("Should give each fieldset its own tag regardless of field order")
+    void shouldTagEachFieldset() {
+        // Arrange
+        String tag = weatherETags.tagOf(reading);
+
+        // Act
+        String cityAndTemperature = WeatherETags.forFieldset(tag, SparseFieldset.parse("city,temperatureValue"));
+        String temperatureAndCity = WeatherETags.forFieldset(tag, SparseFieldset.parse("temperatureValue, city"));
+        String cityOnly = WeatherETags.forFieldset(tag, SparseFieldset.parse("city"));
+
+        // Assert
+        assertNotEquals(tag, cityAndTemperature);
+        assertNotEquals(cityAndTemperature, cityOnly);
+        assertEquals(cityAndTemperature, temperatureAndCity);
+        assertTrue(cityAndTemperature.startsWith(tag.substring(0, tag.length() - 1)));
+        assertFalse(ETagIndex.matches(tag, cityAndTemperature));
+    }
+
+    @Test
+    @DisplayName("Should refresh the tag for every spelling of a city when a reading is recorded")
+    void shouldRefreshTagForEverySpellingOfCity() {
+        // Arrange
+        WeatherETags normalizing = weatherETags(new SingleFlightWeatherDataLookup(mock(GetWeatherDataService.class),
+                new SingleFlightProperties(true, KeyNormalization.TRIM_LOWER_CASE), new SimpleMeterRegistry()));
+        String servedTag = normalizing.rememberLatestForCity("london", reading);
+        WeatherData recorded = reading(13.0);
+
+        // Act
+        normalizing.publishRecorded(recorded);
+
+        // Assert
+        String currentTag = normalizing.knownTagForCity("london").orElseThrow();
+        assertEquals(normalizing.tagOf(recorded), currentTag);
+        assertEquals(currentTag, normalizing.knownTagForCity(" London ").orElseThrow());
+        assertFalse(ETagIndex.matches(servedTag, currentTag));
+    }
+
+    private static WeatherData reading(double temperature) {
+        return new WeatherData(
+                new Location("London", "GB", 51.5, -0.1),
+                new Temperature(BigDecimal.valueOf(temperature), Temperature.TemperatureUnit.CELSIUS),
+                70,
+                "Overcast",
+                4.2
+        );
+    }
+
+    private static WeatherETags weatherETags(GetWeatherDataUseCase getWeatherDataUseCase) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", new SimpleMeterRegistry());
+        return new WeatherETags(new ETagProperties(Duration.ofMinutes(5), 100), getWeatherDataUseCase,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+}
@@ -0,0 +1,75 @@
+package com.kishen.weather.presentation.rest.fields;
+
+import com.kishen.weather.presentation.rest.model.WeatherDataResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SparseFieldset.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("SparseFieldset Tests")
+class SparseFieldsetTest {
+
+    private final WeatherDataResponse response = new WeatherDataResponse(
+            UUID.randomUUID(), "London", "UK", 51.5, -0.12, new BigDecimal("18.5"), "CELSIUS",
+            60, "Cloudy", 12.0, "NORMAL", false, LocalDateTime.now(), LocalDateTime.now());
+
+    @Test
+    @DisplayName("Should return the body unchanged when no fields are selected")
+    void shouldKeepBodyWhenNoFieldsSelected() {
+        // Arrange
+        SparseFieldset fieldset = SparseFieldset.parse(" ");
+
+        // Act & Assert
+        assertTrue(fieldset.isAll());
+        assertSame(response, fieldset.project(response));
+    }
+
+    @Test
+    @DisplayName("Should keep only the selected fields in declaration order")
+    void shouldProjectSelectedFields() {
+        // Arrange
+        SparseFieldset fieldset = SparseFieldset.parse("temperatureValue, city,,");
+
+        // Act
+        Object projected = fieldset.project(response);
+
+        // Assert
+        assertEquals(Map.of("city", "London", "temperatureValue", new BigDecimal("18.5")), projected);
+        assertEquals(List.of("city", "temperatureValue"), List.copyOf(((Map<?, ?>) projected).keySet()));
+    }
+
+    @Test
+    @DisplayName("Should project every record in a list or map body")
+    void shouldProjectCollections() {
+        // Arrange
+        SparseFieldset fieldset = SparseFieldset.parse("city");
+
+        // Act & Assert
+        assertEquals(List.of(Map.of("city", "London")), fieldset.project(List.of(response)));
+        assertEquals(Map.of("London", Map.of("city", "London")), fieldset.project(Map.of("London", response)));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field before mapping any element")
+    void shouldRejectUnknownField() {
+        // Arrange
+        SparseFieldset fieldset = SparseFieldset.parse("city,pressure");
+
+        // Act & Assert
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> fieldset.projecting(WeatherDataResponse.class, Function.identity()));
+        assertTrue(ex.getMessage().contains("pressure"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.kishen.weather.presentation.rest.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DropOldestBuffer.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("DropOldestBuffer Tests")
+class DropOldestBufferTest {
+
+    @Test
+    @DisplayName("Should return items in insertion order")
+    void shouldReturnItemsInOrder() {
+        // Arrange
+        DropOldestBuffer<String> buffer = new DropOldestBuffer<>(3);
+        buffer.offer("a");
+        buffer.offer("b");
+
+        // Act & Assert
+        assertEquals("a", buffer.poll());
+        assertEquals("b", buffer.poll());
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest items when full")
+    void shouldDropOldestWhenFull() {
+        // Arrange
+        DropOldestBuffer<String> buffer = new DropOldestBuffer<>(2);
+
+        // Act
+        buffer.offer("a");
+        buffer.offer("b");
+        buffer.offer("c");
+        buffer.offer("d");
+
+        // Assert
+        assertEquals(2, buffer.size());
+        assertEquals(2, buffer.droppedCount());
+        assertEquals("c", buffer.poll());
+        assertEquals("d", buffer.poll());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive capacity")
+    void shouldRejectInvalidCapacity() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new DropOldestBuffer<String>(0));
+    }
+}
@@ -0,0 +1,180 @@
+package com.kishen.weather.presentation.rest.stream;
+
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Unit tests for WeatherStreamRegistry.
+ *
+ * Subscriptions are opened through a minimal MockMvc endpoint so each emitter
+ * is bound to a real async request: sent events land in the response body and
+ * completion and timeout callbacks fire as they do in the application.
+ *
+ * @author Kishen Sivalingam
+ */
+@DisplayName("WeatherStreamRegistry Tests")
+class WeatherStreamRegistryTest {
+
+    private WeatherStreamRegistry registry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        registry = new WeatherStreamRegistry(
+                new WeatherStreamProperties(16, 2, Duration.ofSeconds(15), Duration.ofMinutes(1)));
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamEndpoint(registry)).build();
+    }
+
+    @Test
+    @DisplayName("Should register a subscriber and remove it when the stream completes")
+    void shouldRegisterAndUnregisterSubscriber() throws Exception {
+        // Arrange
+        MvcResult stream = open("London,Paris");
+        assertEquals(1, registry.subscriberCount());
+
+        // Act
+        asyncContext(stream).complete();
+
+        // Assert
+        waitUntil(() -> registry.subscriberCount() == 0);
+        registry.publishRecorded(reading("London"));
+        assertFalse(stream.getResponse().getContentAsString().contains("event:weather"));
+    }
+
+    @Test
+    @DisplayName("Should deliver a reading to every subscriber of its city only")
+    void shouldFanOutToEverySubscriberOfCity() throws Exception {
+        // Arrange
+        MvcResult first = open("London");
+        MvcResult second = open(" london ,Paris");
+        MvcResult other = open("Paris");
+        WeatherData london = reading("London");
+
+        // Act
+        registry.publishRecorded(london);
+
+        // Assert
+        waitUntil(() -> contains(first, london.getId().toString()));
+        waitUntil(() -> contains(second, london.getId().toString()));
+        assertTrue(first.getResponse().getContentAsString().contains("event:weather"));
+        assertFalse(contains(other, london.getId().toString()));
+        assertEquals(3, registry.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should complete the emitter and remove the subscriber on timeout")
+    void shouldCleanUpOnTimeout() throws Exception {
+        // Arrange
+        MvcResult stream = open("London");
+        MockAsyncContext asyncContext = asyncContext(stream);
+
+        // Act
+        for (AsyncListener listener : List.copyOf(asyncContext.getListeners())) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        // Assert
+        waitUntil(() -> registry.subscriberCount() == 0);
+        assertEquals("/stream", asyncContext.getDispatchedPath());
+        registry.publishRecorded(reading("London"));
+        assertFalse(contains(stream, "event:weather"));
+    }
+
+    @Test
+    @DisplayName("Should count a subscriber once whatever spelling its cities use")
+    void shouldCollapseDuplicateCities() throws Exception {
+        // Arrange & Act
+        MvcResult stream = open("London, LONDON ,london");
+        registry.publishRecorded(reading("London"));
+
+        // Assert
+        waitUntil(() -> contains(stream, "event:weather"));
+        assertEquals(1, registry.subscriberCount());
+        String body = stream.getResponse().getContentAsString();
+        assertEquals(body.indexOf("event:weather"), body.lastIndexOf("event:weather"));
+    }
+
+    @Test
+    @DisplayName("Should reject subscriptions without a city or with too many cities")
+    void shouldRejectInvalidSubscriptions() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> registry.subscribe(List.of(" ", "")));
+        assertThrows(IllegalArgumentException.class, () -> registry.subscribe(List.of("London", "Paris", "Rome")));
+        assertEquals(0, registry.subscriberCount());
+    }
+
+    private MvcResult open(String cities) throws Exception {
+        return mockMvc.perform(get("/stream").param("cities", cities)).andReturn();
+    }
+
+    private static MockAsyncContext asyncContext(MvcResult result) {
+        return (MockAsyncContext) result.getRequest().getAsyncContext();
+    }
+
+    private static boolean contains(MvcResult result, String text) {
+        try {
+            return result.getResponse().getContentAsString().contains(text);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static WeatherData reading(String city) {
+        return new WeatherData(
+                new Location(city, "GB", 51.5, -0.1),
+                new Temperature(BigDecimal.valueOf(12.5), Temperature.TemperatureUnit.CELSIUS),
+                70,
+                "Overcast",
+                4.2
+        );
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @RestController
+    static class StreamEndpoint {
+
+        private final WeatherStreamRegistry registry;
+
+        StreamEndpoint(WeatherStreamRegistry registry) {
+            this.registry = registry;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestParam List<String> cities) {
+            return registry.subscribe(cities);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.kishen.weather.support.allocation;
+
+import com.kishen.weather.domain.entity.WeatherData;
+import com.kishen.weather.domain.port.WeatherDataRepository;
+import com.kishen.weather.domain.valueobject.Location;
+import com.kishen.weather.domain.valueobject.Temperature;
+import com.kishen.weather.infrastructure.adapter.persistence.entity.WeatherDataJpaEntity;
+import com.kishen.weather.infrastructure.adapter.persistence.mapper.WeatherDataMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * AllocationFixtures
+ *
+ * A WeatherDataRepository backed by fixed in-memory rows, for allocation
+ * budget tests. Reads and saves go through WeatherDataMapper, so the
+ * persistence phase holds what the adapter allocates minus the database
+ * driver and Hibernate. Every port method is answered from the rows; saves
+ * map the reading without storing it, so the rows stay fixed across calls.
+ *
+ * @author Kishen Sivalingam
+ */
+public final class AllocationFixtures {
+
+    /** Cities with one reading each; the reading for CITIES.get(i) has id idOf(i) */
+    public static final List<String> CITIES = List.of(
+            "London", "Paris", "Berlin", "Madrid", "Rome", "Vienna", "Prague", "Warsaw", "Lisbon", "Dublin");
+
+    private AllocationFixtures() {
+    }
+
+    /**
+     * Id of the reading for CITIES.get(index)
+     */
+    public static UUID idOf(int index) {
+        return new UUID(0L, index + 1L);
+    }
+
+    /**
+     * One reading per city in CITIES, instrumented for {@link AllocationPhase#PERSISTENCE}
+     */
+    public static WeatherDataRepository weatherDataRepository() {
+        return AllocationMeter.instrument(AllocationPhase.PERSISTENCE, WeatherDataRepository.class, new Readings());
+    }
+
+    private static final class Readings implements WeatherDataRepository {
+
+        private final Map<UUID, WeatherDataJpaEntity> byId = new HashMap<>();
+        private final Map<String, WeatherDataJpaEntity> latestByCity = new HashMap<>();
+
+        Readings() {
+            for (int i = 0; i < CITIES.size(); i++) {
+                WeatherData reading = new WeatherData(
+                        new Location(CITIES.get(i), "GB", 51.5 + i, -0.12 + i),
+                        new Temperature(new BigDecimal("18.5"), Temperature.TemperatureUnit.CELSIUS),
+                        65,
+                        "Partly cloudy",
+                        12.5
+                );
+                WeatherDataJpaEntity row = WeatherDataMapper.toJpaEntity(reading);
+                row.setId(idOf(i));
+                byId.put(row.getId(), row);
+                latestByCity.put(row.getCity(), row);
+            }
+        }
+
+        @Override
+        public WeatherData save(WeatherData weatherData) {
+            return WeatherDataMapper.toDomainEntity(WeatherDataMapper.toJpaEntity(weatherData));
+        }
+
+        @Override
+        public Optional<WeatherData> findById(UUID id) {
+            return Optional.ofNullable(byId.get(id)).map(WeatherDataMapper::toDomainEntity);
+        }
+
+        @Override
+        public List<WeatherData> findByCity(String city) {
+            return findLatestByCity(city).map(List::of).orElse(List.of());
+        }
+
+        @Override
+        public void forEachByCity(String city, Consumer<WeatherData> action) {
+            findLatestByCity(city).ifPresent(action);
+        }
+
+        @Override
+        public Optional<WeatherData> findLatestByCity(String city) {
+            return Optional.ofNullable(latestByCity.get(city)).map(WeatherDataMapper::toDomainEntity);
+        }
+
+        @Override
+        public Map<String, WeatherData> findLatestByCities(Collection<String> cities) {
+            Map<String, WeatherData> latest = new LinkedHashMap<>(cities.size() * 2);
+            for (String city : cities) {
+                WeatherDataJpaEntity row = latestByCity.get(city);
+                if (row != null) {
+                    latest.put(city, WeatherDataMapper.toDomainEntity(row));
+                }
+            }
+            return latest;
+        }
+
+        @Override
+        public List<WeatherData> findAll() {
+            List<WeatherData> all = new ArrayList<>(byId.size());
+            for (WeatherDataJpaEntity row : byId.values()) {
+                all.add(WeatherDataMapper.toDomainEntity(row));
+            }
+            return all;
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            WeatherDataJpaEntity row = byId.remove(id);
+            if (row != null) {
+                latestByCity.remove(row.getCity(), row);
+            }
+        }
+
+        @Override
+        public boolean existsByCity(String city) {
+            return latestByCity.containsKey(city);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.kishen.weather.support.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * AllocationMeter
+ *
+ * Measures the bytes a call allocates on the calling thread, split by
+ * {@link AllocationPhase}.
+ *
+ * Built on com.sun.management.ThreadMXBean, whose per-thread allocation
+ * counter is exact and cheap to read. The measured call must therefore do all
+ * its work on the calling thread; MockMvc does, except for async and
+ * streaming responses whose bodies are written by an executor.
+ *
+ * Phases are marked with {@link #enter}/{@link #exit} pairs, or by wrapping a
+ * port with {@link #instrument}. Marking is a no-op outside {@link #measure},
+ * and while measuring it allocates nothing itself, so the marks do not show
+ * up in the numbers they produce.
+ *
+ * @author Kishen Sivalingam
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+    private static final AllocationPhase[] PHASES = AllocationPhase.values();
+    private static final int MAX_DEPTH = 32;
+    private static final ThreadLocal<PhaseStack> STACK = ThreadLocal.withInitial(PhaseStack::new);
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * A call to measure
+     */
+    @FunctionalInterface
+    public interface Call {
+        void run() throws Exception;
+    }
+
+    /**
+     * Whether this JVM reports per-thread allocated bytes
+     */
+    public static boolean isSupported() {
+        return THREADS != null && THREADS.isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * Run the call warmupCalls times unmeasured so the JIT settles, then
+     * measuredCalls times and report the mean bytes per call
+     *
+     * @param name          name of the measured call, used in reports
+     * @param warmupCalls   calls run before measuring
+     * @param measuredCalls calls measured
+     * @param call          the call, run on the current thread
+     * @return bytes per call in total and by phase
+     */
+    public static AllocationReport measure(String name, int warmupCalls, int measuredCalls, Call call) throws Exception {
+        if (!isSupported()) {
+            throw new IllegalStateException("Thread allocation measurement is not supported by this JVM");
+        }
+        if (measuredCalls < 1) {
+            throw new IllegalArgumentException("measuredCalls must be positive");
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        for (int i = 0; i < warmupCalls; i++) {
+            call.run();
+        }
+
+        PhaseStack stack = STACK.get();
+        stack.reset();
+        stack.active = true;
+        long start = THREADS.getCurrentThreadAllocatedBytes();
+        try {
+            for (int i = 0; i < measuredCalls; i++) {
+                call.run();
+            }
+        } finally {
+            stack.active = false;
+        }
+        long total = THREADS.getCurrentThreadAllocatedBytes() - start;
+        if (stack.depth != 0) {
+            throw new IllegalStateException("Unbalanced phase marks in " + name + ": " + stack.depth + " still open");
+        }
+
+        Map<AllocationPhase, Long> byPhase = new EnumMap<>(AllocationPhase.class);
+        long attributed = 0;
+        for (AllocationPhase phase : PHASES) {
+            if (phase != AllocationPhase.OTHER) {
+                attributed += stack.bytes[phase.ordinal()];
+                byPhase.put(phase, stack.bytes[phase.ordinal()] / measuredCalls);
+            }
+        }
+        byPhase.put(AllocationPhase.OTHER, Math.max(0, total - attributed) / measuredCalls);
+        return new AllocationReport(name, measuredCalls, total / measuredCalls, byPhase);
+    }
+
+    /**
+     * Start attributing allocations on this thread to the given phase
+     */
+    public static void enter(AllocationPhase phase) {
+        PhaseStack stack = STACK.get();
+        if (stack.active) {
+            stack.push(phase, THREADS.getCurrentThreadAllocatedBytes());
+        }
+    }
+
+    /**
+     * End the phase started by the matching {@link #enter}
+     */
+    public static void exit() {
+        PhaseStack stack = STACK.get();
+        if (stack.active) {
+            stack.pop(THREADS.getCurrentThreadAllocatedBytes());
+        }
+    }
+
+    /**
+     * Wrap an implementation of a port interface so every call through it is
+     * attributed to the given phase.
+     *
+     * The proxy's own argument array is allocated before the phase starts and
+     * counts towards the caller's phase.
+     */
+    public static <T> T instrument(AllocationPhase phase, Class<T> type, T target) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> type.getSimpleName() + " instrumented for " + phase.label();
+                };
+            }
+            enter(phase);
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                exit();
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads ? threads : null;
+    }
+
+    /**
+     * Open phases of one thread, kept in preallocated arrays
+     */
+    private static final class PhaseStack {
+
+        private final long[] bytes = new long[PHASES.length];
+        private final int[] phases = new int[MAX_DEPTH];
+        private final long[] starts = new long[MAX_DEPTH];
+        private final long[] nested = new long[MAX_DEPTH];
+        private int depth;
+        private boolean active;
+
+        void reset() {
+            Arrays.fill(bytes, 0);
+            depth = 0;
+        }
+
+        void push(AllocationPhase phase, long now) {
+            if (depth == MAX_DEPTH) {
+                throw new IllegalStateException("Phases nested deeper than " + MAX_DEPTH);
+            }
+            phases[depth] = phase.ordinal();
+            starts[depth] = now;
+            nested[depth] = 0;
+            depth++;
+        }
+
+        void pop(long now) {
+            if (depth == 0) {
+                throw new IllegalStateException("exit() without a matching enter()");
+            }
+            depth--;
+            long inclusive = now - starts[depth];
+            bytes[phases[depth]] += inclusive - nested[depth];
+            if (depth > 0) {
+                nested[depth - 1] += inclusive;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.kishen.weather.support.allocation;
+
+import java.util.Map;
+
+/**
+ * AllocationReport
+ *
+ * Mean bytes allocated per call, in total and by phase.
+ *
+ * @param name          the measured call
+ * @param measuredCalls number of calls the means are taken over
+ * @param bytesPerCall  total bytes per call
+ * @param bytesByPhase  bytes per call attributed to each phase; sums to bytesPerCall give or take rounding
+ *
+ * @author Kishen Sivalingam
+ */
+public record AllocationReport(String name, int measuredCalls, long bytesPerCall,
+                               Map<AllocationPhase, Long> bytesByPhase) {
+
+    public AllocationReport {
+        bytesByPhase = Map.copyOf(bytesByPhase);
+    }
+
+    /**
+     * Render the report with a line per phase, against the given budget
+     */
+    public String format(long budgetBytes) {
+        StringBuilder out = new StringBuilder()
+                .append(String.format("%s: %,d B/call (budget %,d B, %d calls measured)%n",
+                    name, bytesPerCall, budgetBytes, measuredCalls));
+        for (AllocationPhase phase : AllocationPhase.values()) {
+            long bytes = bytesByPhase.getOrDefault(phase, 0L);
+            double share = bytesPerCall == 0 ? 0 : 100.0 * bytes / bytesPerCall;
+            out.append(String.format("  %-14s %,12d B  %5.1f%%%n", phase.label(), bytes, share));
+        }
+        return out.toString();
+    }
+}
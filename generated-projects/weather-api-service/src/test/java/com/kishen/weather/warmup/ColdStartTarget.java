@@ -0,0 +1,97 @@
+package com.kishen.weather.warmup;
+
+import com.kishen.weather.WeatherApiServiceApplication;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ColdStartTarget
+ *
+ * Application process started by {@link FirstRequestLatencyReport}, one fresh
+ * JVM per run. Boots the service on the given port against an in-memory H2
+ * database and seeds one reading per city with plain JDBC before any other
+ * ApplicationRunner (the warm-up included) runs, so lookups hit real rows and
+ * the seeding itself does not warm the mapper or JPA. The warm-up is pointed
+ * at the seeded cities.
+ *
+ * @author Kishen Sivalingam
+ */
+public final class ColdStartTarget {
+
+    static final int CITIES = 50;
+
+    private ColdStartTarget() {
+    }
+
+    public static void main(String[] args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:coldstart-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--springdoc.api-docs.enabled=false",
+                "--app.warmup.sample-cities=" + city(0) + "," + city(1) + "," + city(2),
+                "--logging.level.root=WARN",
+                "--logging.level.com.kishen.weather=INFO",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        arguments.addAll(List.of(args));
+        new SpringApplicationBuilder(WeatherApiServiceApplication.class)
+                .initializers(context -> context.getBeanFactory().registerSingleton("coldStartSeed", new Seed(context)))
+                .run(arguments.toArray(String[]::new));
+    }
+
+    static String city(int index) {
+        return "ColdCity" + index;
+    }
+
+    /**
+     * Fixed ID of the seeded reading for a city, so the report can look it up.
+     */
+    static UUID idOf(int index) {
+        return UUID.nameUUIDFromBytes(city(index).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Seed implements ApplicationRunner, Ordered {
+
+        private final ConfigurableApplicationContext context;
+
+        private Seed(ConfigurableApplicationContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void run(ApplicationArguments args) {
+            JdbcTemplate jdbc = new JdbcTemplate(context.getBean(DataSource.class));
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < CITIES; i++) {
+                jdbc.update("""
+                        INSERT INTO weather_data (id, city, country, latitude, longitude, temperature_value,
+                            temperature_unit, humidity, description, wind_speed, recorded_at, updated_at)
+                        VALUES (?, ?, 'GB', 51.5, -0.1, 12.5, 'CELSIUS', 70, 'Overcast', 4.2, ?, ?)""",
+                        idOf(i), city(i), now, now);
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.kishen.weather.warmup;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FirstRequestLatencyReport
+ *
+ * Latency curve of the first N requests a fresh instance serves, with and
+ * without the start-up warm-up. Every run starts {@link ColdStartTarget} in a
+ * new JVM (app.warmup.enabled=false for "cold", true for "warm"), waits until
+ * /actuator/health/readiness is UP, then sends N requests one at a time and
+ * records each latency by its position in the sequence. Positions are grouped
+ * into buckets (1-10, 11-50, ...) so the report shows how quickly each variant
+ * settles. Variants alternate order between runs so the client JVM's own
+ * warm-up does not favour either one.
+ *
+ * Run with: mvn -Pwarmup-report test-compile exec:exec -Dwarmup-report.requests=2000 -Dwarmup-report.runs=3
+ *
+ * @author Kishen Sivalingam
+ */
+public final class FirstRequestLatencyReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int[] BUCKET_ENDS = {10, 50, 100, 250, 500, 1_000, 2_000, 5_000, 10_000, 20_000, 50_000};
+    private static final double MICROS_PER_MILLI = 1_000.0;
+    private static final String[] VARIANTS = {"cold", "warm"};
+
+    private final int requests;
+    private final int runs;
+    private final Path outputDirectory;
+    private final int[] bucketEnds;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private FirstRequestLatencyReport(int requests, int runs, Path outputDirectory) {
+        this.requests = requests;
+        this.runs = runs;
+        this.outputDirectory = outputDirectory;
+        this.bucketEnds = bucketEnds(requests);
+    }
+
+    public static void main(String[] args) throws Exception {
+        FirstRequestLatencyReport report = new FirstRequestLatencyReport(
+                Integer.getInteger("warmup-report.requests", 2_000),
+                Integer.getInteger("warmup-report.runs", 3),
+                Path.of(System.getProperty("warmup-report.output-dir", "warmup-results")));
+        Path file = report.run("weather-api-service");
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+
+    private Path run(String applicationName) throws Exception {
+        Files.createDirectories(outputDirectory);
+        LocalDateTime startedAt = LocalDateTime.now();
+        String timestamp = FILE_TIMESTAMP.format(startedAt);
+
+        Histogram[][] latencies = new Histogram[VARIANTS.length][bucketEnds.length];
+        for (Histogram[] variant : latencies) {
+            for (int b = 0; b < variant.length; b++) {
+                variant[b] = new Histogram(3);
+            }
+        }
+        long[][] readyMillis = new long[VARIANTS.length][runs];
+
+        for (int run = 0; run < runs; run++) {
+            for (int step = 0; step < VARIANTS.length; step++) {
+                int variant = (run + step) % VARIANTS.length;
+                Path log = outputDirectory.resolve(
+                        applicationName + "-" + timestamp + "-" + VARIANTS[variant] + "-" + run + ".log");
+                readyMillis[variant][run] = measure(variant == 1, log, latencies[variant]);
+                System.out.printf("%s run %d: ready after %,d ms%n", VARIANTS[variant], run + 1, readyMillis[variant][run]);
+            }
+        }
+
+        Path report = outputDirectory.resolve(applicationName + "-first-requests-" + timestamp + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+            write(applicationName, startedAt, latencies, readyMillis, out);
+        }
+        write(applicationName, startedAt, latencies, readyMillis, System.out);
+        return report;
+    }
+
+    /**
+     * Start one instance, wait for readiness, send the first N requests and stop it.
+     *
+     * @return milliseconds from launch until the readiness probe reported UP
+     */
+    private long measure(boolean warmup, Path log, Histogram[] buckets) throws Exception {
+        int port = freePort();
+        List<String> command = List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "--enable-preview",
+                "-cp", System.getProperty("java.class.path"),
+                ColdStartTarget.class.getName(),
+                "--server.port=" + port,
+                "--app.warmup.enabled=" + warmup);
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            URI baseUri = URI.create("http://localhost:" + port);
+            awaitReady(process, baseUri.resolve("/actuator/health/readiness"), log);
+            long ready = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched);
+
+            int bucket = 0;
+            for (int i = 0; i < requests; i++) {
+                if (i >= bucketEnds[bucket]) {
+                    bucket++;
+                }
+                HttpRequest request = request(baseUri, i);
+                long start = System.nanoTime();
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+                buckets[bucket].recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            }
+            return ready;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * The i-th request of the sequence: mostly reads of seeded cities, with new readings mixed in.
+     */
+    private static HttpRequest request(URI baseUri, int i) {
+        int index = i % ColdStartTarget.CITIES;
+        String city = ColdStartTarget.city(index);
+        return switch (i % 4) {
+            case 0 -> get(baseUri.resolve("/api/v1/weather/city/" + city));
+            case 1 -> get(baseUri.resolve("/api/v1/weather/" + ColdStartTarget.idOf(index)));
+            case 2 -> get(baseUri.resolve("/api/v1/weather/latest?cities=" + city + ","
+                    + ColdStartTarget.city((index + 1) % ColdStartTarget.CITIES)));
+            default -> postJson(baseUri.resolve("/api/v1/weather"), """
+                    {"city":"%s","country":"GB","latitude":51.5,"longitude":-0.1,\
+                    "temperatureValue":%d.5,"temperatureUnit":"CELSIUS","humidity":%d,\
+                    "description":"Light rain","windSpeed":4.0}"""
+                    .formatted(city, i % 30, i % 101));
+        };
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest postJson(URI uri, String json) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void awaitReady(Process process, URI readiness, Path log) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(readiness).timeout(Duration.ofSeconds(1)).GET().build();
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("Application not ready within " + READY_TIMEOUT + ", see " + log);
+    }
+
+    private void write(String applicationName, LocalDateTime startedAt, Histogram[][] latencies,
+                       long[][] readyMillis, PrintStream out) {
+        out.printf("# %s first-request latency started %s%n", applicationName, startedAt);
+        out.printf("# requests=%d runs=%d; latency in ms per request position, merged over runs%n", requests, runs);
+        out.println();
+        for (int v = 0; v < VARIANTS.length; v++) {
+            long[] sorted = readyMillis[v].clone();
+            Arrays.sort(sorted);
+            out.printf("%s: ready after %,d ms (median)%n", VARIANTS[v], sorted[sorted.length / 2]);
+        }
+        out.println();
+        out.printf("%-13s %10s %10s %10s %10s %10s %10s%n",
+                "requests", "cold p50", "cold p99", "cold max", "warm p50", "warm p99", "warm max");
+        int from = 1;
+        for (int b = 0; b < bucketEnds.length; b++) {
+            Histogram cold = latencies[0][b];
+            Histogram warm = latencies[1][b];
+            out.printf("%-13s %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    from + "-" + bucketEnds[b],
+                    millis(cold, 50.0), millis(cold, 99.0), cold.getMaxValue() / MICROS_PER_MILLI,
+                    millis(warm, 50.0), millis(warm, 99.0), warm.getMaxValue() / MICROS_PER_MILLI);
+            from = bucketEnds[b] + 1;
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static int[] bucketEnds(int requests) {
+        List<Integer> ends = new ArrayList<>();
+        for (int end : BUCKET_ENDS) {
+            if (end >= requests) {
+                break;
+            }
+            ends.add(end);
+        }
+        ends.add(requests);
+        return ends.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}